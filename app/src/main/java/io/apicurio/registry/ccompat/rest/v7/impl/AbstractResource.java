@@ -18,11 +18,9 @@ import io.apicurio.registry.storage.RegistryStorage.RetrievalBehavior;
 import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
 import io.apicurio.registry.storage.dto.ContentWrapperDto;
-import io.apicurio.registry.storage.dto.EditableArtifactMetaDataDto;
-import io.apicurio.registry.storage.dto.EditableVersionMetaDataDto;
 import io.apicurio.registry.storage.dto.SearchedArtifactDto;
-import io.apicurio.registry.storage.dto.StoredArtifactVersionDto;
 import io.apicurio.registry.storage.error.ArtifactNotFoundException;
+import io.apicurio.registry.storage.error.CommitFailedException;
 import io.apicurio.registry.storage.error.RuleNotFoundException;
 import com.google.protobuf.DescriptorProtos;
 import io.apicurio.registry.storage.error.VersionNotFoundException;
@@ -32,7 +30,6 @@ import io.apicurio.registry.types.ContentTypes;
 import io.apicurio.registry.cdi.Current;
 import io.apicurio.registry.types.RuleType;
 import io.apicurio.registry.types.VersionState;
-import io.apicurio.registry.types.provider.ArtifactTypeUtilProvider;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
 import io.apicurio.registry.utils.protobuf.schema.FileDescriptorUtils;
 import io.quarkus.security.identity.SecurityIdentity;
@@ -42,7 +39,6 @@ import com.squareup.wire.schema.internal.parser.ProtoParser;
 import com.squareup.wire.schema.internal.parser.ProtoFileElement;
 import org.apache.avro.AvroTypeException;
 import org.apache.avro.SchemaParseException;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 
@@ -55,6 +51,8 @@ import java.util.stream.Collectors;
 
 public abstract class AbstractResource {
 
+    private static final int MAX_REGISTRATION_ATTEMPTS = 5;
+
     @Inject
     Logger log;
 
@@ -154,30 +152,32 @@ public abstract class AbstractResource {
                 }
             }
 
-            if (!doesArtifactExist(artifactId, groupId)) {
-                // Apply rules using the potentially converted text content
-                rulesService.applyRules(groupId, artifactId, artifactType, contentForRules,
-                        RuleApplicationType.CREATE, artifactReferences, resolvedReferences);
-
-                EditableArtifactMetaDataDto artifactMetaData = EditableArtifactMetaDataDto.builder().build();
-                EditableVersionMetaDataDto firstVersionMetaData = EditableVersionMetaDataDto.builder().build();
-                // Store the ORIGINAL content (text or binary)
-                ContentWrapperDto firstVersionContent = ContentWrapperDto.builder().content(schemaContent)
-                        .contentType(contentType).references(parsedReferences).build();
-
-                res = storage
-                        .createArtifact(groupId, artifactId, artifactType, artifactMetaData, null,
-                                firstVersionContent, firstVersionMetaData, null, false, false, owner)
-                        .getValue();
-            } else {
+            // Store the ORIGINAL content (text or binary). The storage atomically checks again that no
+            // equivalent version exists, since one may have been registered concurrently (possibly through
+            // another replica) after the caller looked it up. It also rejects the new version if another
+            // one was added after the rules were applied, in which case they are applied again against it.
+            ContentWrapperDto versionContent = ContentWrapperDto.builder().content(schemaContent)
+                    .contentType(contentType).references(parsedReferences).build();
+            // Match existing versions the same way the lookup done before registering does
+            boolean canonical = cconfig.canonicalHashModeEnabled.get() || normalize;
+            for (int attempt = 1;; attempt++) {
+                int baseVersionOrder = getLatestVersionOrder(groupId, artifactId);
                 // Apply rules using the potentially converted text content
+                RuleApplicationType ruleApplicationType = doesArtifactExist(artifactId, groupId)
+                    ? RuleApplicationType.UPDATE : RuleApplicationType.CREATE;
                 rulesService.applyRules(groupId, artifactId, artifactType, contentForRules,
-                        RuleApplicationType.UPDATE, artifactReferences, resolvedReferences);
-                // Store the ORIGINAL content (text or binary)
-                ContentWrapperDto versionContent = ContentWrapperDto.builder().content(schemaContent)
-                        .contentType(contentType).references(parsedReferences).build();
-                res = storage.createArtifactVersion(groupId, artifactId, null, artifactType, versionContent,
-                        EditableVersionMetaDataDto.builder().build(), List.of(), false, false, owner);
+                        ruleApplicationType, artifactReferences, resolvedReferences);
+                try {
+                    res = storage.createArtifactVersionIfAbsent(groupId, artifactId, artifactType,
+                            versionContent, canonical, owner, baseVersionOrder).getVersion();
+                    break;
+                } catch (CommitFailedException ex) {
+                    if (attempt >= MAX_REGISTRATION_ATTEMPTS) {
+                        throw new ConflictException(ex);
+                    }
+                    log.debug("Concurrent registration under subject {}, applying rules again: {}",
+                            artifactId, ex.getMessage());
+                }
             }
         } catch (RuleViolationException ex) {
             if (ex.getRuleType() == RuleType.VALIDITY) {
@@ -197,7 +197,6 @@ public abstract class AbstractResource {
                 : ContentTypes.APPLICATION_JSON;
             TypedContent typedSchemaContent = TypedContent.create(ContentHandle.create(schema), contentType);
             final List<ArtifactReferenceDto> artifactReferences = parseReferences(schemaReferences, groupId);
-            ArtifactTypeUtilProvider artifactTypeProvider = factory.getArtifactTypeProvider(type);
             ArtifactVersionMetaDataDto amd;
 
             if (cconfig.canonicalHashModeEnabled.get() || normalize) {
@@ -205,8 +204,7 @@ public abstract class AbstractResource {
                     amd = storage.getArtifactVersionMetaDataByContent(groupId, artifactId, true,
                             typedSchemaContent, artifactReferences);
                 } catch (ArtifactNotFoundException ex) {
-                    amd = avroDereferenceFallback(groupId, artifactId, schema, type,
-                            artifactTypeProvider, ex);
+                    amd = avroDereferenceFallback(groupId, artifactId, typedSchemaContent, type, ex);
                 }
             } else {
                 try {
@@ -221,8 +219,8 @@ public abstract class AbstractResource {
                         amd = storage.getArtifactVersionMetaDataByContent(groupId, artifactId, true,
                                 typedSchemaContent, artifactReferences);
                     } catch (ArtifactNotFoundException ex2) {
-                        amd = avroDereferenceFallback(groupId, artifactId, schema, type,
-                                artifactTypeProvider, ex2);
+                        amd = avroDereferenceFallback(groupId, artifactId, typedSchemaContent, type,
+                                ex2);
                     }
                 }
             }
@@ -235,30 +233,20 @@ public abstract class AbstractResource {
 
     /**
      * Avro dereference fallback: when comparing using content, sometimes the references might be inlined
-     * into the content. Try to dereference the existing content and compare as a fallback. This approach only
-     * works for Avro schemas (the only type with dereference support in the ccompat API). See
+     * into the content. Compare with the hash of the dereferenced content of the existing versions, which is
+     * computed when the content is stored, as a fallback. This approach only works for Avro schemas (the only
+     * type with dereference support in the ccompat API). See
      * https://github.com/Apicurio/apicurio-registry/issues/3588 for more information.
      */
     private ArtifactVersionMetaDataDto avroDereferenceFallback(String groupId, String artifactId,
-            String schema, String type, ArtifactTypeUtilProvider artifactTypeProvider,
-            ArtifactNotFoundException originalException) {
+            TypedContent schemaContent, String type, ArtifactNotFoundException originalException) {
         if (type.equals(ArtifactType.AVRO)) {
-            return storage.getArtifactVersions(groupId, artifactId).stream().filter(version -> {
-                StoredArtifactVersionDto artifactVersion = storage
-                        .getArtifactVersionContent(groupId, artifactId, version);
-                TypedContent typedArtifactVersion = TypedContent
-                        .create(artifactVersion.getContent(), artifactVersion.getContentType());
-                Map<String, TypedContent> artifactVersionReferences = RegistryContentUtils
-                        .recursivelyResolveReferences(artifactVersion.getReferences(),
-                                storage::getContentByReference);
-                String dereferencedExistingContentSha = DigestUtils
-                        .sha256Hex(artifactTypeProvider.getContentDereferencer()
-                                .dereference(typedArtifactVersion, artifactVersionReferences)
-                                .getContent().content());
-                return dereferencedExistingContentSha.equals(DigestUtils.sha256Hex(schema));
-            }).findAny().map(
-                    version -> storage.getArtifactVersionMetaData(groupId, artifactId, version))
-                    .orElseThrow(() -> originalException);
+            try {
+                return storage.getArtifactVersionMetaDataByDereferencedContent(groupId, artifactId,
+                        schemaContent);
+            } catch (ArtifactNotFoundException ex) {
+                throw originalException;
+            }
         } else {
             throw originalException;
         }
@@ -303,6 +291,20 @@ public abstract class AbstractResource {
         return count > 0;
     }
 
+    /**
+     * Returns the versionOrder of the latest version of the artifact, in any state, or 0 if it has none.
+     */
+    private int getLatestVersionOrder(String groupId, String artifactId) {
+        try {
+            GAV latestGAV = storage.getBranchTip(new GA(groupId, artifactId), BranchId.LATEST,
+                    RetrievalBehavior.ALL_STATES);
+            return storage.getArtifactVersionMetaData(groupId, artifactId, latestGAV.getRawVersionId())
+                    .getVersionOrder();
+        } catch (ArtifactNotFoundException | VersionNotFoundException ex) {
+            return 0;
+        }
+    }
+
     protected String getLatestArtifactVersionForSubject(String artifactId, String groupId) {
         try {
             GAV latestGAV = storage.getBranchTip(new GA(groupId, artifactId), BranchId.LATEST,
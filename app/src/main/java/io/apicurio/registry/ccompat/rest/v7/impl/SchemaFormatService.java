@@ -9,14 +9,24 @@ import io.apicurio.registry.protobuf.content.dereference.ProtobufDereferencer;
 import io.apicurio.registry.types.ArtifactType;
 import io.apicurio.registry.types.ContentTypes;
 import io.apicurio.registry.utils.protobuf.schema.ProtobufFile;
+import io.apicurio.registry.cdi.Current;
+import io.apicurio.registry.rest.cache.DereferencedContentCache;
+import io.apicurio.registry.rest.v3.beans.HandleReferencesType;
+import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.BadRequestException;
 import org.apache.avro.Schema;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
+
+import static io.apicurio.registry.storage.impl.sql.RegistryContentUtils.recursivelyResolveReferenceContentIds;
 
 /**
  * Service for applying format transformations to schemas based on the Confluent Schema Registry
@@ -37,6 +47,42 @@ public class SchemaFormatService {
         VALID_FORMATS.put(ArtifactType.PROTOBUF, Set.of(FORMAT_IGNORE_EXTENSIONS, FORMAT_SERIALIZED));
     }
 
+    @Inject
+    @Current
+    RegistryStorage storage;
+
+    @Inject
+    DereferencedContentCache dereferencedContentCache;
+
+    /**
+     * Applies the specified format transformation to the schema content, caching the result by content ID.
+     * References are only resolved when the formatted content is not already cached.
+     *
+     * @param contentId ID of the original schema content
+     * @param content the original schema content
+     * @param artifactType the type of schema (AVRO, PROTOBUF, JSON)
+     * @param format the desired output format
+     * @param references references of the original schema content
+     * @param resolvedReferences supplies the map of resolved reference contents
+     * @return the formatted schema content
+     * @throws BadRequestException if the format is invalid for the given schema type
+     */
+    public ContentHandle applyFormat(long contentId, ContentHandle content, String artifactType, String format,
+                                     List<ArtifactReferenceDto> references,
+                                     Supplier<Map<String, TypedContent>> resolvedReferences) {
+        if (format == null || format.trim().isEmpty() || ArtifactType.JSON.equals(artifactType)) {
+            return content;
+        }
+
+        validateFormat(artifactType, format);
+
+        return dereferencedContentCache.get(contentId, HandleReferencesType.DEREFERENCE, format, artifactType,
+                () -> recursivelyResolveReferenceContentIds(() -> references,
+                        ref -> storage.getArtifactVersionContent(ref.getGroupId(), ref.getArtifactId(), ref.getVersion())),
+                () -> TypedContent.create(applyFormat(content, artifactType, format, resolvedReferences.get()), null)
+        ).getContent();
+    }
+
     /**
      * Applies the specified format transformation to the schema content.
      *
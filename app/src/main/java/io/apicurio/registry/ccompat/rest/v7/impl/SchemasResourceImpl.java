@@ -7,7 +7,6 @@ import io.apicurio.registry.ccompat.rest.v7.SchemasResource;
 import io.apicurio.registry.ccompat.rest.v7.beans.Schema;
 import io.apicurio.registry.ccompat.rest.v7.beans.SubjectVersion;
 import io.apicurio.registry.content.ContentHandle;
-import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.logging.Logged;
 import io.apicurio.registry.metrics.health.liveness.ResponseErrorLivenessCheck;
 import io.apicurio.registry.metrics.health.readiness.ResponseTimeoutReadinessCheck;
@@ -15,26 +14,18 @@ import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
 import io.apicurio.registry.storage.dto.ContentWrapperDto;
 import io.apicurio.registry.storage.dto.StoredArtifactVersionDto;
+import io.apicurio.registry.storage.dto.VersionContentDto;
 import io.apicurio.registry.storage.error.ArtifactNotFoundException;
 import io.apicurio.registry.types.ArtifactType;
 import io.apicurio.registry.types.VersionState;
 import jakarta.inject.Inject;
 import jakarta.interceptor.Interceptors;
 
-import io.apicurio.registry.storage.dto.OrderBy;
-import io.apicurio.registry.storage.dto.OrderDirection;
-import io.apicurio.registry.storage.dto.SearchFilter;
-import io.apicurio.registry.storage.dto.SearchedVersionDto;
-import io.apicurio.registry.storage.dto.VersionSearchResultsDto;
-
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Interceptors({ ResponseErrorLivenessCheck.class, ResponseTimeoutReadinessCheck.class })
@@ -47,17 +38,20 @@ public class SchemasResourceImpl extends AbstractResource implements SchemasReso
     @Override
     @Authorized(style = AuthorizedStyle.GlobalId, level = AuthorizedLevel.Read)
     public Schema getSchemaById(BigInteger id, String format, String subject) {
+        long contentId;
         ContentHandle contentHandle;
         List<ArtifactReferenceDto> references;
         String artifactType;
         if (cconfig.legacyIdModeEnabled.get()) {
             StoredArtifactVersionDto artifactVersion = storage.getArtifactVersionContent(id.longValue());
+            contentId = artifactVersion.getContentId();
             contentHandle = artifactVersion.getContent();
             references = artifactVersion.getReferences();
             ArtifactVersionMetaDataDto vmd = storage.getArtifactVersionMetaData(id.longValue());
             artifactType = vmd.getArtifactType();
         } else {
-            ContentWrapperDto contentWrapper = storage.getContentById(id.longValue());
+            contentId = id.longValue();
+            ContentWrapperDto contentWrapper = storage.getContentById(contentId);
             contentHandle = contentWrapper.getContent();
             references = contentWrapper.getReferences();
             List<ArtifactVersionMetaDataDto> versions = storage.getArtifactVersionsByContentId(id.longValue());
@@ -82,9 +76,9 @@ public class SchemasResourceImpl extends AbstractResource implements SchemasReso
 
         // Apply format transformation if requested
         if (format != null && !format.isBlank()) {
-            Map<String, TypedContent> resolvedReferences = resolveReferenceDtos(references);
-            contentHandle = formatService.applyFormat(contentHandle, artifactType, format,
-                    resolvedReferences);
+            final List<ArtifactReferenceDto> refs = references;
+            contentHandle = formatService.applyFormat(contentId, contentHandle, artifactType, format,
+                    refs, () -> resolveReferenceDtos(refs));
         }
 
         return converter.convert(contentHandle, artifactType, references);
@@ -92,17 +86,20 @@ public class SchemasResourceImpl extends AbstractResource implements SchemasReso
 
     @Override
     public String getSchemaContentById(BigInteger id, String format, String subject) {
+        long contentId;
         ContentHandle contentHandle;
         List<ArtifactReferenceDto> references;
         String artifactType;
         if (cconfig.legacyIdModeEnabled.get()) {
             StoredArtifactVersionDto artifactVersion = storage.getArtifactVersionContent(id.longValue());
+            contentId = artifactVersion.getContentId();
             contentHandle = artifactVersion.getContent();
             references = artifactVersion.getReferences();
             ArtifactVersionMetaDataDto vmd = storage.getArtifactVersionMetaData(id.longValue());
             artifactType = vmd.getArtifactType();
         } else {
-            ContentWrapperDto contentWrapper = storage.getContentById(id.longValue());
+            contentId = id.longValue();
+            ContentWrapperDto contentWrapper = storage.getContentById(contentId);
             contentHandle = contentWrapper.getContent();
             references = contentWrapper.getReferences();
             List<ArtifactVersionMetaDataDto> versions = storage.getArtifactVersionsByContentId(id.longValue());
@@ -127,9 +124,9 @@ public class SchemasResourceImpl extends AbstractResource implements SchemasReso
 
         // Apply format transformation if requested
         if (format != null && !format.trim().isEmpty()) {
-            Map<String, TypedContent> resolvedReferences = resolveReferenceDtos(references);
-            contentHandle = formatService.applyFormat(contentHandle, artifactType, format,
-                    resolvedReferences);
+            final List<ArtifactReferenceDto> refs = references;
+            contentHandle = formatService.applyFormat(contentId, contentHandle, artifactType, format,
+                    refs, () -> resolveReferenceDtos(refs));
         }
 
         return contentHandle.content();
@@ -148,42 +145,22 @@ public class SchemasResourceImpl extends AbstractResource implements SchemasReso
         final boolean fdeleted = deleted == null ? Boolean.FALSE : deleted;
         final boolean flatestOnly = latestOnly == null ? Boolean.FALSE : latestOnly;
 
-        Set<SearchFilter> filters = new HashSet<>();
-        if (!fdeleted) {
-            filters.add(SearchFilter.ofState(VersionState.DISABLED).negated());
-        }
-
         // Handle pagination
         int effectiveOffset = offset != null ? offset.intValue() : 0;
         int effectiveLimit = (limit != null && limit.intValue() > 0) ? limit.intValue()
                 : cconfig.maxSubjects.get();
 
-        // Search for versions to get schemas
-        VersionSearchResultsDto searchResults = storage.searchVersions(filters, OrderBy.createdOn,
-                OrderDirection.asc, effectiveOffset, effectiveLimit);
+        // The subject prefix and latest-only filters are applied by the storage, and the content of
+        // each version is fetched with it, so that a page costs a single query. Latest-only keeps the
+        // latest version of each subject, even when its content is shared with other subjects.
+        List<VersionContentDto> versions = storage.searchVersionContents(subjectPrefix, fdeleted,
+                flatestOnly, effectiveOffset, effectiveLimit);
 
         List<Schema> schemas = new ArrayList<>();
-        Set<Long> seenContentIds = new HashSet<>();
-
-        for (SearchedVersionDto version : searchResults.getVersions()) {
-            // Filter by subject prefix if provided
-            if (subjectPrefix != null && !version.getArtifactId().startsWith(subjectPrefix)) {
-                continue;
-            }
-
-            // If latestOnly, skip non-latest versions (we'd need to track per-artifact)
-            // For now, just return all matching schemas
-
-            long contentId = version.getContentId();
-            if (flatestOnly && seenContentIds.contains(contentId)) {
-                continue;
-            }
-            seenContentIds.add(contentId);
-
+        for (VersionContentDto version : versions) {
             try {
-                ContentWrapperDto contentWrapper = storage.getContentById(contentId);
-                Schema schema = converter.convert(contentWrapper.getContent(),
-                        version.getArtifactType(), contentWrapper.getReferences());
+                Schema schema = converter.convert(version.getContent(), version.getArtifactType(),
+                        version.getReferences());
                 schemas.add(schema);
             } catch (Exception e) {
                 // Skip schemas that can't be loaded
@@ -1,7 +1,5 @@
 package io.apicurio.registry.ccompat.rest.v7.impl;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import io.apicurio.registry.auth.Authorized;
 import io.apicurio.registry.auth.AuthorizedLevel;
 import io.apicurio.registry.auth.AuthorizedStyle;
@@ -45,17 +43,12 @@ import io.apicurio.registry.utils.VersionUtil;
 import jakarta.inject.Inject;
 import jakarta.interceptor.Interceptors;
 import jakarta.ws.rs.BadRequestException;
-import jakarta.ws.rs.InternalServerErrorException;
 
 import java.math.BigInteger;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -69,11 +62,6 @@ public class SubjectsResourceImpl extends AbstractResource implements SubjectsRe
     @Inject
     SchemaFormatService formatService;
 
-    private final Cache<GA, Lock> subjectLocks = CacheBuilder.newBuilder()
-            .expireAfterAccess(1, TimeUnit.HOURS) // Evict locks after 1 hour of inactivity
-            .maximumSize(10000) // Limit the cache size to 10,000 locks
-            .build();
-
     @Override
     @Authorized(style = AuthorizedStyle.None, level = AuthorizedLevel.Read)
     public List<String> getSubjects(String subjectPrefix, Boolean deleted, Boolean deletedOnly,
@@ -143,11 +131,10 @@ public class SubjectsResourceImpl extends AbstractResource implements SubjectsRe
 
                     // Apply format transformation if requested
                     if (effectiveFormat != null && !effectiveFormat.trim().isEmpty()) {
-                        Map<String, TypedContent> resolvedReferences = resolveReferenceDtos(
-                                storedArtifact.getReferences());
                         ContentHandle formattedContent = formatService.applyFormat(
-                                storedArtifact.getContent(), amd.getArtifactType(), effectiveFormat,
-                                resolvedReferences);
+                                storedArtifact.getContentId(), storedArtifact.getContent(),
+                                amd.getArtifactType(), effectiveFormat, storedArtifact.getReferences(),
+                                () -> resolveReferenceDtos(storedArtifact.getReferences()));
 
                         StoredArtifactVersionDto formattedArtifact = StoredArtifactVersionDto.builder()
                                 .globalId(storedArtifact.getGlobalId()).version(storedArtifact.getVersion())
@@ -264,47 +251,33 @@ public class SubjectsResourceImpl extends AbstractResource implements SubjectsRe
             throw new UnprocessableEntityException("The schema provided is null.");
         }
 
-        Lock lock;
-        try {
-            // Get or create a lock for the specific subject (GA) using the cache
-            // ReentrantLock::new is called only if the key 'ga' is not already present
-            lock = subjectLocks.get(ga, ReentrantLock::new);
-        } catch (ExecutionException e) {
-            // Handle exception during lock creation if necessary
-            log.error("Error creating lock for subject: " + ga, e.getCause());
-            throw new InternalServerErrorException("Error processing request", e.getCause());
-        }
-
-        lock.lock(); // Acquire the lock
+        // No lock is taken here: the lookup below is an optimistic fast path for schemas that are already
+        // registered, and the registration itself is idempotent in the storage (it atomically returns the
+        // version registered concurrently by another request or replica, if any).
+        final Map<String, TypedContent> resolvedReferences = resolveReferences(request.getReferences());
+        long sid = -1;
 
         try {
-            final Map<String, TypedContent> resolvedReferences = resolveReferences(request.getReferences());
-            long sid = -1;
-
-            try {
-                // Try to find an existing, active version with the same content
-                ArtifactVersionMetaDataDto existingDto = lookupSchema(ga.getRawGroupIdWithNull(), ga.getRawArtifactId(),
-                        request.getSchema(), request.getReferences(), request.getSchemaType(), fnormalize);
-                if (existingDto.getState().equals(VersionState.DISABLED)) {
-                    throw new ArtifactNotFoundException(ga.getRawGroupIdWithNull(), ga.getRawArtifactId());
-                }
-
-                // lookupSchema throws ArtifactNotFoundException if not found or if the found version is DISABLED.
-                // If we reach here, an active version was found.
-                sid = cconfig.legacyIdModeEnabled.get() ? existingDto.getGlobalId() : existingDto.getContentId();
-
-            } catch (ArtifactNotFoundException nfe) {
-                ArtifactVersionMetaDataDto newOrUpdatedDto = registerNewSchemaVersion(subject, groupId, request, fnormalize, resolvedReferences);
-                sid = cconfig.legacyIdModeEnabled.get() ? newOrUpdatedDto.getGlobalId() : newOrUpdatedDto.getContentId();
+            // Try to find an existing, active version with the same content
+            ArtifactVersionMetaDataDto existingDto = lookupSchema(ga.getRawGroupIdWithNull(), ga.getRawArtifactId(),
+                    request.getSchema(), request.getReferences(), request.getSchemaType(), fnormalize);
+            if (existingDto.getState().equals(VersionState.DISABLED)) {
+                throw new ArtifactNotFoundException(ga.getRawGroupIdWithNull(), ga.getRawArtifactId());
             }
 
-            BigInteger id = converter.convertUnsigned(sid);
-            SchemaId schemaId = new SchemaId();
-            schemaId.setId(id.intValue());
-            return schemaId;
-        } finally {
-            lock.unlock(); // Release the lock in the finally block
+            // lookupSchema throws ArtifactNotFoundException if not found or if the found version is DISABLED.
+            // If we reach here, an active version was found.
+            sid = cconfig.legacyIdModeEnabled.get() ? existingDto.getGlobalId() : existingDto.getContentId();
+
+        } catch (ArtifactNotFoundException nfe) {
+            ArtifactVersionMetaDataDto newOrUpdatedDto = registerNewSchemaVersion(subject, groupId, request, fnormalize, resolvedReferences);
+            sid = cconfig.legacyIdModeEnabled.get() ? newOrUpdatedDto.getGlobalId() : newOrUpdatedDto.getContentId();
         }
+
+        BigInteger id = converter.convertUnsigned(sid);
+        SchemaId schemaId = new SchemaId();
+        schemaId.setId(id.intValue());
+        return schemaId;
     }
 
     @Authorized(style = AuthorizedStyle.ArtifactOnly, level = AuthorizedLevel.Write)
@@ -469,11 +442,10 @@ public class SubjectsResourceImpl extends AbstractResource implements SubjectsRe
 
                     // Apply format transformation if requested
                     if (effectiveFormat != null && !effectiveFormat.trim().isEmpty()) {
-                        Map<String, TypedContent> resolvedReferences = resolveReferenceDtos(
-                                storedArtifact.getReferences());
                         ContentHandle formattedContent = formatService.applyFormat(
-                                storedArtifact.getContent(), amd.getArtifactType(), effectiveFormat,
-                                resolvedReferences);
+                                storedArtifact.getContentId(), storedArtifact.getContent(),
+                                amd.getArtifactType(), effectiveFormat, storedArtifact.getReferences(),
+                                () -> resolveReferenceDtos(storedArtifact.getReferences()));
 
                         // Create a new StoredArtifactVersionDto with the formatted content
                         StoredArtifactVersionDto formattedArtifact = StoredArtifactVersionDto.builder()
@@ -41,6 +41,7 @@ import io.apicurio.registry.metrics.health.liveness.ResponseErrorLivenessCheck;
 import io.apicurio.registry.metrics.health.readiness.ResponseTimeoutReadinessCheck;
 import io.apicurio.registry.model.BranchId;
 import io.apicurio.registry.model.GA;
+import io.apicurio.registry.rest.cache.strategy.IcebergMetadataCacheStrategy;
 import io.apicurio.registry.storage.RegistryStorage;
 import io.apicurio.registry.storage.RegistryStorage.RetrievalBehavior;
 import io.apicurio.registry.storage.dto.ArtifactSearchResultsDto;
@@ -80,6 +81,8 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static io.apicurio.registry.rest.cache.HttpCaching.caching;
+
 /**
  * Implementation of the Iceberg REST Catalog API.
  */
@@ -91,6 +94,9 @@ public class IcebergApiResourceImpl implements ApisResource {
 
     private static final String NAMESPACE_SEPARATOR = "\u0000";
 
+    // Maximum number of versions deleted after a single commit
+    private static final int EXPIRY_BATCH_SIZE = 100;
+
     @Inject
     @Current
     RegistryStorage storage;
@@ -104,6 +110,9 @@ public class IcebergApiResourceImpl implements ApisResource {
     @Inject
     ObjectMapper objectMapper;
 
+    @Inject
+    IcebergMetadataCache metadataCache;
+
     private void requireIcebergEnabled() {
         if (!icebergConfig.isEnabled()) {
             throw new NotFoundException("Iceberg REST Catalog API is disabled");
@@ -457,19 +466,18 @@ public class IcebergApiResourceImpl implements ApisResource {
         requireIcebergEnabled();
 
         String groupId = namespaceToGroupId(namespace);
+        String snapshotsMode = "refs".equals(snapshots) ? "refs" : null;
 
-        StoredArtifactVersionDto artifact = storage.getArtifactVersionContent(groupId, table,
-                storage.getBranchTip(new GA(groupId, table), BranchId.LATEST,
-                        RetrievalBehavior.SKIP_DISABLED_LATEST).getRawVersionId());
+        ArtifactVersionMetaDataDto tip = getBranchTipMetaData(groupId, table);
+        caching(IcebergMetadataCacheStrategy.builder()
+                .globalId(tip.getGlobalId())
+                .versionState(tip.getState())
+                .snapshots(snapshotsMode)
+                .build()).prepare();
 
-        String metadataJson = artifact.getContent().content();
-
-        TableMetadata metadata;
-        try {
-            metadata = objectMapper.readValue(metadataJson, TableMetadata.class);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse table metadata", e);
-        }
+        TableMetadata metadata = metadataCache.get(tip.getGlobalId(), tip.getState(), snapshotsMode,
+                () -> storage.getArtifactVersionContent(tip.getGlobalId()).getContent().content(),
+                metadataJson -> parseTableMetadata(metadataJson, snapshotsMode != null));
 
         LoadTableResponse response = new LoadTableResponse();
         response.setMetadata(metadata);
@@ -479,6 +487,85 @@ public class IcebergApiResourceImpl implements ApisResource {
         return response;
     }
 
+    private TableMetadata parseTableMetadata(String metadataJson, boolean referencedSnapshotsOnly) {
+        try {
+            if (referencedSnapshotsOnly) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> metadataMap = objectMapper.readValue(metadataJson, Map.class);
+                retainReferencedSnapshots(metadataMap);
+                return objectMapper.convertValue(metadataMap, TableMetadata.class);
+            } else {
+                return objectMapper.readValue(metadataJson, TableMetadata.class);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse table metadata", e);
+        }
+    }
+
+    /**
+     * Looks up the metadata of the version at the tip of the latest branch of a table or view. This does not
+     * load the content, so it is cheap enough to be done before answering a conditional request.
+     */
+    private ArtifactVersionMetaDataDto getBranchTipMetaData(String groupId, String artifactId) {
+        GAV branchTip = storage.getBranchTip(new GA(groupId, artifactId), BranchId.LATEST,
+                RetrievalBehavior.SKIP_DISABLED_LATEST);
+        return storage.getArtifactVersionMetaData(groupId, artifactId, branchTip.getRawVersionId());
+    }
+
+    /**
+     * Removes the snapshots that are not referenced by a branch or tag (or as the current snapshot) from the
+     * table metadata, as requested by {@code snapshots=refs}. Tables that are committed often accumulate
+     * many snapshots, and most clients only need the referenced ones.
+     */
+    private static void retainReferencedSnapshots(Map<String, Object> metadata) {
+        Set<Long> referenced = new HashSet<>();
+        if (metadata.get("current-snapshot-id") instanceof Number id) {
+            referenced.add(id.longValue());
+        }
+        if (metadata.get("refs") instanceof Map<?, ?> refs) {
+            for (Object ref : refs.values()) {
+                if (ref instanceof Map<?, ?> refMap && refMap.get("snapshot-id") instanceof Number id) {
+                    referenced.add(id.longValue());
+                }
+            }
+        }
+        if (metadata.get("snapshots") instanceof List<?> snapshotList) {
+            metadata.put("snapshots", snapshotList.stream()
+                    .filter(snapshot -> snapshot instanceof Map<?, ?> snapshotMap
+                            && snapshotMap.get("snapshot-id") instanceof Number id
+                            && referenced.contains(id.longValue()))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Deletes the oldest metadata versions of a table or view, so that at most the configured number of
+     * versions is kept. Every commit stores a complete copy of the metadata, which grows with every
+     * snapshot, so keeping all the versions of a frequently committed table uses a lot of storage.
+     * Failures are only logged, since the commit itself has already succeeded.
+     */
+    private void expireMetadataVersions(String groupId, String artifactId) {
+        int maxVersions = icebergConfig.getMaxMetadataVersions();
+        if (maxVersions <= 0) {
+            return;
+        }
+        try {
+            Set<SearchFilter> filters = Set.of(SearchFilter.ofGroupId(groupId),
+                    SearchFilter.ofArtifactId(artifactId));
+            var expired = storage.searchVersions(filters, OrderBy.globalId, OrderDirection.desc, maxVersions,
+                    EXPIRY_BATCH_SIZE);
+            for (var version : expired.getVersions()) {
+                storage.deleteArtifactVersion(groupId, artifactId, version.getVersion());
+            }
+            if (!expired.getVersions().isEmpty()) {
+                log.debug("Expired {} metadata versions of {}/{}", expired.getVersions().size(), groupId,
+                        artifactId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to expire old metadata versions of {}/{}", groupId, artifactId, e);
+        }
+    }
+
     @Override
     @Authorized(style = AuthorizedStyle.ArtifactOnly, level = AuthorizedLevel.Read)
     public void tableExists(String prefix, String namespace, String table) {
@@ -532,8 +619,8 @@ public class IcebergApiResourceImpl implements ApisResource {
         @SuppressWarnings("unchecked")
         Map<String, Object> newMetadata;
         try {
-            String metadataCopy = objectMapper.writeValueAsString(currentMetadata);
-            newMetadata = objectMapper.readValue(metadataCopy, Map.class);
+            // Parsing the stored JSON again is cheaper than serializing the parsed metadata
+            newMetadata = objectMapper.readValue(currentMetadataJson, Map.class);
         } catch (Exception e) {
             throw new RuntimeException("Failed to copy table metadata", e);
         }
@@ -564,6 +651,7 @@ public class IcebergApiResourceImpl implements ApisResource {
         storage.createArtifactVersionIfLatest(groupId, table,
                 null, ArtifactType.ICEBERG_TABLE, content, EditableVersionMetaDataDto.builder().build(),
                 null, false, getCurrentUser(), baseVersionOrder, artifactMetaData);
+        expireMetadataVersions(groupId, table);
 
         // Build and return the response
         return buildLoadTableResponse(newMetadata);
@@ -836,18 +924,21 @@ public class IcebergApiResourceImpl implements ApisResource {
 
         String groupId = namespaceToGroupId(namespace);
 
-        StoredArtifactVersionDto artifact = storage.getArtifactVersionContent(groupId, view,
-                storage.getBranchTip(new GA(groupId, view), BranchId.LATEST,
-                        RetrievalBehavior.SKIP_DISABLED_LATEST).getRawVersionId());
-
-        String metadataJson = artifact.getContent().content();
-
-        ViewMetadata metadata;
-        try {
-            metadata = objectMapper.readValue(metadataJson, ViewMetadata.class);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to parse view metadata", e);
-        }
+        ArtifactVersionMetaDataDto tip = getBranchTipMetaData(groupId, view);
+        caching(IcebergMetadataCacheStrategy.builder()
+                .globalId(tip.getGlobalId())
+                .versionState(tip.getState())
+                .build()).prepare();
+
+        ViewMetadata metadata = metadataCache.get(tip.getGlobalId(), tip.getState(), null,
+                () -> storage.getArtifactVersionContent(tip.getGlobalId()).getContent().content(),
+                metadataJson -> {
+                    try {
+                        return objectMapper.readValue(metadataJson, ViewMetadata.class);
+                    } catch (Exception e) {
+                        throw new RuntimeException("Failed to parse view metadata", e);
+                    }
+                });
 
         LoadViewResponse response = new LoadViewResponse();
         response.setMetadata(metadata);
@@ -910,8 +1001,8 @@ public class IcebergApiResourceImpl implements ApisResource {
         @SuppressWarnings("unchecked")
         Map<String, Object> newMetadata;
         try {
-            String metadataCopy = objectMapper.writeValueAsString(currentMetadata);
-            newMetadata = objectMapper.readValue(metadataCopy, Map.class);
+            // Parsing the stored JSON again is cheaper than serializing the parsed metadata
+            newMetadata = objectMapper.readValue(currentMetadataJson, Map.class);
         } catch (Exception e) {
             throw new RuntimeException("Failed to copy view metadata", e);
         }
@@ -941,6 +1032,7 @@ public class IcebergApiResourceImpl implements ApisResource {
         storage.createArtifactVersionIfLatest(groupId, view,
                 null, ArtifactType.ICEBERG_VIEW, content, EditableVersionMetaDataDto.builder().build(),
                 null, false, getCurrentUser(), baseVersionOrder, artifactMetaData);
+        expireMetadataVersions(groupId, view);
 
         return buildLoadViewResponse(newMetadata);
     }
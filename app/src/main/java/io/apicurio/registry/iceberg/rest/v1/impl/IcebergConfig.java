@@ -26,6 +26,14 @@ public class IcebergConfig {
     @Info(category = CATEGORY_ICEBERG, description = "Default prefix (catalog identifier) for the Iceberg REST API", availableSince = "3.0.0")
     String defaultPrefix;
 
+    @ConfigProperty(name = "apicurio.iceberg.metadata.max-versions", defaultValue = "0")
+    @Info(category = CATEGORY_ICEBERG, description = "Maximum number of metadata versions kept for each Iceberg table or view. Older versions are deleted after every commit. Set to 0 to keep all versions.", availableSince = "3.2.2", experimental = true)
+    int maxMetadataVersions;
+
+    @ConfigProperty(name = "apicurio.iceberg.metadata.cache.max-size-bytes", defaultValue = "33554432" /* 32 MiB */)
+    @Info(category = CATEGORY_ICEBERG, description = "Maximum total size of the parsed table and view metadata kept in memory, in bytes. Metadata is cached by the global ID of the version it was loaded from. Set to 0 to disable the cache.", availableSince = "3.2.2", experimental = true)
+    long metadataCacheMaxSizeBytes;
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -37,4 +45,12 @@ public class IcebergConfig {
     public String getDefaultPrefix() {
         return defaultPrefix;
     }
+
+    public int getMaxMetadataVersions() {
+        return maxMetadataVersions;
+    }
+
+    public long getMetadataCacheMaxSizeBytes() {
+        return metadataCacheMaxSizeBytes;
+    }
 }
@@ -0,0 +1,98 @@
+package io.apicurio.registry.iceberg.rest.v1.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.apicurio.registry.rest.cache.Cacheability;
+import io.apicurio.registry.rest.cache.strategy.IcebergMetadataCacheStrategy;
+import io.apicurio.registry.types.VersionState;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.apicurio.registry.metrics.MetricsConstants.ICEBERG_METADATA_CACHE;
+
+/**
+ * In-memory cache of parsed Iceberg table and view metadata.
+ * <p>
+ * Table metadata grows with every snapshot, and parsing it on every load is a significant part of the cost of
+ * serving a catalog with many readers. The cache key is the (unhashed) ETag computed by
+ * {@link IcebergMetadataCacheStrategy}, so an entry is only used for as long as the version it was loaded from
+ * is the tip of the table, and draft versions that can be updated in place are not cached at all.
+ * <p>
+ * The cached objects are shared between requests and must not be modified.
+ * The cache is bounded by the total size of the metadata JSON in bytes.
+ */
+@ApplicationScoped
+public class IcebergMetadataCache {
+
+    private record Entry(Object metadata, int weight) {
+    }
+
+    @Inject
+    Logger log;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    IcebergConfig icebergConfig;
+
+    private Cache<String, Entry> cache;
+
+    void onStart(@Observes StartupEvent ev) {
+        if (icebergConfig.isEnabled() && icebergConfig.getMetadataCacheMaxSizeBytes() > 0) {
+            cache = CacheBuilder.newBuilder()
+                    .maximumWeight(icebergConfig.getMetadataCacheMaxSizeBytes())
+                    .<String, Entry>weigher((key, value) -> key.length() + value.weight())
+                    .recordStats()
+                    .build();
+            GuavaCacheMetrics.monitor(registry, cache, ICEBERG_METADATA_CACHE);
+        }
+    }
+
+    /**
+     * Returns the parsed metadata of a table or view, loading and parsing it on a cache miss.
+     *
+     * @param globalId global ID of the version at the tip of the table or view
+     * @param versionState state of that version
+     * @param snapshots value of the `snapshots` query parameter, can be null
+     * @param metadataJson loads the metadata JSON of the version
+     * @param parser parses the metadata JSON
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(long globalId, VersionState versionState, String snapshots, Supplier<String> metadataJson,
+                     Function<String, T> parser) {
+        if (cache == null) {
+            return parser.apply(metadataJson.get());
+        }
+
+        var strategy = IcebergMetadataCacheStrategy.builder()
+                .globalId(globalId)
+                .versionState(versionState)
+                .snapshots(snapshots)
+                .build();
+        strategy.evaluate();
+        if (!Cacheability.HIGH.equals(strategy.getCacheability()) && !Cacheability.MODERATE.equals(strategy.getCacheability())) {
+            log.debug("Iceberg metadata with globalId {} is not cacheable, cacheability is {}.",
+                    globalId, strategy.getCacheability());
+            return parser.apply(metadataJson.get());
+        }
+
+        var key = strategy.getETagBuilder().build().getValue();
+        var cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached.metadata();
+        }
+        var json = metadataJson.get();
+        var result = parser.apply(json);
+        cache.put(key, new Entry(result, json.length()));
+        return result;
+    }
+}
@@ -8,6 +8,7 @@ import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
 import io.apicurio.registry.storage.dto.ContentWrapperDto;
 import io.apicurio.registry.storage.dto.EditableArtifactMetaDataDto;
 import io.apicurio.registry.storage.dto.EditableVersionMetaDataDto;
+import io.apicurio.registry.storage.dto.VersionRegistrationDto;
 import io.apicurio.registry.storage.error.ArtifactNotFoundException;
 import io.apicurio.registry.storage.error.RegistryStorageException;
 import io.apicurio.registry.storage.error.VersionNotFoundException;
@@ -81,6 +82,23 @@ public class RegistryStorageLimitsEnforcer extends RegistryStorageDecoratorBase
         return dto;
     }
 
+    public VersionRegistrationDto createArtifactVersionIfAbsent(String groupId, String artifactId,
+            String artifactType, ContentWrapperDto content, boolean canonical, String owner,
+            int expectedBaseVersionOrder)
+            throws RegistryStorageException {
+        VersionRegistrationDto dto = withLimitsCheck(() -> delegate.isArtifactExists(groupId, artifactId)
+                ? limitsService.canCreateArtifactVersion(groupId, artifactId, null, content.getContent())
+                : limitsService.canCreateArtifact(null, content, null))
+                .execute(() -> delegate.createArtifactVersionIfAbsent(groupId, artifactId, artifactType,
+                        content, canonical, owner, expectedBaseVersionOrder));
+        if (dto.getCreatedArtifact() != null) {
+            limitsService.artifactCreated();
+        } else if (dto.isVersionCreated()) {
+            limitsService.artifactVersionCreated(groupId, artifactId);
+        }
+        return dto;
+    }
+
     /**
      * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#updateArtifactMetaData(java.lang.String,
      *      java.lang.String, io.apicurio.registry.storage.dto.EditableArtifactMetaDataDto)
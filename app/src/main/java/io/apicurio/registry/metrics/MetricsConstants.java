@@ -32,4 +32,59 @@ public interface MetricsConstants {
 
     String STORAGE_METHOD_CALL_TAG_METHOD = "method";
     String STORAGE_METHOD_CALL_TAG_SUCCESS = "success";
+
+    // Content
+
+    String CONTENT_PREFIX = "content.";
+    String CONTENT_DEREFERENCE = CONTENT_PREFIX + "dereference";
+    String CONTENT_DEREFERENCE_DESCRIPTION = "Timing of content dereferencing, including resolution of the reference tree";
+    String CONTENT_DEREFERENCE_CACHE = CONTENT_DEREFERENCE + ".cache";
+
+    // Content tags/labels
+
+    String CONTENT_DEREFERENCE_TAG_ARTIFACT_TYPE = "artifact.type";
+    String CONTENT_DEREFERENCE_TAG_CACHEABLE = "cacheable";
+
+    // Search index
+
+    String SEARCH_INDEX_PREFIX = "search.index.";
+    String SEARCH_INDEX_QUEUE_DEPTH = SEARCH_INDEX_PREFIX + "queue.depth";
+    String SEARCH_INDEX_QUEUE_DEPTH_DESCRIPTION = "Number of index updates waiting to be applied to the search index";
+    String SEARCH_INDEX_LAG = SEARCH_INDEX_PREFIX + "lag";
+    String SEARCH_INDEX_LAG_DESCRIPTION = "Time between an index update being queued and being applied to the search index";
+    String SEARCH_INDEX_BATCH_SIZE = SEARCH_INDEX_PREFIX + "batch.size";
+    String SEARCH_INDEX_BATCH_SIZE_DESCRIPTION = "Number of queued index updates applied in a single batch, before coalescing";
+    String SEARCH_INDEX_BATCH = SEARCH_INDEX_PREFIX + "batch";
+    String SEARCH_INDEX_BATCH_DESCRIPTION = "Timing and results of applying batches of index updates to the search index";
+
+    // Search index tags/labels
+
+    String SEARCH_INDEX_BATCH_TAG_SUCCESS = "success";
+
+    // Iceberg
+
+    String ICEBERG_PREFIX = "iceberg.";
+    String ICEBERG_METADATA_CACHE = ICEBERG_PREFIX + "metadata.cache";
+
+    // Import
+
+    String IMPORT_PREFIX = "import.";
+    String IMPORT_ENTITIES = IMPORT_PREFIX + "entities";
+    String IMPORT_ENTITIES_DESCRIPTION = "Number of entities read from imported data";
+
+    // Import tags/labels
+
+    String IMPORT_ENTITIES_TAG_ENTITY_TYPE = "entity.type";
+
+    // Polling storage
+
+    String POLLING_STORAGE_PREFIX = "polling.storage.";
+    String POLLING_STORAGE_LOAD = POLLING_STORAGE_PREFIX + "load";
+    String POLLING_STORAGE_LOAD_DESCRIPTION = "Timing and results of loading data from the data source of a polling storage";
+
+    // Polling storage tags/labels
+
+    String POLLING_STORAGE_LOAD_TAG_STORAGE = "storage";
+    String POLLING_STORAGE_LOAD_TAG_MODE = "mode";
+    String POLLING_STORAGE_LOAD_TAG_SUCCESS = "success";
 }
@@ -10,7 +10,7 @@ import org.eclipse.microprofile.health.Readiness;
 
 /**
  * Readiness health check that blocks the application from becoming ready until the
- * Elasticsearch startup reindex is complete. When Elasticsearch indexing is disabled,
+ * search index startup reindex is complete. When search indexing is disabled,
  * the startup indexer marks itself as ready immediately, so this check does not block
  * startup.
  */
@@ -0,0 +1,135 @@
+package io.apicurio.registry.rest.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.rest.cache.strategy.EntityIdContentCacheStrategy;
+import io.apicurio.registry.rest.v3.beans.HandleReferencesType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_CACHE;
+import static io.apicurio.registry.metrics.MetricsConstants.CONTENT_DEREFERENCE;
+import static io.apicurio.registry.metrics.MetricsConstants.CONTENT_DEREFERENCE_CACHE;
+import static io.apicurio.registry.metrics.MetricsConstants.CONTENT_DEREFERENCE_DESCRIPTION;
+import static io.apicurio.registry.metrics.MetricsConstants.CONTENT_DEREFERENCE_TAG_ARTIFACT_TYPE;
+import static io.apicurio.registry.metrics.MetricsConstants.CONTENT_DEREFERENCE_TAG_CACHEABLE;
+import static io.apicurio.registry.metrics.MetricsConstants.VALUE_UNSPECIFIED;
+
+/**
+ * In-memory cache of dereferenced (or otherwise reference-resolved) content.
+ * <p>
+ * Content is immutable, but dereferencing it requires loading the whole reference tree and running the
+ * {@link io.apicurio.registry.content.dereference.ContentDereferencer}, which is expensive for deeply nested
+ * schemas. The cache key is the (unhashed) ETag computed by {@link EntityIdContentCacheStrategy} for the
+ * <em>content ID</em>, the reference handling mode and the output format. This means that we get the same
+ * staleness guarantees as the HTTP caching layer: if the reference tree can change (e.g. draft references
+ * when version mutability is enabled), either the reference tree content IDs become part of the key,
+ * or the strategy produces a random ETag and the result is not cached at all.
+ * <p>
+ * The cache is bounded by the total size of the cached content in bytes.
+ */
+@ApplicationScoped
+public class DereferencedContentCache {
+
+    @Inject
+    Logger log;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "apicurio.content.dereference.cache.enabled", defaultValue = "true")
+    @Info(category = CATEGORY_CACHE, description = """
+            Enable or disable the in-memory cache of dereferenced content. \
+            Dereferenced content is produced when clients request `references=DEREFERENCE`, \
+            or a Confluent-compatible API `format` that requires references to be resolved.\
+            """, availableSince = "3.2.2")
+    boolean enabled;
+
+    @ConfigProperty(name = "apicurio.content.dereference.cache.max-size-bytes", defaultValue = "67108864" /* 64 MiB */)
+    @Info(category = CATEGORY_CACHE, description = """
+            Maximum total size of the content stored in the dereferenced content cache, in bytes. \
+            If set to <= 0, the cache is disabled.\
+            """, availableSince = "3.2.2")
+    long maxSizeBytes;
+
+    private Cache<String, TypedContent> cache;
+
+    void onStart(@Observes StartupEvent ev) {
+        if (isEnabled()) {
+            cache = CacheBuilder.newBuilder()
+                    .maximumWeight(maxSizeBytes)
+                    .<String, TypedContent>weigher((key, value) -> key.length() + value.getContent().getSizeBytes())
+                    .recordStats()
+                    .build();
+            GuavaCacheMetrics.monitor(registry, cache, CONTENT_DEREFERENCE_CACHE);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled && maxSizeBytes > 0;
+    }
+
+    /**
+     * Returns the dereferenced content, computing it with the given dereferencer on a cache miss.
+     *
+     * @param contentId ID of the content being dereferenced
+     * @param references reference handling mode requested by the client
+     * @param format optional output format (e.g. the ccompat API `format` query parameter), can be null
+     * @param artifactType artifact type of the content, only used for metrics, can be null
+     * @param referenceTreeContentIds supplies the content IDs of the whole reference tree, can be null.
+     *                                Only called if the reference tree can change.
+     * @param dereferencer performs the actual dereferencing
+     */
+    public TypedContent get(long contentId, HandleReferencesType references, String format, String artifactType,
+                            Supplier<List<Long>> referenceTreeContentIds, Supplier<TypedContent> dereferencer) {
+        if (cache == null) {
+            return dereference(artifactType, false, dereferencer);
+        }
+
+        var strategy = EntityIdContentCacheStrategy.builder()
+                .entityId(contentId)
+                .references(references)
+                .referenceTreeContentIds(referenceTreeContentIds)
+                .format(format)
+                .build();
+        strategy.evaluate();
+        if (!Cacheability.HIGH.equals(strategy.getCacheability()) && !Cacheability.MODERATE.equals(strategy.getCacheability())) {
+            log.debug("Dereferenced content for contentId {} is not cacheable, cacheability is {}.",
+                    contentId, strategy.getCacheability());
+            return dereference(artifactType, false, dereferencer);
+        }
+
+        var key = strategy.getETagBuilder().build().getValue();
+        var cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        var result = dereference(artifactType, true, dereferencer);
+        cache.put(key, result);
+        return result;
+    }
+
+    private TypedContent dereference(String artifactType, boolean cacheable, Supplier<TypedContent> dereferencer) {
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            return dereferencer.get();
+        } finally {
+            sample.stop(Timer.builder(CONTENT_DEREFERENCE).description(CONTENT_DEREFERENCE_DESCRIPTION)
+                    .tag(CONTENT_DEREFERENCE_TAG_ARTIFACT_TYPE, artifactType != null ? artifactType : VALUE_UNSPECIFIED)
+                    .tag(CONTENT_DEREFERENCE_TAG_CACHEABLE, String.valueOf(cacheable))
+                    .register(registry));
+        }
+    }
+}
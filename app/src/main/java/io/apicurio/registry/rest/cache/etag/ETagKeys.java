@@ -18,6 +18,9 @@ public final class ETagKeys {
     public static final ETagKey<ReferenceType> QUERY_PARAM_REF_TYPE = new ETagKey<>("refType");
     public static final ETagKey<HandleReferencesType> QUERY_PARAM_REFERENCES = new ETagKey<>("references");
     public static final ETagKey<Boolean> QUERY_PARAM_RETURN_ARTIFACT_TYPE = new ETagKey<>("returnArtifactType");
+    public static final ETagKey<String> QUERY_PARAM_FORMAT = new ETagKey<>("format");
+    public static final ETagKey<Long> GLOBAL_ID = new ETagKey<>("globalId");
+    public static final ETagKey<String> QUERY_PARAM_SNAPSHOTS = new ETagKey<>("snapshots");
 
     private ETagKeys() {
     }
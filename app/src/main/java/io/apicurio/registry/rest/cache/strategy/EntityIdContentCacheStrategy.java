@@ -34,6 +34,10 @@ public class EntityIdContentCacheStrategy extends CacheStrategy {
     private final Supplier<List<Long>> referenceTreeContentIds;
     private final ReferenceType refType;
     private final Boolean returnArtifactType;
+    /**
+     * Output format, e.g. the `format` query parameter of the Confluent-compatible API.
+     */
+    private final String format;
 
     @Override
     public void evaluate() {
@@ -70,6 +74,10 @@ public class EntityIdContentCacheStrategy extends CacheStrategy {
             // Doesn't affect cacheability, but it does affect the content of the response, so it has to be part of the ETag.
             eTagBuilder.with(ETagKeys.QUERY_PARAM_RETURN_ARTIFACT_TYPE, returnArtifactType);
         }
+
+        if (format != null) {
+            eTagBuilder.with(ETagKeys.QUERY_PARAM_FORMAT, format);
+        }
     }
 
     @Override
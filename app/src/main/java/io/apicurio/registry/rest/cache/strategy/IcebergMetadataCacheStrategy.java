@@ -0,0 +1,64 @@
+package io.apicurio.registry.rest.cache.strategy;
+
+import io.apicurio.registry.rest.cache.etag.ETagBuilder;
+import io.apicurio.registry.rest.cache.etag.ETagKeys;
+import io.apicurio.registry.types.VersionState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import static io.apicurio.registry.rest.cache.Cacheability.LOW;
+import static io.apicurio.registry.rest.cache.Cacheability.MODERATE;
+import static io.apicurio.registry.rest.cache.Cacheability.min;
+import static io.apicurio.registry.types.VersionState.DRAFT;
+import static java.util.Objects.requireNonNull;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Cache strategy for loading the metadata of an Iceberg table or view.
+ * <p>
+ * Every commit creates a new artifact version, so the global ID of the version at the tip of the latest branch
+ * identifies the metadata being served. It is cheap to look up, and does not require the metadata itself to be loaded
+ * or parsed. The tip moves with every commit, so the resource is only moderately cacheable.
+ */
+@AllArgsConstructor(access = PRIVATE)
+@Builder
+public class IcebergMetadataCacheStrategy extends CacheStrategy {
+
+    // IMPORTANT: Any of the non-required parameters can be null. Be careful about default values.
+
+    private final Long globalId; // required
+    private final VersionState versionState;
+    /**
+     * Value of the `snapshots` query parameter of the load table endpoint.
+     */
+    private final String snapshots;
+
+    @Override
+    public void evaluate() {
+        requireNonNull(globalId);
+
+        eTagBuilder = new ETagBuilder()
+                .with(ETagKeys.GLOBAL_ID, globalId);
+        cacheability = MODERATE;
+
+        if (versionState != null) {
+            if (DRAFT.equals(versionState) && isVersionMutabilityEnabled()) {
+                // Content of a draft version can be updated without changing its global ID
+                eTagBuilder.withRandom();
+                cacheability = min(cacheability, LOW);
+            }
+        } else {
+            eTagBuilder.withRandom();
+            cacheability = min(cacheability, LOW);
+        }
+
+        if (snapshots != null) {
+            eTagBuilder.with(ETagKeys.QUERY_PARAM_SNAPSHOTS, snapshots);
+        } // Default is all
+    }
+
+    @Override
+    public String description() {
+        return getClass().getCanonicalName();
+    }
+}
@@ -10,10 +10,13 @@ import io.apicurio.registry.logging.Logged;
 import io.apicurio.registry.metrics.health.liveness.ResponseErrorLivenessCheck;
 import io.apicurio.registry.metrics.health.readiness.ResponseTimeoutReadinessCheck;
 import io.apicurio.registry.rest.RestConfig;
+import io.apicurio.registry.rest.cache.DereferencedContentCache;
 import io.apicurio.registry.rest.impl.shared.CommonResourceOperations;
 import io.apicurio.registry.rest.v2.IdsResource;
 import io.apicurio.registry.rest.v2.beans.ArtifactReference;
+import io.apicurio.registry.rest.v3.beans.HandleReferencesType;
 import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
 import io.apicurio.registry.storage.dto.ContentWrapperDto;
 import io.apicurio.registry.storage.dto.StoredArtifactVersionDto;
@@ -52,6 +55,9 @@ public class IdsResourceImpl implements IdsResource {
     @Inject
     RestConfig restConfig;
 
+    @Inject
+    DereferencedContentCache dereferencedContentCache;
+
     /**
      * @see io.apicurio.registry.rest.v2.IdsResource#getContentById(long)
      */
@@ -90,22 +96,13 @@ public class IdsResourceImpl implements IdsResource {
 
         TypedContent contentToReturn = TypedContent.create(artifact.getContent(), artifact.getContentType());
 
-        ArtifactTypeUtilProvider artifactTypeProvider = factory
-                .getArtifactTypeProvider(metaData.getArtifactType());
-
         if (dereference && !artifact.getReferences().isEmpty()) {
-            if (artifactTypeProvider.supportsReferencesWithContext()) {
-                RegistryContentUtils.RewrittenContentHolder rewrittenContent = RegistryContentUtils
-                        .recursivelyResolveReferencesWithContext(factory, contentToReturn, metaData.getArtifactType(),
-                                artifact.getReferences(), storage::getContentByReference);
-
-                contentToReturn = artifactTypeProvider.getContentDereferencer().dereference(
-                        rewrittenContent.getRewrittenContent(), rewrittenContent.getResolvedReferences());
-            } else {
-                contentToReturn = artifactTypeProvider.getContentDereferencer().dereference(contentToReturn,
-                        RegistryContentUtils.recursivelyResolveReferences(artifact.getReferences(),
-                                storage::getContentByReference));
-            }
+            final TypedContent original = contentToReturn;
+            contentToReturn = dereferencedContentCache.get(artifact.getContentId(), HandleReferencesType.DEREFERENCE,
+                    null, metaData.getArtifactType(),
+                    () -> RegistryContentUtils.recursivelyResolveReferenceContentIds(artifact,
+                            ref -> storage.getArtifactVersionContent(ref.getGroupId(), ref.getArtifactId(), ref.getVersion())),
+                    () -> dereferenceContent(metaData.getArtifactType(), original, artifact.getReferences()));
         }
 
         Response.ResponseBuilder builder = Response.ok(contentToReturn.getContent(),
@@ -114,6 +111,23 @@ public class IdsResourceImpl implements IdsResource {
         return builder.build();
     }
 
+    private TypedContent dereferenceContent(String artifactType, TypedContent content,
+            List<ArtifactReferenceDto> references) {
+        ArtifactTypeUtilProvider artifactTypeProvider = factory.getArtifactTypeProvider(artifactType);
+
+        if (artifactTypeProvider.supportsReferencesWithContext()) {
+            RegistryContentUtils.RewrittenContentHolder rewrittenContent = RegistryContentUtils
+                    .recursivelyResolveReferencesWithContext(factory, content, artifactType, references,
+                            storage::getContentByReference);
+
+            return artifactTypeProvider.getContentDereferencer().dereference(
+                    rewrittenContent.getRewrittenContent(), rewrittenContent.getResolvedReferences());
+        } else {
+            return artifactTypeProvider.getContentDereferencer().dereference(content,
+                    RegistryContentUtils.recursivelyResolveReferences(references, storage::getContentByReference));
+        }
+    }
+
     /**
      * @see io.apicurio.registry.rest.v2.IdsResource#getContentByHash(java.lang.String)
      */
@@ -5,6 +5,7 @@ import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.content.dereference.ContentDereferencer;
 import io.apicurio.registry.content.refs.JsonPointerExternalReference;
 import io.apicurio.registry.model.GroupId;
+import io.apicurio.registry.rest.cache.DereferencedContentCache;
 import io.apicurio.registry.rest.v3.beans.HandleReferencesType;
 import io.apicurio.registry.storage.RegistryStorage;
 import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
@@ -26,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_API;
 
@@ -41,6 +43,9 @@ public abstract class AbstractResourceImpl {
     @Inject
     ArtifactTypeUtilProviderFactory factory;
 
+    @Inject
+    DereferencedContentCache dereferencedContentCache;
+
     @Context
     HttpServletRequest request;
 
@@ -52,25 +57,20 @@ public abstract class AbstractResourceImpl {
     /**
      * Handle the content references based on the value of "HandleReferencesType" - this can either mean we
      * need to fully dereference the content, or we need to rewrite the references, or we do nothing.
+     * <p>
+     * Dereferenced content is cached by content ID, see {@link DereferencedContentCache}.
+     *
+     * @param referenceTreeContentIds supplies the content IDs of the whole reference tree, used to build the cache key
+     *                                if the reference tree can change. Can be null.
      */
     protected TypedContent handleContentReferences(HandleReferencesType referencesType, String artifactType,
-            TypedContent content, List<ArtifactReferenceDto> references) {
+            long contentId, TypedContent content, List<ArtifactReferenceDto> references,
+            Supplier<List<Long>> referenceTreeContentIds) {
         if (!references.isEmpty()) {
             if (referencesType == HandleReferencesType.DEREFERENCE) {
-                ArtifactTypeUtilProvider artifactTypeProvider = factory.getArtifactTypeProvider(artifactType);
-
-                if (artifactTypeProvider.supportsReferencesWithContext()) {
-                    RegistryContentUtils.RewrittenContentHolder rewrittenContent = RegistryContentUtils
-                            .recursivelyResolveReferencesWithContext(factory, content, artifactType, references,
-                                    storage::getContentByReference);
-
-                    content = artifactTypeProvider.getContentDereferencer().dereference(
-                            rewrittenContent.getRewrittenContent(), rewrittenContent.getResolvedReferences());
-                } else {
-                    content = artifactTypeProvider.getContentDereferencer().dereference(content,
-                            RegistryContentUtils.recursivelyResolveReferences(references,
-                                    storage::getContentByReference));
-                }
+                final TypedContent original = content;
+                content = dereferencedContentCache.get(contentId, referencesType, null, artifactType,
+                        referenceTreeContentIds, () -> dereferenceContent(artifactType, original, references));
             } else if (referencesType == HandleReferencesType.REWRITE) {
                 ArtifactTypeUtilProvider artifactTypeProvider = factory.getArtifactTypeProvider(artifactType);
                 ContentDereferencer contentDereferencer = artifactTypeProvider.getContentDereferencer();
@@ -81,6 +81,24 @@ public abstract class AbstractResourceImpl {
         return content;
     }
 
+    private TypedContent dereferenceContent(String artifactType, TypedContent content,
+            List<ArtifactReferenceDto> references) {
+        ArtifactTypeUtilProvider artifactTypeProvider = factory.getArtifactTypeProvider(artifactType);
+
+        if (artifactTypeProvider.supportsReferencesWithContext()) {
+            RegistryContentUtils.RewrittenContentHolder rewrittenContent = RegistryContentUtils
+                    .recursivelyResolveReferencesWithContext(factory, content, artifactType, references,
+                            storage::getContentByReference);
+
+            return artifactTypeProvider.getContentDereferencer().dereference(
+                    rewrittenContent.getRewrittenContent(), rewrittenContent.getResolvedReferences());
+        } else {
+            return artifactTypeProvider.getContentDereferencer().dereference(content,
+                    RegistryContentUtils.recursivelyResolveReferences(references,
+                            storage::getContentByReference));
+        }
+    }
+
     /**
      * Convert the list of references into a list of REST API URLs that point to the content. This means that
      * we generate a REST API URL from the GAV (groupId, artifactId, version) information found in each
@@ -42,15 +42,17 @@ import io.apicurio.registry.storage.error.ConfigPropertyNotFoundException;
 import io.apicurio.registry.storage.error.InvalidPropertyValueException;
 import io.apicurio.registry.storage.error.RuleNotFoundException;
 import io.apicurio.registry.storage.importing.ImportExportConfigProperties;
+import io.apicurio.registry.storage.importing.ImportProgress;
 import io.apicurio.registry.types.RuleType;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
-import io.apicurio.registry.utils.IoUtil;
 import io.apicurio.registry.utils.impexp.Entity;
 import io.apicurio.registry.utils.impexp.EntityInputStream;
 import io.apicurio.registry.utils.impexp.EntityInputStreamImpl;
 import io.apicurio.registry.utils.impexp.EntityReader;
 import io.apicurio.registry.utils.impexp.EntityType;
 import io.apicurio.registry.utils.impexp.ManifestEntity;
+import io.apicurio.registry.utils.impexp.ZipEntityReader;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.interceptor.Interceptors;
@@ -122,6 +124,9 @@ public class AdminResourceImpl implements AdminResource {
     @Inject
     ImportExportConfigProperties importExportProps;
 
+    @Inject
+    MeterRegistry meterRegistry;
+
     @Inject
     io.apicurio.registry.services.LogLevelValidator logLevelValidator;
 
@@ -294,13 +299,37 @@ public class AdminResourceImpl implements AdminResource {
 
         // The input should be a ZIP file
         final ZipInputStream zip = new ZipInputStream(data, StandardCharsets.UTF_8);
+        final ZipEntityReader zipReader = new ZipEntityReader(zip, Paths.get(importExportProps.workDir));
+
+        // Check the manifest for the version of the ZIP. We either need to import
+        // or import with upgrade depending on the version.
+        ManifestEntity manifestEntity;
+        try {
+            manifestEntity = zipReader.readManifest();
+        } catch (IOException e) {
+            throw new BadRequestException("Error importing data: " + e.getMessage(), e);
+        }
+
+        // A v3 export has the manifest first, followed by the entities in an order in which they
+        // can be imported, so it is imported straight from the ZIP stream. Entries that are out of
+        // order are unpacked to the local file system (temp), and deleted when the reader is closed.
+        if (manifestEntity != null && manifestEntity.exportVersion.startsWith("3")) {
+            try (zip; zipReader) {
+                this.storage.importData(new ImportProgress(zipReader, log, meterRegistry), preserveGlobalId,
+                        preserveContentId);
+            } catch (IOException e) {
+                throw new BadRequestException("Error importing data: " + e.getMessage(), e);
+            }
+            return;
+        }
 
-        // Unpack the ZIP file to the local file system (temp)
+        // Anything else is unpacked to the local file system (temp) first, so that the entities can be
+        // read in dependency order.
         Path tempDirectory = null;
         try {
             tempDirectory = Files.createTempDirectory(Paths.get(importExportProps.workDir),
                     "apicurio-import_");
-            IoUtil.unpackToDisk(zip, tempDirectory);
+            zipReader.unpackToDisk(tempDirectory);
             zip.close();
         } catch (IOException e) {
             throw new BadRequestException("Error importing data: " + e.getMessage(), e);
@@ -310,15 +339,13 @@ public class AdminResourceImpl implements AdminResource {
             // EntityReader reader reads all unpacked entities from the file system
             final EntityReader reader = new EntityReader(tempDirectory);
 
-            // Check the manifest for the version of the ZIP. We either need to import
-            // or import with upgrade depending on the version.
             boolean upgrade = false;
             try {
                 Entity entity = reader.readNextEntity();
                 if (entity.getEntityType() != EntityType.Manifest) {
                     throw new BadRequestException("Invalid import file: missing Manifest file");
                 }
-                ManifestEntity manifestEntity = (ManifestEntity) entity;
+                manifestEntity = (ManifestEntity) entity;
 
                 // Version 2 or 1 requires an upgrade to v3.
                 if (manifestEntity.exportVersion.startsWith("3")) {
@@ -335,7 +362,8 @@ public class AdminResourceImpl implements AdminResource {
             }
 
             // Create an entity input stream to pass to the storage layer
-            EntityInputStream stream = new EntityInputStreamImpl(reader);
+            EntityInputStream stream = new ImportProgress(new EntityInputStreamImpl(reader), log,
+                    meterRegistry);
 
             // Import or upgrade the data into the storage
             if (upgrade) {
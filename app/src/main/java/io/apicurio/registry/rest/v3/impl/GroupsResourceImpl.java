@@ -853,13 +853,15 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
         final var artifactCell = cellWithLoader(() -> storage.getArtifactVersionContent(
                 gav.getRawGroupIdWithNull(), gav.getRawArtifactId(), gav.getRawVersionId()));
 
+        final var referenceTreeContentIdsCell = cellWithLoader(() -> recursivelyResolveReferenceContentIds(artifactCell.get(),
+                ref -> storage.getArtifactVersionContent(ref.getGroupId(), ref.getArtifactId(), ref.getVersion())
+        ));
+
         caching(
                 VersionContentCacheStrategy.builder()
                         .contentId(metaData.getContentId())
                         .references(references)
-                        .referenceTreeContentIds(() -> recursivelyResolveReferenceContentIds(artifactCell.get(),
-                                ref -> storage.getArtifactVersionContent(ref.getGroupId(), ref.getArtifactId(), ref.getVersion())
-                        ))
+                        .referenceTreeContentIds(referenceTreeContentIdsCell::get)
                         .versionExpression(versionExpression)
                         .versionState(metaData.getState())
                         .build()
@@ -871,8 +873,9 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
         }
 
         TypedContent contentToReturn = TypedContent.create(artifactCell.get().getContent(), artifactCell.get().getContentType());
-        contentToReturn = handleContentReferences(references, metaData.getArtifactType(), contentToReturn,
-                artifactCell.get().getReferences());
+        contentToReturn = handleContentReferences(references, metaData.getArtifactType(),
+                artifactCell.get().getContentId(), contentToReturn, artifactCell.get().getReferences(),
+                referenceTreeContentIdsCell::get);
 
         var builder = Response.ok().entity(contentToReturn.getContent())
                 .type(contentToReturn.getContentType());
@@ -90,13 +90,15 @@ public class IdsResourceImpl extends AbstractResourceImpl implements IdsResource
 
         final var artifactCell = cellWithLoader(() -> storage.getArtifactVersionContent(globalId));
 
+        final var referenceTreeContentIdsCell = cellWithLoader(() -> recursivelyResolveReferenceContentIds(artifactCell.get(),
+                ref -> storage.getArtifactVersionContent(ref.getGroupId(), ref.getArtifactId(), ref.getVersion())
+        ));
+
         caching(
                 EntityIdContentCacheStrategy.builder()
                         .entityId(globalId)
                         .references(references)
-                        .referenceTreeContentIds(() -> recursivelyResolveReferenceContentIds(artifactCell.get(),
-                                ref -> storage.getArtifactVersionContent(ref.getGroupId(), ref.getArtifactId(), ref.getVersion())
-                        ))
+                        .referenceTreeContentIds(referenceTreeContentIdsCell::get)
                         .returnArtifactType(returnArtifactType)
                         .build()
         ).prepare();
@@ -113,8 +115,9 @@ public class IdsResourceImpl extends AbstractResourceImpl implements IdsResource
         }
 
         TypedContent contentToReturn = TypedContent.create(artifactCell.get().getContent(), artifactCell.get().getContentType());
-        contentToReturn = handleContentReferences(references, metaData.getArtifactType(), contentToReturn,
-                artifactCell.get().getReferences());
+        contentToReturn = handleContentReferences(references, metaData.getArtifactType(),
+                artifactCell.get().getContentId(), contentToReturn, artifactCell.get().getReferences(),
+                referenceTreeContentIdsCell::get);
 
         var builder = Response.ok().entity(contentToReturn.getContent())
                 .type(contentToReturn.getContentType());
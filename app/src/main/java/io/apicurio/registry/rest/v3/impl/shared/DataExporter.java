@@ -2,20 +2,41 @@ package io.apicurio.registry.rest.v3.impl.shared;
 
 import io.apicurio.registry.storage.RegistryStorage;
 import io.apicurio.registry.cdi.Current;
+import io.apicurio.registry.storage.importing.ImportExportConfigProperties;
+import io.apicurio.registry.utils.impexp.Entity;
 import io.apicurio.registry.utils.impexp.v3.EntityWriter;
+import io.apicurio.registry.utils.impexp.v3.EntityWriter.SerializedEntry;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.microprofile.context.ThreadContext;
 import org.slf4j.Logger;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipOutputStream;
 
 /**
  * Used to export all Registry data to a .zip file.
+ * <p>
+ * The export runs as a pipeline of three stages connected by a bounded queue, so that fetching,
+ * serialization and compression of the entities overlap:
+ * <ol>
+ * <li>the entities are fetched from the storage by a dedicated thread</li>
+ * <li>each entity is serialized to JSON by a pool of workers</li>
+ * <li>the serialized entities are compressed and written to the response, in the order in which they were
+ * fetched, which is the order the importer expects</li>
+ * </ol>
  */
 @ApplicationScoped
 public class DataExporter {
@@ -27,6 +48,12 @@ public class DataExporter {
     @Current
     RegistryStorage storage;
 
+    @Inject
+    ImportExportConfigProperties importExportProps;
+
+    @Inject
+    ThreadContext threadContext;
+
     /**
      * Exports all registry data.
      */
@@ -41,32 +68,94 @@ public class DataExporter {
      */
     public Response exportData(String groupId) {
         StreamingOutput stream = os -> {
-            try {
-                ZipOutputStream zip = new ZipOutputStream(os, StandardCharsets.UTF_8);
-                EntityWriter writer = new EntityWriter(zip);
-                AtomicInteger errorCounter = new AtomicInteger(0);
-                storage.exportData(groupId, entity -> {
-                    try {
-                        writer.writeEntity(entity);
-                    } catch (Exception e) {
-                        log.error("Error writing entity", e);
-                        errorCounter.incrementAndGet();
-                    }
-                    return null;
-                });
-
-                // TODO if the errorCounter > 0, then what?
+            ZipOutputStream zip = new ZipOutputStream(os, StandardCharsets.UTF_8);
+            zip.setLevel(importExportProps.exportCompressionLevel);
+            EntityWriter writer = new EntityWriter(zip, importExportProps.exportStoreUncompressed);
 
+            AtomicInteger threadCount = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(
+                    Math.max(1, importExportProps.exportWorkers) + 1, r -> {
+                        Thread t = new Thread(r, "registry-export-" + threadCount.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    });
+            try {
+                exportData(groupId, writer, executor);
                 zip.flush();
                 zip.close();
-            } catch (IOException e) {
-                throw e;
-            } catch (Exception e) {
-                throw new IOException(e);
+            } finally {
+                executor.shutdownNow();
             }
         };
 
         return Response.ok(stream).type("application/zip").build();
     }
 
+    private void exportData(String groupId, EntityWriter writer, ExecutorService executor)
+            throws IOException {
+        // Each queued future holds the serialized form of one entity. The queue is bounded, so that the
+        // storage is not read faster than the entities can be written.
+        BlockingQueue<CompletableFuture<List<SerializedEntry>>> queue = new ArrayBlockingQueue<>(
+                Math.max(1, importExportProps.exportQueueSize));
+        CompletableFuture<List<SerializedEntry>> endOfExport = CompletableFuture.completedFuture(null);
+
+        Runnable fetch = () -> {
+            try {
+                storage.exportData(groupId, entity -> {
+                    enqueue(queue, CompletableFuture.supplyAsync(() -> serialize(writer, entity), executor));
+                    return null;
+                });
+            } finally {
+                enqueue(queue, endOfExport);
+            }
+        };
+        CompletableFuture<Void> fetching = CompletableFuture
+                .runAsync(threadContext.contextualRunnable(fetch), executor);
+
+        int errorCount = 0;
+        try {
+            while (true) {
+                CompletableFuture<List<SerializedEntry>> next = queue.take();
+                if (next == endOfExport) {
+                    break;
+                }
+                try {
+                    writer.write(next.join());
+                } catch (CompletionException e) {
+                    log.error("Error writing entity", e.getCause());
+                    errorCount++;
+                }
+            }
+            fetching.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fetching.cancel(true);
+            throw new IOException("Export interrupted", e);
+        } catch (CompletionException e) {
+            throw new IOException("Error exporting data", e.getCause());
+        }
+
+        // Fail the export rather than produce an archive that is silently missing some of the data.
+        if (errorCount > 0) {
+            throw new IOException("Failed to export " + errorCount + " entities, see the log for details");
+        }
+    }
+
+    private static List<SerializedEntry> serialize(EntityWriter writer, Entity entity) {
+        try {
+            return writer.serializeEntity(entity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> void enqueue(BlockingQueue<T> queue, T item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Export interrupted", e);
+        }
+    }
+
 }
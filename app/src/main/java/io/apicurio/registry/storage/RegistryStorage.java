@@ -31,6 +31,7 @@ import io.apicurio.registry.storage.dto.RuleConfigurationDto;
 import io.apicurio.registry.storage.dto.SearchFilter;
 import io.apicurio.registry.storage.dto.StoredArtifactVersionDto;
 import io.apicurio.registry.storage.dto.VersionContentDto;
+import io.apicurio.registry.storage.dto.VersionRegistrationDto;
 import io.apicurio.registry.storage.dto.VersionSearchResultsDto;
 import io.apicurio.registry.storage.error.ArtifactAlreadyExistsException;
 import io.apicurio.registry.storage.error.ArtifactNotFoundException;
@@ -221,6 +222,35 @@ public interface RegistryStorage extends DynamicConfigStorage {
             throws ArtifactNotFoundException, VersionAlreadyExistsException, CommitFailedException,
             RegistryStorageException;
 
+    /**
+     * Registers the given content as a new version of an artifact, unless the artifact already has a version
+     * that is not DISABLED and whose content is the same (or has the same canonical hash, if canonical is
+     * true), in which case that version is returned instead. The artifact is created (without any artifact
+     * metadata) if it does not exist yet.
+     *
+     * <p>The lookup and the creation are atomic: concurrent registrations of the same content under the
+     * same artifact, including from other replicas, result in a single version. Rules are <em>not</em>
+     * applied, the caller is expected to have applied them already. A new version is only created if the
+     * current latest versionOrder of the artifact still matches the one the rules were applied against, so
+     * that a concurrent registration of different content cannot bypass them. On a
+     * {@link CommitFailedException}, the caller should apply the rules again and retry.
+     *
+     * @param groupId (optional)
+     * @param artifactId
+     * @param artifactType
+     * @param content
+     * @param canonical whether an existing version matches by canonical hash rather than by exact content
+     * @param owner
+     * @param expectedBaseVersionOrder the latest versionOrder of the artifact when the rules were applied,
+     *                                 or 0 if the artifact had no versions (or did not exist)
+     * @return the existing or newly created version, and whether anything was created
+     * @throws CommitFailedException if no equivalent version exists and the current latest versionOrder
+     *                               does not match expectedBaseVersionOrder
+     */
+    VersionRegistrationDto createArtifactVersionIfAbsent(String groupId, String artifactId,
+            String artifactType, ContentWrapperDto content, boolean canonical, String owner,
+            int expectedBaseVersionOrder) throws CommitFailedException, RegistryStorageException;
+
     /**
      * Get all artifact ids. --- Note: This should only be used in older APIs such as the registry V1 REST API
      * and the Confluent API ---
@@ -268,6 +298,19 @@ public interface RegistryStorage extends DynamicConfigStorage {
             boolean canonical, TypedContent content, List<ArtifactReferenceDto> artifactReferences)
             throws ArtifactNotFoundException, RegistryStorageException;
 
+    /**
+     * Gets the metadata of the version whose content, once all of its references are inlined, matches the
+     * given content. Used to find a version when the client sends the schema with its references inlined.
+     *
+     * @param groupId (optional)
+     * @param artifactId
+     * @param content the content with its references inlined
+     * @throws ArtifactNotFoundException
+     * @throws RegistryStorageException
+     */
+    ArtifactVersionMetaDataDto getArtifactVersionMetaDataByDereferencedContent(String groupId,
+            String artifactId, TypedContent content) throws ArtifactNotFoundException, RegistryStorageException;
+
     /**
      * Updates the stored meta-data for an artifact by group and ID. Only the client-editable meta-data can be
      * updated. Client editable meta-data includes e.g. name and description
@@ -463,6 +506,22 @@ public interface RegistryStorage extends DynamicConfigStorage {
             OrderDirection orderDirection, int offset, int limit)
             throws ArtifactNotFoundException, RegistryStorageException;
 
+    /**
+     * Fetch versions together with their content and references, ordered by creation time. Intended for
+     * listings that return the content of every version of a page (e.g. the Confluent compatible schema
+     * listing), which would otherwise have to fetch the content of each version separately.
+     *
+     * @param artifactIdPrefix only include versions of artifacts whose ID starts with this prefix (optional)
+     * @param includeDisabled whether to include versions in the DISABLED state
+     * @param latestOnly only include the latest (included) version of each artifact
+     * @param offset the number of versions to skip
+     * @param limit the result size limit
+     * @return the versions with their content, limited
+     * @throws RegistryStorageException
+     */
+    List<VersionContentDto> searchVersionContents(String artifactIdPrefix, boolean includeDisabled,
+            boolean latestOnly, int offset, int limit) throws RegistryStorageException;
+
     /**
      * Gets the stored artifact content for the artifact version with the given unique global ID.
      *
@@ -995,10 +1054,28 @@ public interface RegistryStorage extends DynamicConfigStorage {
 
     void importContent(ContentEntity entity);
 
+    /**
+     * Imports a batch of content entities. The batch is imported atomically: if any of the entities cannot
+     * be imported, none of them are, and the caller may fall back to {@link #importContent(ContentEntity)}
+     * to import them one at a time.
+     *
+     * @param entities
+     */
+    void importContents(List<ContentEntity> entities);
+
     void importArtifact(ArtifactEntity entity);
 
     void importArtifactVersion(ArtifactVersionEntity entity);
 
+    /**
+     * Imports a batch of artifact version entities. The batch is imported atomically: if any of the
+     * entities cannot be imported, none of them are, and the caller may fall back to
+     * {@link #importArtifactVersion(ArtifactVersionEntity)} to import them one at a time.
+     *
+     * @param entities
+     */
+    void importArtifactVersions(List<ArtifactVersionEntity> entities);
+
     void importArtifactRule(ArtifactRuleEntity entity);
 
     void importBranch(BranchEntity entity);
@@ -1014,6 +1091,16 @@ public interface RegistryStorage extends DynamicConfigStorage {
 
     void updateContentCanonicalHash(String newCanonicalHash, long contentId, String contentHash);
 
+    /**
+     * Computes the missing dereferenced content hashes, used by
+     * {@link #getArtifactVersionMetaDataByDereferencedContent(String, String, TypedContent)}. Imported
+     * content is stored before the content it references, so its hash can only be computed once the import
+     * is complete.
+     *
+     * @throws RegistryStorageException
+     */
+    void updateDereferencedContentHashes() throws RegistryStorageException;
+
     Optional<Long> contentIdFromHash(String contentHash);
 
     BranchSearchResultsDto getBranches(GA ga, int offset, int limit);
@@ -1,13 +1,14 @@
 package io.apicurio.registry.storage.decorator;
 
+import io.apicurio.registry.cdi.Current;
 import io.apicurio.registry.storage.dto.OrderBy;
 import io.apicurio.registry.storage.dto.OrderDirection;
 import io.apicurio.registry.storage.dto.SearchFilter;
 import io.apicurio.registry.storage.dto.VersionSearchResultsDto;
 import io.apicurio.registry.storage.error.RegistryStorageException;
 import io.apicurio.registry.storage.impl.search.ElasticsearchSearchConfig;
-import io.apicurio.registry.storage.impl.search.ElasticsearchSearchService;
 import io.apicurio.registry.storage.impl.search.ElasticsearchStartupIndexer;
+import io.apicurio.registry.storage.impl.search.SearchIndexBackend;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -16,7 +17,7 @@ import java.util.Set;
 
 /**
  * Storage decorator that intercepts version search requests and routes them through the
- * Elasticsearch search index only when the search filters require it (e.g. content or
+ * search index (see {@link SearchIndexBackend}) only when the search filters require it (e.g. content or
  * structure filters). All other searches are handled by the underlying SQL-based storage.
  */
 @ApplicationScoped
@@ -27,7 +28,8 @@ public class ElasticsearchSearchDecorator extends RegistryStorageDecoratorBase
     ElasticsearchSearchConfig config;
 
     @Inject
-    ElasticsearchSearchService searchService;
+    @Current
+    SearchIndexBackend backend;
 
     @Inject
     ElasticsearchStartupIndexer startupIndexer;
@@ -43,25 +45,25 @@ public class ElasticsearchSearchDecorator extends RegistryStorageDecoratorBase
     }
 
     /**
-     * Intercepts version search requests. Only routes through Elasticsearch when the filters
+     * Intercepts version search requests. Only routes through the search index when the filters
      * require the search index (e.g. content or structure filters). All other searches fall
      * through to the underlying SQL-based storage.
      */
     public VersionSearchResultsDto searchVersions(Set<SearchFilter> filters, OrderBy orderBy,
             OrderDirection orderDirection, int offset, int limit)
             throws RegistryStorageException {
-        if (searchService.requiresSearchIndex(filters)) {
+        if (SearchIndexBackend.requiresSearchIndex(filters)) {
             if (!startupIndexer.isReady()) {
                 throw new RegistryStorageException(
-                        "Content search requires the Elasticsearch search index, which is not "
-                        + "available. Enable the Elasticsearch search index to use content search.");
+                        "Content search requires the search index, which is not "
+                        + "available. Enable the search index to use content search.");
             }
             try {
-                return searchService.searchVersions(filters, orderBy, orderDirection,
+                return backend.searchVersions(filters, orderBy, orderDirection,
                         offset, limit);
             } catch (IOException e) {
                 throw new RegistryStorageException(
-                        "Elasticsearch search failed for index-only filters.", e);
+                        "Search index query failed for index-only filters.", e);
             }
         }
         return delegate.searchVersions(filters, orderBy, orderDirection, offset, limit);
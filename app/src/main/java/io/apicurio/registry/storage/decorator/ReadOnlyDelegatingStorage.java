@@ -123,6 +123,12 @@ public abstract class ReadOnlyDelegatingStorage implements RegistryStorage {
                 artifactReferences);
     }
 
+    @Override
+    public ArtifactVersionMetaDataDto getArtifactVersionMetaDataByDereferencedContent(String groupId,
+            String artifactId, TypedContent content) throws ArtifactNotFoundException, RegistryStorageException {
+        return delegate.getArtifactVersionMetaDataByDereferencedContent(groupId, artifactId, content);
+    }
+
     @Override
     public List<RuleType> getArtifactRules(String groupId, String artifactId)
             throws ArtifactNotFoundException, RegistryStorageException {
@@ -159,6 +165,12 @@ public abstract class ReadOnlyDelegatingStorage implements RegistryStorage {
         return delegate.searchVersions(filters, orderBy, orderDirection, offset, limit);
     }
 
+    @Override
+    public List<VersionContentDto> searchVersionContents(String artifactIdPrefix, boolean includeDisabled,
+            boolean latestOnly, int offset, int limit) throws RegistryStorageException {
+        return delegate.searchVersionContents(artifactIdPrefix, includeDisabled, latestOnly, offset, limit);
+    }
+
     @Override
     public StoredArtifactVersionDto getArtifactVersionContent(long globalId)
             throws ArtifactNotFoundException, RegistryStorageException {
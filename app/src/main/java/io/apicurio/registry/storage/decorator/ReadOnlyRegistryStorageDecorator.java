@@ -105,6 +105,15 @@ public class ReadOnlyRegistryStorageDecorator extends RegistryStorageDecoratorBa
                 metaData, branches, isDraft, owner, expectedBaseVersionOrder, artifactMetaData);
     }
 
+    public VersionRegistrationDto createArtifactVersionIfAbsent(String groupId, String artifactId,
+            String artifactType, ContentWrapperDto content, boolean canonical, String owner,
+            int expectedBaseVersionOrder)
+            throws RegistryStorageException {
+        checkReadOnly();
+        return delegate.createArtifactVersionIfAbsent(groupId, artifactId, artifactType, content, canonical,
+                owner, expectedBaseVersionOrder);
+    }
+
     public void updateArtifactMetaData(String groupId, String artifactId,
             EditableArtifactMetaDataDto metaData) throws ArtifactNotFoundException, RegistryStorageException {
         checkReadOnly();
@@ -342,11 +351,21 @@ public class ReadOnlyRegistryStorageDecorator extends RegistryStorageDecoratorBa
         delegate.importContent(entity);
     }
 
+    public void importContents(List<ContentEntity> entities) {
+        checkReadOnly();
+        delegate.importContents(entities);
+    }
+
     public void importArtifactVersion(ArtifactVersionEntity entity) {
         checkReadOnly();
         delegate.importArtifactVersion(entity);
     }
 
+    public void importArtifactVersions(List<ArtifactVersionEntity> entities) {
+        checkReadOnly();
+        delegate.importArtifactVersions(entities);
+    }
+
     public void importArtifact(ArtifactEntity entity) {
         checkReadOnly();
         delegate.importArtifact(entity);
@@ -372,6 +391,12 @@ public class ReadOnlyRegistryStorageDecorator extends RegistryStorageDecoratorBa
         delegate.updateContentCanonicalHash(newCanonicalHash, contentId, contentHash);
     }
 
+    @Override
+    public void updateDereferencedContentHashes() throws RegistryStorageException {
+        checkReadOnly();
+        delegate.updateDereferencedContentHashes();
+    }
+
     public long nextContentId() {
         checkReadOnly();
         return delegate.nextContentId();
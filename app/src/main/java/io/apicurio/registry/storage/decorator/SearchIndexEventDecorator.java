@@ -5,6 +5,7 @@ import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
 import io.apicurio.registry.storage.dto.ContentWrapperDto;
 import io.apicurio.registry.storage.dto.EditableArtifactMetaDataDto;
 import io.apicurio.registry.storage.dto.EditableVersionMetaDataDto;
+import io.apicurio.registry.storage.dto.VersionRegistrationDto;
 import io.apicurio.registry.storage.error.CommitFailedException;
 import io.apicurio.registry.storage.error.RegistryStorageException;
 import io.apicurio.registry.storage.error.ArtifactNotFoundException;
@@ -133,6 +134,25 @@ public class SearchIndexEventDecorator extends RegistryStorageDecoratorBase
         return versionMeta;
     }
 
+    public VersionRegistrationDto createArtifactVersionIfAbsent(String groupId, String artifactId,
+            String artifactType, ContentWrapperDto content, boolean canonical, String owner,
+            int expectedBaseVersionOrder)
+            throws RegistryStorageException {
+
+        // Call delegate to perform the actual registration
+        VersionRegistrationDto registration = delegate.createArtifactVersionIfAbsent(groupId, artifactId,
+                artifactType, content, canonical, owner, expectedBaseVersionOrder);
+
+        // Fire event for search indexing (only if a version was actually created)
+        if (registration.isVersionCreated()) {
+            ArtifactVersionMetaDataDto versionMeta = registration.getVersion();
+            versionCreatedEvent.fire(new VersionCreatedEvent(groupId, artifactId,
+                    versionMeta.getVersion(), versionMeta.getGlobalId(), versionMeta.getContentId()));
+        }
+
+        return registration;
+    }
+
     public void deleteArtifactVersion(String groupId, String artifactId, String version)
             throws RegistryStorageException {
 
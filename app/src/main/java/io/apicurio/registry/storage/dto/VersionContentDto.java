@@ -10,12 +10,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.util.List;
 import java.util.Map;
 
 /**
  * DTO bundling version metadata and content for streaming reindex. Combines the fields from
- * {@link ArtifactVersionMetaDataDto} with the artifact content, allowing the startup reindexer
- * to process each version in a single pass without additional queries.
+ * {@link ArtifactVersionMetaDataDto} with the artifact content and references, allowing the startup
+ * reindexer (or a listing of schemas) to process each version in a single pass without additional
+ * queries.
  */
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,6 +44,7 @@ public class VersionContentDto {
     private VersionState state;
     private Map<String, String> labels;
     private ContentHandle content;
+    private List<ArtifactReferenceDto> references;
 
     /**
      * Converts this DTO to an {@link ArtifactVersionMetaDataDto}, which is the format expected
@@ -0,0 +1,30 @@
+package io.apicurio.registry.storage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Result of an idempotent version registration: either the existing version whose content matched the
+ * registered content, or the newly created version (and artifact, if it did not exist yet).
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+public class VersionRegistrationDto {
+
+    private ArtifactVersionMetaDataDto version;
+    /**
+     * The metadata of the artifact, if it was created by the registration, otherwise null.
+     */
+    private ArtifactMetaDataDto createdArtifact;
+    private boolean versionCreated;
+}
@@ -498,6 +498,29 @@ public class KafkaSqlRegistryStorage extends ReadOnlyDelegatingStorage implement
         return versionMetaDataDto;
     }
 
+    @Override
+    public VersionRegistrationDto createArtifactVersionIfAbsent(String groupId, String artifactId,
+            String artifactType, ContentWrapperDto contentDto, boolean canonical, String owner,
+            int expectedBaseVersionOrder)
+            throws RegistryStorageException {
+        String content = contentDto != null ? contentDto.getContent().content() : null;
+        String contentType = contentDto != null ? contentDto.getContentType() : null;
+        List<ArtifactReferenceDto> references = contentDto != null ? contentDto.getReferences() : null;
+        // The lookup and the creation are done by a single journal message, so that they are atomic
+        // across all replicas
+        var message = new CreateArtifactVersionIfAbsent7Message(groupId, artifactId, artifactType,
+                contentType, content, references, canonical, owner, expectedBaseVersionOrder);
+        var uuid = blockOnResult(submitter.submitMessage(message));
+        VersionRegistrationDto registration = (VersionRegistrationDto) coordinator.waitForResponse(uuid);
+        if (registration.getCreatedArtifact() != null) {
+            outboxEvent.fire(KafkaSqlOutboxEvent.of(ArtifactCreated.of(registration.getCreatedArtifact())));
+        }
+        if (registration.isVersionCreated()) {
+            outboxEvent.fire(KafkaSqlOutboxEvent.of(ArtifactVersionCreated.of(registration.getVersion())));
+        }
+        return registration;
+    }
+
     @Override
     public void updateArtifactVersionContent(String groupId, String artifactId, String version,
             String artifactType, ContentWrapperDto contentDto) throws RegistryStorageException {
@@ -765,7 +788,7 @@ public class KafkaSqlRegistryStorage extends ReadOnlyDelegatingStorage implement
         // All messages use the same partition key (__GLOBAL_PARTITION__), so Kafka guarantees
         // ordering within the partition. Reset messages sent after import messages will be
         // consumed in the correct order without needing any sleep/wait mechanism.
-        dataImporter.importData(entities, () -> {});
+        dataImporter.importData(entities, this::updateDereferencedContentHashes);
     }
 
     /**
@@ -779,7 +802,7 @@ public class KafkaSqlRegistryStorage extends ReadOnlyDelegatingStorage implement
         // All messages use the same partition key (__GLOBAL_PARTITION__), so Kafka guarantees
         // ordering within the partition. Reset messages sent after import messages will be
         // consumed in the correct order without needing any sleep/wait mechanism.
-        dataImporter.importData(entities, () -> {});
+        dataImporter.importData(entities, this::updateDereferencedContentHashes);
     }
 
     /**
@@ -1007,6 +1030,20 @@ public class KafkaSqlRegistryStorage extends ReadOnlyDelegatingStorage implement
         coordinator.waitForResponse(uuid);
     }
 
+    /**
+     * @see io.apicurio.registry.storage.RegistryStorage#importContents(List)
+     */
+    @Override
+    public void importContents(List<ContentEntity> entities) {
+        // The whole batch is sent as a single journal record, so that it is applied by every replica in
+        // a single transaction, and with a single round trip instead of one per entity.
+        List<String> contents = entities.stream()
+                .map(entity -> ContentHandle.create(entity.contentBytes).content()).toList();
+        var message = new ImportContents1Message(entities, contents);
+        var uuid = blockOnResult(submitter.submitMessage(message));
+        coordinator.waitForResponse(uuid);
+    }
+
     /**
      * @see io.apicurio.registry.storage.RegistryStorage#importArtifactVersion(ArtifactVersionEntity)
      */
@@ -1017,6 +1054,16 @@ public class KafkaSqlRegistryStorage extends ReadOnlyDelegatingStorage implement
         coordinator.waitForResponse(uuid);
     }
 
+    /**
+     * @see io.apicurio.registry.storage.RegistryStorage#importArtifactVersions(List)
+     */
+    @Override
+    public void importArtifactVersions(List<ArtifactVersionEntity> entities) {
+        var message = new ImportArtifactVersions1Message(entities);
+        var uuid = blockOnResult(submitter.submitMessage(message));
+        coordinator.waitForResponse(uuid);
+    }
+
     @Override
     public void importArtifact(ArtifactEntity entity) {
         var message = new ImportArtifact1Message(entity);
@@ -1062,6 +1109,16 @@ public class KafkaSqlRegistryStorage extends ReadOnlyDelegatingStorage implement
         coordinator.waitForResponse(uuid);
     }
 
+    /**
+     * @see io.apicurio.registry.storage.RegistryStorage#updateDereferencedContentHashes()
+     */
+    @Override
+    public void updateDereferencedContentHashes() throws RegistryStorageException {
+        var message = new UpdateDereferencedContentHashes0Message();
+        var uuid = blockOnResult(submitter.submitMessage(message));
+        coordinator.waitForResponse(uuid);
+    }
+
     @Override
     public void appendVersionToBranch(GA ga, BranchId branchId, VersionId version) {
         var message = new AppendVersionToBranch3Message(ga.getRawGroupIdWithNull(), ga.getRawArtifactId(),
@@ -0,0 +1,46 @@
+package io.apicurio.registry.storage.impl.kafkasql.messages;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.impl.kafkasql.AbstractMessage;
+import io.apicurio.registry.utils.impexp.v3.ContentEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Imports a batch of content entities with a single journal record. The content of each entity is carried
+ * in {@link #contents}, at the same index as the entity, because it is not part of the serialized entity.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class ImportContents1Message extends AbstractMessage {
+
+    private List<ContentEntity> entities;
+    @ToString.Exclude
+    private List<String> contents;
+
+    /**
+     * @see io.apicurio.registry.storage.impl.kafkasql.KafkaSqlMessage#dispatchTo(io.apicurio.registry.storage.RegistryStorage)
+     */
+    @Override
+    public Object dispatchTo(RegistryStorage storage) {
+        for (int i = 0; i < entities.size(); i++) {
+            entities.get(i).contentBytes = ContentHandle.create(contents.get(i)).bytes();
+        }
+        storage.importContents(entities);
+        return null;
+    }
+
+}
@@ -30,7 +30,8 @@ public class KafkaSqlMessageIndex {
                 CreateArtifact9Message.class, CreateArtifact10Message.class, CreateArtifact11Message.class,
                 CreateArtifactVersion8Message.class, CreateArtifactVersion9Message.class,
                 CreateArtifactVersion10Message.class,
-                CreateArtifactVersionIfLatest11Message.class, CreateArtifactRule4Message.class,
+                CreateArtifactVersionIfLatest11Message.class, CreateArtifactVersionIfAbsent7Message.class,
+                CreateArtifactRule4Message.class,
                 CreateGroupRule3Message.class, CreateArtifactVersionComment4Message.class,
                 CreateBranch4Message.class, CreateDownload1Message.class, CreateGlobalRule2Message.class,
                 CreateGroup1Message.class, CreateRoleMapping3Message.class, CreateSnapshot1Message.class,
@@ -42,9 +43,10 @@ public class KafkaSqlMessageIndex {
                 DeleteGlobalRule1Message.class, DeleteGlobalRules0Message.class, DeleteGroup1Message.class,
                 DeleteRoleMapping1Message.class, ImportArtifact1Message.class,
                 ImportArtifactRule1Message.class, ImportArtifactVersion1Message.class,
-                ImportBranch1Message.class, ImportComment1Message.class, ImportContent1Message.class,
-                ImportGlobalRule1Message.class, ImportGroup1Message.class, NextCommentId0Message.class,
-                NextContentId0Message.class, NextGlobalId0Message.class, ReplaceBranchVersions3Message.class,
+                ImportArtifactVersions1Message.class, ImportBranch1Message.class, ImportComment1Message.class,
+                ImportContent1Message.class, ImportContents1Message.class, ImportGlobalRule1Message.class,
+                ImportGroup1Message.class, NextCommentId0Message.class, NextContentId0Message.class,
+                NextGlobalId0Message.class, ReplaceBranchVersions3Message.class,
                 ResetCommentId0Message.class, ResetContentId0Message.class, ResetGlobalId0Message.class,
                 SetConfigProperty1Message.class, UpdateArtifactMetaData3Message.class,
                 UpdateArtifactRule4Message.class, UpdateArtifactVersionComment5Message.class,
@@ -53,7 +55,8 @@ public class KafkaSqlMessageIndex {
                 UpdateGroupMetaData2Message.class, UpdateRoleMapping2Message.class,
                 UpdateArtifactVersionState5Message.class, UpdateArtifactVersionContent5Message.class,
                 UpdateGroupRule3Message.class, DeleteGroupRule2Message.class, DeleteGroupRules1Message.class,
-                ImportGroupRule1Message.class, ExecuteSqlStatement1Message.class);
+                ImportGroupRule1Message.class, ExecuteSqlStatement1Message.class,
+                UpdateDereferencedContentHashes0Message.class);
     }
 
     public static Class<? extends KafkaSqlMessage> lookup(String name) {
@@ -1,9 +1,12 @@
 package io.apicurio.registry.storage.impl.polling;
 
 import io.apicurio.common.apps.config.DynamicConfigPropertyDto;
+import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.content.util.ContentTypeUtil;
 import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.impl.polling.PollingContentCache.ProcessedContent;
+import io.apicurio.registry.storage.impl.polling.PollingLoadSnapshot.LoadedArtifact;
 import io.apicurio.registry.storage.impl.polling.model.Type;
 import io.apicurio.registry.storage.impl.polling.model.v0.Artifact;
 import io.apicurio.registry.storage.impl.polling.model.v0.ConfigurationProperty;
@@ -22,18 +25,43 @@ import io.apicurio.registry.utils.impexp.v3.ArtifactVersionEntity;
 import io.apicurio.registry.utils.impexp.v3.ContentEntity;
 import io.apicurio.registry.utils.impexp.v3.GlobalRuleEntity;
 import io.apicurio.registry.utils.impexp.v3.GroupEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Inject;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.slf4j.Logger;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static io.apicurio.registry.metrics.MetricsConstants.POLLING_STORAGE_LOAD;
+import static io.apicurio.registry.metrics.MetricsConstants.POLLING_STORAGE_LOAD_DESCRIPTION;
+import static io.apicurio.registry.metrics.MetricsConstants.POLLING_STORAGE_LOAD_TAG_MODE;
+import static io.apicurio.registry.metrics.MetricsConstants.POLLING_STORAGE_LOAD_TAG_STORAGE;
+import static io.apicurio.registry.metrics.MetricsConstants.POLLING_STORAGE_LOAD_TAG_SUCCESS;
+
 /**
  * Abstract base class for {@link PollingDataSourceManager} implementations that share the
  * same file processing logic (settings, global rules, artifacts, groups, content).
  * Subclasses only need to implement data-source-specific methods (start, poll,
  * commitChange, getPreviousMarker) and provide the registry ID and commit time.
+ * <p>
+ * Data is loaded into a storage incrementally when possible: the artifacts whose files (or referenced
+ * content files) did not change since the previous load into the same storage are left in place, and only
+ * the added, changed or removed artifacts are applied. A full reload is done instead on the first load,
+ * when the registry configuration or the groups change, and when the incremental load fails.
  */
 public abstract class AbstractPollingDataSourceManager<MARKER> implements PollingDataSourceManager<MARKER> {
 
@@ -43,13 +71,27 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
     @Inject
     RegistryStorageContentUtils utils;
 
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    io.apicurio.registry.core.System system;
+
     private PollingStorageConfig pollingConfig;
 
+    // What was loaded into each storage (blue or green) by the last successful load, used to apply the next
+    // change incrementally. Only accessed from the refresh thread.
+    private final Map<RegistryStorage, PollingLoadSnapshot> snapshots = new IdentityHashMap<>();
+
+    private PollingContentCache contentCache;
+
     /**
      * This method MUST be called from the subclass.
      */
     public void start(PollingStorageConfig config) {
         pollingConfig = config;
+        contentCache = new PollingContentCache(log, config.getContentCachePath().orElse(null),
+                system.getVersion());
     }
 
     /**
@@ -62,17 +104,163 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
 
     @Override
     public PollingProcessingResult process(RegistryStorage storage, PollingResult<MARKER> pollResult) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String mode = "full";
+        PollingProcessingResult result = null;
+        try {
+            // The storage is only known to match the snapshot again if this load succeeds
+            PollingLoadSnapshot previous = snapshots.remove(storage);
+
+            ProcessingState state = createState(storage, pollResult);
+            String globalFingerprint = globalFingerprint(state);
+            if (previous != null && pollingConfig.isIncrementalLoadEnabled()
+                    && previous.globalFingerprint().equals(globalFingerprint)) {
+                mode = "incremental";
+                try {
+                    processIncremental(state, previous);
+                } catch (Exception ex) {
+                    state.recordError("Unexpected error: %s", ex.getMessage());
+                }
+                if (!state.isSuccessful()) {
+                    log.warn("Incremental processing failed with {} error(s), falling back to a full reload: {}",
+                            state.getErrors().size(), state.getErrors());
+                    mode = "fallback";
+                    state = createState(storage, pollResult);
+                    processFull(state);
+                }
+            } else {
+                processFull(state);
+            }
+
+            if (state.isSuccessful()) {
+                // Content may be loaded before the content it references, so compute its hash last
+                try {
+                    storage.updateDereferencedContentHashes();
+                } catch (Exception ex) {
+                    state.recordError("Failed to compute the dereferenced content hashes: %s",
+                            ex.getMessage());
+                }
+            }
+
+            if (state.isSuccessful()) {
+                snapshots.put(storage, new PollingLoadSnapshot(globalFingerprint, state.getLoadedArtifacts()));
+                // An incremental load does not use the content of the unchanged artifacts, keep it cached
+                Set<String> retainedContentHashes = new HashSet<>();
+                for (PollingLoadSnapshot snapshot : snapshots.values()) {
+                    for (var artifact : snapshot.artifacts().values()) {
+                        retainedContentHashes.addAll(artifact.contentHashToId().keySet());
+                    }
+                }
+                contentCache.loadCompleted(retainedContentHashes);
+            } else {
+                contentCache.loadFailed();
+            }
+            result = state.getResult();
+            return result;
+        } finally {
+            sample.stop(Timer.builder(POLLING_STORAGE_LOAD).description(POLLING_STORAGE_LOAD_DESCRIPTION)
+                    .tag(POLLING_STORAGE_LOAD_TAG_STORAGE, pollingConfig.getStorageName())
+                    .tag(POLLING_STORAGE_LOAD_TAG_MODE, mode)
+                    .tag(POLLING_STORAGE_LOAD_TAG_SUCCESS, String.valueOf(result != null && result.isSuccessful()))
+                    .register(meterRegistry));
+        }
+    }
+
+    private ProcessingState createState(RegistryStorage storage, PollingResult<MARKER> pollResult) {
         ProcessingState state = new ProcessingState(pollingConfig, storage);
 
         state.setCommitTime(getCommitTime(pollResult.getMarker()));
 
         for (PollingDataFile file : pollResult.getFiles()) {
+            file.setProcessed(false);
             state.index(file);
         }
+        return state;
+    }
+
+    /**
+     * Replaces all data in the storage with the data from the data source.
+     */
+    private void processFull(ProcessingState state) {
+        state.getStorage().deleteAllUserData();
 
         log.debug("Processing {} files", state.getPathIndex().size());
-        processFiles(state);
+        processFiles(state, null);
+
+        reportUnprocessedFiles(state);
+        if (state.isSuccessful()) {
+            log.info("Processing complete: {} groups, {} artifacts, {} versions loaded",
+                    state.getGroupCount(), state.getArtifactCount(), state.getVersionCount());
+        } else {
+            log.error("Processing failed with {} error(s)", state.getErrors().size());
+        }
+    }
+
+    /**
+     * Applies the changes since the previous load into the same storage: artifacts that were removed or
+     * changed are deleted, and artifacts that were added or changed are imported. The rest of the data is
+     * left in place, which avoids re-processing (e.g. canonicalizing) the content of unchanged artifacts.
+     * <p>
+     * Must only be called if the registry configuration and the groups have not changed.
+     */
+    private void processIncremental(ProcessingState state, PollingLoadSnapshot previous) {
+        var storage = state.getStorage();
+
+        Map<String, String> fingerprints = new HashMap<>();
+        for (PollingDataFile file : state.fromTypeIndex(Type.ARTIFACT)) {
+            Artifact artifact = file.getEntityUnchecked();
+            if (matchesRegistryId(artifact.getRegistryIds())) {
+                fingerprints.put(file.getPath(), artifactFingerprint(state, file, artifact));
+            }
+        }
+
+        Set<String> affectedGroups = new HashSet<>();
+        int removedCount = 0;
+        for (var entry : previous.artifacts().entrySet()) {
+            var loaded = entry.getValue();
+            if (loaded.fingerprint().equals(fingerprints.get(entry.getKey()))) {
+                state.getLoadedArtifacts().put(entry.getKey(), loaded);
+                state.getContentHashToId().putAll(loaded.contentHashToId());
+            } else {
+                log.debug("Removing artifact {}:{}", loaded.groupId(), loaded.artifactId());
+                storage.deleteArtifact(loaded.groupId(), loaded.artifactId());
+                affectedGroups.add(loaded.groupId());
+                removedCount++;
+            }
+        }
+        // Only the content of the unchanged artifacts (tracked in the content hash index) remains
+        storage.deleteAllOrphanedContent();
+
+        // Groups that are in use by the unchanged artifacts are already in the storage
+        for (PollingDataFile file : state.fromTypeIndex(Type.GROUP)) {
+            Group group = file.getEntityUnchecked();
+            if (matchesRegistryId(group.getRegistryIds()) && storage.isGroupExists(group.getGroupId())) {
+                file.setProcessed(true);
+            }
+        }
+
+        log.debug("Processing {} files, {} artifacts unchanged", state.getPathIndex().size(),
+                state.getLoadedArtifacts().size());
+        processFiles(state, previous);
 
+        // Groups are only loaded while in use by an artifact
+        for (String groupId : affectedGroups) {
+            boolean inUse = state.getLoadedArtifacts().values().stream()
+                    .anyMatch(a -> groupId.equals(a.groupId()));
+            if (!inUse && storage.isGroupExists(groupId)) {
+                storage.deleteGroup(groupId);
+            }
+        }
+
+        reportUnprocessedFiles(state);
+        if (state.isSuccessful()) {
+            log.info("Incremental processing complete: {} artifacts removed or changed, {} artifacts and {} "
+                    + "versions loaded, {} artifacts unchanged", removedCount, state.getArtifactCount(),
+                    state.getVersionCount(), state.getLoadedArtifacts().size() - state.getArtifactCount());
+        }
+    }
+
+    private void reportUnprocessedFiles(ProcessingState state) {
         // Report unprocessed files - distinguish between expected (content/data files) and unexpected
         var unprocessedRegistryFiles = state.getPathIndex().values().stream()
                 .filter(f -> !f.isProcessed() && pollingConfig.isMetadataFile(f.getPath()))
@@ -91,14 +279,62 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
             log.debug("{} non-registry file(s) were not processed (expected for content/data files): {}",
                     unprocessedOtherFiles.size(), unprocessedOtherFiles);
         }
+    }
 
-        if (state.isSuccessful()) {
-            log.info("Processing complete: {} groups, {} artifacts, {} versions loaded",
-                    state.getGroupCount(), state.getArtifactCount(), state.getVersionCount());
-        } else {
-            log.error("Processing failed with {} error(s)", state.getErrors().size());
+    /**
+     * Fingerprint of the data that every artifact may depend on: the registry configuration files, which
+     * also contain the configuration properties and global rules, and the group files.
+     */
+    private String globalFingerprint(ProcessingState state) {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        state.getPathIndex().values().stream()
+                .filter(f -> f.isType(Type.REGISTRY) || f.isType(Type.GROUP))
+                .sorted(Comparator.comparing(PollingDataFile::getPath))
+                .forEach(f -> updateDigest(digest, f));
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    /**
+     * Fingerprint of an artifact file together with the content (and content metadata) files referenced by
+     * its versions.
+     */
+    private String artifactFingerprint(ProcessingState state, PollingDataFile artifactFile, Artifact artifact) {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        updateDigest(digest, artifactFile);
+        for (PollingDataFile file : referencedFiles(state, artifactFile, artifact)) {
+            updateDigest(digest, file);
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private static void updateDigest(MessageDigest digest, PollingDataFile file) {
+        digest.update(file.getPath().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        if (file.getData() != null) {
+            digest.update(file.getData().bytes());
+        }
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Returns the content and content metadata files referenced by the versions of an artifact, if present.
+     */
+    private List<PollingDataFile> referencedFiles(ProcessingState state, PollingDataFile artifactFile,
+                                                  Artifact artifact) {
+        List<PollingDataFile> files = new ArrayList<>();
+        if (artifact.getVersions() != null) {
+            for (Version version : artifact.getVersions()) {
+                for (String ref : Arrays.asList(version.getContentMetadata(), version.getContent())) {
+                    if (ref != null && !ref.isBlank()) {
+                        var file = findFileByPathRef(state, artifactFile, ref);
+                        if (file != null) {
+                            files.add(file);
+                        }
+                    }
+                }
+            }
         }
-        return state.getResult();
+        return files;
     }
 
     /**
@@ -109,7 +345,11 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
         return registryIds == null || registryIds.isEmpty() || registryIds.contains(pollingConfig.getRegistryId());
     }
 
-    private void processFiles(ProcessingState state) {
+    /**
+     * @param previous if not null, the snapshot of the data already in the storage, whose configuration
+     *            properties, global rules and unchanged artifacts are not imported again
+     */
+    private void processFiles(ProcessingState state, PollingLoadSnapshot previous) {
         // Find the Registry config matching our registry ID
         for (PollingDataFile file : state.fromTypeIndex(Type.REGISTRY)) {
             Registry registry = file.getEntityUnchecked();
@@ -120,13 +360,21 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
         }
 
         if (state.getCurrentRegistry() != null) {
-            processConfigurationProperties(state);
-            processGlobalRules(state);
+            if (previous == null) {
+                processConfigurationProperties(state);
+                processGlobalRules(state);
+            }
 
             for (PollingDataFile file : state.fromTypeIndex(Type.ARTIFACT)) {
                 Artifact artifact = file.getEntityUnchecked();
 
                 if (matchesRegistryId(artifact.getRegistryIds())) {
+                    if (state.getLoadedArtifacts().containsKey(file.getPath())) {
+                        // Unchanged since the previous load
+                        file.setProcessed(true);
+                        referencedFiles(state, file, artifact).forEach(f -> f.setProcessed(true));
+                        continue;
+                    }
                     processArtifact(state, file, artifact);
                 } else {
                     log.debug("Ignoring artifact {} (registryIds {} does not include {})",
@@ -186,6 +434,7 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
 
     private void processArtifact(ProcessingState state, PollingDataFile artifactFile, Artifact artifact) {
         boolean artifactImported = false;
+        Map<String, Long> contentHashToId = new HashMap<>();
 
         var group = processGroupRef(state, artifact.getGroupId());
         if (group != null) {
@@ -201,7 +450,7 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
                 try {
                     // Load content: supports direct path (content) and optional metadata (contentMetadata)
                     Long contentId = processVersionContent(state, artifactFile, version,
-                            artifact.getArtifactType());
+                            artifact.getArtifactType(), contentHashToId);
                     if (contentId == null) {
                         state.recordError("Could not import content for artifact version %s.",
                                 artifact.getGroupId() + ":" + artifact.getArtifactId() + ":" + version.getVersion());
@@ -258,6 +507,11 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
                 }
             }
             processArtifactRules(state, artifact);
+            if (artifactImported) {
+                state.getLoadedArtifacts().put(artifactFile.getPath(), new LoadedArtifact(artifact.getGroupId(),
+                        artifact.getArtifactId(), artifactFingerprint(state, artifactFile, artifact),
+                        contentHashToId));
+            }
             artifactFile.setProcessed(true);
         } else {
             state.recordError("Could not find group %s", artifact.getGroupId());
@@ -331,10 +585,11 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
      *     contentId, and optional references.</li>
      * </ul>
      *
+     * @param contentHashToId collects the content used by the versions of the artifact
      * @return the contentId, or null on failure
      */
     private Long processVersionContent(ProcessingState state, PollingDataFile artifactFile, Version version,
-                                       String artifactType) {
+                                       String artifactType, Map<String, Long> contentHashToId) {
         String contentPath = version.getContent();
         String contentMetadataPath = version.getContentMetadata();
 
@@ -377,25 +632,21 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
             return null;
         }
 
-        // Convert YAML content to JSON if parsable as YAML
-        if (ContentTypeUtil.isParsableYaml(data)) {
-            data = ContentTypeUtil.yamlToJson(data);
-        }
-
         try {
             String contentType = detectContentType(dataFile.getPath(), ContentTypes.APPLICATION_JSON);
-            var typedContent = TypedContent.create(data, contentType);
-
-            // Determine artifact type from content if not specified
-            String resolvedArtifactType = utils.determineArtifactType(typedContent, artifactType);
-
-            // Calculate content hash for deduplication
-            String contentHash = utils.getContentHash(typedContent, null);
+            var processed = contentCache.get(data.bytes(), contentType, artifactType,
+                    () -> processContent(dataFile.getData(), contentType, artifactType));
+            if (processed.data() != null) {
+                data = ContentHandle.create(processed.data());
+            }
+            String resolvedArtifactType = processed.artifactType();
+            String contentHash = processed.contentHash();
 
             // Check if this content was already imported (deduplication)
             Long existingContentId = state.getContentHashToId().get(contentHash);
             if (existingContentId != null) {
                 dataFile.setProcessed(true);
+                contentHashToId.put(contentHash, existingContentId);
                 return existingContentId;
             }
 
@@ -415,7 +666,7 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
             e.contentId = contentId;
             e.contentHash = contentHash;
             e.contentBytes = data.bytes();
-            e.canonicalHash = utils.getCanonicalContentHash(typedContent, resolvedArtifactType, null, null);
+            e.canonicalHash = processed.canonicalHash();
             e.artifactType = resolvedArtifactType;
             e.contentType = contentType;
 
@@ -425,6 +676,7 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
             log.debug("Importing content from {}", dataFile.getPath());
             state.getStorage().importContent(e);
             state.getContentHashToId().put(contentHash, contentId);
+            contentHashToId.put(contentHash, contentId);
             dataFile.setProcessed(true);
             return contentId;
         } catch (Exception ex) {
@@ -433,6 +685,28 @@ public abstract class AbstractPollingDataSourceManager<MARKER> implements Pollin
         }
     }
 
+    /**
+     * Parses, hashes and canonicalizes a content file. The result only depends on the arguments, so it is
+     * cached by {@link PollingContentCache}.
+     */
+    private ProcessedContent processContent(ContentHandle data, String contentType, String artifactType) {
+        String converted = null;
+        // Convert YAML content to JSON if parsable as YAML
+        if (ContentTypeUtil.isParsableYaml(data)) {
+            data = ContentTypeUtil.yamlToJson(data);
+            converted = data.content();
+        }
+        var typedContent = TypedContent.create(data, contentType);
+
+        // Determine artifact type from content if not specified
+        String resolvedArtifactType = utils.determineArtifactType(typedContent, artifactType);
+
+        // Calculate content hash for deduplication
+        String contentHash = utils.getContentHash(typedContent, null);
+        String canonicalHash = utils.getCanonicalContentHash(typedContent, resolvedArtifactType, null, null);
+        return new ProcessedContent(converted, contentType, resolvedArtifactType, contentHash, canonicalHash);
+    }
+
     private PollingDataFile findFileByPathRef(ProcessingState state, PollingDataFile base, String ref) {
         String resolved = Path.of(base.getPath()).resolveSibling(ref).normalize().toString();
         return state.getPathIndex().get(resolved);
@@ -174,7 +174,6 @@ public abstract class AbstractPollingRegistryStorage<MARKER> extends AbstractRea
      */
     private void loadInactive(PollingResult<MARKER> pollResult) {
         try {
-            inactive.deleteAllUserData();
             var result = pollingDataSourceManager.process(inactive, pollResult);
             if (result.isSuccessful()) {
                 log.info("{} update loaded successfully (marker: {})", storageName(), pollResult.getMarker());
@@ -294,6 +293,12 @@ public abstract class AbstractPollingRegistryStorage<MARKER> extends AbstractRea
         return proxy(storage -> storage.searchVersions(filters, orderBy, orderDirection, offset, limit));
     }
 
+    @Override
+    public List<VersionContentDto> searchVersionContents(String artifactIdPrefix, boolean includeDisabled,
+                                                         boolean latestOnly, int offset, int limit) throws RegistryStorageException {
+        return proxy(storage -> storage.searchVersionContents(artifactIdPrefix, includeDisabled, latestOnly, offset, limit));
+    }
+
     @Override
     public ArtifactMetaDataDto getArtifactMetaData(String groupId, String artifactId) {
         return proxy(storage -> storage.getArtifactMetaData(groupId, artifactId));
@@ -306,6 +311,13 @@ public abstract class AbstractPollingRegistryStorage<MARKER> extends AbstractRea
                 content, artifactReferences));
     }
 
+    @Override
+    public ArtifactVersionMetaDataDto getArtifactVersionMetaDataByDereferencedContent(String groupId,
+            String artifactId, TypedContent content) {
+        return proxy(storage -> storage.getArtifactVersionMetaDataByDereferencedContent(groupId, artifactId,
+                content));
+    }
+
     @Override
     public List<RuleType> getArtifactRules(String groupId, String artifactId) {
         return proxy(storage -> storage.getArtifactRules(groupId, artifactId));
@@ -4,8 +4,10 @@ import io.apicurio.common.apps.config.Info;
 import lombok.Getter;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_STORAGE;
 
@@ -75,4 +77,25 @@ public abstract class AbstractPollingStorageConfig implements PollingStorageConf
             registry configuration file (no artifacts), then remove it.""", availableSince = "3.2.0")
     @Getter
     boolean requireRegistryConfig;
+
+    @ConfigProperty(name = "apicurio.polling-storage.incremental-load-enabled", defaultValue = "true")
+    @Info(category = CATEGORY_STORAGE, experimental = true, description = """
+            When enabled, a change in the data source is applied to the storage by reloading \
+            only the artifacts that were added, changed or removed since the previous load. \
+            Changes to the registry configuration or to groups, and failed incremental loads, \
+            still cause a full reload.""", availableSince = "3.2.2")
+    @Getter
+    boolean incrementalLoadEnabled;
+
+    @ConfigProperty(name = "apicurio.polling-storage.content-cache.path")
+    @Info(category = CATEGORY_STORAGE, experimental = true, description = """
+            Path of a local file where the results of processing content files \
+            (content hash, canonical hash and artifact type) are persisted, \
+            so that unchanged content does not have to be processed again after a restart. \
+            If not set, the results are only cached in memory.""", availableSince = "3.2.2")
+    Optional<String> contentCachePath;
+
+    public Optional<Path> getContentCachePath() {
+        return contentCachePath.map(Path::of);
+    }
 }
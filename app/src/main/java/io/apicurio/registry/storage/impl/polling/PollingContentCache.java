@@ -0,0 +1,147 @@
+package io.apicurio.registry.storage.impl.polling;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.apicurio.registry.util.JsonObjectMapper;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Caches the result of processing a content file, keyed by the hash of the raw file data, so that reloading
+ * a file that has not changed does not require it to be parsed, hashed and canonicalized again.
+ * <p>
+ * A single cache is used for the loads into both the blue and the green storage. After every successful
+ * load, the entries that were neither used by it nor are still loaded into one of the storages are evicted,
+ * so the cache does not grow beyond the content of the data source. The cache is saved to disk if a path is
+ * configured, so that it also survives a restart. The saved cache is stamped with its format version and the
+ * registry version, and discarded when loaded by a different one, since the processing (e.g. the
+ * canonicalization) may have changed.
+ * <p>
+ * Not thread-safe, only used from the refresh thread.
+ */
+public class PollingContentCache {
+
+    /**
+     * The result of processing a content file.
+     *
+     * @param data the content, if it differs from the raw file data (e.g. YAML converted to JSON)
+     * @param contentType
+     * @param artifactType the artifact type, determined from the content if not declared by the artifact
+     * @param contentHash
+     * @param canonicalHash
+     */
+    public record ProcessedContent(String data, String contentType, String artifactType, String contentHash,
+            String canonicalHash) {
+    }
+
+    /**
+     * Increment when the format of the saved cache changes.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String STAMP_FIELD = "stamp";
+    private static final String ENTRIES_FIELD = "entries";
+
+    private final Logger log;
+    private final Path path;
+    private final String stamp;
+
+    private Map<String, ProcessedContent> entries = new HashMap<>();
+    private final Set<String> used = new HashSet<>();
+
+    /**
+     * @param path where the cache is persisted, or null to keep it in memory only
+     * @param registryVersion the version of the registry processing the content
+     */
+    public PollingContentCache(Logger log, Path path, String registryVersion) {
+        this.log = log;
+        this.path = path;
+        this.stamp = FORMAT_VERSION + ":" + registryVersion;
+        if (path != null && Files.exists(path)) {
+            try {
+                JsonNode saved = JsonObjectMapper.MAPPER.readTree(path.toFile());
+                String savedStamp = saved.path(STAMP_FIELD).asText(null);
+                if (!stamp.equals(savedStamp)) {
+                    log.info("Discarding processed content saved in {} by a different version ({}, "
+                            + "expected {})", path, savedStamp, stamp);
+                    return;
+                }
+                entries = JsonObjectMapper.MAPPER.convertValue(saved.get(ENTRIES_FIELD),
+                        new TypeReference<HashMap<String, ProcessedContent>>() {
+                        });
+                log.info("Loaded {} processed content entries from {}", entries.size(), path);
+            } catch (IOException ex) {
+                log.warn("Could not load processed content from {}, starting with an empty cache: {}", path,
+                        ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the processed content for the given file data, processing it if it is not cached.
+     *
+     * @param data the raw file data
+     * @param contentType the content type detected from the file name
+     * @param artifactType the artifact type declared by the artifact, or null
+     */
+    public ProcessedContent get(byte[] data, String contentType, String artifactType,
+            Supplier<ProcessedContent> processor) {
+        String key = DigestUtils.sha256Hex(data) + ":" + contentType + ":" + artifactType;
+        used.add(key);
+        ProcessedContent result = entries.get(key);
+        if (result == null) {
+            result = processor.get();
+            entries.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Called after a successful load. Evicts the entries that are not needed anymore, and saves the cache.
+     *
+     * @param retainedContentHashes the hashes of the content still loaded into the storages, which an
+     *            incremental load does not process again
+     */
+    public void loadCompleted(Set<String> retainedContentHashes) {
+        int before = entries.size();
+        entries.entrySet().removeIf(entry -> !used.contains(entry.getKey())
+                && !retainedContentHashes.contains(entry.getValue().contentHash()));
+        log.debug("Processed content cache has {} entries, {} evicted", entries.size(),
+                before - entries.size());
+        used.clear();
+
+        if (path != null) {
+            try {
+                Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+                Files.createDirectories(path.toAbsolutePath().getParent());
+                ObjectNode saved = JsonObjectMapper.MAPPER.createObjectNode();
+                saved.put(STAMP_FIELD, stamp);
+                saved.set(ENTRIES_FIELD, JsonObjectMapper.MAPPER.valueToTree(entries));
+                Files.writeString(tmp, JsonObjectMapper.MAPPER.writeValueAsString(saved),
+                        StandardCharsets.UTF_8);
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException ex) {
+                log.warn("Could not save processed content to {}: {}", path, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Called after a failed load. Nothing is evicted, since the load may not have used all the files.
+     */
+    public void loadFailed() {
+        used.clear();
+    }
+}
@@ -33,7 +33,9 @@ public interface PollingDataSourceManager<MARKER> {
     PollingResult<MARKER> poll() throws Exception;
 
     /**
-     * Processes the data files and imports them into the provided storage.
+     * Processes the data files and imports them into the provided storage, replacing the data loaded into it
+     * by a previous call. The storage must not be modified by anything else between the calls, so that the
+     * changes can be applied incrementally.
      *
      * @param storage    the registry storage to import data into
      * @param pollResult the poll result containing files to process
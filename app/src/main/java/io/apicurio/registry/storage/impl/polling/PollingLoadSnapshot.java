@@ -0,0 +1,26 @@
+package io.apicurio.registry.storage.impl.polling;
+
+import java.util.Map;
+
+/**
+ * Describes the data that has been loaded into a storage from the data source, so that the next load into
+ * the same storage can be applied incrementally, by reloading only the artifacts that have changed.
+ *
+ * @param globalFingerprint fingerprint of the data that all artifacts depend on (registry configuration
+ *            and groups). If it changes, the data must be fully reloaded.
+ * @param artifacts the loaded artifacts, by the path of the artifact file
+ */
+public record PollingLoadSnapshot(String globalFingerprint, Map<String, LoadedArtifact> artifacts) {
+
+    /**
+     * An artifact loaded into the storage.
+     *
+     * @param groupId
+     * @param artifactId
+     * @param fingerprint fingerprint of the artifact file and of the content files it references
+     * @param contentHashToId the content used by the versions of the artifact
+     */
+    public record LoadedArtifact(String groupId, String artifactId, String fingerprint,
+            Map<String, Long> contentHashToId) {
+    }
+}
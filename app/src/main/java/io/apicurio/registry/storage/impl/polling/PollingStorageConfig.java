@@ -1,7 +1,9 @@
 package io.apicurio.registry.storage.impl.polling;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Configuration interface shared by all polling-based storage implementations.
@@ -49,6 +51,17 @@ public interface PollingStorageConfig {
      */
     boolean isRequireRegistryConfig();
 
+    /**
+     * Returns whether changes may be applied incrementally, by reloading only the artifacts that changed
+     * since the previous load into the same storage, instead of reloading all data.
+     */
+    boolean isIncrementalLoadEnabled();
+
+    /**
+     * Returns the path of the file where processed content is persisted, if configured.
+     */
+    Optional<Path> getContentCachePath();
+
     /**
      * Returns the list of file suffixes that identify registry metadata files.
      * Each suffix is combined with supported extensions (.yaml, .yml, .json) to form
@@ -1,6 +1,7 @@
 package io.apicurio.registry.storage.impl.polling;
 
 import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.impl.polling.PollingLoadSnapshot.LoadedArtifact;
 import io.apicurio.registry.storage.impl.polling.model.Type;
 import io.apicurio.registry.storage.impl.polling.model.v0.Registry;
 import lombok.Getter;
@@ -42,6 +43,10 @@ public class ProcessingState {
     @Getter
     private final Map<String, Long> contentHashToId = new HashMap<>();
 
+    // Track the artifacts in the storage, by artifact file path, for the next incremental load
+    @Getter
+    private final Map<String, LoadedArtifact> loadedArtifacts = new HashMap<>();
+
     // Counters for summary logging
     @Getter
     private int groupCount = 0;
@@ -18,6 +18,7 @@ import io.apicurio.registry.storage.dto.EditableGroupMetaDataDto;
 import io.apicurio.registry.storage.dto.EditableVersionMetaDataDto;
 import io.apicurio.registry.storage.dto.GroupMetaDataDto;
 import io.apicurio.registry.storage.dto.RuleConfigurationDto;
+import io.apicurio.registry.storage.dto.VersionRegistrationDto;
 import io.apicurio.registry.storage.error.RegistryStorageException;
 import io.apicurio.registry.types.RuleType;
 import io.apicurio.registry.types.VersionState;
@@ -77,6 +78,15 @@ public abstract class AbstractReadOnlyRegistryStorage implements RegistryStorage
         return null;
     }
 
+    @Override
+    public VersionRegistrationDto createArtifactVersionIfAbsent(String groupId, String artifactId,
+            String artifactType, ContentWrapperDto content, boolean canonical, String owner,
+            int expectedBaseVersionOrder)
+            throws RegistryStorageException {
+        readOnlyViolation();
+        return null;
+    }
+
     @Override
     public void updateArtifactVersionContent(String groupId, String artifactId, String version,
             String artifactType, ContentWrapperDto contentDto) throws RegistryStorageException {
@@ -317,11 +327,21 @@ public abstract class AbstractReadOnlyRegistryStorage implements RegistryStorage
         readOnlyViolation();
     }
 
+    @Override
+    public void importContents(List<ContentEntity> entities) {
+        readOnlyViolation();
+    }
+
     @Override
     public void importArtifactVersion(ArtifactVersionEntity entity) {
         readOnlyViolation();
     }
 
+    @Override
+    public void importArtifactVersions(List<ArtifactVersionEntity> entities) {
+        readOnlyViolation();
+    }
+
     @Override
     public void importArtifact(ArtifactEntity entity) {
         readOnlyViolation();
@@ -347,6 +367,11 @@ public abstract class AbstractReadOnlyRegistryStorage implements RegistryStorage
         readOnlyViolation();
     }
 
+    @Override
+    public void updateDereferencedContentHashes() throws RegistryStorageException {
+        readOnlyViolation();
+    }
+
     @Override
     public long nextContentId() {
         readOnlyViolation();
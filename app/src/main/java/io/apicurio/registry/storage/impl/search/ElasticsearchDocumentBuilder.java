@@ -4,6 +4,8 @@ import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.extract.StructuredContentExtractor;
 import io.apicurio.registry.content.extract.StructuredElement;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
+import io.apicurio.registry.storage.dto.SearchedVersionDto;
+import io.apicurio.registry.types.VersionState;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.slf4j.Logger;
@@ -12,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -164,6 +167,95 @@ public class ElasticsearchDocumentBuilder {
         return Collections.emptyMap();
     }
 
+    /**
+     * Maps a document built by this builder (e.g. the source returned by a search) back to a
+     * SearchedVersionDto.
+     *
+     * @param source the document source map
+     * @return a populated SearchedVersionDto
+     */
+    public SearchedVersionDto toSearchedVersionDto(Map<String, Object> source) {
+        SearchedVersionDto.SearchedVersionDtoBuilder builder = SearchedVersionDto.builder();
+
+        // ID fields
+        Object globalId = source.get("globalId");
+        if (globalId != null) {
+            builder.globalId(toLong(globalId));
+        }
+
+        Object contentId = source.get("contentId");
+        if (contentId != null) {
+            builder.contentId(toLong(contentId));
+        }
+
+        // String fields
+        builder.groupId(toStr(source.get("groupId")));
+        builder.artifactId(toStr(source.get("artifactId")));
+        builder.version(toStr(source.get("version")));
+        builder.artifactType(toStr(source.get("artifactType")));
+        builder.name(toStr(source.get("name")));
+        builder.description(toStr(source.get("description")));
+        builder.owner(toStr(source.get("owner")));
+        builder.modifiedBy(toStr(source.get("modifiedBy")));
+
+        // State
+        Object state = source.get("state");
+        if (state != null) {
+            builder.state(VersionState.valueOf(toStr(state)));
+        }
+
+        // Timestamps
+        Object createdOn = source.get("createdOn");
+        if (createdOn != null) {
+            builder.createdOn(new Date(toLong(createdOn)));
+        }
+
+        Object modifiedOn = source.get("modifiedOn");
+        if (modifiedOn != null) {
+            builder.modifiedOn(new Date(toLong(modifiedOn)));
+        }
+
+        // VersionOrder
+        Object versionOrder = source.get("versionOrder");
+        if (versionOrder != null) {
+            builder.versionOrder(toInt(versionOrder));
+        }
+
+        // Labels
+        Map<String, String> labels = extractLabels(source);
+        builder.labels(labels);
+
+        return builder.build();
+    }
+
+    /**
+     * Converts an Object to a long value, handling both Integer and Long types from JSON
+     * deserialization.
+     */
+    private long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return Long.parseLong(String.valueOf(value));
+    }
+
+    /**
+     * Converts an Object to an int value.
+     */
+    private int toInt(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        return Integer.parseInt(String.valueOf(value));
+    }
+
+    /**
+     * Converts an Object to a String, returning null for null values.
+     */
+    private String toStr(Object value) {
+        return value != null ? String.valueOf(value) : null;
+    }
+
     /**
      * Indexes structured elements extracted from artifact content using the type-specific
      * extractor. Each element is indexed in three fields:
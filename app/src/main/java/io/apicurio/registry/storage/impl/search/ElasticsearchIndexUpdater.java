@@ -1,14 +1,17 @@
 package io.apicurio.registry.storage.impl.search;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.Refresh;
 import io.apicurio.registry.cdi.Current;
 import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.extract.StructuredContentExtractor;
 import io.apicurio.registry.storage.RegistryStorage;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
 import io.apicurio.registry.storage.dto.StoredArtifactVersionDto;
+import io.apicurio.registry.storage.error.VersionNotFoundException;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -18,15 +21,39 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.apicurio.registry.metrics.MetricsConstants.SEARCH_INDEX_BATCH;
+import static io.apicurio.registry.metrics.MetricsConstants.SEARCH_INDEX_BATCH_DESCRIPTION;
+import static io.apicurio.registry.metrics.MetricsConstants.SEARCH_INDEX_BATCH_SIZE;
+import static io.apicurio.registry.metrics.MetricsConstants.SEARCH_INDEX_BATCH_SIZE_DESCRIPTION;
+import static io.apicurio.registry.metrics.MetricsConstants.SEARCH_INDEX_BATCH_TAG_SUCCESS;
+import static io.apicurio.registry.metrics.MetricsConstants.SEARCH_INDEX_LAG;
+import static io.apicurio.registry.metrics.MetricsConstants.SEARCH_INDEX_LAG_DESCRIPTION;
+import static io.apicurio.registry.metrics.MetricsConstants.SEARCH_INDEX_QUEUE_DEPTH;
+import static io.apicurio.registry.metrics.MetricsConstants.SEARCH_INDEX_QUEUE_DEPTH_DESCRIPTION;
 
 /**
- * Observes CDI events for version changes and updates the Elasticsearch search index. Updates
+ * Observes CDI events for version changes and updates the search index. Updates
  * are processed asynchronously via a dedicated background worker thread, making the search index
  * eventually consistent. This improves write performance by offloading indexing from the request
  * thread.
+ *
+ * <p>The worker drains up to {@code apicurio.search.index.updater.batch-size} queued operations,
+ * waiting at most {@code apicurio.search.index.updater.batch-max-wait-ms} for the batch to fill,
+ * and coalesces them (see {@link IndexingBatch}) so that each document is written at most once.
+ * The versions to index are loaded from storage by a pool of
+ * {@code apicurio.search.index.updater.workers} threads, and written to the index with a single bulk
+ * request. Batches are applied one after the other, which preserves the order of the operations.</p>
  */
 @ApplicationScoped
 public class ElasticsearchIndexUpdater {
@@ -47,22 +74,57 @@ public class ElasticsearchIndexUpdater {
     ArtifactTypeUtilProviderFactory typeProviderFactory;
 
     @Inject
-    ElasticsearchClient client;
+    @Current
+    SearchIndexBackend backend;
 
     @Inject
-    ElasticsearchIndexManager indexManager;
+    MeterRegistry registry;
+
+    /**
+     * An operation waiting in the queue, with the time it was enqueued to measure the indexing lag.
+     */
+    private record QueuedOperation(IndexingOperation operation, long enqueuedAtNanos) {
+    }
 
     private boolean isActive;
-    private final LinkedBlockingQueue<IndexingOperation> operationQueue = new LinkedBlockingQueue<>();
+    private final LinkedBlockingQueue<QueuedOperation> operationQueue = new LinkedBlockingQueue<>();
+    /**
+     * Number of operations enqueued but not yet applied, including those of the batch in flight.
+     */
+    private final AtomicInteger pendingOperations = new AtomicInteger();
     private volatile Thread workerThread;
     private volatile boolean running;
+    private ExecutorService documentBuilderPool;
+    private Timer lagTimer;
+    private DistributionSummary batchSizeSummary;
 
     @PostConstruct
     void initialize() {
         isActive = config.isEnabled();
 
         if (isActive) {
-            log.info("Elasticsearch search index updates ENABLED");
+            log.info("Search index updates ENABLED (batch size: {}, batch max wait: {}ms, workers: {})",
+                    config.getUpdaterBatchSize(), config.getUpdaterBatchMaxWaitMs(),
+                    config.getUpdaterWorkers());
+
+            Gauge.builder(SEARCH_INDEX_QUEUE_DEPTH, pendingOperations, AtomicInteger::get)
+                    .description(SEARCH_INDEX_QUEUE_DEPTH_DESCRIPTION)
+                    .register(registry);
+            lagTimer = Timer.builder(SEARCH_INDEX_LAG).description(SEARCH_INDEX_LAG_DESCRIPTION)
+                    .register(registry);
+            batchSizeSummary = DistributionSummary.builder(SEARCH_INDEX_BATCH_SIZE)
+                    .description(SEARCH_INDEX_BATCH_SIZE_DESCRIPTION)
+                    .register(registry);
+
+            if (config.getUpdaterWorkers() > 1) {
+                AtomicInteger threadCount = new AtomicInteger();
+                documentBuilderPool = Executors.newFixedThreadPool(config.getUpdaterWorkers(), r -> {
+                    Thread t = new Thread(r, "es-index-document-builder-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+
             running = true;
             workerThread = new Thread(this::processQueue, "es-index-updater");
             workerThread.setDaemon(true);
@@ -87,6 +149,9 @@ public class ElasticsearchIndexUpdater {
             }
         }
         drainQueue();
+        if (documentBuilderPool != null) {
+            documentBuilderPool.shutdownNow();
+        }
     }
 
     /**
@@ -98,7 +163,7 @@ public class ElasticsearchIndexUpdater {
         if (!isActive) {
             return;
         }
-        operationQueue.add(new IndexingOperation.IndexVersion(
+        enqueue(new IndexingOperation.IndexVersion(
                 event.getGroupId(), event.getArtifactId(), event.getVersion(),
                 event.getGlobalId()));
     }
@@ -112,7 +177,7 @@ public class ElasticsearchIndexUpdater {
         if (!isActive) {
             return;
         }
-        operationQueue.add(new IndexingOperation.DeleteVersion(
+        enqueue(new IndexingOperation.DeleteVersion(
                 event.getGroupId(), event.getArtifactId(), event.getVersion(),
                 event.getGlobalId()));
     }
@@ -126,7 +191,7 @@ public class ElasticsearchIndexUpdater {
         if (!isActive) {
             return;
         }
-        operationQueue.add(new IndexingOperation.DeleteArtifact(
+        enqueue(new IndexingOperation.DeleteArtifact(
                 event.getGroupId(), event.getArtifactId()));
     }
 
@@ -139,7 +204,7 @@ public class ElasticsearchIndexUpdater {
         if (!isActive) {
             return;
         }
-        operationQueue.add(new IndexingOperation.DeleteGroup(event.getGroupId()));
+        enqueue(new IndexingOperation.DeleteGroup(event.getGroupId()));
     }
 
     /**
@@ -151,7 +216,7 @@ public class ElasticsearchIndexUpdater {
         if (!isActive) {
             return;
         }
-        operationQueue.add(new IndexingOperation.DeleteAllData());
+        enqueue(new IndexingOperation.DeleteAllData());
     }
 
     /**
@@ -163,14 +228,14 @@ public class ElasticsearchIndexUpdater {
         if (!isActive) {
             return;
         }
-        operationQueue.add(new IndexingOperation.IndexVersion(
+        enqueue(new IndexingOperation.IndexVersion(
                 event.getGroupId(), event.getArtifactId(), event.getVersion(),
                 event.getGlobalId()));
     }
 
     /**
      * Waits for the operation queue to drain and all pending operations to complete, then
-     * refreshes the Elasticsearch index so that all processed documents are immediately
+     * refreshes the search index so that all processed documents are immediately
      * searchable. Intended for use in tests to synchronize with the asynchronous indexing.
      *
      * @param timeout the maximum time to wait
@@ -181,22 +246,19 @@ public class ElasticsearchIndexUpdater {
     public void awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
         long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
 
-        while (!operationQueue.isEmpty()) {
+        while (pendingOperations.get() > 0) {
             if (System.nanoTime() >= deadlineNanos) {
                 throw new IllegalStateException(
                         "Timed out waiting for indexing queue to drain. Remaining items: "
-                                + operationQueue.size());
+                                + pendingOperations.get());
             }
             Thread.sleep(50);
         }
 
-        // Allow the last in-flight operation to complete
-        Thread.sleep(100);
-
         try {
-            indexManager.refresh();
+            backend.refresh();
         } catch (IOException e) {
-            throw new RuntimeException("Failed to refresh Elasticsearch index", e);
+            throw new RuntimeException("Failed to refresh search index", e);
         }
     }
 
@@ -209,196 +271,213 @@ public class ElasticsearchIndexUpdater {
         return isActive;
     }
 
+    private void enqueue(IndexingOperation operation) {
+        pendingOperations.incrementAndGet();
+        operationQueue.add(new QueuedOperation(operation, System.nanoTime()));
+    }
+
     /**
-     * Worker loop that processes indexing operations from the queue. Runs on a dedicated
+     * Worker loop that processes batches of indexing operations from the queue. Runs on a dedicated
      * background thread and blocks on {@code take()} when the queue is empty. Exits when
      * the thread is interrupted (shutdown signal).
      */
     private void processQueue() {
-        log.info("Elasticsearch index updater worker thread started");
+        log.info("Search index updater worker thread started");
         while (running) {
             try {
-                IndexingOperation operation = operationQueue.take();
-                executeOperation(operation);
+                List<QueuedOperation> batch = new ArrayList<>();
+                batch.add(operationQueue.take());
+                fillBatch(batch);
+                executeBatch(batch);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
             }
         }
-        log.info("Elasticsearch index updater worker thread stopped");
+        log.info("Search index updater worker thread stopped");
     }
 
     /**
-     * Dispatches a single indexing operation to the appropriate handler method. Wraps each
-     * call in try-catch to log errors and continue processing the queue.
+     * Adds queued operations to the batch until it reaches the configured size, or the configured
+     * maximum wait time has elapsed.
      *
-     * @param operation the indexing operation to execute
+     * @param batch the batch, containing at least the first operation
+     * @throws InterruptedException if the worker is interrupted while waiting
      */
-    private void executeOperation(IndexingOperation operation) {
-        try {
-            switch (operation.type()) {
-                case INDEX_VERSION: {
-                    IndexingOperation.IndexVersion op = (IndexingOperation.IndexVersion) operation;
-                    log.debug("Indexing version: {}/{}/{}", op.groupId(), op.artifactId(),
-                            op.version());
-                    indexVersion(op.groupId(), op.artifactId(), op.version(), op.globalId());
-                    log.debug("Successfully indexed version {}/{}/{} (globalId={})",
-                            op.groupId(), op.artifactId(), op.version(), op.globalId());
-                    break;
-                }
-                case DELETE_VERSION: {
-                    IndexingOperation.DeleteVersion op =
-                            (IndexingOperation.DeleteVersion) operation;
-                    log.debug("Removing deleted version from index: {}/{}/{}",
-                            op.groupId(), op.artifactId(), op.version());
-                    deleteVersionFromIndex(op.globalId());
-                    log.debug("Successfully removed version {}/{}/{} from index",
-                            op.groupId(), op.artifactId(), op.version());
-                    break;
-                }
-                case DELETE_ARTIFACT: {
-                    IndexingOperation.DeleteArtifact op =
-                            (IndexingOperation.DeleteArtifact) operation;
-                    log.debug("Removing all versions of deleted artifact from index: {}/{}",
-                            op.groupId(), op.artifactId());
-                    deleteArtifactFromIndex(op.groupId(), op.artifactId());
-                    log.debug("Successfully removed all versions of artifact {}/{} from index",
-                            op.groupId(), op.artifactId());
-                    break;
-                }
-                case DELETE_GROUP: {
-                    IndexingOperation.DeleteGroup op =
-                            (IndexingOperation.DeleteGroup) operation;
-                    log.debug("Removing all versions in deleted group from index: {}",
-                            op.groupId());
-                    deleteGroupFromIndex(op.groupId());
-                    log.debug("Successfully removed all versions in group {} from index",
-                            op.groupId());
-                    break;
-                }
-                case DELETE_ALL_DATA: {
-                    log.debug("Removing all data from search index");
-                    deleteAllDataFromIndex();
-                    log.debug("Successfully removed all data from search index");
-                    break;
-                }
+    private void fillBatch(List<QueuedOperation> batch) throws InterruptedException {
+        int batchSize = config.getUpdaterBatchSize();
+        long deadlineNanos = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(config.getUpdaterBatchMaxWaitMs());
+        while (batch.size() < batchSize) {
+            operationQueue.drainTo(batch, batchSize - batch.size());
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (batch.size() >= batchSize || remainingNanos <= 0) {
+                break;
             }
-        } catch (Exception e) {
-            log.error("Failed to execute indexing operation: {}", operation, e);
+            QueuedOperation next = operationQueue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
         }
     }
 
     /**
-     * Drains remaining operations from the queue and executes them on the calling thread.
-     * Used during shutdown to process any queued operations before the bean is destroyed.
+     * Coalesces and applies a batch of indexing operations. Errors are logged, and do not stop the
+     * processing of the queue.
+     *
+     * @param queued the operations to apply, in the order they were enqueued
      */
-    private void drainQueue() {
-        IndexingOperation operation;
-        while ((operation = operationQueue.poll()) != null) {
-            executeOperation(operation);
+    private void executeBatch(List<QueuedOperation> queued) {
+        List<IndexingOperation> operations = new ArrayList<>(queued.size());
+        for (QueuedOperation q : queued) {
+            operations.add(q.operation());
         }
-    }
+        IndexingBatch batch = IndexingBatch.of(operations);
+        batchSizeSummary.record(batch.size());
 
-    /**
-     * Indexes a single version by fetching its metadata and content from storage.
-     *
-     * @param groupId the group ID
-     * @param artifactId the artifact ID
-     * @param version the version string
-     * @param globalId the global ID
-     * @throws IOException if indexing fails
-     */
-    private void indexVersion(String groupId, String artifactId, String version, long globalId)
-            throws IOException {
+        Timer.Sample sample = Timer.start(registry);
+        boolean success = false;
+        try {
+            for (IndexingOperation operation : batch.getBulkDeletes()) {
+                executeBulkDelete(operation);
+            }
 
-        ArtifactVersionMetaDataDto versionMetadata = storage.getArtifactVersionMetaData(
-                groupId, artifactId, version);
+            List<Long> toDelete = new ArrayList<>();
+            for (IndexingOperation.DeleteVersion op : batch.getVersionsToDelete()) {
+                toDelete.add(op.globalId());
+            }
+            int errors = backend.bulkDelete(toDelete);
 
-        StoredArtifactVersionDto storedVersion = storage.getArtifactVersionContent(
-                groupId, artifactId, version);
-        ContentHandle content = storedVersion.getContent();
+            errors += backend.bulkIndex(buildDocuments(batch.getVersionsToIndex()));
 
-        StructuredContentExtractor extractor = null;
-        if (versionMetadata.getArtifactType() != null) {
-            extractor = typeProviderFactory.getArtifactTypeProvider(
-                    versionMetadata.getArtifactType()).getStructuredContentExtractor();
+            log.debug("Applied batch of {} indexing operations ({} bulk deletes, {} version deletes, "
+                    + "{} versions indexed, {} errors)", batch.size(), batch.getBulkDeletes().size(),
+                    toDelete.size(), batch.getVersionsToIndex().size(), errors);
+            success = errors == 0;
+        } catch (Exception e) {
+            log.error("Failed to execute batch of {} indexing operations", batch.size(), e);
+        } finally {
+            sample.stop(Timer.builder(SEARCH_INDEX_BATCH).description(SEARCH_INDEX_BATCH_DESCRIPTION)
+                    .tag(SEARCH_INDEX_BATCH_TAG_SUCCESS, String.valueOf(success))
+                    .register(registry));
+            long now = System.nanoTime();
+            for (QueuedOperation q : queued) {
+                lagTimer.record(now - q.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+            }
+            pendingOperations.addAndGet(-queued.size());
         }
-
-        Map<String, Object> doc = documentBuilder.buildVersionDocument(versionMetadata,
-                content.bytes(), extractor);
-
-        client.index(i -> i
-                .index(config.getIndexName())
-                .id(String.valueOf(globalId))
-                .document(doc)
-                .refresh(Refresh.False)
-        );
     }
 
     /**
-     * Removes a single version from the index by its global ID.
+     * Executes an artifact, group or all data delete.
      *
-     * @param globalId the global ID of the version to remove
+     * @param operation the delete operation
      * @throws IOException if the delete fails
      */
-    private void deleteVersionFromIndex(long globalId) throws IOException {
-        client.delete(d -> d
-                .index(config.getIndexName())
-                .id(String.valueOf(globalId))
-                .refresh(Refresh.False)
-        );
+    private void executeBulkDelete(IndexingOperation operation) throws IOException {
+        switch (operation.type()) {
+            case DELETE_ARTIFACT: {
+                IndexingOperation.DeleteArtifact op =
+                        (IndexingOperation.DeleteArtifact) operation;
+                log.debug("Removing all versions of deleted artifact from index: {}/{}",
+                        op.groupId(), op.artifactId());
+                backend.deleteArtifact(op.groupId(), op.artifactId());
+                break;
+            }
+            case DELETE_GROUP: {
+                IndexingOperation.DeleteGroup op =
+                        (IndexingOperation.DeleteGroup) operation;
+                log.debug("Removing all versions in deleted group from index: {}",
+                        op.groupId());
+                backend.deleteGroup(op.groupId());
+                break;
+            }
+            case DELETE_ALL_DATA: {
+                log.debug("Removing all data from search index");
+                backend.deleteAllDocuments();
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Not a bulk delete operation: " + operation);
+        }
     }
 
     /**
-     * Removes all versions of an artifact from the index.
+     * Loads the given versions from storage and builds their documents, using the document builder
+     * pool if more than one worker is configured. Versions that no longer exist (e.g. deleted after
+     * the operation was enqueued, with the delete being part of a later batch) are skipped.
      *
-     * @param groupId the group ID
-     * @param artifactId the artifact ID
-     * @throws IOException if the delete-by-query fails
+     * @param versions the versions to index
+     * @return the documents keyed by global ID
      */
-    private void deleteArtifactFromIndex(String groupId, String artifactId) throws IOException {
-        client.deleteByQuery(d -> d
-                .index(config.getIndexName())
-                .query(q -> q
-                        .bool(b -> b
-                                .must(m -> m.term(t -> t
-                                        .field("groupId")
-                                        .value(groupId)))
-                                .must(m -> m.term(t -> t
-                                        .field("artifactId")
-                                        .value(artifactId)))))
-                .refresh(false)
-        );
+    private Map<Long, Map<String, Object>> buildDocuments(List<IndexingOperation.IndexVersion> versions) {
+        Map<Long, Map<String, Object>> documents = new LinkedHashMap<>();
+        if (documentBuilderPool == null || versions.size() <= 1) {
+            for (IndexingOperation.IndexVersion op : versions) {
+                Map<String, Object> doc = buildDocument(op);
+                if (doc != null) {
+                    documents.put(op.globalId(), doc);
+                }
+            }
+            return documents;
+        }
+
+        List<CompletableFuture<Map<String, Object>>> futures = new ArrayList<>(versions.size());
+        for (IndexingOperation.IndexVersion op : versions) {
+            futures.add(CompletableFuture.supplyAsync(() -> buildDocument(op), documentBuilderPool));
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            Map<String, Object> doc = futures.get(i).join();
+            if (doc != null) {
+                documents.put(versions.get(i).globalId(), doc);
+            }
+        }
+        return documents;
     }
 
     /**
-     * Removes all versions in a group from the index.
+     * Builds the document of a single version by fetching its metadata and content from storage.
      *
-     * @param groupId the group ID
-     * @throws IOException if the delete-by-query fails
+     * @param op the index operation
+     * @return the document, or null if the version could not be loaded
      */
-    private void deleteGroupFromIndex(String groupId) throws IOException {
-        client.deleteByQuery(d -> d
-                .index(config.getIndexName())
-                .query(q -> q
-                        .term(t -> t
-                                .field("groupId")
-                                .value(groupId)))
-                .refresh(false)
-        );
+    private Map<String, Object> buildDocument(IndexingOperation.IndexVersion op) {
+        try {
+            ArtifactVersionMetaDataDto versionMetadata = storage.getArtifactVersionMetaData(
+                    op.groupId(), op.artifactId(), op.version());
+
+            StoredArtifactVersionDto storedVersion = storage.getArtifactVersionContent(
+                    op.groupId(), op.artifactId(), op.version());
+            ContentHandle content = storedVersion.getContent();
+
+            StructuredContentExtractor extractor = null;
+            if (versionMetadata.getArtifactType() != null) {
+                extractor = typeProviderFactory.getArtifactTypeProvider(
+                        versionMetadata.getArtifactType()).getStructuredContentExtractor();
+            }
+
+            return documentBuilder.buildVersionDocument(versionMetadata, content.bytes(), extractor);
+        } catch (VersionNotFoundException e) {
+            log.debug("Version {}/{}/{} (globalId={}) no longer exists, skipping indexing",
+                    op.groupId(), op.artifactId(), op.version(), op.globalId());
+            return null;
+        } catch (Exception e) {
+            log.error("Failed to build search index document for version {}/{}/{} (globalId={})",
+                    op.groupId(), op.artifactId(), op.version(), op.globalId(), e);
+            return null;
+        }
     }
 
     /**
-     * Removes all data from the search index.
-     *
-     * @throws IOException if the delete-by-query fails
+     * Drains remaining operations from the queue and executes them on the calling thread.
+     * Used during shutdown to process any queued operations before the bean is destroyed.
      */
-    private void deleteAllDataFromIndex() throws IOException {
-        client.deleteByQuery(d -> d
-                .index(config.getIndexName())
-                .query(q -> q
-                        .matchAll(m -> m))
-                .refresh(false)
-        );
+    private void drainQueue() {
+        List<QueuedOperation> batch = new ArrayList<>();
+        while (operationQueue.drainTo(batch, config.getUpdaterBatchSize()) > 0) {
+            executeBatch(batch);
+            batch = new ArrayList<>();
+        }
     }
 }
@@ -7,10 +7,14 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import static io.apicurio.common.apps.config.ConfigPropertyCategory.CATEGORY_SEARCH;
 
 /**
- * Configuration for Elasticsearch-based content search indexing.
+ * Configuration for content search indexing. The index is stored either in an external Elasticsearch
+ * cluster or in an embedded Lucene index local to each replica, see {@link SearchIndexBackend}.
  */
 @ApplicationScoped
 public class ElasticsearchSearchConfig {
@@ -21,6 +25,14 @@ public class ElasticsearchSearchConfig {
     @Info(category = CATEGORY_SEARCH, description = "Enable search indexing", availableSince = "3.2.0", experimental = true)
     boolean enabled;
 
+    @ConfigProperty(name = "apicurio.search.index.backend", defaultValue = ElasticsearchSearchIndexBackend.NAME)
+    @Info(category = CATEGORY_SEARCH, description = """
+            Storage engine of the search index. Supported values are `elasticsearch` (an external \
+            Elasticsearch cluster shared by all replicas) and `lucene` (an embedded index local \
+            to each replica, which does not require any external service).\
+            """, availableSince = "3.2.2", experimental = true)
+    String backend;
+
     @ConfigProperty(name = "apicurio.search.index.elasticsearch.index-name",
             defaultValue = "apicurio-registry")
     @Info(category = CATEGORY_SEARCH, description = "Elasticsearch index name", availableSince = "3.2.0")
@@ -41,19 +53,75 @@ public class ElasticsearchSearchConfig {
             availableSince = "3.2.0")
     int contentMaxSize;
 
+    @ConfigProperty(name = "apicurio.search.index.updater.batch-size", defaultValue = "500")
+    @Info(category = CATEGORY_SEARCH, description = """
+            Maximum number of queued index updates (version created, deleted, etc.) that are \
+            coalesced and sent to the search index in a single bulk request.\
+            """, availableSince = "3.2.2", experimental = true)
+    int updaterBatchSize;
+
+    @ConfigProperty(name = "apicurio.search.index.updater.batch-max-wait-ms", defaultValue = "100")
+    @Info(category = CATEGORY_SEARCH, description = """
+            Maximum time (in milliseconds) to wait for more index updates to fill a batch, \
+            after the first update of the batch has been received.\
+            """, availableSince = "3.2.2", experimental = true)
+    long updaterBatchMaxWaitMs;
+
+    @ConfigProperty(name = "apicurio.search.index.updater.workers", defaultValue = "1")
+    @Info(category = CATEGORY_SEARCH, description = """
+            Number of threads loading the versions of a batch of index updates from storage \
+            and building their search index documents in parallel.\
+            """, availableSince = "3.2.2", experimental = true)
+    int updaterWorkers;
+
+    @ConfigProperty(name = "apicurio.search.index.lucene.directory")
+    @Info(category = CATEGORY_SEARCH, description = """
+            Directory where the embedded Lucene search index is stored. The index is persisted \
+            across restarts, and only the changes made while the replica was down are re-indexed. \
+            If not set, the index is kept in memory and rebuilt from the database on every start.\
+            """, availableSince = "3.2.2", experimental = true)
+    Optional<String> luceneDirectory;
+
+    @ConfigProperty(name = "apicurio.search.index.lucene.refresh-interval", defaultValue = "PT1S")
+    @Info(category = CATEGORY_SEARCH, description = """
+            How often the embedded Lucene search index is refreshed, making recently indexed \
+            versions searchable, and committed to the index directory.\
+            """, availableSince = "3.2.2", experimental = true)
+    Duration luceneRefreshInterval;
+
+    @ConfigProperty(name = "apicurio.search.index.lucene.sync.every", defaultValue = "30s")
+    @Info(category = CATEGORY_SEARCH, description = """
+            How often the embedded Lucene search index is synchronized with versions created, \
+            modified or deleted through other replicas.\
+            """, availableSince = "3.2.2", experimental = true)
+    String luceneSyncEvery;
+
+    @ConfigProperty(name = "apicurio.search.index.lucene.sync.deleted-interval", defaultValue = "PT1H")
+    @Info(category = CATEGORY_SEARCH, description = """
+            How often the embedded Lucene search index is checked for versions deleted through \
+            other replicas, by comparing all the global IDs in the index with those in the database. \
+            The check also runs once on startup.\
+            """, availableSince = "3.2.2", experimental = true)
+    Duration luceneDeletedSyncInterval;
+
     @PostConstruct
     void initialize() {
         if (enabled) {
-            log.info("Elasticsearch search index ENABLED");
-            log.info("  - Index name: {}", indexName);
-            log.info("  - Shards: {}, Replicas: {}", numberOfShards, numberOfReplicas);
+            log.info("Search index ENABLED");
+            log.info("  - Backend: {}", backend);
+            if (LuceneSearchIndexBackend.NAME.equals(backend)) {
+                log.info("  - Directory: {}", luceneDirectory.orElse("(in-memory)"));
+            } else {
+                log.info("  - Index name: {}", indexName);
+                log.info("  - Shards: {}, Replicas: {}", numberOfShards, numberOfReplicas);
+            }
         } else {
-            log.info("Elasticsearch search index DISABLED");
+            log.info("Search index DISABLED");
         }
     }
 
     /**
-     * Returns whether Elasticsearch search indexing is enabled.
+     * Returns whether search indexing is enabled.
      *
      * @return true if enabled
      */
@@ -61,6 +129,15 @@ public class ElasticsearchSearchConfig {
         return enabled;
     }
 
+    /**
+     * Returns the name of the configured search index backend.
+     *
+     * @return the backend name
+     */
+    public String getBackend() {
+        return backend;
+    }
+
     /**
      * Returns the Elasticsearch index name.
      *
@@ -97,4 +174,59 @@ public class ElasticsearchSearchConfig {
     public int getContentMaxSize() {
         return contentMaxSize;
     }
+
+    /**
+     * Returns the maximum number of index updates sent to the search index in a single batch.
+     *
+     * @return the batch size
+     */
+    public int getUpdaterBatchSize() {
+        return Math.max(1, updaterBatchSize);
+    }
+
+    /**
+     * Returns the maximum time to wait for more index updates to fill a batch.
+     *
+     * @return the maximum wait, in milliseconds
+     */
+    public long getUpdaterBatchMaxWaitMs() {
+        return Math.max(0, updaterBatchMaxWaitMs);
+    }
+
+    /**
+     * Returns the number of threads building the documents of a batch in parallel.
+     *
+     * @return the number of workers
+     */
+    public int getUpdaterWorkers() {
+        return Math.max(1, updaterWorkers);
+    }
+
+    /**
+     * Returns the directory of the embedded Lucene index, or empty if the index is kept in memory.
+     *
+     * @return the index directory
+     */
+    public Optional<String> getLuceneDirectory() {
+        return luceneDirectory;
+    }
+
+    /**
+     * Returns how often the embedded Lucene index is refreshed and committed.
+     *
+     * @return the refresh interval
+     */
+    public Duration getLuceneRefreshInterval() {
+        return luceneRefreshInterval;
+    }
+
+    /**
+     * Returns how often the embedded Lucene index is checked for versions deleted through other
+     * replicas.
+     *
+     * @return the check interval
+     */
+    public Duration getLuceneDeletedSyncInterval() {
+        return luceneDeletedSyncInterval;
+    }
 }
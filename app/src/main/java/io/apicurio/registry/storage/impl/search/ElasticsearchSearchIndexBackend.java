@@ -0,0 +1,290 @@
+package io.apicurio.registry.storage.impl.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.OpType;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import io.apicurio.registry.storage.dto.OrderBy;
+import io.apicurio.registry.storage.dto.OrderDirection;
+import io.apicurio.registry.storage.dto.SearchFilter;
+import io.apicurio.registry.storage.dto.VersionSearchResultsDto;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link SearchIndexBackend} storing the search index in an external Elasticsearch cluster. The index
+ * is shared by all replicas.
+ */
+@ApplicationScoped
+public class ElasticsearchSearchIndexBackend implements SearchIndexBackend {
+
+    private static final Logger log = LoggerFactory.getLogger(ElasticsearchSearchIndexBackend.class);
+
+    public static final String NAME = "elasticsearch";
+
+    private static final int GLOBAL_IDS_PAGE_SIZE = 1000;
+
+    @Inject
+    ElasticsearchSearchConfig config;
+
+    @Inject
+    ElasticsearchClient client;
+
+    @Inject
+    ElasticsearchIndexManager indexManager;
+
+    @Inject
+    ElasticsearchSearchService searchService;
+
+    private volatile String previousRefreshInterval;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isReplicaLocal() {
+        return false;
+    }
+
+    @Override
+    public void ensureIndexExists() throws IOException {
+        indexManager.ensureIndexExists();
+    }
+
+    @Override
+    public long count() throws IOException {
+        return indexManager.count();
+    }
+
+    @Override
+    public void index(long globalId, Map<String, Object> document) throws IOException {
+        client.index(i -> i
+                .index(config.getIndexName())
+                .id(String.valueOf(globalId))
+                .document(document)
+                .refresh(Refresh.False)
+        );
+    }
+
+    @Override
+    public int bulkIndex(Map<Long, Map<String, Object>> documents) throws IOException {
+        if (documents.isEmpty()) {
+            return 0;
+        }
+        BulkRequest.Builder bulkBuilder = new BulkRequest.Builder();
+        documents.forEach((globalId, doc) -> bulkBuilder.operations(op -> op
+                .index(idx -> idx
+                        .index(config.getIndexName())
+                        .id(String.valueOf(globalId))
+                        .document(doc)
+                )
+        ));
+
+        return countErrors(client.bulk(bulkBuilder.build()));
+    }
+
+    @Override
+    public void deleteVersion(long globalId) throws IOException {
+        client.delete(d -> d
+                .index(config.getIndexName())
+                .id(String.valueOf(globalId))
+                .refresh(Refresh.False)
+        );
+    }
+
+    @Override
+    public int bulkDelete(Collection<Long> globalIds) throws IOException {
+        if (globalIds.isEmpty()) {
+            return 0;
+        }
+        BulkRequest.Builder bulkBuilder = new BulkRequest.Builder();
+        globalIds.forEach(globalId -> bulkBuilder.operations(op -> op
+                .delete(del -> del
+                        .index(config.getIndexName())
+                        .id(String.valueOf(globalId))
+                )
+        ));
+        return countErrors(client.bulk(bulkBuilder.build()));
+    }
+
+    @Override
+    public void deleteArtifact(String groupId, String artifactId) throws IOException {
+        client.deleteByQuery(d -> d
+                .index(config.getIndexName())
+                .query(q -> q
+                        .bool(b -> b
+                                .must(m -> m.term(t -> t
+                                        .field("groupId")
+                                        .value(groupId)))
+                                .must(m -> m.term(t -> t
+                                        .field("artifactId")
+                                        .value(artifactId)))))
+                .refresh(false)
+        );
+    }
+
+    @Override
+    public void deleteGroup(String groupId) throws IOException {
+        client.deleteByQuery(d -> d
+                .index(config.getIndexName())
+                .query(q -> q
+                        .term(t -> t
+                                .field("groupId")
+                                .value(groupId)))
+                .refresh(false)
+        );
+    }
+
+    /**
+     * Pages through the version documents sorted by global ID, without fetching their source. The
+     * internal documents (e.g. the reindex lock) have no global ID and are skipped.
+     */
+    @Override
+    public Set<Long> getIndexedGlobalIds() throws IOException {
+        Set<Long> globalIds = new HashSet<>();
+        Long lastGlobalId = null;
+        while (true) {
+            final Long searchAfter = lastGlobalId;
+            SearchResponse<Void> response = client.search(s -> {
+                s.index(config.getIndexName())
+                        .query(q -> q.exists(e -> e.field("globalId")))
+                        .source(src -> src.fetch(false))
+                        .sort(so -> so.field(f -> f.field("globalId").order(SortOrder.Asc)))
+                        .size(GLOBAL_IDS_PAGE_SIZE)
+                        .trackTotalHits(t -> t.enabled(false));
+                if (searchAfter != null) {
+                    s.searchAfter(FieldValue.of(searchAfter));
+                }
+                return s;
+            }, Void.class);
+
+            List<Hit<Void>> hits = response.hits().hits();
+            for (Hit<Void> hit : hits) {
+                lastGlobalId = hit.sort().get(0).longValue();
+                globalIds.add(lastGlobalId);
+            }
+            if (hits.size() < GLOBAL_IDS_PAGE_SIZE) {
+                return globalIds;
+            }
+        }
+    }
+
+    @Override
+    public void deleteAllDocuments() throws IOException {
+        indexManager.deleteAllDocuments();
+    }
+
+    @Override
+    public void refresh() throws IOException {
+        indexManager.refresh();
+    }
+
+    /**
+     * Disables automatic index refreshes, which improves bulk indexing throughput by preventing
+     * unnecessary segment rebuilds. The current refresh interval is remembered and restored by
+     * {@link #endBulkIndexing()}.
+     */
+    @Override
+    public void beginBulkIndexing() throws IOException {
+        previousRefreshInterval = indexManager.getRefreshInterval();
+        indexManager.disableRefresh();
+    }
+
+    @Override
+    public void endBulkIndexing() throws IOException {
+        try {
+            indexManager.restoreRefresh(previousRefreshInterval);
+        } finally {
+            indexManager.refresh();
+        }
+    }
+
+    /**
+     * Attempts to acquire a distributed reindex lock by creating a lock document in
+     * Elasticsearch. Uses {@link OpType#Create} which atomically fails with a 409 conflict
+     * if the document already exists, ensuring only one replica can acquire the lock.
+     *
+     * @return {@code true} if the lock was acquired, {@code false} if another replica holds it
+     */
+    @Override
+    public boolean acquireReindexLock() {
+        try {
+            client.index(i -> i
+                    .index(config.getIndexName())
+                    .id(ElasticsearchIndexManager.REINDEX_LOCK_DOC_ID)
+                    .opType(OpType.Create)
+                    .document(Map.of("type", "reindex_lock", "timestamp", System.currentTimeMillis()))
+            );
+            log.info("Acquired reindex lock.");
+            return true;
+        } catch (ElasticsearchException e) {
+            if (e.status() == 409) {
+                return false;
+            }
+            throw new RuntimeException("Unexpected error acquiring reindex lock", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to acquire reindex lock", e);
+        }
+    }
+
+    /**
+     * Releases the distributed reindex lock by deleting the lock document from Elasticsearch.
+     */
+    @Override
+    public void releaseReindexLock() {
+        try {
+            client.delete(d -> d
+                    .index(config.getIndexName())
+                    .id(ElasticsearchIndexManager.REINDEX_LOCK_DOC_ID)
+            );
+            log.info("Released reindex lock.");
+        } catch (Exception e) {
+            log.warn("Failed to release reindex lock document — it will be cleared "
+                    + "on next triggerReindex() or deleteAllDocuments() call.", e);
+        }
+    }
+
+    /**
+     * Logs the failed items of a bulk request.
+     *
+     * @param response the bulk response
+     * @return the number of failed items
+     */
+    private int countErrors(BulkResponse response) {
+        int errors = 0;
+        if (response.errors()) {
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() != null) {
+                    errors++;
+                    log.warn("Bulk {} error for document {}: {}", item.operationType(),
+                            item.id(), item.error().reason());
+                }
+            }
+        }
+        return errors;
+    }
+
+    @Override
+    public VersionSearchResultsDto searchVersions(Set<SearchFilter> filters, OrderBy orderBy,
+            OrderDirection orderDirection, int offset, int limit) throws IOException {
+        return searchService.searchVersions(filters, orderBy, orderDirection, offset, limit);
+    }
+}
@@ -24,7 +24,6 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
@@ -43,12 +42,6 @@ public class ElasticsearchSearchService {
     private static final Set<SearchFilterType> UNSUPPORTED_FILTER_TYPES = EnumSet.of(
             SearchFilterType.contentHash, SearchFilterType.canonicalHash);
 
-    /**
-     * Filter types that can only be handled by the search index and have no SQL fallback.
-     */
-    private static final Set<SearchFilterType> INDEX_ONLY_FILTER_TYPES = EnumSet.of(
-            SearchFilterType.content, SearchFilterType.structure);
-
     @Inject
     ElasticsearchClient client;
 
@@ -76,24 +69,6 @@ public class ElasticsearchSearchService {
         return true;
     }
 
-    /**
-     * Checks whether the given filters include any that can only be served by the search index.
-     *
-     * @param filters the set of search filters to check
-     * @return true if any filter requires the search index, false otherwise
-     */
-    public boolean requiresSearchIndex(Set<SearchFilter> filters) {
-        if (filters == null || filters.isEmpty()) {
-            return false;
-        }
-        for (SearchFilter filter : filters) {
-            if (INDEX_ONLY_FILTER_TYPES.contains(filter.getType())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * Searches the Elasticsearch index for versions matching the given filters, with sorting
      * and pagination.
@@ -132,7 +107,7 @@ public class ElasticsearchSearchService {
         List<SearchedVersionDto> versions = new ArrayList<>();
         for (Hit<Map> hit : response.hits().hits()) {
             if (hit.source() != null) {
-                versions.add(mapToSearchedVersionDto(hit.source()));
+                versions.add(documentBuilder.toSearchedVersionDto(hit.source()));
             }
         }
 
@@ -390,93 +365,4 @@ public class ElasticsearchSearchService {
         return List.of(SortOptions.of(s -> s.field(FieldSort.of(f -> f
                 .field(sortField).order(sortOrder)))));
     }
-
-    /**
-     * Maps an Elasticsearch source document to a SearchedVersionDto.
-     *
-     * @param source the document source map
-     * @return a populated SearchedVersionDto
-     */
-    @SuppressWarnings("unchecked")
-    SearchedVersionDto mapToSearchedVersionDto(Map<String, Object> source) {
-        SearchedVersionDto.SearchedVersionDtoBuilder builder = SearchedVersionDto.builder();
-
-        // ID fields
-        Object globalId = source.get("globalId");
-        if (globalId != null) {
-            builder.globalId(toLong(globalId));
-        }
-
-        Object contentId = source.get("contentId");
-        if (contentId != null) {
-            builder.contentId(toLong(contentId));
-        }
-
-        // String fields
-        builder.groupId(toStr(source.get("groupId")));
-        builder.artifactId(toStr(source.get("artifactId")));
-        builder.version(toStr(source.get("version")));
-        builder.artifactType(toStr(source.get("artifactType")));
-        builder.name(toStr(source.get("name")));
-        builder.description(toStr(source.get("description")));
-        builder.owner(toStr(source.get("owner")));
-        builder.modifiedBy(toStr(source.get("modifiedBy")));
-
-        // State
-        Object state = source.get("state");
-        if (state != null) {
-            builder.state(io.apicurio.registry.types.VersionState.valueOf(toStr(state)));
-        }
-
-        // Timestamps
-        Object createdOn = source.get("createdOn");
-        if (createdOn != null) {
-            builder.createdOn(new Date(toLong(createdOn)));
-        }
-
-        Object modifiedOn = source.get("modifiedOn");
-        if (modifiedOn != null) {
-            builder.modifiedOn(new Date(toLong(modifiedOn)));
-        }
-
-        // VersionOrder
-        Object versionOrder = source.get("versionOrder");
-        if (versionOrder != null) {
-            builder.versionOrder(toInt(versionOrder));
-        }
-
-        // Labels
-        Map<String, String> labels = documentBuilder.extractLabels(source);
-        builder.labels(labels);
-
-        return builder.build();
-    }
-
-    /**
-     * Converts an Object to a long value, handling both Integer and Long types from JSON
-     * deserialization.
-     */
-    private long toLong(Object value) {
-        if (value instanceof Number) {
-            return ((Number) value).longValue();
-        }
-        return Long.parseLong(String.valueOf(value));
-    }
-
-    /**
-     * Converts an Object to an int value.
-     */
-    private int toInt(Object value) {
-        if (value instanceof Number) {
-            return ((Number) value).intValue();
-        }
-        return Integer.parseInt(String.valueOf(value));
-    }
-
-    /**
-     * Converts an Object to a String, returning null for null values.
-     */
-    private String toStr(Object value) {
-        return value != null ? String.valueOf(value) : null;
-    }
 }
@@ -1,18 +1,14 @@
 package io.apicurio.registry.storage.impl.search;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.ElasticsearchException;
-import co.elastic.clients.elasticsearch._types.OpType;
-import co.elastic.clients.elasticsearch.core.BulkRequest;
-import co.elastic.clients.elasticsearch.core.BulkResponse;
-import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import io.apicurio.registry.cdi.Current;
 import io.apicurio.registry.content.extract.StructuredContentExtractor;
 import io.apicurio.registry.storage.RegistryStorage;
 import io.apicurio.registry.storage.StorageEvent;
 import io.apicurio.registry.storage.StorageEventType;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
+import io.apicurio.registry.storage.dto.VersionContentDto;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
+import io.quarkus.scheduler.Scheduled;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.event.ObservesAsync;
@@ -21,10 +17,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static io.quarkus.scheduler.Scheduled.ConcurrentExecution.SKIP;
 
 /**
- * Startup component that checks whether the Elasticsearch search index is empty when the
+ * Startup component that checks whether the search index is empty when the
  * application starts and performs a full reindex from the database if necessary. This handles
  * the case where the application starts with existing data in the database but an empty search
  * index (e.g. after an upgrade or enabling indexing on an existing deployment).
@@ -33,6 +35,12 @@ import java.util.Map;
  * work asynchronously, and blocks application readiness via
  * {@link io.apicurio.registry.metrics.health.readiness.ElasticsearchIndexReadinessCheck}
  * until the reindex is complete.</p>
+ *
+ * <p>When the search index is {@link SearchIndexBackend#isReplicaLocal() local to each replica}, it
+ * does not see the versions created or modified through other replicas, so this component also
+ * periodically indexes the versions modified since the last synchronization. Finding the versions
+ * deleted through other replicas requires comparing all the global IDs, so that is only done on
+ * startup and then at a longer interval.</p>
  */
 @ApplicationScoped
 public class ElasticsearchStartupIndexer {
@@ -41,7 +49,6 @@ public class ElasticsearchStartupIndexer {
 
     private static final int PROGRESS_LOG_INTERVAL = 100;
     private static final int BULK_BATCH_SIZE = 500;
-    private static final String REINDEX_LOCK_DOC_ID = ElasticsearchIndexManager.REINDEX_LOCK_DOC_ID;
 
     @Inject
     ElasticsearchSearchConfig config;
@@ -57,15 +64,18 @@ public class ElasticsearchStartupIndexer {
     ArtifactTypeUtilProviderFactory typeProviderFactory;
 
     @Inject
-    ElasticsearchClient client;
-
-    @Inject
-    ElasticsearchIndexManager indexManager;
+    @Current
+    SearchIndexBackend backend;
 
     private volatile boolean ready = false;
 
     /**
-     * Observes the storage READY event and performs a full reindex if the Elasticsearch index
+     * When the index was last checked for deleted versions, 0 so that the first synchronization does.
+     */
+    private volatile long lastDeletedVersionsCheck = 0;
+
+    /**
+     * Observes the storage READY event and performs a full reindex if the search index
      * is empty.
      *
      * @param ev the storage event
@@ -75,205 +85,207 @@ public class ElasticsearchStartupIndexer {
             return;
         }
 
-        log.info("Storage is ready — checking if Elasticsearch startup reindex is needed.");
+        log.info("Storage is ready — checking if search index startup reindex is needed.");
 
         if (!config.isEnabled()) {
-            log.info("Elasticsearch search indexing is disabled, skipping startup reindex.");
+            log.info("Search indexing is disabled, skipping startup reindex.");
             ready = true;
             return;
         }
 
         try {
-            indexManager.ensureIndexExists();
+            backend.ensureIndexExists();
 
-            long documentCount = indexManager.count();
+            long documentCount = backend.count();
             if (documentCount > 0) {
-                log.info("Elasticsearch index already contains {} documents, "
+                log.info("Search index already contains {} documents, "
                         + "skipping startup reindex.", documentCount);
+                if (backend.isReplicaLocal()) {
+                    syncModifiedVersions(backend.getLastSyncTimestamp());
+                }
                 ready = true;
                 return;
             }
 
-            // Try to acquire a distributed lock via ES document creation.
-            // OpType.Create fails with 409 if the document already exists,
-            // ensuring only one replica performs the reindex.
-            if (!acquireReindexLock()) {
+            // Ensure only one reindex runs at a time. For a shared index,
+            // only one replica performs the reindex.
+            if (!backend.acquireReindexLock()) {
                 log.info("Another replica has acquired the reindex lock, skipping startup reindex.");
                 ready = true;
                 return;
             }
 
             try {
-                log.info("Elasticsearch index is empty — starting full reindex from database.");
+                log.info("Search index is empty — starting full reindex from database.");
                 reindex();
             } finally {
-                releaseReindexLock();
+                backend.releaseReindexLock();
             }
         } catch (Exception e) {
             log.error("Startup reindex failed", e);
         } finally {
             ready = true;
-            log.info("Elasticsearch startup indexer is now ready.");
+            log.info("Search index startup indexer is now ready.");
         }
     }
 
     /**
-     * Attempts to acquire a distributed reindex lock by creating a lock document in
-     * Elasticsearch. Uses {@link OpType#Create} which atomically fails with a 409 conflict
-     * if the document already exists, ensuring only one replica can acquire the lock.
-     *
-     * @return {@code true} if the lock was acquired, {@code false} if another replica holds it
+     * Periodically indexes the versions modified since the last synchronization, and from time to
+     * time removes the deleted ones, when the search index is local to this replica.
      */
-    private boolean acquireReindexLock() {
+    @Scheduled(delayed = "30s", concurrentExecution = SKIP, every = "${apicurio.search.index.lucene.sync.every:30s}")
+    public void syncModifiedVersions() {
+        if (!config.isEnabled() || !ready || !backend.isReplicaLocal()) {
+            return;
+        }
+        if (!backend.acquireReindexLock()) {
+            return;
+        }
         try {
-            client.index(i -> i
-                    .index(config.getIndexName())
-                    .id(REINDEX_LOCK_DOC_ID)
-                    .opType(OpType.Create)
-                    .document(Map.of("type", "reindex_lock", "timestamp", System.currentTimeMillis()))
-            );
-            log.info("Acquired reindex lock.");
-            return true;
-        } catch (ElasticsearchException e) {
-            if (e.status() == 409) {
-                return false;
-            }
-            throw new RuntimeException("Unexpected error acquiring reindex lock", e);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to acquire reindex lock", e);
+            syncModifiedVersions(backend.getLastSyncTimestamp());
+        } catch (Exception e) {
+            log.warn("Failed to synchronize the search index with the database.", e);
+        } finally {
+            backend.releaseReindexLock();
         }
     }
 
     /**
-     * Releases the distributed reindex lock by deleting the lock document from Elasticsearch.
-     * Called in a {@code finally} block after reindex to ensure cleanup even on failure.
+     * Indexes all versions modified since the given timestamp, removes the versions that no longer
+     * exist in the database if they have not been looked for recently, and records the start of this
+     * synchronization as the new last synchronization timestamp.
+     *
+     * @param sinceTimestamp millis since epoch
      */
-    private void releaseReindexLock() {
-        try {
-            client.delete(d -> d
-                    .index(config.getIndexName())
-                    .id(REINDEX_LOCK_DOC_ID)
-            );
-            log.info("Released reindex lock.");
-        } catch (Exception e) {
-            log.warn("Failed to release reindex lock document — it will be cleared "
-                    + "on next triggerReindex() or deleteAllDocuments() call.", e);
+    private void syncModifiedVersions(long sinceTimestamp) throws IOException {
+        long syncStart = System.currentTimeMillis();
+        int[] counts = indexVersions(consumer -> storage.forEachVersion(sinceTimestamp, consumer));
+        backend.refresh();
+        int deleted = 0;
+        if (syncStart - lastDeletedVersionsCheck >= config.getLuceneDeletedSyncInterval().toMillis()) {
+            deleted = deleteRemovedVersions();
+            lastDeletedVersionsCheck = syncStart;
+        }
+        backend.setLastSyncTimestamp(syncStart);
+        if (counts[0] > 0 || deleted > 0) {
+            log.info("Search index synchronized: {} modified versions indexed, {} deleted versions "
+                    + "removed, {} errors.", counts[0], deleted, counts[1]);
         }
     }
 
     /**
-     * Performs a full reindex by streaming all versions with their content from storage using
-     * the Elasticsearch bulk API for efficient batch indexing. Disables automatic index
-     * refreshes during the bulk operation to improve throughput, then restores the original
-     * refresh interval and performs an explicit refresh when complete.
+     * Removes from the index the versions that no longer exist in the database. Deleting a version,
+     * artifact or group does not modify any remaining row, so these deletions are not seen by
+     * {@link #syncModifiedVersions(long)} when made through another replica, or while this replica
+     * was down.
+     *
+     * @return the number of versions removed
+     */
+    private int deleteRemovedVersions() throws IOException {
+        // The index must be read first, so that versions created in between are found in the database
+        Set<Long> removed = new HashSet<>(backend.getIndexedGlobalIds());
+        removed.removeAll(new HashSet<>(storage.getAllVersionGlobalIds()));
+        if (!removed.isEmpty()) {
+            backend.bulkDelete(removed);
+            backend.refresh();
+        }
+        return removed.size();
+    }
+
+    /**
+     * Performs a full reindex by streaming all versions with their content from storage and
+     * indexing them in batches. The backend is prepared for bulk indexing (e.g. automatic
+     * index refreshes are disabled) during the operation, and refreshed when complete.
      */
     private void reindex() {
-        log.info("Starting startup reindex of Elasticsearch search index...");
+        log.info("Starting startup reindex of search index...");
         long startTime = System.currentTimeMillis();
 
-        // Disable automatic refresh during bulk indexing for better throughput
-        String previousRefreshInterval = null;
         try {
-            previousRefreshInterval = indexManager.getRefreshInterval();
-            indexManager.disableRefresh();
+            backend.beginBulkIndexing();
         } catch (IOException e) {
-            log.warn("Failed to disable automatic refresh during reindex, continuing anyway", e);
+            log.warn("Failed to prepare the search index for bulk indexing, continuing anyway", e);
         }
 
         try {
-            int[] counts = {0, 0}; // [indexed, errors]
-            BulkRequest.Builder[] bulkBuilder = {new BulkRequest.Builder()};
-            int[] batchCount = {0};
-
-            storage.forEachVersion(versionContent -> {
-                try {
-                    ArtifactVersionMetaDataDto metadata = versionContent.toMetaDataDto();
-                    byte[] contentBytes = versionContent.getContent().bytes();
-
-                    StructuredContentExtractor extractor = null;
-                    if (metadata.getArtifactType() != null) {
-                        extractor = typeProviderFactory.getArtifactTypeProvider(
-                                metadata.getArtifactType()).getStructuredContentExtractor();
-                    }
-
-                    Map<String, Object> doc = documentBuilder.buildVersionDocument(metadata,
-                            contentBytes, extractor);
-
-                    String docId = String.valueOf(metadata.getGlobalId());
-                    bulkBuilder[0].operations(op -> op
-                            .index(idx -> idx
-                                    .index(config.getIndexName())
-                                    .id(docId)
-                                    .document(doc)
-                            )
-                    );
-
-                    counts[0]++;
-                    batchCount[0]++;
-
-                    if (batchCount[0] >= BULK_BATCH_SIZE) {
-                        flushBulk(bulkBuilder[0], counts);
-                        bulkBuilder[0] = new BulkRequest.Builder();
-                        batchCount[0] = 0;
-                    }
-
-                    if (counts[0] % PROGRESS_LOG_INTERVAL == 0) {
-                        log.info("Startup reindex progress: {} versions indexed so far ({} errors).",
-                                counts[0], counts[1]);
-                    }
-                } catch (Exception e) {
-                    counts[1]++;
-                    log.warn("Failed to index version {}/{}/{} (globalId={}) during startup reindex",
-                            versionContent.getGroupId(), versionContent.getArtifactId(),
-                            versionContent.getVersion(), versionContent.getGlobalId(), e);
-                }
-            });
-
-            // Flush remaining documents
-            if (batchCount[0] > 0) {
-                flushBulk(bulkBuilder[0], counts);
-            }
+            int[] counts = indexVersions(storage::forEachVersion);
+            backend.setLastSyncTimestamp(startTime);
 
             long duration = System.currentTimeMillis() - startTime;
             log.info("Startup reindex complete: {} versions indexed, {} errors, took {}ms",
                     counts[0], counts[1], duration);
         } finally {
-            // Restore the original refresh interval and make all documents searchable
+            // Restore the bulk indexing settings and make all documents searchable
             try {
-                indexManager.restoreRefresh(previousRefreshInterval);
-            } catch (IOException e) {
-                log.error("Failed to restore refresh interval after reindex", e);
+                backend.endBulkIndexing();
+            } catch (Exception e) {
+                log.error("Failed to refresh index after startup reindex", e);
             }
+        }
+    }
+
+    /**
+     * Indexes the versions streamed by the given source, in batches.
+     *
+     * @param source streams versions with their content to the given consumer
+     * @return the counts array [indexed, errors]
+     */
+    private int[] indexVersions(Consumer<Consumer<VersionContentDto>> source) {
+        int[] counts = {0, 0}; // [indexed, errors]
+        Map<Long, Map<String, Object>> batch = new LinkedHashMap<>();
+
+        source.accept(versionContent -> {
             try {
-                indexManager.refresh();
+                ArtifactVersionMetaDataDto metadata = versionContent.toMetaDataDto();
+                byte[] contentBytes = versionContent.getContent().bytes();
+
+                StructuredContentExtractor extractor = null;
+                if (metadata.getArtifactType() != null) {
+                    extractor = typeProviderFactory.getArtifactTypeProvider(
+                            metadata.getArtifactType()).getStructuredContentExtractor();
+                }
+
+                batch.put(metadata.getGlobalId(), documentBuilder.buildVersionDocument(metadata,
+                        contentBytes, extractor));
+                counts[0]++;
+
+                if (batch.size() >= BULK_BATCH_SIZE) {
+                    flushBulk(batch, counts);
+                }
+
+                if (counts[0] % PROGRESS_LOG_INTERVAL == 0) {
+                    log.info("Reindex progress: {} versions indexed so far ({} errors).",
+                            counts[0], counts[1]);
+                }
             } catch (Exception e) {
-                log.error("Failed to refresh index after startup reindex", e);
+                counts[1]++;
+                log.warn("Failed to index version {}/{}/{} (globalId={}) during reindex",
+                        versionContent.getGroupId(), versionContent.getArtifactId(),
+                        versionContent.getVersion(), versionContent.getGlobalId(), e);
             }
+        });
+
+        // Flush remaining documents
+        if (!batch.isEmpty()) {
+            flushBulk(batch, counts);
         }
+        return counts;
     }
 
     /**
-     * Flushes the current bulk request batch to Elasticsearch.
+     * Flushes the current batch of documents to the search index.
      *
-     * @param bulkBuilder the bulk request builder
+     * @param batch the documents keyed by global ID, cleared after the flush
      * @param counts the counts array [indexed, errors]
      */
-    private void flushBulk(BulkRequest.Builder bulkBuilder, int[] counts) {
+    private void flushBulk(Map<Long, Map<String, Object>> batch, int[] counts) {
         try {
-            BulkResponse response = client.bulk(bulkBuilder.build());
-            if (response.errors()) {
-                for (BulkResponseItem item : response.items()) {
-                    if (item.error() != null) {
-                        counts[1]++;
-                        log.warn("Bulk indexing error for document {}: {}",
-                                item.id(), item.error().reason());
-                    }
-                }
-            }
+            counts[1] += backend.bulkIndex(batch);
         } catch (IOException e) {
             log.error("Failed to execute bulk index request", e);
             counts[1]++;
         }
+        batch.clear();
     }
 
     /**
@@ -292,8 +304,8 @@ public class ElasticsearchStartupIndexer {
      */
     public void triggerReindex() {
         try {
-            log.info("Triggering full reindex of Elasticsearch search index...");
-            indexManager.deleteAllDocuments();
+            log.info("Triggering full reindex of search index...");
+            backend.deleteAllDocuments();
             reindex();
             log.info("Full reindex triggered by import/upgrade completed successfully.");
         } catch (Exception e) {
@@ -0,0 +1,151 @@
+package io.apicurio.registry.storage.impl.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A batch of {@link IndexingOperation}s drained from the {@link ElasticsearchIndexUpdater} queue,
+ * coalesced so that each document is written at most once:
+ * <ul>
+ * <li>Only the last operation on a given version (by global ID) is kept, e.g. a version indexed and
+ * then deleted is only deleted.</li>
+ * <li>A delete of an artifact, group or all data discards every earlier operation on the versions
+ * it covers, since they would be deleted anyway.</li>
+ * </ul>
+ * Because the version operations that remain after a bulk delete are either unrelated to it or were
+ * enqueued after it, the batch can be executed by first running the {@link #getBulkDeletes() bulk
+ * deletes} in their original order, and then the {@link #getVersionsToIndex() version indexing} and
+ * {@link #getVersionsToDelete() version deletes} in any order.
+ */
+class IndexingBatch {
+
+    private final List<IndexingOperation> bulkDeletes = new ArrayList<>();
+    private final Map<Long, IndexingOperation> versionOperations = new LinkedHashMap<>();
+    private int size;
+
+    /**
+     * Coalesces the given operations, in the order in which they were enqueued.
+     *
+     * @param operations the operations to coalesce
+     * @return the coalesced batch
+     */
+    static IndexingBatch of(List<IndexingOperation> operations) {
+        IndexingBatch batch = new IndexingBatch();
+        operations.forEach(batch::add);
+        return batch;
+    }
+
+    private void add(IndexingOperation operation) {
+        size++;
+        switch (operation.type()) {
+            case INDEX_VERSION: {
+                IndexingOperation.IndexVersion op = (IndexingOperation.IndexVersion) operation;
+                versionOperations.remove(op.globalId());
+                versionOperations.put(op.globalId(), op);
+                break;
+            }
+            case DELETE_VERSION: {
+                IndexingOperation.DeleteVersion op = (IndexingOperation.DeleteVersion) operation;
+                versionOperations.remove(op.globalId());
+                versionOperations.put(op.globalId(), op);
+                break;
+            }
+            case DELETE_ARTIFACT: {
+                IndexingOperation.DeleteArtifact op = (IndexingOperation.DeleteArtifact) operation;
+                versionOperations.values().removeIf(v -> isInGroup(v, op.groupId())
+                        && Objects.equals(artifactId(v), op.artifactId()));
+                if (!bulkDeletes.contains(op)) {
+                    bulkDeletes.add(op);
+                }
+                break;
+            }
+            case DELETE_GROUP: {
+                IndexingOperation.DeleteGroup op = (IndexingOperation.DeleteGroup) operation;
+                versionOperations.values().removeIf(v -> isInGroup(v, op.groupId()));
+                bulkDeletes.removeIf(d -> d instanceof IndexingOperation.DeleteArtifact da
+                        && Objects.equals(normalizeGroupId(da.groupId()), normalizeGroupId(op.groupId())));
+                if (!bulkDeletes.contains(op)) {
+                    bulkDeletes.add(op);
+                }
+                break;
+            }
+            case DELETE_ALL_DATA: {
+                versionOperations.clear();
+                bulkDeletes.clear();
+                bulkDeletes.add(operation);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of operations that were coalesced into this batch.
+     *
+     * @return the number of operations
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the artifact, group and all data deletes, in the order in which they must be executed.
+     *
+     * @return the bulk deletes
+     */
+    List<IndexingOperation> getBulkDeletes() {
+        return Collections.unmodifiableList(bulkDeletes);
+    }
+
+    /**
+     * Returns the versions to (re-)index.
+     *
+     * @return the index operations
+     */
+    List<IndexingOperation.IndexVersion> getVersionsToIndex() {
+        List<IndexingOperation.IndexVersion> result = new ArrayList<>();
+        for (IndexingOperation op : versionOperations.values()) {
+            if (op instanceof IndexingOperation.IndexVersion indexVersion) {
+                result.add(indexVersion);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the versions to remove from the index.
+     *
+     * @return the delete operations
+     */
+    List<IndexingOperation.DeleteVersion> getVersionsToDelete() {
+        List<IndexingOperation.DeleteVersion> result = new ArrayList<>();
+        for (IndexingOperation op : versionOperations.values()) {
+            if (op instanceof IndexingOperation.DeleteVersion deleteVersion) {
+                result.add(deleteVersion);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isInGroup(IndexingOperation versionOperation, String groupId) {
+        String versionGroupId = versionOperation instanceof IndexingOperation.IndexVersion iv
+                ? iv.groupId() : ((IndexingOperation.DeleteVersion) versionOperation).groupId();
+        return Objects.equals(normalizeGroupId(versionGroupId), normalizeGroupId(groupId));
+    }
+
+    private static String artifactId(IndexingOperation versionOperation) {
+        return versionOperation instanceof IndexingOperation.IndexVersion iv
+                ? iv.artifactId() : ((IndexingOperation.DeleteVersion) versionOperation).artifactId();
+    }
+
+    /**
+     * Documents are indexed with the {@code default} group ID when the version has none, see
+     * {@link ElasticsearchDocumentBuilder}.
+     */
+    private static String normalizeGroupId(String groupId) {
+        return groupId != null ? groupId : "default";
+    }
+}
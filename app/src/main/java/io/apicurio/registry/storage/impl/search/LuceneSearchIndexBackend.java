@@ -0,0 +1,384 @@
+package io.apicurio.registry.storage.impl.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.apicurio.registry.storage.dto.OrderBy;
+import io.apicurio.registry.storage.dto.OrderDirection;
+import io.apicurio.registry.storage.dto.SearchFilter;
+import io.apicurio.registry.storage.dto.SearchedVersionDto;
+import io.apicurio.registry.storage.dto.VersionSearchResultsDto;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link SearchIndexBackend} storing the search index in an embedded Lucene index, so that content
+ * search does not require any external service. Each replica has its own copy of the index, stored
+ * either in memory or in a local directory (memory-mapped when supported by the platform).
+ *
+ * <p>Writes go to a single {@link IndexWriter}. Searches use near-real-time readers obtained from the
+ * writer through a {@link SearcherManager}, which is refreshed periodically by a background thread,
+ * so indexed versions become searchable without a commit. Commits only happen in the background (when
+ * the index is stored in a directory), together with the timestamp of the last synchronization with
+ * the database, so that a restarted replica only needs to index the versions modified while it was
+ * down.</p>
+ */
+@ApplicationScoped
+public class LuceneSearchIndexBackend implements SearchIndexBackend {
+
+    private static final Logger log = LoggerFactory.getLogger(LuceneSearchIndexBackend.class);
+
+    public static final String NAME = "lucene";
+
+    private static final String CURRENT_MAPPING_VERSION = "1";
+    private static final String MAPPING_VERSION_KEY = "mappingVersion";
+    private static final String LAST_SYNC_KEY = "lastSync";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Inject
+    ElasticsearchSearchConfig config;
+
+    @Inject
+    ElasticsearchDocumentBuilder documentBuilder;
+
+    private final AtomicBoolean reindexLock = new AtomicBoolean();
+
+    private Directory directory;
+    private SearcherManager searcherManager;
+    private LuceneSearchQueryBuilder queryBuilder;
+    private volatile IndexWriter writer;
+    private ScheduledExecutorService refresher;
+    private volatile long lastSyncTimestamp;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isReplicaLocal() {
+        return true;
+    }
+
+    /**
+     * Opens the index, creating it if it does not exist. If the index exists but was written with an
+     * outdated mapping version, it is recreated empty so that it gets fully reindexed.
+     */
+    @Override
+    public synchronized void ensureIndexExists() throws IOException {
+        if (writer != null) {
+            return;
+        }
+
+        boolean persistent = config.getLuceneDirectory().isPresent();
+        directory = persistent ? FSDirectory.open(Path.of(config.getLuceneDirectory().get()))
+                : new ByteBuffersDirectory();
+
+        IndexWriterConfig.OpenMode openMode = IndexWriterConfig.OpenMode.CREATE_OR_APPEND;
+        if (DirectoryReader.indexExists(directory)) {
+            Map<String, String> commitData = SegmentInfos.readLatestCommit(directory).getUserData();
+            if (CURRENT_MAPPING_VERSION.equals(commitData.get(MAPPING_VERSION_KEY))) {
+                lastSyncTimestamp = Long.parseLong(commitData.getOrDefault(LAST_SYNC_KEY, "0"));
+                log.info("Opening Lucene search index in '{}' (last synchronized at {}).",
+                        config.getLuceneDirectory().get(), lastSyncTimestamp);
+            } else {
+                log.warn("Lucene search index in '{}' has outdated mapping version {} (current: {}). "
+                        + "Recreating the index.", config.getLuceneDirectory().get(),
+                        commitData.get(MAPPING_VERSION_KEY), CURRENT_MAPPING_VERSION);
+                openMode = IndexWriterConfig.OpenMode.CREATE;
+            }
+        } else {
+            log.info("Creating Lucene search index in {}.", persistent
+                    ? "'" + config.getLuceneDirectory().get() + "'" : "memory");
+        }
+
+        Analyzer analyzer = new StandardAnalyzer();
+        IndexWriter indexWriter = new IndexWriter(directory,
+                new IndexWriterConfig(analyzer).setOpenMode(openMode));
+        updateCommitData(indexWriter);
+        indexWriter.commit();
+        searcherManager = new SearcherManager(indexWriter, null);
+        queryBuilder = new LuceneSearchQueryBuilder(analyzer);
+        writer = indexWriter;
+
+        long intervalMillis = config.getLuceneRefreshInterval().toMillis();
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "lucene-index-refresher");
+            t.setDaemon(true);
+            return t;
+        });
+        refresher.scheduleWithFixedDelay(this::refreshAndCommit, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        refresher.shutdownNow();
+        try {
+            searcherManager.close();
+            updateCommitData(writer);
+            // Commits pending changes, since commit-on-close is enabled by default
+            writer.close();
+            directory.close();
+        } catch (IOException e) {
+            log.warn("Failed to close the Lucene search index.", e);
+        }
+        writer = null;
+    }
+
+    @Override
+    public long count() throws IOException {
+        return writer().getDocStats().numDocs;
+    }
+
+    @Override
+    public void index(long globalId, Map<String, Object> document) throws IOException {
+        writer().updateDocument(idTerm(globalId), toLuceneDocument(globalId, document));
+    }
+
+    @Override
+    public int bulkIndex(Map<Long, Map<String, Object>> documents) throws IOException {
+        IndexWriter indexWriter = writer();
+        int errors = 0;
+        for (Map.Entry<Long, Map<String, Object>> entry : documents.entrySet()) {
+            try {
+                indexWriter.updateDocument(idTerm(entry.getKey()),
+                        toLuceneDocument(entry.getKey(), entry.getValue()));
+            } catch (IOException | RuntimeException e) {
+                errors++;
+                log.warn("Bulk indexing error for document {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    @Override
+    public void deleteVersion(long globalId) throws IOException {
+        writer().deleteDocuments(idTerm(globalId));
+    }
+
+    @Override
+    public int bulkDelete(Collection<Long> globalIds) throws IOException {
+        if (!globalIds.isEmpty()) {
+            writer().deleteDocuments(globalIds.stream()
+                    .map(LuceneSearchIndexBackend::idTerm)
+                    .toArray(Term[]::new));
+        }
+        return 0;
+    }
+
+    @Override
+    public void deleteArtifact(String groupId, String artifactId) throws IOException {
+        writer().deleteDocuments(new BooleanQuery.Builder()
+                .add(new TermQuery(new Term("groupId", groupId)), Occur.FILTER)
+                .add(new TermQuery(new Term("artifactId", artifactId)), Occur.FILTER)
+                .build());
+    }
+
+    @Override
+    public void deleteGroup(String groupId) throws IOException {
+        writer().deleteDocuments(new Term("groupId", groupId));
+    }
+
+    @Override
+    public Set<Long> getIndexedGlobalIds() throws IOException {
+        writer();
+        Set<Long> globalIds = new HashSet<>();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                NumericDocValues values = leaf.reader().getNumericDocValues("globalId");
+                if (values == null) {
+                    continue;
+                }
+                Bits liveDocs = leaf.reader().getLiveDocs();
+                for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS;
+                        doc = values.nextDoc()) {
+                    if (liveDocs == null || liveDocs.get(doc)) {
+                        globalIds.add(values.longValue());
+                    }
+                }
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+        return globalIds;
+    }
+
+    @Override
+    public void deleteAllDocuments() throws IOException {
+        writer().deleteAll();
+        log.info("Deleted all content documents from the Lucene search index.");
+    }
+
+    @Override
+    public void refresh() throws IOException {
+        writer();
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    @Override
+    public void beginBulkIndexing() {
+        // Nothing to do, readers are only reopened by refresh()
+    }
+
+    @Override
+    public void endBulkIndexing() throws IOException {
+        refresh();
+        if (config.getLuceneDirectory().isPresent()) {
+            IndexWriter indexWriter = writer();
+            updateCommitData(indexWriter);
+            indexWriter.commit();
+        }
+    }
+
+    /**
+     * The index is local to this replica, so the lock only has to prevent concurrent reindexing
+     * within this process.
+     */
+    @Override
+    public boolean acquireReindexLock() {
+        return reindexLock.compareAndSet(false, true);
+    }
+
+    @Override
+    public void releaseReindexLock() {
+        reindexLock.set(false);
+    }
+
+    @Override
+    public long getLastSyncTimestamp() {
+        return lastSyncTimestamp;
+    }
+
+    @Override
+    public void setLastSyncTimestamp(long timestamp) {
+        lastSyncTimestamp = timestamp;
+    }
+
+    @Override
+    public VersionSearchResultsDto searchVersions(Set<SearchFilter> filters, OrderBy orderBy,
+            OrderDirection orderDirection, int offset, int limit) throws IOException {
+        writer();
+        Query query = queryBuilder.buildQuery(filters);
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int totalCount = searcher.count(query);
+            List<SearchedVersionDto> versions = new ArrayList<>();
+            if (limit > 0 && offset < totalCount) {
+                TopDocs topDocs = searcher.search(query, offset + limit,
+                        queryBuilder.buildSort(orderBy, orderDirection));
+                StoredFields storedFields = searcher.storedFields();
+                for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    BytesRef source = storedFields.document(scoreDoc.doc)
+                            .getBinaryValue(LuceneSearchQueryBuilder.SOURCE_FIELD);
+                    versions.add(documentBuilder.toSearchedVersionDto(readSource(source)));
+                }
+            }
+
+            log.debug("Lucene search returned {} results (total: {}, offset: {}, limit: {})",
+                    versions.size(), totalCount, offset, limit);
+
+            return VersionSearchResultsDto.builder()
+                    .versions(versions)
+                    .count(totalCount)
+                    .build();
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Periodically reopens the near-real-time readers, and commits the index if it is stored in a
+     * directory.
+     */
+    private void refreshAndCommit() {
+        try {
+            searcherManager.maybeRefresh();
+            if (config.getLuceneDirectory().isPresent() && writer.hasUncommittedChanges()) {
+                updateCommitData(writer);
+                writer.commit();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh the Lucene search index.", e);
+        }
+    }
+
+    private void updateCommitData(IndexWriter indexWriter) {
+        indexWriter.setLiveCommitData(Map.of(
+                MAPPING_VERSION_KEY, CURRENT_MAPPING_VERSION,
+                LAST_SYNC_KEY, String.valueOf(lastSyncTimestamp)).entrySet());
+    }
+
+    private IndexWriter writer() throws IOException {
+        IndexWriter indexWriter = writer;
+        if (indexWriter == null) {
+            ensureIndexExists();
+            indexWriter = writer;
+        }
+        return indexWriter;
+    }
+
+    private Document toLuceneDocument(long globalId, Map<String, Object> document) {
+        try {
+            return queryBuilder.toLuceneDocument(globalId, document, mapper.writeValueAsBytes(document));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> readSource(BytesRef source) throws IOException {
+        return mapper.readValue(source.bytes, source.offset, source.length, Map.class);
+    }
+
+    private static Term idTerm(long globalId) {
+        return new Term(LuceneSearchQueryBuilder.ID_FIELD, String.valueOf(globalId));
+    }
+}
@@ -0,0 +1,313 @@
+package io.apicurio.registry.storage.impl.search;
+
+import io.apicurio.registry.storage.dto.OrderBy;
+import io.apicurio.registry.storage.dto.OrderDirection;
+import io.apicurio.registry.storage.dto.SearchFilter;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts the documents built by {@link ElasticsearchDocumentBuilder} into Lucene documents, and
+ * translates search filters into Lucene queries. The field layout mirrors the Elasticsearch mapping in
+ * {@link ElasticsearchIndexManager}, so that both backends return the same results for the same
+ * filters:
+ * <ul>
+ * <li>keyword fields are indexed as {@link StringField}s, with doc values for sorting</li>
+ * <li>text fields are indexed as {@link TextField}s, analyzed by the same analyzer used for queries</li>
+ * <li>numeric fields are indexed as {@link LongPoint}s, with doc values for sorting</li>
+ * <li>the whole document is stored as JSON in the {@value #SOURCE_FIELD} field</li>
+ * </ul>
+ */
+class LuceneSearchQueryBuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(LuceneSearchQueryBuilder.class);
+
+    static final String ID_FIELD = "_id";
+    static final String SOURCE_FIELD = "_source";
+
+    private static final String NAME_SORT_FIELD = "name.keyword";
+    private static final String LABEL_KEY_FIELD = "labels.key";
+    private static final String LABEL_PAIR_FIELD = "labels.pair";
+    private static final char LABEL_PAIR_SEPARATOR = '\u001f';
+
+    private static final Set<String> KEYWORD_FIELDS = Set.of("groupId", "artifactId", "version",
+            "artifactType", "state");
+    private static final Set<String> LONG_FIELDS = Set.of("globalId", "contentId", "createdOn",
+            "modifiedOn");
+    private static final Set<String> TEXT_FIELDS = Set.of("description", "content", "owner");
+
+    private final QueryBuilder queryBuilder;
+
+    LuceneSearchQueryBuilder(Analyzer analyzer) {
+        this.queryBuilder = new QueryBuilder(analyzer);
+    }
+
+    /**
+     * Converts a version document into a Lucene document.
+     *
+     * @param globalId the global ID of the version
+     * @param source the document built by {@link ElasticsearchDocumentBuilder}
+     * @param sourceBytes the document serialized as JSON, stored to be returned by searches
+     * @return the Lucene document
+     */
+    Document toLuceneDocument(long globalId, Map<String, Object> source, byte[] sourceBytes) {
+        Document doc = new Document();
+        doc.add(new StringField(ID_FIELD, String.valueOf(globalId), Field.Store.NO));
+        doc.add(new StoredField(SOURCE_FIELD, sourceBytes));
+
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            String field = entry.getKey();
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            if (KEYWORD_FIELDS.contains(field)) {
+                String keyword = String.valueOf(value);
+                doc.add(new StringField(field, keyword, Field.Store.NO));
+                doc.add(new SortedDocValuesField(field, new BytesRef(keyword)));
+            } else if (LONG_FIELDS.contains(field) && value instanceof Number number) {
+                doc.add(new LongPoint(field, number.longValue()));
+                doc.add(new NumericDocValuesField(field, number.longValue()));
+            } else if (TEXT_FIELDS.contains(field)) {
+                doc.add(new TextField(field, String.valueOf(value), Field.Store.NO));
+            } else if ("name".equals(field)) {
+                String name = String.valueOf(value);
+                doc.add(new TextField(field, name, Field.Store.NO));
+                doc.add(new SortedDocValuesField(NAME_SORT_FIELD, new BytesRef(name)));
+            } else if ("structure".equals(field) || "structure_kind".equals(field)) {
+                for (Object element : (List<?>) value) {
+                    doc.add(new StringField(field, String.valueOf(element), Field.Store.NO));
+                }
+            } else if ("structure_text".equals(field)) {
+                for (Object element : (List<?>) value) {
+                    doc.add(new TextField(field, String.valueOf(element), Field.Store.NO));
+                }
+            } else if ("labels".equals(field)) {
+                for (Object label : (List<?>) value) {
+                    Map<?, ?> labelMap = (Map<?, ?>) label;
+                    String key = String.valueOf(labelMap.get("key"));
+                    String labelValue = String.valueOf(labelMap.get("value"));
+                    doc.add(new TextField(LABEL_KEY_FIELD, key, Field.Store.NO));
+                    doc.add(new StringField(LABEL_PAIR_FIELD, labelPair(key, labelValue),
+                            Field.Store.NO));
+                }
+            }
+        }
+        return doc;
+    }
+
+    /**
+     * Builds a Lucene query from a set of SearchFilters.
+     *
+     * @param filters the search filters to translate
+     * @return a Lucene query
+     */
+    Query buildQuery(Set<SearchFilter> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return new MatchAllDocsQuery();
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        boolean hasPositiveClause = false;
+
+        for (SearchFilter filter : filters) {
+            Query filterQuery = buildFilterQuery(filter);
+            if (filterQuery == null) {
+                continue;
+            }
+
+            if (filter.isNot()) {
+                builder.add(filterQuery, Occur.MUST_NOT);
+            } else {
+                builder.add(filterQuery, Occur.MUST);
+                hasPositiveClause = true;
+            }
+        }
+
+        if (!hasPositiveClause) {
+            builder.add(new MatchAllDocsQuery(), Occur.MUST);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Translates a single SearchFilter into a Lucene query.
+     *
+     * @param filter the search filter
+     * @return a Lucene query, or null if the filter type is unsupported
+     */
+    private Query buildFilterQuery(SearchFilter filter) {
+        switch (filter.getType()) {
+        case groupId:
+            String groupValue = filter.getStringValue() == null ? "default"
+                    : filter.getStringValue();
+            return new TermQuery(new Term("groupId", groupValue));
+
+        case artifactId:
+            return new TermQuery(new Term("artifactId", filter.getStringValue()));
+
+        case version:
+            return new TermQuery(new Term("version", filter.getStringValue()));
+
+        case artifactType:
+            return new TermQuery(new Term("artifactType", filter.getStringValue()));
+
+        case state:
+            return new TermQuery(new Term("state", filter.getStringValue().toUpperCase()));
+
+        case globalId:
+            return LongPoint.newExactQuery("globalId", filter.getNumberValue().longValue());
+
+        case contentId:
+            return LongPoint.newExactQuery("contentId", filter.getNumberValue().longValue());
+
+        case name:
+            return new BooleanQuery.Builder()
+                    .add(buildTextQuery("name", filter.getStringValue()), Occur.SHOULD)
+                    .add(new TermQuery(new Term("artifactId", filter.getStringValue())),
+                            Occur.SHOULD)
+                    .build();
+
+        case description:
+            return buildTextQuery("description", filter.getStringValue());
+
+        case content:
+            return buildTextQuery("content", filter.getStringValue());
+
+        case structure:
+            return buildStructureQuery(filter.getStringValue());
+
+        case labels:
+            return buildLabelQuery(filter);
+
+        case contentHash:
+        case canonicalHash:
+            log.warn("Unsupported Lucene filter type: {}", filter.getType());
+            return null;
+
+        default:
+            log.warn("Unknown filter type: {}", filter.getType());
+            return null;
+        }
+    }
+
+    /**
+     * Builds a full-text query requiring all the analyzed terms of the value to be present in the
+     * field, equivalent to an Elasticsearch {@code match} query with the {@code AND} operator.
+     *
+     * @param field the field name
+     * @param value the search text
+     * @return the query
+     */
+    private Query buildTextQuery(String field, String value) {
+        Query query = value != null ? queryBuilder.createBooleanQuery(field, value, Occur.MUST) : null;
+        return query != null ? query : new MatchNoDocsQuery();
+    }
+
+    /**
+     * Builds a query for the structure field, supporting the same formats as the Elasticsearch
+     * backend: {@code type:kind:name} (exact match), {@code kind:name} and {@code name} (text search).
+     *
+     * @param value the structure filter value
+     * @return the query
+     */
+    private Query buildStructureQuery(String value) {
+        if (value == null || value.isBlank()) {
+            return new MatchAllDocsQuery();
+        }
+
+        String lowered = value.toLowerCase().trim();
+        String[] parts = lowered.split(":", -1);
+
+        if (parts.length == 3) {
+            return new TermQuery(new Term("structure", lowered));
+        } else if (parts.length == 2) {
+            return buildTextQuery("structure_text", parts[0] + " " + parts[1]);
+        } else {
+            return buildTextQuery("structure_text", lowered);
+        }
+    }
+
+    /**
+     * Builds a label filter query. A key-only filter matches any of the analyzed terms of the key.
+     * A key and value filter matches versions having that exact label (case-insensitive), which is
+     * what the SQL storage does.
+     *
+     * @param filter the label search filter
+     * @return the query
+     */
+    private Query buildLabelQuery(SearchFilter filter) {
+        Pair<String, String> labelPair = filter.getLabelFilterValue();
+        String key = labelPair.getLeft();
+        String labelValue = labelPair.getRight();
+
+        if (labelValue == null || labelValue.isBlank()) {
+            Query query = queryBuilder.createBooleanQuery(LABEL_KEY_FIELD, key, Occur.SHOULD);
+            return query != null ? query : new MatchNoDocsQuery();
+        }
+
+        return new TermQuery(new Term(LABEL_PAIR_FIELD, labelPair(key, labelValue)));
+    }
+
+    /**
+     * Builds the Lucene sort from OrderBy and OrderDirection.
+     *
+     * @param orderBy the field to sort by
+     * @param orderDirection the sort direction
+     * @return the sort
+     */
+    Sort buildSort(OrderBy orderBy, OrderDirection orderDirection) {
+        if (orderBy == null) {
+            return Sort.RELEVANCE;
+        }
+
+        boolean reverse = orderDirection == OrderDirection.desc;
+
+        switch (orderBy) {
+        case name:
+            return new Sort(new SortField(NAME_SORT_FIELD, SortField.Type.STRING, reverse));
+        case createdOn:
+        case modifiedOn:
+        case globalId:
+            return new Sort(new SortField(orderBy.name(), SortField.Type.LONG, reverse));
+        case version:
+        case groupId:
+        case artifactId:
+        case artifactType:
+            return new Sort(new SortField(orderBy.name(), SortField.Type.STRING, reverse));
+        default:
+            return Sort.RELEVANCE;
+        }
+    }
+
+    private static String labelPair(String key, String value) {
+        return key.toLowerCase(Locale.ROOT) + LABEL_PAIR_SEPARATOR + value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,217 @@
+package io.apicurio.registry.storage.impl.search;
+
+import io.apicurio.registry.storage.dto.OrderBy;
+import io.apicurio.registry.storage.dto.OrderDirection;
+import io.apicurio.registry.storage.dto.SearchFilter;
+import io.apicurio.registry.storage.dto.SearchFilterType;
+import io.apicurio.registry.storage.dto.VersionSearchResultsDto;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SPI implemented by the storage engines of the search index. The orchestration (observing storage
+ * events, building documents, startup reindex, readiness) is shared by all backends, which only have
+ * to store the documents produced by {@link ElasticsearchDocumentBuilder} and evaluate search
+ * filters against them.
+ *
+ * <p>The active backend is selected by the {@code apicurio.search.index.backend} configuration
+ * property, see {@link SearchIndexBackendProducer}.</p>
+ */
+public interface SearchIndexBackend {
+
+    /**
+     * Filter types that can only be handled by the search index and have no SQL fallback.
+     */
+    Set<SearchFilterType> INDEX_ONLY_FILTER_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            SearchFilterType.content, SearchFilterType.structure));
+
+    /**
+     * Checks whether the given filters include any that can only be served by the search index.
+     *
+     * @param filters the set of search filters to check
+     * @return true if any filter requires the search index, false otherwise
+     */
+    static boolean requiresSearchIndex(Set<SearchFilter> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return false;
+        }
+        for (SearchFilter filter : filters) {
+            if (INDEX_ONLY_FILTER_TYPES.contains(filter.getType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the name of this backend, as used in the {@code apicurio.search.index.backend}
+     * configuration property.
+     *
+     * @return the backend name
+     */
+    String getName();
+
+    /**
+     * Returns whether the index is local to this replica. A local index does not see writes made
+     * through other replicas, so it has to be kept in sync with the database periodically.
+     *
+     * @return true if every replica has its own copy of the index
+     */
+    boolean isReplicaLocal();
+
+    /**
+     * Ensures the index exists with the current mapping, creating or recreating it if needed.
+     *
+     * @throws IOException if the index cannot be accessed
+     */
+    void ensureIndexExists() throws IOException;
+
+    /**
+     * Returns the number of version documents in the index, excluding any internal metadata.
+     *
+     * @return the document count
+     * @throws IOException if the index cannot be accessed
+     */
+    long count() throws IOException;
+
+    /**
+     * Indexes (or replaces) a single version document.
+     *
+     * @param globalId the global ID of the version, used as the document ID
+     * @param document the document, as built by {@link ElasticsearchDocumentBuilder}
+     * @throws IOException if the document cannot be indexed
+     */
+    void index(long globalId, Map<String, Object> document) throws IOException;
+
+    /**
+     * Indexes (or replaces) a batch of version documents.
+     *
+     * @param documents the documents keyed by global ID
+     * @return the number of documents that failed to be indexed
+     * @throws IOException if the batch cannot be submitted
+     */
+    int bulkIndex(Map<Long, Map<String, Object>> documents) throws IOException;
+
+    /**
+     * Removes a single version from the index.
+     *
+     * @param globalId the global ID of the version
+     * @throws IOException if the index cannot be accessed
+     */
+    void deleteVersion(long globalId) throws IOException;
+
+    /**
+     * Removes a batch of versions from the index.
+     *
+     * @param globalIds the global IDs of the versions
+     * @return the number of documents that failed to be removed
+     * @throws IOException if the batch cannot be submitted
+     */
+    int bulkDelete(Collection<Long> globalIds) throws IOException;
+
+    /**
+     * Removes all versions of an artifact from the index.
+     *
+     * @param groupId the group ID
+     * @param artifactId the artifact ID
+     * @throws IOException if the index cannot be accessed
+     */
+    void deleteArtifact(String groupId, String artifactId) throws IOException;
+
+    /**
+     * Removes all versions in a group from the index.
+     *
+     * @param groupId the group ID
+     * @throws IOException if the index cannot be accessed
+     */
+    void deleteGroup(String groupId) throws IOException;
+
+    /**
+     * Returns the global IDs of all version documents in the index. Used to find the versions deleted
+     * from the database without the index being updated, e.g. through other replicas when the index is
+     * {@link #isReplicaLocal() replica-local}.
+     *
+     * @return the global IDs
+     * @throws IOException if the index cannot be accessed
+     */
+    Set<Long> getIndexedGlobalIds() throws IOException;
+
+    /**
+     * Removes all version documents from the index, preserving any internal metadata.
+     *
+     * @throws IOException if the index cannot be accessed
+     */
+    void deleteAllDocuments() throws IOException;
+
+    /**
+     * Makes all documents indexed so far visible to searches.
+     *
+     * @throws IOException if the index cannot be accessed
+     */
+    void refresh() throws IOException;
+
+    /**
+     * Prepares the index for a large number of writes, e.g. by disabling automatic refreshes.
+     * Must be followed by {@link #endBulkIndexing()}.
+     *
+     * @throws IOException if the index cannot be accessed
+     */
+    void beginBulkIndexing() throws IOException;
+
+    /**
+     * Restores the settings changed by {@link #beginBulkIndexing()} and refreshes the index.
+     *
+     * @throws IOException if the index cannot be accessed
+     */
+    void endBulkIndexing() throws IOException;
+
+    /**
+     * Attempts to acquire the lock that ensures only one full reindex of the index runs at a time.
+     *
+     * @return true if the lock was acquired, false if it is held by someone else
+     */
+    boolean acquireReindexLock();
+
+    /**
+     * Releases the lock acquired by {@link #acquireReindexLock()}.
+     */
+    void releaseReindexLock();
+
+    /**
+     * Returns the timestamp (millis since epoch) of the last successful synchronization of a
+     * {@link #isReplicaLocal() replica-local} index with the database.
+     *
+     * @return the timestamp, or {@code 0} if unknown
+     */
+    default long getLastSyncTimestamp() {
+        return 0;
+    }
+
+    /**
+     * Records the timestamp of the last successful synchronization with the database. Replica-local
+     * backends that persist their index should persist this value with it.
+     *
+     * @param timestamp millis since epoch
+     */
+    default void setLastSyncTimestamp(long timestamp) {
+    }
+
+    /**
+     * Searches the index for versions matching the given filters, with sorting and pagination.
+     *
+     * @param filters the search filters to apply
+     * @param orderBy the field to sort by
+     * @param orderDirection the sort direction (asc/desc)
+     * @param offset the number of results to skip
+     * @param limit the maximum number of results to return
+     * @return the matched versions and total count
+     * @throws IOException if an error occurs during search
+     */
+    VersionSearchResultsDto searchVersions(Set<SearchFilter> filters, OrderBy orderBy,
+            OrderDirection orderDirection, int offset, int limit) throws IOException;
+}
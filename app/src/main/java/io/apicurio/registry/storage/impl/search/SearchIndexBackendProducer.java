@@ -0,0 +1,49 @@
+package io.apicurio.registry.storage.impl.search;
+
+import io.apicurio.registry.cdi.Current;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Produces the {@link SearchIndexBackend} selected by the {@code apicurio.search.index.backend}
+ * configuration property.
+ */
+@ApplicationScoped
+public class SearchIndexBackendProducer {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexBackendProducer.class);
+
+    @Inject
+    ElasticsearchSearchConfig config;
+
+    // Use Instance<> for lazy lookup, so that the Elasticsearch client is not created
+    // when the embedded backend is used, and vice versa.
+    @Inject
+    Instance<ElasticsearchSearchIndexBackend> elasticsearchBackend;
+    @Inject
+    Instance<LuceneSearchIndexBackend> luceneBackend;
+
+    private SearchIndexBackend cachedBackend;
+
+    @Produces
+    @ApplicationScoped
+    @Current
+    public SearchIndexBackend current() {
+        if (cachedBackend == null) {
+            if (ElasticsearchSearchIndexBackend.NAME.equals(config.getBackend())) {
+                cachedBackend = elasticsearchBackend.get();
+            } else if (LuceneSearchIndexBackend.NAME.equals(config.getBackend())) {
+                cachedBackend = luceneBackend.get();
+            } else {
+                throw new IllegalStateException(String
+                        .format("No search index backend defined for value %s", config.getBackend()));
+            }
+            log.info("Using the following search index backend: {}", cachedBackend.getName());
+        }
+        return cachedBackend;
+    }
+}
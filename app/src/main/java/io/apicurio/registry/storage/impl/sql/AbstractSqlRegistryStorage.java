@@ -17,6 +17,7 @@ import io.apicurio.registry.storage.RegistryStorage;
 import io.apicurio.registry.storage.StorageBehaviorProperties;
 import io.apicurio.registry.storage.StorageEvent;
 import io.apicurio.registry.storage.StorageEventType;
+import io.apicurio.registry.storage.decorator.ReadOnlyRegistryStorageDecorator;
 import io.apicurio.registry.storage.dto.*;
 import io.apicurio.registry.storage.error.ArtifactAlreadyExistsException;
 import io.apicurio.registry.storage.error.ArtifactNotFoundException;
@@ -30,11 +31,13 @@ import io.apicurio.registry.storage.error.RuleNotFoundException;
 import io.apicurio.registry.storage.error.VersionAlreadyExistsException;
 import io.apicurio.registry.storage.error.VersionNotFoundException;
 import io.apicurio.registry.storage.impl.sql.jdb.Handle;
+import io.apicurio.registry.storage.impl.sql.mappers.ArtifactVersionMetaDataDtoMapper;
 import io.apicurio.registry.storage.impl.sql.mappers.DatabaseLockMapper;
 import io.apicurio.registry.storage.impl.sql.repositories.*;
 import io.apicurio.registry.storage.importing.DataImporter;
 import io.apicurio.registry.storage.importing.v2.SqlDataUpgrader;
 import io.apicurio.registry.storage.importing.v3.SqlDataImporter;
+import io.apicurio.registry.types.ArtifactType;
 import io.apicurio.registry.types.RuleType;
 import io.apicurio.registry.types.VersionState;
 import io.apicurio.registry.utils.IoUtil;
@@ -81,6 +84,11 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
 
     private static final int DB_VERSION = Integer
             .parseInt(IoUtil.toString(AbstractSqlRegistryStorage.class.getResourceAsStream("db-version")));
+    /**
+     * Property of the "apicurio" table, inserted by the DDL upgrade scripts, while the dereferenced content
+     * hashes of the content that existed before the upgrade have not been computed yet.
+     */
+    private static final String DEREFERENCED_CONTENT_HASH_BACKFILL_PROPERTY = "deref_hash_backfill";
 
     private static final ObjectMapper mapper = new ObjectMapper();
 
@@ -127,10 +135,20 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     @Info(category = CATEGORY_STORAGE, description = "SQL init", availableSince = "2.0.0.Final")
     boolean initDB;
 
+    @ConfigProperty(name = "apicurio.sql.search.substring-indexes.enabled", defaultValue = "false")
+    @Info(category = CATEGORY_STORAGE, description = "Create database-specific indexes that speed up substring search by name, description and artifact ID (e.g. trigram indexes on PostgreSQL, which require the pg_trgm extension). Only applies when `apicurio.sql.init` is enabled.", availableSince = "3.2.2")
+    boolean substringSearchIndexesEnabled;
+
     @ConfigProperty(name = "apicurio.sql.db-schema", defaultValue = "*")
     @Info(category = CATEGORY_STORAGE, description = "Database schema name (only needed when running two instances of Registry against the same database, in multiple schemas)", availableSince = "3.0.6")
     String dbSchema;
 
+    @ConfigProperty(name = ReadOnlyRegistryStorageDecorator.READ_ONLY_MODE_ENABLED_PROPERTY_NAME,
+            defaultValue = "false")
+    @Info(category = CATEGORY_STORAGE, description = "Enable Registry storage read-only mode",
+            availableSince = "3.0.0")
+    boolean readOnlyModeEnabled;
+
     @Inject
     @ConfigProperty(name = "apicurio.events.kafka.topic", defaultValue = "registry-events")
     @Info(category = CATEGORY_STORAGE, description = "Storage event topic")
@@ -228,6 +246,14 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
             return null;
         });
 
+        if (!readOnlyModeEnabled) {
+            backfillDereferencedContentHashes();
+        }
+
+        if (initDB && substringSearchIndexesEnabled) {
+            createSubstringSearchIndexes();
+        }
+
         // If using H2, we need to initialize the sequence counters by querying for
         // the current max value of each in the DB.
         if (isH2()) {
@@ -344,6 +370,34 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
         log.debug("---");
     }
 
+    /**
+     * Creates the optional substring search indexes. Failures (e.g. missing privileges to create a database
+     * extension) are logged and do not prevent the storage from starting, since the indexes only affect
+     * search performance.
+     */
+    private void createSubstringSearchIndexes() {
+        final List<String> statements = this.sqlStatements.substringSearchIndexes();
+        if (statements.isEmpty()) {
+            log.info("Substring search indexes are not supported for database type {}, skipping.",
+                    this.sqlStatements.dbType());
+            return;
+        }
+        log.info("Creating substring search indexes.");
+        for (String statement : statements) {
+            try {
+                handles.withHandleNoException(handle -> {
+                    log.debug(statement);
+                    handle.createUpdate(statement).execute();
+                    return null;
+                });
+            } catch (Exception ex) {
+                log.warn("Failed to create substring search index, search will fall back to a full scan: {}",
+                        statement, ex);
+                return;
+            }
+        }
+    }
+
     /**
      * Upgrades the database by executing a number of DDL statements found in DB-specific DDL upgrade scripts.
      */
@@ -372,6 +426,32 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
         log.debug("---");
     }
 
+    /**
+     * Computes the dereferenced content hashes of the content that existed before the database was
+     * upgraded, which the DDL upgrade scripts cannot do. Only done once per database: the upgrade scripts
+     * insert a property that is deleted once the hashes have been computed.
+     */
+    private void backfillDereferencedContentHashes() {
+        try {
+            handles.withHandleNoException(handle -> {
+                Optional<String> pending = handle.createQuery(sqlStatements.selectDatabaseProperty())
+                        .bind(0, DEREFERENCED_CONTENT_HASH_BACKFILL_PROPERTY).mapTo(String.class).findOne();
+                if (pending.isPresent()) {
+                    log.info("Computing the dereferenced content hashes of existing content.");
+                    int count = contentRepository.updateDereferencedContentHashesRaw(handle,
+                            ArtifactType.AVRO);
+                    log.info("\tUpdated content: {}", count);
+                    handle.createUpdate(sqlStatements.deleteDatabaseProperty())
+                            .bind(0, DEREFERENCED_CONTENT_HASH_BACKFILL_PROPERTY).execute();
+                }
+                return null;
+            });
+        } catch (Exception ex) {
+            log.warn("Could not compute the dereferenced content hashes of existing content: {}",
+                    ex.getMessage());
+        }
+    }
+
     /**
      * Instantiates an instance of the given upgrader class and then invokes it. Used to perform advanced
      * upgrade logic when upgrading the DB (logic that cannot be handled in simple SQL statements).
@@ -487,15 +567,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
             ? EditableArtifactMetaDataDto.builder().build() : artifactMetaData;
 
         // Create the group if it doesn't exist yet.
-        if (groupId != null && !isGroupExists(groupId)) {
-            if (enableAutomaticGroupCreation) {
-                // Only create group metadata for non-default groups.
-                ensureGroup(GroupMetaDataDto.builder().groupId(groupId).createdOn(createdOn.getTime())
-                        .modifiedOn(createdOn.getTime()).owner(owner).modifiedBy(owner).build());
-            } else {
-                throw new GroupNotFoundException(groupId);
-            }
-        }
+        ensureArtifactGroup(groupId, owner, createdOn);
 
         // Ensure the content exists. If this is a dryRun, or if the create fails, this
         // could result in orphaned content. That's OK because we have an async process
@@ -514,32 +586,9 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
                     handle.setRollback(true);
                 }
 
-                Map<String, String> labels = amd.getLabels();
-                String labelsStr = RegistryContentUtils.serializeLabels(labels);
-
                 // Create a row in the artifacts table.
-                handle.createUpdate(sqlStatements.insertArtifact()).bind(0, normalizeGroupId(groupId))
-                        .bind(1, artifactId).bind(2, artifactType).bind(3, owner).bind(4, createdOn)
-                        .bind(5, owner) // modifiedBy
-                        .bind(6, createdOn) // modifiedOn
-                        .bind(7, limitStr(amd.getName(), 512))
-                        .bind(8, limitStr(amd.getDescription(), 1024, true)).bind(9, labelsStr).execute();
-
-                // Insert labels into the "artifact_labels" table
-                if (labels != null && !labels.isEmpty()) {
-                    labels.forEach((k, v) -> {
-                        handle.createUpdate(sqlStatements.insertArtifactLabel())
-                                .bind(0, normalizeGroupId(groupId)).bind(1, artifactId)
-                                .bind(2, limitStr(k.toLowerCase(), 256))
-                                .bind(3, limitStr(v.toLowerCase(), 512)).execute();
-                    });
-                }
-
-                // Return an artifact metadata dto
-                ArtifactMetaDataDto amdDto = ArtifactMetaDataDto.builder().groupId(groupId)
-                        .artifactId(artifactId).name(amd.getName()).description(amd.getDescription())
-                        .createdOn(createdOn.getTime()).owner(owner).modifiedOn(createdOn.getTime())
-                        .modifiedBy(owner).artifactType(artifactType).labels(labels).build();
+                ArtifactMetaDataDto amdDto = createArtifactRaw(handle, groupId, artifactId, artifactType, amd,
+                        owner, createdOn);
 
                 // The artifact was successfully created! Create the version as well, if one was included.
                 ImmutablePair<ArtifactMetaDataDto, ArtifactVersionMetaDataDto> pair;
@@ -565,6 +614,53 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
         }
     }
 
+    /**
+     * Creates the group of an artifact that is about to be created, if it does not exist yet and automatic
+     * group creation is enabled.
+     */
+    private void ensureArtifactGroup(String groupId, String owner, Date createdOn) {
+        if (groupId != null && !isGroupExists(groupId)) {
+            if (enableAutomaticGroupCreation) {
+                // Only create group metadata for non-default groups.
+                ensureGroup(GroupMetaDataDto.builder().groupId(groupId).createdOn(createdOn.getTime())
+                        .modifiedOn(createdOn.getTime()).owner(owner).modifiedBy(owner).build());
+            } else {
+                throw new GroupNotFoundException(groupId);
+            }
+        }
+    }
+
+    /**
+     * Inserts the row of a new artifact and its labels, and returns the metadata of the artifact.
+     */
+    private ArtifactMetaDataDto createArtifactRaw(Handle handle, String groupId, String artifactId,
+            String artifactType, EditableArtifactMetaDataDto amd, String owner, Date createdOn) {
+        Map<String, String> labels = amd.getLabels();
+        String labelsStr = RegistryContentUtils.serializeLabels(labels);
+
+        handle.createUpdate(sqlStatements.insertArtifact()).bind(0, normalizeGroupId(groupId))
+                .bind(1, artifactId).bind(2, artifactType).bind(3, owner).bind(4, createdOn)
+                .bind(5, owner) // modifiedBy
+                .bind(6, createdOn) // modifiedOn
+                .bind(7, limitStr(amd.getName(), 512))
+                .bind(8, limitStr(amd.getDescription(), 1024, true)).bind(9, labelsStr).execute();
+
+        // Insert labels into the "artifact_labels" table
+        if (labels != null && !labels.isEmpty()) {
+            labels.forEach((k, v) -> {
+                handle.createUpdate(sqlStatements.insertArtifactLabel())
+                        .bind(0, normalizeGroupId(groupId)).bind(1, artifactId)
+                        .bind(2, limitStr(k.toLowerCase(), 256))
+                        .bind(3, limitStr(v.toLowerCase(), 512)).execute();
+            });
+        }
+
+        return ArtifactMetaDataDto.builder().groupId(groupId).artifactId(artifactId).name(amd.getName())
+                .description(amd.getDescription()).createdOn(createdOn.getTime()).owner(owner)
+                .modifiedOn(createdOn.getTime()).modifiedBy(owner).artifactType(artifactType).labels(labels)
+                .build();
+    }
+
     private ArtifactVersionMetaDataDto createArtifactVersionRaw(Handle handle, boolean firstVersion,
             String groupId, String artifactId, String version, EditableVersionMetaDataDto metaData,
             String owner, Date createdOn, Long contentId, List<String> branches, boolean isDraft) {
@@ -694,6 +790,105 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
         }
     }
 
+    @Override
+    public VersionRegistrationDto createArtifactVersionIfAbsent(String groupId, String artifactId,
+            String artifactType, ContentWrapperDto content, boolean canonical, String owner,
+            int expectedBaseVersionOrder) throws CommitFailedException, RegistryStorageException {
+
+        log.debug("Registering content under {} {} unless already present.", groupId, artifactId);
+
+        Date createdOn = new Date();
+
+        // Put the content in the DB and get the unique content ID back. This is where the content and
+        // canonical hashes are computed, the lookup below compares the stored hashes.
+        long contentId = ensureContentAndGetId(artifactType, content, false);
+
+        try {
+            return createArtifactVersionIfAbsentRaw(groupId, artifactId, artifactType, contentId, canonical,
+                    owner, createdOn, expectedBaseVersionOrder);
+        } catch (CommitFailedException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            if (sqlStatements.isPrimaryKeyViolation(ex)) {
+                // A concurrent registration created the artifact first. It now exists, so trying again
+                // locks it and either finds the version created concurrently, or fails the base version
+                // check so that the caller applies the rules again against that version.
+                log.debug("Artifact {} {} created concurrently, retrying registration.", groupId, artifactId);
+                return createArtifactVersionIfAbsentRaw(groupId, artifactId, artifactType, contentId,
+                        canonical, owner, createdOn, expectedBaseVersionOrder);
+            }
+            throw ex;
+        }
+    }
+
+    private VersionRegistrationDto createArtifactVersionIfAbsentRaw(String groupId, String artifactId,
+            String artifactType, long contentId, boolean canonical, String owner, Date createdOn,
+            int expectedBaseVersionOrder) {
+        // Outside of the transaction: a failure to create the group concurrently must not roll it back
+        ensureArtifactGroup(groupId, owner, createdOn);
+
+        return handles.withHandle(handle -> {
+            ArtifactMetaDataDto createdArtifact = null;
+
+            // Lock the artifact row, so that concurrent registrations under the same artifact are serialized
+            Optional<String> existingType = handle.createQuery(sqlStatements.selectArtifactTypeForUpdate())
+                    .bind(0, normalizeGroupId(groupId)).bind(1, artifactId).mapTo(String.class).findOne();
+
+            if (existingType.isPresent()) {
+                // Identical content is stored only once, so its ID identifies it unless canonical matching
+                Optional<ArtifactVersionMetaDataDto> existingVersion;
+                if (canonical) {
+                    existingVersion = handle
+                            .createQuery(sqlStatements.selectArtifactVersionMetaDataByCanonicalHashOfContentId())
+                            .bind(0, normalizeGroupId(groupId)).bind(1, artifactId)
+                            .bind(2, VersionState.DISABLED.name()).bind(3, contentId).bind(4, contentId)
+                            .map(ArtifactVersionMetaDataDtoMapper.instance).findFirst();
+                } else {
+                    existingVersion = handle
+                            .createQuery(sqlStatements.selectArtifactVersionMetaDataByStateAndContentId())
+                            .bind(0, normalizeGroupId(groupId)).bind(1, artifactId)
+                            .bind(2, VersionState.DISABLED.name()).bind(3, contentId)
+                            .map(ArtifactVersionMetaDataDtoMapper.instance).findFirst();
+                }
+                if (existingVersion.isPresent()) {
+                    return VersionRegistrationDto.builder().version(existingVersion.get()).build();
+                }
+
+                // Reject if a version was added since the caller applied the rules
+                int currentMax = handle.createQuery(sqlStatements.selectMaxVersionOrderForUpdate())
+                        .bind(0, normalizeGroupId(groupId)).bind(1, artifactId).mapTo(Integer.class)
+                        .findFirst().orElse(0);
+                if (currentMax != expectedBaseVersionOrder) {
+                    throw new CommitFailedException(groupId, artifactId,
+                            "Concurrent registration detected: expected versionOrder "
+                                    + expectedBaseVersionOrder + " but found " + currentMax);
+                }
+            } else {
+                if (expectedBaseVersionOrder != 0) {
+                    throw new CommitFailedException(groupId, artifactId,
+                            "Concurrent registration detected: expected versionOrder "
+                                    + expectedBaseVersionOrder + " but the artifact does not exist");
+                }
+                // Fails with a primary key violation if the artifact is created concurrently
+                createdArtifact = createArtifactRaw(handle, groupId, artifactId, artifactType,
+                        EditableArtifactMetaDataDto.builder().build(), owner, createdOn);
+            }
+
+            boolean isFirstVersion = createdArtifact != null
+                    || countArtifactVersionsRaw(handle, groupId, artifactId) == 0;
+            ArtifactVersionMetaDataDto versionDto = createArtifactVersionRaw(handle, isFirstVersion, groupId,
+                    artifactId, null, EditableVersionMetaDataDto.builder().build(), owner, createdOn,
+                    contentId, List.of(), false);
+
+            if (createdArtifact != null) {
+                outboxEvent.fire(SqlOutboxEvent.of(ArtifactCreated.of(createdArtifact)));
+            }
+
+            return VersionRegistrationDto.builder().version(versionDto).createdArtifact(createdArtifact)
+                    .versionCreated(true).build();
+        });
+    }
+
     @Override
     public long countActiveArtifactVersions(String groupId, String artifactId)
             throws RegistryStorageException {
@@ -733,6 +928,13 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
                 references);
     }
 
+    @Override
+    public ArtifactVersionMetaDataDto getArtifactVersionMetaDataByDereferencedContent(String groupId,
+            String artifactId, TypedContent content) throws ArtifactNotFoundException, RegistryStorageException {
+
+        return versionRepository.getArtifactVersionMetaDataByDereferencedContent(groupId, artifactId, content);
+    }
+
     @Override
     public void updateArtifactMetaData(String groupId, String artifactId,
             EditableArtifactMetaDataDto metaData) throws ArtifactNotFoundException, RegistryStorageException {
@@ -844,6 +1046,14 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
         return searchRepository.searchVersions(filters, orderBy, orderDirection, offset, limit);
     }
 
+    @Override
+    public List<VersionContentDto> searchVersionContents(String artifactIdPrefix, boolean includeDisabled,
+            boolean latestOnly, int offset, int limit) throws RegistryStorageException {
+
+        return searchRepository.searchVersionContents(artifactIdPrefix, includeDisabled, latestOnly, offset,
+                limit);
+    }
+
     @Override
     public StoredArtifactVersionDto getArtifactVersionContent(long globalId)
             throws ArtifactNotFoundException, RegistryStorageException {
@@ -1166,8 +1376,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
 
         DataImporter dataImporter = new SqlDataImporter(log, utils, this, preserveGlobalId,
                 preserveContentId);
-        dataImporter.importData(entities, () -> {
-        });
+        dataImporter.importData(entities, this::updateDereferencedContentHashes);
     }
 
     @Override
@@ -1175,8 +1384,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
 
         DataImporter dataImporter = new SqlDataUpgrader(log, utils, this, preserveGlobalId,
                 preserveContentId);
-        dataImporter.importData(entities, () -> {
-        });
+        dataImporter.importData(entities, this::updateDereferencedContentHashes);
     }
 
     @Override
@@ -1380,12 +1588,24 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
         versionRepository.importArtifactVersion(entity);
     }
 
+    @Override
+    public void importArtifactVersions(List<ArtifactVersionEntity> entities) {
+
+        versionRepository.importArtifactVersions(entities);
+    }
+
     @Override
     public void importContent(ContentEntity entity) {
 
         contentRepository.importContent(entity);
     }
 
+    @Override
+    public void importContents(List<ContentEntity> entities) {
+
+        contentRepository.importContents(entities);
+    }
+
     @Override
     public void importGlobalRule(GlobalRuleEntity entity) {
 
@@ -1459,6 +1679,17 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
         contentRepository.updateContentCanonicalHash(newCanonicalHash, contentId, contentHash);
     }
 
+    @Override
+    public void updateDereferencedContentHashes() throws RegistryStorageException {
+
+        int count = handles.withHandleNoException(handle -> {
+            return contentRepository.updateDereferencedContentHashesRaw(handle, ArtifactType.AVRO);
+        });
+        if (count > 0) {
+            log.info("Computed the dereferenced content hashes of {} content rows.", count);
+        }
+    }
+
     @Override
     public Optional<Long> contentIdFromHash(String contentHash) {
 
@@ -65,6 +65,14 @@ public abstract class CommonSqlStatements implements SqlStatements {
         return statements;
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#substringSearchIndexes()
+     */
+    @Override
+    public List<String> substringSearchIndexes() {
+        return List.of();
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#getDatabaseVersion()
      */
@@ -73,6 +81,22 @@ public abstract class CommonSqlStatements implements SqlStatements {
         return "SELECT a.propValue FROM apicurio a WHERE a.propName = ?";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectDatabaseProperty()
+     */
+    @Override
+    public String selectDatabaseProperty() {
+        return "SELECT a.propValue FROM apicurio a WHERE a.propName = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#deleteDatabaseProperty()
+     */
+    @Override
+    public String deleteDatabaseProperty() {
+        return "DELETE FROM apicurio WHERE propName = ?";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#insertGlobalRule()
      */
@@ -208,6 +232,34 @@ public abstract class CommonSqlStatements implements SqlStatements {
                 + "ORDER BY v.versionOrder DESC FOR UPDATE";
     }
 
+    @Override
+    public String selectArtifactTypeForUpdate() {
+        return "SELECT a.type FROM artifacts a WHERE a.groupId = ? AND a.artifactId = ? FOR UPDATE";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionMetaDataByCanonicalHashOfContentId()
+     */
+    @Override
+    public String selectArtifactVersionMetaDataByCanonicalHashOfContentId() {
+        return "SELECT v.*, a.type FROM versions v " + "JOIN content c ON v.contentId = c.contentId "
+                + "JOIN artifacts a ON v.groupId = a.groupId AND v.artifactId = a.artifactId "
+                + "WHERE v.groupId = ? AND v.artifactId = ? AND v.state != ? "
+                + "AND c.canonicalHash = (SELECT c2.canonicalHash FROM content c2 WHERE c2.contentId = ?) "
+                + "ORDER BY CASE WHEN v.contentId = ? THEN 0 ELSE 1 END, v.globalId DESC";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionMetaDataByStateAndContentId()
+     */
+    @Override
+    public String selectArtifactVersionMetaDataByStateAndContentId() {
+        return "SELECT v.*, a.type FROM versions v "
+                + "JOIN artifacts a ON v.groupId = a.groupId AND v.artifactId = a.artifactId "
+                + "WHERE v.groupId = ? AND v.artifactId = ? AND v.state != ? AND v.contentId = ? "
+                + "ORDER BY v.globalId DESC";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionMetaDataByContentHash()
      */
@@ -236,6 +288,16 @@ public abstract class CommonSqlStatements implements SqlStatements {
                 + "WHERE v.groupId = ? AND v.artifactId = ? AND c.canonicalHash = ? ORDER BY v.globalId DESC";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionMetaDataByDereferencedHash()
+     */
+    @Override
+    public String selectArtifactVersionMetaDataByDereferencedHash() {
+        return "SELECT v.*, a.type FROM versions v " + "JOIN content c ON v.contentId = c.contentId "
+                + "JOIN artifacts a ON v.groupId = a.groupId AND v.artifactId = a.artifactId "
+                + "WHERE v.groupId = ? AND v.artifactId = ? AND c.derefHash = ? ORDER BY v.globalId DESC";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionContentByGlobalId()
      */
@@ -681,12 +743,30 @@ public abstract class CommonSqlStatements implements SqlStatements {
         return "UPDATE content SET canonicalHash = ? WHERE contentId = ? AND contentHash = ?";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#updateContentDereferencedHash()
+     */
+    @Override
+    public String updateContentDereferencedHash() {
+        return "UPDATE content SET derefHash = ? WHERE contentId = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectContentMissingDereferencedHash()
+     */
+    @Override
+    public String selectContentMissingDereferencedHash() {
+        return "SELECT c.contentId, c.contentHash, c.contentType, c.content, c.refs FROM content c "
+                + "WHERE c.derefHash IS NULL AND c.contentId IN (SELECT v.contentId FROM versions v "
+                + "JOIN artifacts a ON v.groupId = a.groupId AND v.artifactId = a.artifactId WHERE a.type = ?)";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#insertContent()
      */
     @Override
     public String insertContent() {
-        return "INSERT INTO content (contentId, canonicalHash, contentHash, contentType, content, refs) VALUES (?, ?, ?, ?, ?, ?)";
+        return "INSERT INTO content (contentId, canonicalHash, contentHash, contentType, content, refs, derefHash) VALUES (?, ?, ?, ?, ?, ?, ?)";
     }
 
     /**
@@ -1396,7 +1476,7 @@ public abstract class CommonSqlStatements implements SqlStatements {
      */
     @Override
     public String selectAllVersionsWithContent() {
-        return "SELECT v.*, a.type, c.content FROM versions v "
+        return "SELECT v.*, a.type, c.content, c.refs FROM versions v "
                 + "JOIN artifacts a ON v.groupId = a.groupId AND v.artifactId = a.artifactId "
                 + "JOIN content c ON v.contentId = c.contentId "
                 + "ORDER BY v.globalId ASC";
@@ -1407,7 +1487,7 @@ public abstract class CommonSqlStatements implements SqlStatements {
      */
     @Override
     public String selectVersionsWithContentModifiedSince() {
-        return "SELECT v.*, a.type, c.content FROM versions v "
+        return "SELECT v.*, a.type, c.content, c.refs FROM versions v "
                 + "JOIN artifacts a ON v.groupId = a.groupId AND v.artifactId = a.artifactId "
                 + "JOIN content c ON v.contentId = c.contentId "
                 + "WHERE v.modifiedOn >= ? "
@@ -1,5 +1,7 @@
 package io.apicurio.registry.storage.impl.sql;
 
+import java.util.List;
+
 /**
  * PostgreSQL implementation of the sql statements interface. Provides sql statements that are specific to
  * PostgreSQL, where applicable.
@@ -36,6 +38,24 @@ public class PostgreSQLSqlStatements extends CommonSqlStatements {
         return error.getMessage().contains("violates foreign key constraint");
     }
 
+    /**
+     * Trigram GIN indexes can be used by PostgreSQL to evaluate <code>LIKE '%value%'</code> predicates,
+     * which cannot use the regular btree indexes.
+     *
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#substringSearchIndexes()
+     */
+    @Override
+    public List<String> substringSearchIndexes() {
+        return List.of(
+                "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+                "CREATE INDEX IF NOT EXISTS IDX_artifacts_trgm_1 ON artifacts USING GIN (name gin_trgm_ops)",
+                "CREATE INDEX IF NOT EXISTS IDX_artifacts_trgm_2 ON artifacts USING GIN (description gin_trgm_ops)",
+                "CREATE INDEX IF NOT EXISTS IDX_artifacts_trgm_3 ON artifacts USING GIN (artifactId gin_trgm_ops)",
+                "CREATE INDEX IF NOT EXISTS IDX_versions_trgm_1 ON versions USING GIN (name gin_trgm_ops)",
+                "CREATE INDEX IF NOT EXISTS IDX_versions_trgm_2 ON versions USING GIN (description gin_trgm_ops)",
+                "CREATE INDEX IF NOT EXISTS IDX_groups_trgm_1 ON groups USING GIN (description gin_trgm_ops)");
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#getNextSequenceValue()
      */
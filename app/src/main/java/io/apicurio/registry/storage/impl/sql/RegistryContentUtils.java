@@ -130,7 +130,7 @@ public class RegistryContentUtils {
      * The contentIds are distinct and sorted in natural order.
      */
     public static List<Long> recursivelyResolveReferenceContentIds(
-            StoredArtifactVersionDto root,
+            HasReferences root,
             Function<ArtifactReferenceDto, StoredArtifactVersionDto> loader
     ) {
         return recursivelyResolveReferencesGeneric(
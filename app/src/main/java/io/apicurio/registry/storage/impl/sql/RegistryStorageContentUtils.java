@@ -3,6 +3,7 @@ package io.apicurio.registry.storage.impl.sql;
 import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
+import io.apicurio.registry.types.ArtifactType;
 import io.apicurio.registry.types.RegistryException;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
 import io.apicurio.registry.util.ArtifactTypeUtil;
@@ -103,6 +104,33 @@ public class RegistryStorageContentUtils {
         }
     }
 
+    /**
+     * Computes the hash of the content with all of its references inlined. It is used to find the version
+     * matching a schema whose references were inlined by the client, which is only supported for Avro.
+     * If the content cannot be dereferenced, the hash of the content itself is returned.
+     *
+     * @param resolvedReferences may be empty
+     * @return the dereferenced content hash, or null if the artifact type does not support this lookup
+     */
+    public String getDereferencedContentHash(TypedContent content, String artifactType,
+            Map<String, TypedContent> resolvedReferences) {
+        if (!isDereferencedContentHashSupported(artifactType)) {
+            return null;
+        }
+        try {
+            TypedContent dereferencedContent = factory.getArtifactTypeProvider(artifactType)
+                    .getContentDereferencer().dereference(content, resolvedReferences);
+            return DigestUtils.sha256Hex(dereferencedContent.getContent().bytes());
+        } catch (Exception ex) {
+            log.debug("Failed to dereference content: {}", artifactType);
+            return DigestUtils.sha256Hex(content.getContent().bytes());
+        }
+    }
+
+    public boolean isDereferencedContentHashSupported(String artifactType) {
+        return ArtifactType.AVRO.equals(artifactType);
+    }
+
     private byte[] concatContentAndReferences(byte[] contentBytes, String references) throws IOException {
         if (references != null && !references.isEmpty()) {
             var referencesBytes = ContentHandle.create(references).bytes();
@@ -142,6 +142,12 @@ public class SQLServerSqlStatements extends CommonSqlStatements {
                 + "ORDER BY v.versionOrder DESC";
     }
 
+    @Override
+    public String selectArtifactTypeForUpdate() {
+        return "SELECT a.type FROM artifacts a WITH (UPDLOCK, ROWLOCK) "
+                + "WHERE a.groupId = ? AND a.artifactId = ?";
+    }
+
     @Override
     public String createDataSnapshot() {
         throw new IllegalStateException("Snapshot creation is not supported for Sqlserver storage");
@@ -43,11 +43,30 @@ public interface SqlStatements {
      */
     public List<String> databaseUpgrade(int fromVersion, int toVersion);
 
+    /**
+     * An optional sequence of statements that create indexes supporting substring search (e.g.
+     * <code>LIKE '%value%'</code>) over names, descriptions and artifact IDs. These statements are
+     * idempotent and are not part of the versioned DDL, because they may require database extensions or
+     * privileges that are not available in every deployment. Returns an empty list if the database does not
+     * support such indexes.
+     */
+    public List<String> substringSearchIndexes();
+
     /**
      * A statement that returns the current DB version (pulled from the "apicurio" attribute table).
      */
     public String getDatabaseVersion();
 
+    /**
+     * A statement that returns the value of a property of the "apicurio" attribute table.
+     */
+    public String selectDatabaseProperty();
+
+    /**
+     * A statement that deletes a property from the "apicurio" attribute table.
+     */
+    public String deleteDatabaseProperty();
+
     /**
      * A statement used to insert a row into the globalrules table.
      */
@@ -120,6 +139,11 @@ public interface SqlStatements {
      */
     public String selectArtifactVersionMetaDataByCanonicalHash();
 
+    /**
+     * A statement used to select the versions of an artifact by dereferenced content hash.
+     */
+    public String selectArtifactVersionMetaDataByDereferencedHash();
+
     /**
      * A statement to select the content of an artifact version from the versions table by globalId.
      */
@@ -186,6 +210,17 @@ public interface SqlStatements {
      */
     public String updateContentCanonicalHash();
 
+    /**
+     * A statement to update the derefHash value in a row in the "content" table.
+     */
+    public String updateContentDereferencedHash();
+
+    /**
+     * A statement to select the content without a dereferenced content hash used by artifacts of a given
+     * type.
+     */
+    public String selectContentMissingDereferencedHash();
+
     /**
      * A statement to get a single artifact (latest version) meta-data by artifactId.
      */
@@ -503,6 +538,24 @@ public interface SqlStatements {
      */
     public String selectMaxVersionOrderForUpdate();
 
+    /**
+     * A statement to get the type of an artifact while locking its row until the end of the transaction.
+     */
+    public String selectArtifactTypeForUpdate();
+
+    /**
+     * A statement to get the metadata of the versions of an artifact, in a given state or not, whose content
+     * has the same canonical hash as the content with the given ID. The version of that exact content, if
+     * any, is returned first.
+     */
+    public String selectArtifactVersionMetaDataByCanonicalHashOfContentId();
+
+    /**
+     * A statement to get the metadata of the versions of an artifact, in a given state or not, whose content
+     * is the content with the given ID.
+     */
+    public String selectArtifactVersionMetaDataByStateAndContentId();
+
     /*
      * The next few statements support globalId and contentId management.
      */
@@ -0,0 +1,27 @@
+package io.apicurio.registry.storage.impl.sql.jdb;
+
+/**
+ * An update statement executed once for each of several sets of parameters, using a single JDBC batch.
+ * Bind the parameters of a row and call {@link #add()}, then call {@link #execute()} once all rows have
+ * been added.
+ */
+public interface Batch extends Sql<Batch> {
+
+    /**
+     * Adds the currently bound parameters as a row of the batch, and clears them for the next row.
+     */
+    public Batch add();
+
+    /**
+     * Returns the number of rows added to the batch so far.
+     */
+    public int size();
+
+    /**
+     * Executes the statement for all rows of the batch.
+     *
+     * @return the update counts, one per row
+     */
+    public int[] execute();
+
+}
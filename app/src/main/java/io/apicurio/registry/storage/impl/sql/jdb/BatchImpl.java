@@ -0,0 +1,60 @@
+package io.apicurio.registry.storage.impl.sql.jdb;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchImpl extends SqlImpl<Batch> implements Batch {
+
+    private final List<List<SqlParam>> rows = new ArrayList<>();
+
+    /**
+     * Constructor.
+     * 
+     * @param connection
+     * @param sql
+     */
+    public BatchImpl(Connection connection, String sql) {
+        super(connection, sql);
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Batch#add()
+     */
+    @Override
+    public Batch add() {
+        rows.add(new ArrayList<>(parameters));
+        parameters.clear();
+        return this;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Batch#size()
+     */
+    @Override
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Batch#execute()
+     */
+    @Override
+    public int[] execute() {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (List<SqlParam> row : rows) {
+                row.forEach(param -> param.bindTo(statement));
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        } catch (SQLException e) {
+            throw new RuntimeSqlException(e);
+        }
+    }
+
+}
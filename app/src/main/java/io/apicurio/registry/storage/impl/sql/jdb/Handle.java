@@ -18,6 +18,13 @@ public interface Handle extends Closeable {
      */
     Update createUpdate(String sql);
 
+    /**
+     * Create a new batch of Update statements from the given SQL.
+     * 
+     * @param sql
+     */
+    Batch prepareBatch(String sql);
+
     /**
      * Set the rollback status of this handle. If set to true, the database transaction will be rolled back
      * instead of commited.
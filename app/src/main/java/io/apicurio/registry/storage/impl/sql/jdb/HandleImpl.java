@@ -52,6 +52,15 @@ public class HandleImpl implements Handle {
         return update;
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Handle#prepareBatch(java.lang.String)
+     */
+    @Override
+    public Batch prepareBatch(String sql) {
+        BatchImpl batch = new BatchImpl(connection, sql);
+        return batch;
+    }
+
     @Override
     public void setRollback(boolean rollback) {
         this.rollback = rollback;
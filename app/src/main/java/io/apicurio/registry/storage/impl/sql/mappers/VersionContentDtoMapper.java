@@ -39,6 +39,7 @@ public class VersionContentDtoMapper implements RowMapper<VersionContentDto> {
         dto.setArtifactType(rs.getString("type"));
         dto.setLabels(RegistryContentUtils.deserializeLabels(rs.getString("labels")));
         dto.setContent(ContentHandle.create(rs.getBytes("content")));
+        dto.setReferences(RegistryContentUtils.deserializeReferences(rs.getString("refs")));
         return dto;
     }
 }
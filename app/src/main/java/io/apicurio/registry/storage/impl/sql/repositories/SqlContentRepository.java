@@ -13,6 +13,7 @@ import io.apicurio.registry.storage.impl.sql.RegistryContentUtils;
 import io.apicurio.registry.utils.impexp.v3.ContentEntity;
 import io.apicurio.registry.storage.impl.sql.HandleFactory;
 import io.apicurio.registry.storage.impl.sql.SqlStatements;
+import io.apicurio.registry.storage.impl.sql.jdb.Batch;
 import io.apicurio.registry.storage.impl.sql.jdb.Handle;
 import io.apicurio.registry.storage.impl.sql.mappers.ArtifactReferenceDtoMapper;
 import io.apicurio.registry.storage.impl.sql.mappers.ArtifactVersionMetaDataDtoMapper;
@@ -30,7 +31,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.apicurio.registry.storage.impl.sql.RegistryContentUtils.normalizeGroupId;
@@ -156,7 +156,8 @@ public class SqlContentRepository {
      * Insert content into the database.
      */
     public void ensureContent(Handle handle, long contentId, TypedContent content, String contentHash,
-            String canonicalContentHash, List<ArtifactReferenceDto> references, String referencesSerialized) {
+            String canonicalContentHash, String dereferencedContentHash, List<ArtifactReferenceDto> references,
+            String referencesSerialized) {
         try {
             handle.createUpdate(sqlStatements.insertContent())
                     .bind(0, contentId)
@@ -165,6 +166,7 @@ public class SqlContentRepository {
                     .bind(3, content.getContentType())
                     .bind(4, content.getContent().bytes())
                     .bind(5, referencesSerialized)
+                    .bind(6, dereferencedContentHash)
                     .execute();
         } catch (Exception e) {
             if (sqlStatements.isPrimaryKeyViolation(e)) {
@@ -219,6 +221,39 @@ public class SqlContentRepository {
         });
     }
 
+    /**
+     * Compute the missing dereferenced content hashes of all content used by artifacts of the given type.
+     * Used to backfill the hashes after a database upgrade or a data import.
+     *
+     * @return the number of updated content rows
+     */
+    public int updateDereferencedContentHashesRaw(Handle handle, String artifactType) {
+        if (!utils.isDereferencedContentHashSupported(artifactType)) {
+            return 0;
+        }
+        List<Map.Entry<Long, ContentWrapperDto>> contents = handle
+                .createQuery(sqlStatements.selectContentMissingDereferencedHash())
+                .bind(0, artifactType)
+                .map(ContentWithIdMapper.instance).list();
+        return updateDereferencedContentHashesRaw(handle, artifactType, contents);
+    }
+
+    private int updateDereferencedContentHashesRaw(Handle handle, String artifactType,
+            List<Map.Entry<Long, ContentWrapperDto>> contents) {
+        for (Map.Entry<Long, ContentWrapperDto> entry : contents) {
+            ContentWrapperDto contentDto = entry.getValue();
+            TypedContent content = TypedContent.create(contentDto.getContent(), contentDto.getContentType());
+            String dereferencedContentHash = utils.getDereferencedContentHash(content, artifactType,
+                    resolveReferencesRaw(handle, contentDto.getReferences()));
+            handle.createUpdate(sqlStatements.updateContentDereferencedHash())
+                    .bind(0, dereferencedContentHash).bind(1, entry.getKey()).execute();
+        }
+        if (!contents.isEmpty()) {
+            log.debug("Computed the dereferenced content hash of {} content rows", contents.size());
+        }
+        return contents.size();
+    }
+
     /**
      * Get enabled artifact content IDs.
      */
@@ -534,6 +569,47 @@ public class SqlContentRepository {
         });
     }
 
+    /**
+     * Import a batch of content entities using a single JDBC batch per table. The batch is imported
+     * atomically: if any of the entities already exists, nothing is imported.
+     */
+    public void importContents(List<ContentEntity> entities) {
+        handles.withHandleNoException(handle -> {
+            Batch contentBatch = handle.prepareBatch(sqlStatements.importContent());
+            Batch referencesBatch = handle.prepareBatch(sqlStatements.insertContentReference());
+            for (ContentEntity entity : entities) {
+                if (isContentExistsRaw(handle, entity.contentId)) {
+                    throw new ContentAlreadyExistsException(entity.contentId);
+                }
+                contentBatch
+                        .bind(0, entity.contentId)
+                        .bind(1, entity.canonicalHash)
+                        .bind(2, entity.contentHash)
+                        .bind(3, entity.contentType)
+                        .bind(4, entity.contentBytes)
+                        .bind(5, entity.serializedReferences)
+                        .add();
+
+                List<ArtifactReferenceDto> references = RegistryContentUtils
+                        .deserializeReferences(entity.serializedReferences);
+                if (references != null) {
+                    for (ArtifactReferenceDto reference : references) {
+                        referencesBatch
+                                .bind(0, entity.contentId)
+                                .bind(1, normalizeGroupId(reference.getGroupId()))
+                                .bind(2, reference.getArtifactId())
+                                .bind(3, reference.getVersion())
+                                .bind(4, reference.getName())
+                                .add();
+                    }
+                }
+            }
+            contentBatch.execute();
+            referencesBatch.execute();
+            return null;
+        });
+    }
+
     /**
      * Check if the registry is empty (no content stored).
      */
@@ -582,6 +658,7 @@ public class SqlContentRepository {
         TypedContent content = TypedContent.create(contentDto.getContent(), contentDto.getContentType());
         String contentHash;
         String canonicalContentHash;
+        String dereferencedContentHash;
         String serializedReferences;
 
         // Need to create the content hash and canonical content hash. If the content is DRAFT
@@ -591,28 +668,32 @@ public class SqlContentRepository {
         if (isDraft && !draftProductionMode) {
             contentHash = "draft:" + UUID.randomUUID().toString();
             canonicalContentHash = "draft:" + UUID.randomUUID().toString();
+            dereferencedContentHash = "draft:" + UUID.randomUUID().toString();
             serializedReferences = notEmpty(references)
                     ? RegistryContentUtils.serializeReferences(references) : null;
         } else if (notEmpty(references)) {
             final List<ArtifactReferenceDto> finalReferences = references;
-            Function<List<ArtifactReferenceDto>, Map<String, TypedContent>> referenceResolver = (refs) -> {
-                return handles.withHandle(handle -> {
-                    return resolveReferencesRaw(handle, refs);
-                });
-            };
+            // Resolve the references once, they are needed for both the canonical and dereferenced hashes.
+            final Map<String, TypedContent> resolvedReferences = handles.withHandle(handle -> {
+                return resolveReferencesRaw(handle, finalReferences);
+            });
             contentHash = utils.getContentHash(content, finalReferences);
             canonicalContentHash = utils.getCanonicalContentHash(content, artifactType, finalReferences,
-                    referenceResolver);
+                    refs -> resolvedReferences);
+            dereferencedContentHash = utils.getDereferencedContentHash(content, artifactType,
+                    resolvedReferences);
             serializedReferences = RegistryContentUtils.serializeReferences(finalReferences);
         } else {
             contentHash = utils.getContentHash(content, null);
             canonicalContentHash = utils.getCanonicalContentHash(content, artifactType, null, null);
+            dereferencedContentHash = utils.getDereferencedContentHash(content, artifactType, Map.of());
             serializedReferences = null;
         }
 
         // Ensure the content is in the DB.
         final String finalContentHash = contentHash;
         final String finalCanonicalContentHash = canonicalContentHash;
+        final String finalDereferencedContentHash = dereferencedContentHash;
         final String finalSerializedReferences = serializedReferences;
         final List<ArtifactReferenceDto> finalReferences = references;
 
@@ -627,6 +708,7 @@ public class SqlContentRepository {
                         .bind(3, content.getContentType())
                         .bind(4, content.getContent().bytes())
                         .bind(5, finalSerializedReferences)
+                        .bind(6, finalDereferencedContentHash)
                         .execute();
             } catch (Exception e) {
                 if (sqlStatements.isPrimaryKeyViolation(e)) {
@@ -7,6 +7,7 @@ import io.apicurio.registry.storage.dto.OrderDirection;
 import io.apicurio.registry.storage.dto.SearchFilter;
 import io.apicurio.registry.storage.dto.SearchedArtifactDto;
 import io.apicurio.registry.storage.dto.SearchedVersionDto;
+import io.apicurio.registry.storage.dto.VersionContentDto;
 import io.apicurio.registry.storage.dto.VersionSearchResultsDto;
 import io.apicurio.registry.storage.error.RegistryStorageException;
 import io.apicurio.registry.storage.impl.sql.HandleFactory;
@@ -15,6 +16,8 @@ import io.apicurio.registry.storage.impl.sql.SqlStatementVariableBinder;
 import io.apicurio.registry.storage.impl.sql.jdb.Query;
 import io.apicurio.registry.storage.impl.sql.mappers.SearchedArtifactMapper;
 import io.apicurio.registry.storage.impl.sql.mappers.SearchedVersionMapper;
+import io.apicurio.registry.storage.impl.sql.mappers.VersionContentDtoMapper;
+import io.apicurio.registry.types.VersionState;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 
@@ -463,6 +466,87 @@ public class SqlSearchRepository {
         });
     }
 
+    /**
+     * Search for versions with their content, filtering by artifact ID prefix and optionally keeping only
+     * the latest version of each artifact. Versions, artifact types and content (including references) are
+     * fetched by a single joined query.
+     */
+    public List<VersionContentDto> searchVersionContents(String artifactIdPrefix, boolean includeDisabled,
+            boolean latestOnly, int offset, int limit) throws RegistryStorageException {
+
+        log.debug("Searching for versions with content");
+        return handles.withHandleNoException(handle -> {
+            List<SqlStatementVariableBinder> binders = new LinkedList<>();
+
+            StringBuilder sql = new StringBuilder();
+            sql.append("SELECT v.*, a.type, c.content, c.refs FROM versions v"
+                    + " JOIN artifacts a ON v.groupId = a.groupId AND v.artifactId = a.artifactId"
+                    + " JOIN content c ON v.contentId = c.contentId");
+
+            // Formulate the WHERE clause
+            sql.append(" WHERE (1 = 1)");
+            if (artifactIdPrefix != null && !artifactIdPrefix.isEmpty()) {
+                // '!' is used as the escape character because it needs no escaping itself in any of the
+                // supported databases, unlike the backslash in MySQL
+                sql.append(" AND (v.artifactId LIKE ? ESCAPE '!')");
+                binders.add((query, idx) -> {
+                    query.bind(idx, escapeLikePattern(artifactIdPrefix) + "%");
+                });
+            }
+            if (!includeDisabled) {
+                sql.append(" AND (v.state != ?)");
+                binders.add((query, idx) -> {
+                    query.bind(idx, VersionState.DISABLED.name());
+                });
+            }
+            if (latestOnly) {
+                sql.append(" AND (v.versionOrder = (SELECT MAX(lv.versionOrder) FROM versions lv"
+                        + " WHERE lv.groupId = v.groupId AND lv.artifactId = v.artifactId");
+                if (!includeDisabled) {
+                    sql.append(" AND lv.state != ?");
+                    binders.add((query, idx) -> {
+                        query.bind(idx, VersionState.DISABLED.name());
+                    });
+                }
+                sql.append("))");
+            }
+
+            sql.append(" ORDER BY v.createdOn ASC, v.globalId ASC");
+
+            // Add limit and offset
+            if ("mssql".equals(sqlStatements.dbType())) {
+                sql.append(" OFFSET ? ROWS FETCH NEXT ? ROWS ONLY");
+            } else {
+                sql.append(" LIMIT ? OFFSET ?");
+            }
+
+            Query query = handle.createQuery(sql.toString());
+
+            // Bind all query parameters
+            int idx = 0;
+            for (SqlStatementVariableBinder binder : binders) {
+                binder.bind(query, idx);
+                idx++;
+            }
+            if ("mssql".equals(sqlStatements.dbType())) {
+                query.bind(idx++, offset);
+                query.bind(idx++, limit);
+            } else {
+                query.bind(idx++, limit);
+                query.bind(idx++, offset);
+            }
+
+            return query.map(VersionContentDtoMapper.instance).list();
+        });
+    }
+
+    /**
+     * Escapes the wildcard characters of a LIKE pattern, using {@code !} as the escape character.
+     */
+    private static String escapeLikePattern(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
     /**
      * Limit the size of labels returned in search results.
      */
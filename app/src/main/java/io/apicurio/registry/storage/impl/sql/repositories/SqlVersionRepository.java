@@ -1,6 +1,7 @@
 package io.apicurio.registry.storage.impl.sql.repositories;
 
 import io.apicurio.registry.model.BranchId;
+import io.apicurio.registry.model.GA;
 import io.apicurio.registry.model.GAV;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
 import io.apicurio.registry.storage.dto.EditableVersionMetaDataDto;
@@ -16,6 +17,7 @@ import io.apicurio.registry.storage.impl.sql.HandleFactory;
 import io.apicurio.registry.storage.impl.sql.RegistryContentUtils;
 import io.apicurio.registry.storage.impl.sql.SqlOutboxEvent;
 import io.apicurio.registry.storage.impl.sql.SqlStatements;
+import io.apicurio.registry.storage.impl.sql.jdb.Batch;
 import io.apicurio.registry.storage.impl.sql.jdb.Handle;
 import io.apicurio.registry.storage.impl.sql.RegistryStorageContentUtils;
 import io.apicurio.registry.storage.impl.sql.mappers.ArtifactMetaDataDtoMapper;
@@ -35,9 +37,11 @@ import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
 import io.apicurio.registry.types.VersionState;
 import io.quarkus.security.identity.SecurityIdentity;
 import jakarta.enterprise.event.Event;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.slf4j.Logger;
 
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -449,6 +453,60 @@ public class SqlVersionRepository {
         });
     }
 
+    /**
+     * Import a batch of artifact version entities using a single JDBC batch per table. The batch is
+     * imported atomically: if any of the versions cannot be imported, nothing is imported.
+     */
+    public void importArtifactVersions(List<ArtifactVersionEntity> entities) {
+        handles.withHandleNoException(handle -> {
+            Batch versionsBatch = handle.prepareBatch(sqlStatements.importArtifactVersion());
+            Batch labelsBatch = handle.prepareBatch(sqlStatements.insertVersionLabel());
+            Set<GA> existingArtifacts = new HashSet<>();
+            for (ArtifactVersionEntity entity : entities) {
+                GA ga = new GA(entity.groupId, entity.artifactId);
+                if (!existingArtifacts.contains(ga)) {
+                    if (!artifactRepository.isArtifactExistsRaw(handle, entity.groupId, entity.artifactId)) {
+                        throw new ArtifactNotFoundException(entity.groupId, entity.artifactId);
+                    }
+                    existingArtifacts.add(ga);
+                }
+                if (isGlobalIdExistsRaw(handle, entity.globalId)) {
+                    throw new VersionAlreadyExistsException(entity.globalId);
+                }
+
+                versionsBatch
+                        .bind(0, entity.globalId)
+                        .bind(1, normalizeGroupId(entity.groupId))
+                        .bind(2, entity.artifactId)
+                        .bind(3, entity.version)
+                        .bind(4, entity.versionOrder)
+                        .bind(5, entity.state)
+                        .bind(6, entity.name)
+                        .bind(7, entity.description)
+                        .bind(8, entity.owner)
+                        .bind(9, new Date(entity.createdOn))
+                        .bind(10, entity.modifiedBy)
+                        .bind(11, new Date(entity.modifiedOn))
+                        .bind(12, RegistryContentUtils.serializeLabels(entity.labels))
+                        .bind(13, entity.contentId)
+                        .add();
+
+                if (entity.labels != null && !entity.labels.isEmpty()) {
+                    entity.labels.forEach((k, v) -> {
+                        labelsBatch
+                                .bind(0, entity.globalId)
+                                .bind(1, k.toLowerCase())
+                                .bind(2, v == null ? null : v.toLowerCase())
+                                .add();
+                    });
+                }
+            }
+            versionsBatch.execute();
+            labelsBatch.execute();
+            return null;
+        });
+    }
+
     // ==================== ADDITIONAL VERSION OPERATIONS ====================
 
     /**
@@ -618,6 +676,23 @@ public class SqlVersionRepository {
         });
     }
 
+    /**
+     * Get the metadata of the latest version whose content, with all of its references inlined, matches the
+     * given content.
+     */
+    public ArtifactVersionMetaDataDto getArtifactVersionMetaDataByDereferencedContent(String groupId,
+            String artifactId, TypedContent content) throws ArtifactNotFoundException, RegistryStorageException {
+
+        return handles.withHandle(handle -> {
+            String hash = DigestUtils.sha256Hex(content.getContent().bytes());
+            Optional<ArtifactVersionMetaDataDto> res = handle
+                    .createQuery(sqlStatements.selectArtifactVersionMetaDataByDereferencedHash())
+                    .bind(0, normalizeGroupId(groupId)).bind(1, artifactId).bind(2, hash)
+                    .map(ArtifactVersionMetaDataDtoMapper.instance).findFirst();
+            return res.orElseThrow(() -> new ArtifactNotFoundException(groupId, artifactId));
+        });
+    }
+
     /**
      * Get artifact metadata using an existing handle.
      */
@@ -1,6 +1,8 @@
 package io.apicurio.registry.storage.importing;
 
 import io.apicurio.common.apps.config.Info;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Singleton;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
@@ -32,4 +34,29 @@ public class ImportExportConfigProperties {
     @Info(category = CATEGORY_IMPORT, description = "The import URL", availableSince = "2.1.0.Final")
     public Optional<URL> registryImportUrlProp;
 
+    @ConfigProperty(name = "apicurio.export.compression-level", defaultValue = "-1")
+    @Info(category = CATEGORY_IMPORT, description = "ZIP compression level (0-9, or -1) used when exporting data. Lower levels export faster but produce larger files. Defaults to '-1' (the default level of the ZIP library).", availableSince = "3.2.2")
+    public int exportCompressionLevel;
+
+    @ConfigProperty(name = "apicurio.export.store-uncompressed", defaultValue = "false")
+    @Info(category = CATEGORY_IMPORT, description = "When set to true, exported data is stored in the ZIP file without compression, which is the fastest way to export.  Defaults to 'false'.", availableSince = "3.2.2")
+    public boolean exportStoreUncompressed;
+
+    @ConfigProperty(name = "apicurio.export.workers", defaultValue = "4")
+    @Info(category = CATEGORY_IMPORT, description = "Number of threads used to serialize entities in parallel when exporting data.", availableSince = "3.2.2")
+    public int exportWorkers;
+
+    @ConfigProperty(name = "apicurio.export.queue-size", defaultValue = "256")
+    @Info(category = CATEGORY_IMPORT, description = "Maximum number of exported entities being serialized or waiting to be written to the ZIP file. Limits the memory used by an export.", availableSince = "3.2.2")
+    public int exportQueueSize;
+
+    void onStart(@Observes StartupEvent ev) {
+        // Fail at startup rather than on the first export
+        if (exportCompressionLevel < -1 || exportCompressionLevel > 9) {
+            throw new IllegalArgumentException("Invalid configuration: 'apicurio.export.compression-level' "
+                    + "must be between 0 and 9, or -1 for the default level, but was "
+                    + exportCompressionLevel + ".");
+        }
+    }
+
 }
@@ -0,0 +1,72 @@
+package io.apicurio.registry.storage.importing;
+
+import io.apicurio.registry.utils.impexp.Entity;
+import io.apicurio.registry.utils.impexp.EntityInputStream;
+import io.apicurio.registry.utils.impexp.EntityType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.apicurio.registry.metrics.MetricsConstants.IMPORT_ENTITIES;
+import static io.apicurio.registry.metrics.MetricsConstants.IMPORT_ENTITIES_DESCRIPTION;
+import static io.apicurio.registry.metrics.MetricsConstants.IMPORT_ENTITIES_TAG_ENTITY_TYPE;
+
+/**
+ * Tracks the progress of an import by counting the entities read from the imported data. The count of
+ * each entity type is published as a metric, and the number of entities imported so far and the import
+ * rate (entities per second) are logged periodically.
+ */
+public class ImportProgress implements EntityInputStream {
+
+    private static final long LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final EntityInputStream delegate;
+    private final Logger log;
+    private final MeterRegistry registry;
+    private final Map<EntityType, Counter> counters = new EnumMap<>(EntityType.class);
+
+    private final long startNanos = System.nanoTime();
+    private long lastLogNanos = startNanos;
+    private long count;
+
+    public ImportProgress(EntityInputStream delegate, Logger log, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.log = log;
+        this.registry = registry;
+    }
+
+    /**
+     * @see io.apicurio.registry.utils.impexp.EntityInputStream#nextEntity()
+     */
+    @Override
+    public Entity nextEntity() throws IOException {
+        Entity entity = delegate.nextEntity();
+        long now = System.nanoTime();
+        if (entity == null) {
+            log.info("Import finished: {} entities in {}s ({} entities/s)", count,
+                    TimeUnit.NANOSECONDS.toSeconds(now - startNanos), rate(count, now - startNanos));
+            return null;
+        }
+
+        count++;
+        counters.computeIfAbsent(entity.getEntityType(),
+                type -> Counter.builder(IMPORT_ENTITIES).description(IMPORT_ENTITIES_DESCRIPTION)
+                        .tag(IMPORT_ENTITIES_TAG_ENTITY_TYPE, type.name()).register(registry))
+                .increment();
+        if (now - lastLogNanos >= LOG_INTERVAL_NANOS) {
+            log.info("Import in progress: {} entities so far ({} entities/s)", count,
+                    rate(count, now - startNanos));
+            lastLogNanos = now;
+        }
+        return entity;
+    }
+
+    private static long rate(long count, long elapsedNanos) {
+        return elapsedNanos <= 0 ? count : count * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.slf4j.Logger;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,10 +41,19 @@ public class SqlDataImporter extends AbstractDataImporter {
 
     protected final boolean preserveContentId;
 
+    /**
+     * Maximum number of content entities or artifact versions imported in a single batch.
+     */
+    protected static final int BATCH_SIZE = 100;
+
     // ID remapping
     protected final Map<Long, Long> globalIdMapping = new HashMap<>();
     protected final Map<Long, Long> contentIdMapping = new HashMap<>();
 
+    // Entities waiting to be imported in a batch
+    private final List<ContentEntity> pendingContent = new ArrayList<>();
+    private final List<ArtifactVersionEntity> pendingVersions = new ArrayList<>();
+
     public SqlDataImporter(Logger logger, RegistryStorageContentUtils utils, RegistryStorage storage,
             boolean preserveGlobalId, boolean preserveContentId) {
         super(logger);
@@ -76,6 +86,19 @@ public class SqlDataImporter extends AbstractDataImporter {
 
     @Override
     public void importArtifactVersion(ArtifactVersionEntity entity) {
+        Long oldGlobalId = assignGlobalId(entity);
+        if (oldGlobalId != null) {
+            storeArtifactVersion(entity, oldGlobalId);
+        }
+    }
+
+    /**
+     * Maps the content ID of the version to the imported content, and assigns a new global ID to the
+     * version, unless global IDs are preserved.
+     *
+     * @return the global ID of the version in the imported data, or null if the version cannot be imported
+     */
+    private Long assignGlobalId(ArtifactVersionEntity entity) {
         try {
             entity.contentId = contentIdMapping.get(entity.contentId);
 
@@ -83,7 +106,15 @@ public class SqlDataImporter extends AbstractDataImporter {
             if (!preserveGlobalId) {
                 entity.globalId = storage.nextGlobalId();
             }
+            return oldGlobalId;
+        } catch (Exception ex) {
+            log.warn("Failed to import artifact version {}: {}", entity, ex.getMessage());
+            return null;
+        }
+    }
 
+    private void storeArtifactVersion(ArtifactVersionEntity entity, long oldGlobalId) {
+        try {
             storage.importArtifactVersion(entity);
             log.debug("Artifact version imported successfully: {}", entity);
             globalIdMapping.put(oldGlobalId, entity.globalId);
@@ -99,8 +130,57 @@ public class SqlDataImporter extends AbstractDataImporter {
         }
     }
 
+    /**
+     * Imports the pending artifact versions as a single batch. If the batch fails as a whole, the versions
+     * are imported one at a time, so that only the ones that cannot be imported are skipped.
+     */
+    private void flushArtifactVersions() {
+        if (pendingVersions.isEmpty()) {
+            return;
+        }
+        List<ArtifactVersionEntity> batch = new ArrayList<>(pendingVersions.size());
+        List<Long> oldGlobalIds = new ArrayList<>(pendingVersions.size());
+        for (ArtifactVersionEntity entity : pendingVersions) {
+            Long oldGlobalId = assignGlobalId(entity);
+            if (oldGlobalId != null) {
+                batch.add(entity);
+                oldGlobalIds.add(oldGlobalId);
+            }
+        }
+        pendingVersions.clear();
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            storage.importArtifactVersions(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                globalIdMapping.put(oldGlobalIds.get(i), batch.get(i).globalId);
+            }
+            log.debug("Imported a batch of {} artifact versions", batch.size());
+        } catch (Exception ex) {
+            log.debug("Failed to import a batch of artifact versions, importing them one by one: {}",
+                    ex.getMessage());
+            for (int i = 0; i < batch.size(); i++) {
+                storeArtifactVersion(batch.get(i), oldGlobalIds.get(i));
+            }
+        }
+    }
+
     @Override
     public void importContent(ContentEntity entity) {
+        if (prepareContent(entity)) {
+            storeContent(entity, assignContentId(entity));
+        }
+    }
+
+    /**
+     * Validates the content entity and computes its canonical hash, if missing. Resolving the references of
+     * the content reads the storage, so this runs on the importing thread, which may be bound to a request
+     * context or a transaction.
+     *
+     * @return false if the content cannot be imported
+     */
+    private boolean prepareContent(ContentEntity entity) {
         try {
             List<ArtifactReferenceDto> references = RegistryContentUtils
                     .deserializeReferences(entity.serializedReferences);
@@ -119,12 +199,28 @@ public class SqlDataImporter extends AbstractDataImporter {
                                 storage::getContentByReference));
                 entity.canonicalHash = DigestUtils.sha256Hex(canonicalContent.getContent().bytes());
             }
+            return true;
+        } catch (Exception ex) {
+            log.warn("Failed to import content {}: {}", entity, ex.getMessage());
+            return false;
+        }
+    }
 
-            var oldContentId = entity.contentId;
-            if (!preserveContentId) {
-                entity.contentId = storage.nextContentId();
-            }
+    /**
+     * Assigns a new content ID to the entity, unless content IDs are preserved.
+     *
+     * @return the content ID of the entity in the imported data
+     */
+    private long assignContentId(ContentEntity entity) {
+        var oldContentId = entity.contentId;
+        if (!preserveContentId) {
+            entity.contentId = storage.nextContentId();
+        }
+        return oldContentId;
+    }
 
+    private void storeContent(ContentEntity entity, long oldContentId) {
+        try {
             storage.importContent(entity);
             log.debug("Content imported successfully: {}", entity);
 
@@ -134,6 +230,36 @@ public class SqlDataImporter extends AbstractDataImporter {
         }
     }
 
+    /**
+     * Imports the pending content entities as a single batch. If the batch fails as a whole, the entities
+     * are imported one at a time, so that only the ones that cannot be imported are skipped.
+     */
+    private void flushContent() {
+        if (pendingContent.isEmpty()) {
+            return;
+        }
+        List<ContentEntity> batch = pendingContent.stream().filter(this::prepareContent).toList();
+        pendingContent.clear();
+
+        long[] oldContentIds = new long[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            oldContentIds[i] = assignContentId(batch.get(i));
+        }
+        try {
+            storage.importContents(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                contentIdMapping.put(oldContentIds[i], batch.get(i).contentId);
+            }
+            log.debug("Imported a batch of {} content entities", batch.size());
+        } catch (Exception ex) {
+            log.debug("Failed to import a batch of content entities, importing them one by one: {}",
+                    ex.getMessage());
+            for (int i = 0; i < batch.size(); i++) {
+                storeContent(batch.get(i), oldContentIds[i]);
+            }
+        }
+    }
+
     @Override
     public void importGlobalRule(GlobalRuleEntity entity) {
         try {
@@ -194,8 +320,31 @@ public class SqlDataImporter extends AbstractDataImporter {
         try {
             Entity entity = null;
             while ((entity = entities.nextEntity()) != null) {
-                importEntity(entity);
+                // Content and versions are the bulk of an export: collect them into batches. Everything
+                // read after a batch may depend on it, so pending batches are flushed first.
+                switch (entity.getEntityType()) {
+                    case Content:
+                        flushArtifactVersions();
+                        pendingContent.add((ContentEntity) entity);
+                        if (pendingContent.size() >= BATCH_SIZE) {
+                            flushContent();
+                        }
+                        break;
+                    case ArtifactVersion:
+                        flushContent();
+                        pendingVersions.add((ArtifactVersionEntity) entity);
+                        if (pendingVersions.size() >= BATCH_SIZE) {
+                            flushArtifactVersions();
+                        }
+                        break;
+                    default:
+                        flushContent();
+                        flushArtifactVersions();
+                        importEntity(entity);
+                }
             }
+            flushContent();
+            flushArtifactVersions();
 
             postImportAction.run();
 
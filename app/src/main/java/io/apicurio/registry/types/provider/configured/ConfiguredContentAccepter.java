@@ -24,6 +24,11 @@ public class ConfiguredContentAccepter extends AbstractConfiguredArtifactTypeUti
         return this.delegate.acceptsContent(content, resolvedReferences);
     }
 
+    @Override
+    public boolean mayAcceptContent(char firstCharacter) {
+        return this.delegate.mayAcceptContent(firstCharacter);
+    }
+
     @Override
     protected ContentAccepter createJavaClassDelegate(ArtifactTypeConfiguration artifactType, JavaClassProvider provider) throws Exception {
         return new JavaClassContentAccepterDelegate(artifactType, provider);
@@ -38,6 +43,11 @@ public class ConfiguredContentAccepter extends AbstractConfiguredArtifactTypeUti
         public boolean acceptsContent(TypedContent content, Map<String, TypedContent> resolvedReferences) {
             return this.instance.acceptsContent(content, resolvedReferences);
         }
+
+        @Override
+        public boolean mayAcceptContent(char firstCharacter) {
+            return this.instance.mayAcceptContent(firstCharacter);
+        }
     }
 
     @Override
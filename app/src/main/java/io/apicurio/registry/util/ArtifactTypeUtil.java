@@ -2,6 +2,7 @@ package io.apicurio.registry.util;
 
 import io.apicurio.registry.content.ContentAccepter;
 import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.content.util.ContentTypeUtil;
 import io.apicurio.registry.storage.error.InvalidArtifactTypeException;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProvider;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
@@ -57,6 +58,11 @@ public final class ArtifactTypeUtil {
      * formatted. So in these cases we will need to look for some sort of type-specific marker in the content
      * of the artifact. The method does its best to figure out the type, but will default to Avro if all else
      * fails.
+     * <p>
+     * The first significant character of the content is sniffed first, so that the accepters that cannot
+     * accept the content (e.g. the XML ones for a JSON document) are skipped without parsing it. The
+     * remaining accepters share the parsed form of the content, see
+     * {@link io.apicurio.registry.content.ContentHandle#getParsed}.
      * 
      * @param content
      * @param resolvedReferences
@@ -64,9 +70,11 @@ public final class ArtifactTypeUtil {
     @SuppressWarnings("deprecation")
     private static String discoverType(TypedContent content, Map<String, TypedContent> resolvedReferences,
             ArtifactTypeUtilProviderFactory artifactTypeProviderFactory) throws InvalidArtifactTypeException {
+        char firstCharacter = ContentTypeUtil.firstSignificantCharacter(content.getContent());
         for (ArtifactTypeUtilProvider provider : artifactTypeProviderFactory.getAllArtifactTypeProviders()) {
             ContentAccepter contentAccepter = provider.getContentAccepter();
-            if (contentAccepter.acceptsContent(content, resolvedReferences)) {
+            if (contentAccepter.mayAcceptContent(firstCharacter)
+                    && contentAccepter.acceptsContent(content, resolvedReferences)) {
                 return provider.getArtifactType();
             }
         }
@@ -12,6 +12,8 @@ import io.apicurio.registry.utils.tests.TestUtils;
 import io.quarkus.test.junit.QuarkusTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -158,6 +160,79 @@ public class CCompatV7EnhancementsTest extends AbstractResourceTestBase {
                 .body("$", hasSize(greaterThanOrEqualTo(1)));
     }
 
+    @Test
+    public void testGetSchemasBySubjectPrefix() throws Exception {
+        var prefix = TestUtils.generateSubject();
+        var schemas = registerSchemasForListing(prefix);
+
+        given().when().queryParam("subjectPrefix", prefix).get("/ccompat/v7/schemas").then().statusCode(200)
+                .body("schema", equalTo(schemas));
+
+        // Subjects not matching the prefix are excluded, wildcards in the prefix are taken literally
+        given().when().queryParam("subjectPrefix", prefix + "-a").get("/ccompat/v7/schemas").then()
+                .statusCode(200).body("schema", equalTo(schemas.subList(0, 2)));
+        given().when().queryParam("subjectPrefix", prefix + "%").get("/ccompat/v7/schemas").then()
+                .statusCode(200).body("$", empty());
+    }
+
+    @Test
+    public void testGetSchemasLatestOnly() throws Exception {
+        var prefix = TestUtils.generateSubject();
+        var schemas = registerSchemasForListing(prefix);
+
+        // The latest version of each subject, so content shared by several subjects is returned once for
+        // each of them
+        given().when().queryParam("subjectPrefix", prefix).queryParam("latestOnly", true)
+                .get("/ccompat/v7/schemas").then().statusCode(200)
+                .body("schema", equalTo(List.of(schemas.get(1), schemas.get(2), schemas.get(3))));
+    }
+
+    @Test
+    public void testGetSchemasPagination() throws Exception {
+        var prefix = TestUtils.generateSubject();
+        var schemas = registerSchemasForListing(prefix);
+
+        given().when().queryParam("subjectPrefix", prefix).queryParam("offset", 1).queryParam("limit", 2)
+                .get("/ccompat/v7/schemas").then().statusCode(200)
+                .body("schema", equalTo(schemas.subList(1, 3)));
+        given().when().queryParam("subjectPrefix", prefix).queryParam("offset", 3).queryParam("limit", 2)
+                .get("/ccompat/v7/schemas").then().statusCode(200)
+                .body("schema", equalTo(schemas.subList(3, 4)));
+        given().when().queryParam("subjectPrefix", prefix).queryParam("offset", 4)
+                .get("/ccompat/v7/schemas").then().statusCode(200).body("$", empty());
+
+        // Pages apply after the latest-only filter
+        given().when().queryParam("subjectPrefix", prefix).queryParam("latestOnly", true)
+                .queryParam("offset", 1).queryParam("limit", 1).get("/ccompat/v7/schemas").then()
+                .statusCode(200).body("schema", equalTo(List.of(schemas.get(2))));
+    }
+
+    /**
+     * Registers two versions under {@code <prefix>-a}, one under {@code <prefix>-b}, and the first
+     * version of {@code <prefix>-a} again under {@code <prefix>-c}.
+     *
+     * @return the registered schemas, in registration order
+     */
+    private List<String> registerSchemasForListing(String prefix) throws Exception {
+        var first = "{\"type\":\"record\",\"name\":\"A\",\"fields\":[{\"name\":\"f1\",\"type\":\"string\"}]}";
+        var second = "{\"type\":\"record\",\"name\":\"A\",\"fields\":[{\"name\":\"f1\",\"type\":\"string\"},"
+                + "{\"name\":\"f2\",\"type\":\"string\",\"default\":\"\"}]}";
+        var other = "{\"type\":\"record\",\"name\":\"B\",\"fields\":[{\"name\":\"f1\",\"type\":\"int\"}]}";
+        registerSchema(prefix + "-a", first);
+        registerSchema(prefix + "-a", second);
+        registerSchema(prefix + "-b", other);
+        registerSchema(prefix + "-c", first);
+        return List.of(first, second, other, first);
+    }
+
+    private void registerSchema(String subject, String schema) throws Exception {
+        var schemaContent = new RegisterSchemaRequest();
+        schemaContent.setSchema(schema);
+        given().when().contentType(ContentTypes.COMPAT_SCHEMA_REGISTRY_STABLE_LATEST)
+                .body(objectMapper.writeValueAsString(schemaContent))
+                .post("/ccompat/v7/subjects/{subject}/versions", subject).then().statusCode(200);
+    }
+
     // ========== Pagination Tests ==========
 
     @Test
@@ -909,6 +909,31 @@ public class ConfluentClientTest extends AbstractResourceTestBase {
                 confluentClient.deleteSchemaVersion(RestService.DEFAULT_REQUEST_PROPERTIES, subject, "1"));
     }
 
+    @Test
+    public void testLookupSchemaWithInlinedReferences() throws Exception {
+        List<String> schemas = ConfluentTestUtils.getAvroSchemaWithReferences();
+        String subject = "testLookupSchemaWithInlinedReferences";
+        String referrer = "testLookupSchemaWithInlinedReferencesReferer";
+
+        ConfluentTestUtils.registerAndVerifySchema(confluentClient, schemas.get(0), subject);
+
+        RegisterSchemaRequest request = new RegisterSchemaRequest();
+        request.setSchema(schemas.get(1));
+        request.setReferences(
+                Collections.singletonList(new SchemaReference("otherns.Subrecord", subject, 1)));
+        int registeredId = confluentClient.registerSchema(request, referrer, false).getId();
+
+        // The same schema, with the referenced record inlined
+        Schema.Parser parser = new Schema.Parser();
+        parser.parse(schemas.get(0));
+        String inlinedSchema = parser.parse(schemas.get(1)).toString();
+        assertNotEquals(schemas.get(1), inlinedSchema);
+
+        var found = confluentClient.lookUpSubjectVersion(inlinedSchema, referrer);
+        assertEquals(registeredId, found.getId().intValue());
+        assertEquals(1, found.getVersion().intValue());
+    }
+
     @Test
     public void testSchemaReferencesMultipleLevels() throws Exception {
         String root = """
@@ -1816,6 +1841,76 @@ public class ConfluentClientTest extends AbstractResourceTestBase {
         assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
     }
 
+    /**
+     * Many producers register the same sequence of schema evolutions under a few hot subjects, as producers
+     * starting at the same time do. Checks that every producer gets the same ID for the same schema, that
+     * every evolution gets its own ID which it resolves back to, and that no duplicate versions are created.
+     */
+    @Test
+    public void testConcurrentProducersRegistration() throws Exception {
+        final int producers = 16;
+        final int subjectCount = 4;
+        final int evolutions = 10;
+
+        List<String> subjects = new ArrayList<>();
+        for (int s = 0; s < subjectCount; s++) {
+            subjects.add(generateArtifactId());
+        }
+        List<String> schemas = new ArrayList<>();
+        for (int e = 0; e < evolutions; e++) {
+            StringBuilder fields = new StringBuilder("{\"name\":\"id\",\"type\":\"string\"}");
+            for (int f = 0; f < e; f++) {
+                fields.append(",{\"name\":\"f").append(f)
+                        .append("\",\"type\":[\"null\",\"string\"],\"default\":null}");
+            }
+            schemas.add("{\"type\":\"record\",\"namespace\":\"bench\",\"name\":\"event\",\"fields\":["
+                    + fields + "]}");
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(producers);
+        CountDownLatch latch = new CountDownLatch(producers);
+        List<Future<Map<String, List<Integer>>>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            futures.add(executorService.submit(() -> {
+                latch.countDown();
+                latch.await(); // Start all producers at the same time
+                Map<String, List<Integer>> ids = new HashMap<>();
+                for (String schema : schemas) {
+                    for (String subject : subjects) {
+                        ids.computeIfAbsent(subject, k -> new ArrayList<>())
+                                .add(confluentClient.registerSchema(schema, subject));
+                    }
+                }
+                return ids;
+            }));
+        }
+
+        List<Map<String, List<Integer>>> results = new ArrayList<>();
+        for (Future<Map<String, List<Integer>>> future : futures) {
+            results.add(future.get(120, TimeUnit.SECONDS));
+        }
+
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+
+        for (String subject : subjects) {
+            List<Integer> expected = results.get(0).get(subject);
+            for (Map<String, List<Integer>> result : results) {
+                assertEquals(expected, result.get(subject),
+                        "All producers should get the same IDs for subject " + subject);
+            }
+            assertEquals(evolutions, new HashSet<>(expected).size(),
+                    "Each schema evolution should get its own ID");
+            assertEquals(evolutions, confluentClient.getAllVersions(subject).size(),
+                    "No duplicate versions should be created for subject " + subject);
+            for (int e = 0; e < evolutions; e++) {
+                assertEquals(expected.get(e),
+                        confluentClient.lookUpSubjectVersion(schemas.get(e), subject).getId(),
+                        "Schema evolution " + e + " should resolve to the ID it was registered with");
+            }
+        }
+    }
+
     /**
      * Test for issue #6972: Schema Field Order Impacts Response from Apicurio Registry v7 ccompat API
      *
@@ -19,6 +19,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.anything;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -441,6 +442,129 @@ public class IcebergApiTest extends AbstractResourceTestBase {
         cleanupTable(namespaceName, tableName);
     }
 
+    @Test
+    public void testLoadTableReferencedSnapshots() {
+        String namespaceName = "test_refs_ns_" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        String tableName = "refs_table";
+
+        createNamespaceAndTable(namespaceName, tableName);
+
+        long firstSnapshotId = System.currentTimeMillis();
+        long secondSnapshotId = firstSnapshotId + 1;
+
+        Map<String, Object> setRef = new HashMap<>();
+        setRef.put("action", "set-snapshot-ref");
+        setRef.put("ref-name", "main");
+        setRef.put("snapshot-id", secondSnapshotId);
+        setRef.put("type", "branch");
+
+        Map<String, Object> commitRequest = Map.of(
+            "requirements", List.of(),
+            "updates", List.of(
+                Map.of("action", "add-snapshot", "snapshot", Map.of("snapshot-id", firstSnapshotId,
+                        "timestamp-ms", firstSnapshotId, "summary", Map.of("operation", "append"),
+                        "manifest-list", "s3://bucket/path/snap-1.avro")),
+                Map.of("action", "add-snapshot", "snapshot", Map.of("snapshot-id", secondSnapshotId,
+                        "parent-snapshot-id", firstSnapshotId, "timestamp-ms", secondSnapshotId,
+                        "summary", Map.of("operation", "append"),
+                        "manifest-list", "s3://bucket/path/snap-2.avro")),
+                setRef
+            )
+        );
+
+        given()
+            .when()
+            .contentType(CT_JSON)
+            .body(commitRequest)
+            .post(ICEBERG_API_BASE + "/iceberg/v1/default/namespaces/" + namespaceName + "/tables/" + tableName)
+            .then()
+            .statusCode(200);
+
+        // All snapshots by default
+        given()
+            .when()
+            .contentType(CT_JSON)
+            .get(ICEBERG_API_BASE + "/iceberg/v1/default/namespaces/" + namespaceName + "/tables/" + tableName)
+            .then()
+            .statusCode(200)
+            .body("metadata.snapshots.size()", equalTo(2));
+
+        // Only the snapshot referenced by the main branch
+        given()
+            .when()
+            .contentType(CT_JSON)
+            .queryParam("snapshots", "refs")
+            .get(ICEBERG_API_BASE + "/iceberg/v1/default/namespaces/" + namespaceName + "/tables/" + tableName)
+            .then()
+            .statusCode(200)
+            .body("metadata.snapshots.size()", equalTo(1))
+            .body("metadata.snapshots[0].snapshot-id", equalTo(secondSnapshotId));
+
+        cleanupTable(namespaceName, tableName);
+    }
+
+    @Test
+    public void testLoadTableNotModified() {
+        String namespaceName = "test_etag_ns_" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        String tableName = "etag_table";
+
+        createNamespaceAndTable(namespaceName, tableName);
+
+        String tablePath = ICEBERG_API_BASE + "/iceberg/v1/default/namespaces/" + namespaceName + "/tables/" + tableName;
+        String etag = given()
+            .when()
+            .contentType(CT_JSON)
+            .get(tablePath)
+            .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .extract().header("ETag");
+
+        // Unchanged table
+        given()
+            .when()
+            .contentType(CT_JSON)
+            .header("If-None-Match", etag)
+            .get(tablePath)
+            .then()
+            .statusCode(304);
+
+        // The snapshots mode is part of the ETag
+        given()
+            .when()
+            .contentType(CT_JSON)
+            .header("If-None-Match", etag)
+            .queryParam("snapshots", "refs")
+            .get(tablePath)
+            .then()
+            .statusCode(200);
+
+        Map<String, Object> commitRequest = Map.of(
+            "requirements", List.of(),
+            "updates", List.of(Map.of("action", "set-location", "location", "/etag/location"))
+        );
+        given()
+            .when()
+            .contentType(CT_JSON)
+            .body(commitRequest)
+            .post(tablePath)
+            .then()
+            .statusCode(200);
+
+        // A commit changes the ETag
+        given()
+            .when()
+            .contentType(CT_JSON)
+            .header("If-None-Match", etag)
+            .get(tablePath)
+            .then()
+            .statusCode(200)
+            .header("ETag", not(equalTo(etag)))
+            .body("metadata.location", equalTo("/etag/location"));
+
+        cleanupTable(namespaceName, tableName);
+    }
+
     @Test
     public void testCommitTableRequirementSuccess() {
         String namespaceName = "test_reqok_ns_" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
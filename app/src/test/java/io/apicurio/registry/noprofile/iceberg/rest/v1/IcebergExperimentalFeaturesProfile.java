@@ -14,7 +14,8 @@ public class IcebergExperimentalFeaturesProfile implements QuarkusTestProfile {
     public Map<String, String> getConfigOverrides() {
         return Map.of(
                 "apicurio.features.experimental.enabled", "true",
-                "apicurio.iceberg.enabled", "true"
+                "apicurio.iceberg.enabled", "true",
+                "apicurio.http-caching.enabled", "true"
         );
     }
 }
@@ -1282,6 +1282,44 @@ public abstract class AbstractRegistryStorageTest extends AbstractResourceTestBa
          */
     }
 
+    @Test
+    public void testCreateArtifactVersionIfAbsent() throws Exception {
+        String artifactId = "testCreateArtifactVersionIfAbsent";
+        String schema = "{\"type\":\"record\",\"name\":\"R\",\"fields\":[{\"name\":\"a\",\"type\":\"int\"}]}";
+        String formattedSchema = "{\n  \"type\": \"record\",\n  \"name\": \"R\",\n"
+                + "  \"fields\": [{\"name\": \"a\", \"type\": \"int\"}]\n}";
+
+        VersionRegistrationDto created = storage().createArtifactVersionIfAbsent(GROUP_ID, artifactId,
+                ArtifactType.AVRO, avroContent(schema), false, null, 0);
+        Assertions.assertTrue(created.isVersionCreated());
+        Assertions.assertNotNull(created.getCreatedArtifact());
+        int versionOrder = created.getVersion().getVersionOrder();
+
+        // The exact same content matches in both modes
+        VersionRegistrationDto existing = storage().createArtifactVersionIfAbsent(GROUP_ID, artifactId,
+                ArtifactType.AVRO, avroContent(schema), false, null, versionOrder);
+        Assertions.assertFalse(existing.isVersionCreated());
+        Assertions.assertEquals(created.getVersion().getGlobalId(), existing.getVersion().getGlobalId());
+
+        // Equivalent content only matches by canonical hash
+        VersionRegistrationDto canonical = storage().createArtifactVersionIfAbsent(GROUP_ID, artifactId,
+                ArtifactType.AVRO, avroContent(formattedSchema), true, null, versionOrder);
+        Assertions.assertFalse(canonical.isVersionCreated());
+        Assertions.assertEquals(created.getVersion().getGlobalId(), canonical.getVersion().getGlobalId());
+
+        VersionRegistrationDto exact = storage().createArtifactVersionIfAbsent(GROUP_ID, artifactId,
+                ArtifactType.AVRO, avroContent(formattedSchema), false, null, versionOrder);
+        Assertions.assertTrue(exact.isVersionCreated());
+        Assertions.assertNull(exact.getCreatedArtifact());
+        Assertions.assertNotEquals(created.getVersion().getGlobalId(), exact.getVersion().getGlobalId());
+        Assertions.assertEquals(2, storage().countArtifactVersions(GROUP_ID, artifactId));
+    }
+
+    private static ContentWrapperDto avroContent(String schema) {
+        return ContentWrapperDto.builder().contentType(ContentTypes.APPLICATION_JSON)
+                .content(ContentHandle.create(schema)).build();
+    }
+
     private void updateVersionState(String groupId, String artifactId, String version,
             VersionState newState) {
         storage().updateArtifactVersionState(groupId, artifactId, version, newState, false);
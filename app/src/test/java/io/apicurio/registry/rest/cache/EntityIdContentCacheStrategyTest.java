@@ -167,4 +167,17 @@ class EntityIdContentCacheStrategyTest {
         assertTrue(s1.getETagBuilder().build().getValue().contains("returnArtifactType=true"));
         assertTrue(s2.getETagBuilder().build().getValue().contains("returnArtifactType=false"));
     }
+
+    @Test
+    void formatIncludedInEtag() {
+        var s1 = EntityIdContentCacheStrategy.builder()
+                .entityId(42L).references(HandleReferencesType.DEREFERENCE).format("resolved").build();
+        s1.evaluate();
+        var s2 = EntityIdContentCacheStrategy.builder()
+                .entityId(42L).references(HandleReferencesType.DEREFERENCE).format("serialized").build();
+        s2.evaluate();
+
+        assertTrue(s1.getETagBuilder().build().getValue().contains("format=resolved"));
+        assertTrue(s2.getETagBuilder().build().getValue().contains("format=serialized"));
+    }
 }
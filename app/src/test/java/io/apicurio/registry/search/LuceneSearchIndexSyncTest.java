@@ -0,0 +1,110 @@
+package io.apicurio.registry.search;
+
+import io.apicurio.registry.AbstractResourceTestBase;
+import io.apicurio.registry.cdi.Current;
+import io.apicurio.registry.storage.dto.OrderBy;
+import io.apicurio.registry.storage.dto.OrderDirection;
+import io.apicurio.registry.storage.dto.SearchFilter;
+import io.apicurio.registry.storage.dto.SearchedVersionDto;
+import io.apicurio.registry.storage.impl.search.ElasticsearchIndexUpdater;
+import io.apicurio.registry.storage.impl.search.ElasticsearchStartupIndexer;
+import io.apicurio.registry.storage.impl.search.SearchIndexBackend;
+import io.apicurio.registry.storage.impl.sql.SqlRegistryStorage;
+import io.apicurio.registry.types.ArtifactType;
+import io.apicurio.registry.types.ContentTypes;
+import io.apicurio.registry.utils.tests.TestUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Verifies that the periodic synchronization of the replica-local Lucene index removes the versions
+ * deleted without going through this replica's search index, e.g. through another replica.
+ */
+@QuarkusTest
+@TestProfile(LuceneSearchIndexSyncTest.DeletedSyncTestProfile.class)
+public class LuceneSearchIndexSyncTest extends AbstractResourceTestBase {
+
+    /**
+     * Looks for deleted versions on every synchronization, instead of only on startup and then hourly.
+     */
+    public static class DeletedSyncTestProfile extends LuceneSearchTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            Map<String, String> overrides = new HashMap<>(super.getConfigOverrides());
+            overrides.put("apicurio.search.index.lucene.sync.deleted-interval", "PT0S");
+            return overrides;
+        }
+    }
+
+    @Inject
+    ElasticsearchStartupIndexer startupIndexer;
+
+    @Inject
+    ElasticsearchIndexUpdater indexUpdater;
+
+    @Inject
+    @Current
+    SearchIndexBackend backend;
+
+    /**
+     * The storage without the decorators, so that deletions are not propagated to the index.
+     */
+    @Inject
+    SqlRegistryStorage sqlStorage;
+
+    @Test
+    public void testSyncRemovesDeletedVersions() throws Exception {
+        waitForStartupIndexer();
+
+        String group = TestUtils.generateGroupId();
+        String artifactId = "testSyncRemovesDeletedVersions";
+        String deletedArtifactId = "testSyncRemovesDeletedArtifact";
+        long firstGlobalId = createArtifact(group, artifactId, ArtifactType.OPENAPI,
+                "{\"openapi\":\"3.0.0\",\"idx\":1}", ContentTypes.APPLICATION_JSON).getVersion()
+                .getGlobalId();
+        long secondGlobalId = createArtifactVersion(group, artifactId, "{\"openapi\":\"3.0.0\",\"idx\":2}",
+                ContentTypes.APPLICATION_JSON);
+        createArtifact(group, deletedArtifactId, ArtifactType.OPENAPI, "{\"openapi\":\"3.0.0\",\"idx\":3}",
+                ContentTypes.APPLICATION_JSON);
+        indexUpdater.awaitIdle(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(3, indexedGlobalIds(group).size());
+
+        // Delete directly in the database, as another replica would
+        sqlStorage.deleteArtifactVersion(group, artifactId, "1");
+        sqlStorage.deleteArtifact(group, deletedArtifactId);
+        Assertions.assertEquals(3, indexedGlobalIds(group).size());
+
+        startupIndexer.syncModifiedVersions();
+
+        List<Long> remaining = indexedGlobalIds(group);
+        Assertions.assertEquals(List.of(secondGlobalId), remaining);
+        Assertions.assertFalse(remaining.contains(firstGlobalId));
+    }
+
+    private List<Long> indexedGlobalIds(String groupId) throws Exception {
+        return backend.searchVersions(Set.of(SearchFilter.ofGroupId(groupId)), OrderBy.globalId,
+                OrderDirection.asc, 0, 100).getVersions().stream().map(SearchedVersionDto::getGlobalId)
+                .collect(Collectors.toList());
+    }
+
+    private void waitForStartupIndexer() throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!startupIndexer.isReady()) {
+            if (System.nanoTime() >= deadlineNanos) {
+                throw new IllegalStateException("Startup indexer did not become ready within 30 seconds");
+            }
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.apicurio.registry.search;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+/**
+ * Test profile that enables search indexing with the embedded Lucene backend. No Elasticsearch
+ * container is started, the index is kept in memory.
+ */
+public class LuceneSearchTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of(
+                "apicurio.features.experimental.enabled", "true",
+                "apicurio.search.index.enabled", "true",
+                "apicurio.search.index.backend", "lucene",
+                "apicurio.rest.deletion.group.enabled", "true",
+                "apicurio.rest.deletion.artifact.enabled", "true",
+                "apicurio.rest.deletion.artifact-version.enabled", "true"
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package io.apicurio.registry.search;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Runs the {@link SearchVersionsViaIndexTest} tests against the embedded Lucene search index, to
+ * verify that it returns the same results as the Elasticsearch index.
+ */
+@QuarkusTest
+@TestProfile(LuceneSearchTestProfile.class)
+public class SearchVersionsViaLuceneIndexTest extends SearchVersionsViaIndexTest {
+}
@@ -102,6 +102,31 @@ public class GitOpsSmokeTest {
         assertEquals(JsonObjectMapper.MAPPER.readTree(personContent.bytes()),
                 JsonObjectMapper.MAPPER.readTree(version.getContent().bytes()));
 
+        // --- Load smoke03: Artifact added, loaded in full into the storage holding smoke01 ---
+        testRepository.load("git/smoke03");
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+            assertEquals(Set.of("person", "address"), withContext(() -> storage.getArtifactIds(10)));
+        });
+
+        // --- Load smoke04: Version added, applied incrementally to the storage holding smoke02 ---
+        testRepository.load("git/smoke04");
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+            assertEquals(Set.of("1", "2"),
+                    withContext(() -> Set.copyOf(storage.getArtifactVersions("bar", "person"))));
+        });
+        assertEquals(Set.of("person", "address"), storage.getArtifactIds(10));
+        assertEquals(Set.of("bar"), Set.copyOf(storage.getGroupIds(10)));
+        version = storage.getArtifactVersionContent("bar", "person", "2");
+        assertEquals(JsonObjectMapper.MAPPER.readTree(loadFile("git/smoke04/content/Person-2.json").bytes()),
+                JsonObjectMapper.MAPPER.readTree(version.getContent().bytes()));
+
+        // --- Load smoke02 again: Artifact removed, applied incrementally to the storage holding smoke03 ---
+        testRepository.load("git/smoke02");
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+            assertEquals(Set.of("person"), withContext(() -> storage.getArtifactIds(10)));
+        });
+        assertEquals(Set.of("1"), Set.copyOf(storage.getArtifactVersions("bar", "person")));
+
         // --- Load data without registry config → rejected by safety check, smoke02 data preserved ---
         testRepository.load("git/invalid-content-ref");
         await().pollDelay(Duration.ofSeconds(5)).untilAsserted(() -> {
@@ -0,0 +1,156 @@
+package io.apicurio.registry.storage.impl.kafkasql;
+
+import io.apicurio.registry.types.VersionState;
+import io.apicurio.registry.utils.impexp.Entity;
+import io.apicurio.registry.utils.impexp.v3.ArtifactEntity;
+import io.apicurio.registry.utils.impexp.v3.ArtifactVersionEntity;
+import io.apicurio.registry.utils.impexp.v3.ContentEntity;
+import io.apicurio.registry.utils.impexp.v3.GroupEntity;
+import io.apicurio.registry.utils.tests.KafkasqlTestProfile;
+import io.apicurio.registry.utils.tests.TestUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that imported content and versions are sent to the journal in batches, and that the importer
+ * falls back to importing them one at a time when a batch does not fit in a single journal record.
+ */
+@QuarkusTest
+@TestProfile(KafkaSqlImportTest.SmallRecordsTestProfile.class)
+public class KafkaSqlImportTest {
+
+    /**
+     * Larger than the content of a single version, but smaller than a batch of {@link #LARGE_CONTENT_SIZE}
+     * sized contents.
+     */
+    private static final int MAX_REQUEST_SIZE = 16384;
+
+    private static final int LARGE_CONTENT_SIZE = 6000;
+
+    public static class SmallRecordsTestProfile extends KafkasqlTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("apicurio.storage.kind", "kafkasql", "apicurio.kafkasql.producer.max.request.size",
+                    String.valueOf(MAX_REQUEST_SIZE));
+        }
+    }
+
+    @Inject
+    KafkaSqlRegistryStorage storage;
+
+    @Test
+    public void testImportBatches() {
+        String groupId = TestUtils.generateGroupId();
+        String artifactId = "testImportBatches";
+        importGroupAndArtifact(groupId, artifactId);
+
+        List<ContentEntity> contents = new ArrayList<>();
+        List<ArtifactVersionEntity> versions = new ArrayList<>();
+        for (int idx = 1; idx <= 10; idx++) {
+            ContentEntity content = createContent("{\"idx\":" + idx + "}");
+            contents.add(content);
+            versions.add(createVersion(groupId, artifactId, idx, content.contentId));
+        }
+        storage.importContents(contents);
+        storage.importArtifactVersions(versions);
+
+        assertEquals(10, storage.getArtifactVersions(groupId, artifactId).size());
+        for (int idx = 1; idx <= 10; idx++) {
+            String content = storage.getArtifactVersionContent(groupId, artifactId, String.valueOf(idx))
+                    .getContent().content();
+            assertEquals("{\"idx\":" + idx + "}", content);
+        }
+    }
+
+    @Test
+    public void testImportFallsBackToSingleRecords() {
+        String groupId = TestUtils.generateGroupId();
+        String artifactId = "testImportFallsBackToSingleRecords";
+
+        List<ContentEntity> contents = new ArrayList<>();
+        List<ArtifactVersionEntity> versions = new ArrayList<>();
+        for (int idx = 1; idx <= 5; idx++) {
+            ContentEntity content = createContent(largeContent(idx));
+            contents.add(content);
+            versions.add(createVersion(groupId, artifactId, idx, content.contentId));
+        }
+
+        // The whole batch does not fit in a journal record
+        assertThrows(Exception.class, () -> storage.importContents(contents));
+
+        List<Entity> entities = new ArrayList<>();
+        entities.add(createGroup(groupId));
+        entities.add(createArtifact(groupId, artifactId));
+        entities.addAll(contents);
+        entities.addAll(versions);
+        Iterator<Entity> iterator = entities.iterator();
+        storage.importData(() -> iterator.hasNext() ? iterator.next() : null, true, true);
+
+        assertEquals(5, storage.getArtifactVersions(groupId, artifactId).size());
+        for (int idx = 1; idx <= 5; idx++) {
+            String content = storage.getArtifactVersionContent(groupId, artifactId, String.valueOf(idx))
+                    .getContent().content();
+            assertEquals(largeContent(idx), content);
+        }
+    }
+
+    private void importGroupAndArtifact(String groupId, String artifactId) {
+        storage.importGroup(createGroup(groupId));
+        storage.importArtifact(createArtifact(groupId, artifactId));
+    }
+
+    private static GroupEntity createGroup(String groupId) {
+        var group = new GroupEntity();
+        group.groupId = groupId;
+        return group;
+    }
+
+    private static ArtifactEntity createArtifact(String groupId, String artifactId) {
+        var artifact = new ArtifactEntity();
+        artifact.groupId = groupId;
+        artifact.artifactId = artifactId;
+        artifact.artifactType = "JSON";
+        return artifact;
+    }
+
+    private ContentEntity createContent(String data) {
+        var content = new ContentEntity();
+        content.contentId = storage.nextContentId();
+        content.contentBytes = data.getBytes(StandardCharsets.UTF_8);
+        content.contentHash = DigestUtils.sha256Hex(content.contentBytes);
+        content.canonicalHash = content.contentHash;
+        content.artifactType = "JSON";
+        content.contentType = "application/json";
+        return content;
+    }
+
+    private ArtifactVersionEntity createVersion(String groupId, String artifactId, int versionOrder,
+            long contentId) {
+        var version = new ArtifactVersionEntity();
+        version.groupId = groupId;
+        version.artifactId = artifactId;
+        version.version = String.valueOf(versionOrder);
+        version.versionOrder = versionOrder;
+        version.globalId = storage.nextGlobalId();
+        version.contentId = contentId;
+        version.state = VersionState.ENABLED;
+        return version;
+    }
+
+    private static String largeContent(int idx) {
+        return "{\"idx\":" + idx + ",\"description\":\"" + "x".repeat(LARGE_CONTENT_SIZE) + "\"}";
+    }
+}
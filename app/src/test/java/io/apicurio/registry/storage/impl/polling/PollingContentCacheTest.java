@@ -0,0 +1,133 @@
+package io.apicurio.registry.storage.impl.polling;
+
+import io.apicurio.registry.storage.impl.polling.PollingContentCache.ProcessedContent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PollingContentCacheTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PollingContentCacheTest.class);
+
+    private static final String VERSION = "3.2.2";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void unchangedContentIsProcessedOnce() {
+        var cache = new PollingContentCache(log, null, VERSION);
+        var count = new AtomicInteger();
+
+        var first = cache.get(bytes("a"), "application/json", null, () -> process(count, "a"));
+        var second = cache.get(bytes("a"), "application/json", null, () -> process(count, "a"));
+        assertEquals(1, count.get());
+        assertEquals(first, second);
+
+        // Same data with a different declared artifact type is processed again
+        cache.get(bytes("a"), "application/json", "JSON", () -> process(count, "a"));
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    void unusedEntriesAreEvicted() {
+        var cache = new PollingContentCache(log, null, VERSION);
+        var count = new AtomicInteger();
+
+        cache.get(bytes("a"), "application/json", null, () -> process(count, "a"));
+        cache.get(bytes("b"), "application/json", null, () -> process(count, "b"));
+        cache.loadCompleted(Set.of());
+
+        // Incremental load: only "a" is used, "b" is still loaded and not evicted
+        cache.get(bytes("a"), "application/json", null, () -> process(count, "a"));
+        cache.loadCompleted(Set.of("hash-a", "hash-b"));
+        cache.get(bytes("a"), "application/json", null, () -> process(count, "a"));
+        cache.get(bytes("b"), "application/json", null, () -> process(count, "b"));
+        cache.loadCompleted(Set.of());
+        assertEquals(2, count.get());
+
+        // Incremental load: "b" has been replaced by "c", so it is evicted
+        cache.get(bytes("c"), "application/json", null, () -> process(count, "c"));
+        cache.loadCompleted(Set.of("hash-a", "hash-c"));
+        cache.get(bytes("a"), "application/json", null, () -> process(count, "a"));
+        cache.get(bytes("c"), "application/json", null, () -> process(count, "c"));
+        assertEquals(3, count.get());
+        cache.get(bytes("b"), "application/json", null, () -> process(count, "b"));
+        assertEquals(4, count.get());
+    }
+
+    @Test
+    void cacheIsPersisted() {
+        var path = tempDir.resolve("cache/content.json");
+        var cache = new PollingContentCache(log, path, VERSION);
+        var count = new AtomicInteger();
+        var processed = cache.get(bytes("a"), "application/json", null, () -> process(count, "a"));
+        cache.loadCompleted(Set.of());
+
+        var reloaded = new PollingContentCache(log, path, VERSION);
+        assertEquals(processed, reloaded.get(bytes("a"), "application/json", null, () -> process(count, "a")));
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void cacheSavedByDifferentVersionIsDiscarded() throws IOException {
+        var path = tempDir.resolve("cache/content.json");
+        var cache = new PollingContentCache(log, path, VERSION);
+        var count = new AtomicInteger();
+        cache.get(bytes("a"), "application/json", null, () -> process(count, "a"));
+        cache.loadCompleted(Set.of());
+
+        var upgraded = new PollingContentCache(log, path, "3.2.3");
+        upgraded.get(bytes("a"), "application/json", null, () -> process(count, "a"));
+        assertEquals(2, count.get());
+        upgraded.loadCompleted(Set.of());
+
+        // Saved again with the new stamp
+        var reloaded = new PollingContentCache(log, path, "3.2.3");
+        reloaded.get(bytes("a"), "application/json", null, () -> process(count, "a"));
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    void cacheWithMismatchedStampIsDiscarded() throws IOException {
+        var path = tempDir.resolve("cache/content.json");
+        var cache = new PollingContentCache(log, path, VERSION);
+        var count = new AtomicInteger();
+        cache.get(bytes("a"), "application/json", null, () -> process(count, "a"));
+        cache.loadCompleted(Set.of());
+
+        // Same registry version, but saved in another format
+        String saved = Files.readString(path);
+        assertTrue(saved.contains("\"1:" + VERSION + "\""));
+        Files.writeString(path, saved.replace("\"1:" + VERSION + "\"", "\"0:" + VERSION + "\""));
+        new PollingContentCache(log, path, VERSION).get(bytes("a"), "application/json", null,
+                () -> process(count, "a"));
+        assertEquals(2, count.get());
+
+        // Saved without any stamp
+        Files.writeString(path, "{}");
+        new PollingContentCache(log, path, VERSION).get(bytes("a"), "application/json", null,
+                () -> process(count, "a"));
+        assertEquals(3, count.get());
+    }
+
+    private static byte[] bytes(String data) {
+        return data.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static ProcessedContent process(AtomicInteger count, String data) {
+        count.incrementAndGet();
+        return new ProcessedContent(null, "application/json", "JSON", "hash-" + data, "canonical-" + data);
+    }
+}
@@ -59,6 +59,9 @@ public class ReadOnlyRegistryStorageTest {
                         new State(true,
                                 s -> s.createArtifactVersion(null, null, null, null, null, null, null, false,
                                         false, null))),
+                entry("createArtifactVersionIfAbsent7",
+                        new State(true,
+                                s -> s.createArtifactVersionIfAbsent(null, null, null, null, false, null, 0))),
                 entry("createArtifactVersionIfLatest11",
                         new State(true,
                                 s -> s.createArtifactVersionIfLatest(null, null, null, null, null, null, null,
@@ -113,6 +116,9 @@ public class ReadOnlyRegistryStorageTest {
                 entry("getArtifactVersionMetaDataByContent5",
                         new State(false,
                                 s -> s.getArtifactVersionMetaDataByContent(null, null, false, null, null))),
+                entry("getArtifactVersionMetaDataByDereferencedContent3",
+                        new State(false,
+                                s -> s.getArtifactVersionMetaDataByDereferencedContent(null, null, null))),
                 entry("getArtifactVersions2", new State(false, s -> s.getArtifactVersions(null, null))),
                 entry("getArtifactVersions3",
                         new State(false,
@@ -150,8 +156,10 @@ public class ReadOnlyRegistryStorageTest {
                 entry("importArtifactRule1", new State(true, s -> s.importArtifactRule(null))),
                 entry("importArtifact1", new State(true, s -> s.importArtifact(null))),
                 entry("importArtifactVersion1", new State(true, s -> s.importArtifactVersion(null))),
+                entry("importArtifactVersions1", new State(true, s -> s.importArtifactVersions(null))),
                 entry("importComment1", new State(true, s -> s.importComment(null))),
                 entry("importContent1", new State(true, s -> s.importContent(null))),
+                entry("importContents1", new State(true, s -> s.importContents(null))),
                 entry("importData3", new State(true, s -> s.importData(null, false, false))),
                 entry("importGlobalRule1", new State(true, s -> s.importGlobalRule(null))),
                 entry("importGroup1", new State(true, s -> s.importGroup(null))),
@@ -181,6 +189,8 @@ public class ReadOnlyRegistryStorageTest {
                 entry("searchGroups5", new State(false, s -> s.searchGroups(null, null, null, null, null))),
                 entry("searchRoleMappings2", new State(false, s -> s.searchRoleMappings(0, 20))),
                 entry("searchVersions5", new State(false, s -> s.searchVersions(null, null, null, 0, 0))),
+                entry("searchVersionContents5",
+                        new State(false, s -> s.searchVersionContents(null, false, false, 0, 0))),
                 entry("setConfigProperty1", new State(true, s -> {
                     var dto = new DynamicConfigPropertyDto();
                     dto.setName("test");
@@ -200,6 +210,8 @@ public class ReadOnlyRegistryStorageTest {
                         new State(true, s -> s.updateBranchMetaData(null, null, null))),
                 entry("updateContentCanonicalHash3",
                         new State(true, s -> s.updateContentCanonicalHash(null, 0, null))),
+                entry("updateDereferencedContentHashes0",
+                        new State(true, RegistryStorage::updateDereferencedContentHashes)),
                 entry("updateGlobalRule2", new State(true, s -> s.updateGlobalRule(null, null))),
                 entry("updateGroupMetaData2", new State(true, s -> s.updateGroupMetaData(null, null))),
                 entry("updateRoleMapping2", new State(true, s -> s.updateRoleMapping(null, null))),
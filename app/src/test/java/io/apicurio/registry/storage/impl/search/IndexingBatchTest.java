@@ -0,0 +1,79 @@
+package io.apicurio.registry.storage.impl.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the coalescing of indexing operations by {@link IndexingBatch}.
+ */
+class IndexingBatchTest {
+
+    private static IndexingOperation.IndexVersion index(String groupId, String artifactId, long globalId) {
+        return new IndexingOperation.IndexVersion(groupId, artifactId, String.valueOf(globalId), globalId);
+    }
+
+    private static IndexingOperation.DeleteVersion delete(String groupId, String artifactId, long globalId) {
+        return new IndexingOperation.DeleteVersion(groupId, artifactId, String.valueOf(globalId), globalId);
+    }
+
+    @Test
+    void repeatedIndexingIsCoalesced() {
+        var batch = IndexingBatch.of(List.of(index("g", "a", 1), index("g", "a", 2), index("g", "a", 1)));
+
+        assertEquals(3, batch.size());
+        assertEquals(2, batch.getVersionsToIndex().size());
+        assertTrue(batch.getVersionsToDelete().isEmpty());
+        assertTrue(batch.getBulkDeletes().isEmpty());
+    }
+
+    @Test
+    void lastOperationOnVersionWins() {
+        var batch = IndexingBatch.of(List.of(index("g", "a", 1), delete("g", "a", 1)));
+
+        assertTrue(batch.getVersionsToIndex().isEmpty());
+        assertEquals(List.of(delete("g", "a", 1)), batch.getVersionsToDelete());
+    }
+
+    @Test
+    void artifactDeleteDiscardsEarlierOperationsOnItsVersions() {
+        var batch = IndexingBatch.of(List.of(
+                index("g", "a", 1),
+                index("g", "b", 2),
+                delete("g", "a", 3),
+                new IndexingOperation.DeleteArtifact("g", "a"),
+                index("g", "a", 4)));
+
+        assertEquals(List.of(new IndexingOperation.DeleteArtifact("g", "a")), batch.getBulkDeletes());
+        // Version 4 was created after the delete, so it must still be indexed (after the delete)
+        assertEquals(List.of(index("g", "b", 2), index("g", "a", 4)), batch.getVersionsToIndex());
+        assertTrue(batch.getVersionsToDelete().isEmpty());
+    }
+
+    @Test
+    void groupDeleteSupersedesArtifactDeletes() {
+        var batch = IndexingBatch.of(List.of(
+                new IndexingOperation.DeleteArtifact(null, "a"),
+                index(null, "b", 1),
+                index("other", "b", 2),
+                new IndexingOperation.DeleteGroup("default")));
+
+        assertEquals(List.of(new IndexingOperation.DeleteGroup("default")), batch.getBulkDeletes());
+        assertEquals(List.of(index("other", "b", 2)), batch.getVersionsToIndex());
+    }
+
+    @Test
+    void allDataDeleteDiscardsEverythingBefore() {
+        var batch = IndexingBatch.of(List.of(
+                index("g", "a", 1),
+                new IndexingOperation.DeleteGroup("g"),
+                new IndexingOperation.DeleteAllData(),
+                index("g", "a", 2)));
+
+        assertEquals(List.of(new IndexingOperation.DeleteAllData()), batch.getBulkDeletes());
+        assertEquals(List.of(index("g", "a", 2)), batch.getVersionsToIndex());
+    }
+}
@@ -32,6 +32,7 @@ import io.apicurio.registry.storage.dto.RuleConfigurationDto;
 import io.apicurio.registry.storage.dto.SearchFilter;
 import io.apicurio.registry.storage.dto.StoredArtifactVersionDto;
 import io.apicurio.registry.storage.dto.VersionContentDto;
+import io.apicurio.registry.storage.dto.VersionRegistrationDto;
 import io.apicurio.registry.storage.dto.VersionSearchResultsDto;
 import io.apicurio.registry.storage.error.ArtifactNotFoundException;
 import io.apicurio.registry.storage.error.CommitFailedException;
@@ -245,6 +246,12 @@ public class TestInMemoryRegistryStorage implements RegistryStorage {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<VersionContentDto> searchVersionContents(String artifactIdPrefix, boolean includeDisabled,
+            boolean latestOnly, int offset, int limit) throws RegistryStorageException {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public ArtifactVersionMetaDataDto getArtifactVersionMetaData(String groupId, String artifactId,
             String version) throws RegistryStorageException {
@@ -323,6 +330,14 @@ public class TestInMemoryRegistryStorage implements RegistryStorage {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public VersionRegistrationDto createArtifactVersionIfAbsent(String groupId, String artifactId,
+            String artifactType, ContentWrapperDto content, boolean canonical, String owner,
+            int expectedBaseVersionOrder)
+            throws RegistryStorageException {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public Set<String> getArtifactIds(Integer limit) {
         throw new UnsupportedOperationException();
@@ -346,6 +361,12 @@ public class TestInMemoryRegistryStorage implements RegistryStorage {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public ArtifactVersionMetaDataDto getArtifactVersionMetaDataByDereferencedContent(String groupId,
+            String artifactId, TypedContent content) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void updateArtifactMetaData(String groupId, String artifactId,
             EditableArtifactMetaDataDto metaData) {
@@ -753,6 +774,11 @@ public class TestInMemoryRegistryStorage implements RegistryStorage {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void importContents(List<ContentEntity> entities) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void importArtifact(ArtifactEntity entity) {
         throw new UnsupportedOperationException();
@@ -763,6 +789,11 @@ public class TestInMemoryRegistryStorage implements RegistryStorage {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void importArtifactVersions(List<ArtifactVersionEntity> entities) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void importArtifactRule(ArtifactRuleEntity entity) {
         throw new UnsupportedOperationException();
@@ -799,6 +830,11 @@ public class TestInMemoryRegistryStorage implements RegistryStorage {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void updateDereferencedContentHashes() {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public Optional<Long> contentIdFromHash(String contentHash) {
         throw new UnsupportedOperationException();
@@ -1,7 +1,9 @@
 package io.apicurio.registry.util;
 
 import io.apicurio.registry.AbstractRegistryTestBase;
+import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.content.util.ContentTypeUtil;
 import io.apicurio.registry.storage.error.InvalidArtifactTypeException;
 import io.apicurio.registry.types.ArtifactType;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class ArtifactTypeUtilTest extends AbstractRegistryTestBase {
 
@@ -161,4 +164,33 @@ class ArtifactTypeUtilTest extends AbstractRegistryTestBase {
         Assertions.assertEquals(ArtifactType.WSDL, type);
     }
 
+    /**
+     * The sniffing pre-pass of the type discovery must skip leading whitespace.
+     */
+    @Test
+    void testDiscoverType_LeadingWhitespace() {
+        TypedContent content = resourceToTypedContentHandle("json-schema.json");
+        content = TypedContent.create("\n\t  " + content.getContent().content(), content.getContentType());
+        String type = ArtifactTypeUtil.determineArtifactType(content, null, artifactTypeUtilProviderFactory);
+        Assertions.assertEquals(ArtifactType.JSON, type);
+
+        content = resourceToTypedContentHandle("avro-simple.avsc");
+        content = TypedContent.create("  " + content.getContent().content(), content.getContentType());
+        type = ArtifactTypeUtil.determineArtifactType(content, null, artifactTypeUtilProviderFactory);
+        Assertions.assertEquals(ArtifactType.AVRO, type);
+    }
+
+    /**
+     * The content accepters share the parsed form of the content instead of parsing it again.
+     */
+    @Test
+    void testDiscoverType_SharesParsedContent() throws Exception {
+        TypedContent content = resourceToTypedContentHandle("openapi.json");
+        String type = ArtifactTypeUtil.determineArtifactType(content, null, artifactTypeUtilProviderFactory);
+        Assertions.assertEquals(ArtifactType.OPENAPI, type);
+
+        ContentHandle handle = content.getContent();
+        assertSame(ContentTypeUtil.getJsonTree(handle), ContentTypeUtil.getJsonTree(handle));
+        Assertions.assertNotSame(ContentTypeUtil.parseJson(handle), ContentTypeUtil.getJsonTree(handle));
+    }
 }
@@ -41,6 +41,27 @@ public class IoUtil {
         }
     }
 
+    /**
+     * Writes a single zip entry, whose data has already been read from the zip stream, to an output
+     * directory.
+     * 
+     * @param entry
+     * @param data
+     * @param outputDirectory
+     */
+    public static void unpackToDisk(ZipEntry entry, byte[] data, Path outputDirectory) throws IOException {
+        Path entryPath = zipPath(entry, outputDirectory);
+        if (entry.isDirectory()) {
+            Files.createDirectories(entryPath);
+        } else {
+            Path parentPath = entryPath.getParent();
+            if (parentPath != null && Files.notExists(parentPath)) {
+                Files.createDirectories(parentPath);
+            }
+            Files.write(entryPath, data);
+        }
+    }
+
     private static Path zipPath(ZipEntry entry, Path targetDir) throws IOException {
         Path targetDirResolved = targetDir.resolve(entry.getName());
         Path normalizedPath = targetDirResolved.normalize();
@@ -25,6 +25,8 @@ import java.time.Duration;
  */
 public final class JdkAdapterFactory {
 
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
+
     private JdkAdapterFactory() {
         // Prevent instantiation
     }
@@ -42,9 +44,43 @@ public final class JdkAdapterFactory {
                     "Custom WebClient is not supported with JDK adapter. Use VERTX adapter type instead.");
         }
 
+        HttpClient httpClient = buildHttpClient(options);
+
+        // Create adapter based on auth type
+        switch (options.getAuthType()) {
+            case ANONYMOUS:
+                return new JDKRequestAdapter(httpClient);
+
+            case BASIC:
+                String basicAuthHeader = JdkAuthFactory.buildBasicAuthHeaderValue(
+                        options.getUsername(), options.getPassword());
+                return new JdkAuthenticatedRequestAdapter(httpClient, basicAuthHeader);
+
+            case OAUTH2:
+                JdkAuthFactory.TokenProvider tokenProvider = JdkAuthFactory.buildOAuth2TokenProvider(
+                        httpClient, options.getTokenEndpoint(), options.getClientId(),
+                        options.getClientSecret(), options.getScope());
+                return new JdkOAuth2RequestAdapter(httpClient, tokenProvider);
+
+            default:
+                throw new IllegalArgumentException("Unsupported authentication type: " + options.getAuthType());
+        }
+    }
+
+    /**
+     * Builds the HttpClient shared by all requests of an adapter (and the OAuth2 token requests),
+     * so that connections are pooled, or multiplexed when HTTP/2 is enabled.
+     */
+    static HttpClient buildHttpClient(RegistryClientOptions options) {
         HttpClient.Builder builder = HttpClient.newBuilder()
-                .version(HttpClient.Version.HTTP_1_1)
-                .connectTimeout(Duration.ofSeconds(30));
+                .version(options.getHttpVersion() == RegistryClientOptions.HttpVersion.HTTP_2
+                        ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.getConnectTimeoutMs() != null
+                        ? Duration.ofMillis(options.getConnectTimeoutMs()) : DEFAULT_CONNECT_TIMEOUT);
+
+        if (options.getExecutor() != null) {
+            builder.executor(options.getExecutor());
+        }
 
         // Configure SSL/TLS
         if (JdkSslContextFactory.hasSslConfig(options)) {
@@ -65,27 +101,7 @@ public final class JdkAdapterFactory {
             }
         }
 
-        HttpClient httpClient = builder.build();
-
-        // Create adapter based on auth type
-        switch (options.getAuthType()) {
-            case ANONYMOUS:
-                return new JDKRequestAdapter(httpClient);
-
-            case BASIC:
-                String basicAuthHeader = JdkAuthFactory.buildBasicAuthHeaderValue(
-                        options.getUsername(), options.getPassword());
-                return new JdkAuthenticatedRequestAdapter(httpClient, basicAuthHeader);
-
-            case OAUTH2:
-                JdkAuthFactory.TokenProvider tokenProvider = JdkAuthFactory.buildOAuth2TokenProvider(
-                        httpClient, options.getTokenEndpoint(), options.getClientId(),
-                        options.getClientSecret(), options.getScope());
-                return new JdkOAuth2RequestAdapter(httpClient, tokenProvider);
-
-            default:
-                throw new IllegalArgumentException("Unsupported authentication type: " + options.getAuthType());
-        }
+        return builder.build();
     }
 
     /**
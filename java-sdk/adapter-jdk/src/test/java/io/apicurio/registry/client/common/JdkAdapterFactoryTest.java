@@ -0,0 +1,60 @@
+package io.apicurio.registry.client.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the HttpClient connection settings of the JDK adapter.
+ */
+class JdkAdapterFactoryTest {
+
+    @Test
+    void testDefaultHttpClient() {
+        RegistryClientOptions options = RegistryClientOptions.create()
+                .registryUrl("http://localhost:8080");
+
+        HttpClient httpClient = JdkAdapterFactory.buildHttpClient(options);
+
+        assertEquals(HttpClient.Version.HTTP_1_1, httpClient.version());
+        assertEquals(Optional.of(Duration.ofSeconds(30)), httpClient.connectTimeout());
+        assertTrue(httpClient.executor().isEmpty());
+    }
+
+    @Test
+    void testHttp2WithExecutorAndConnectTimeout() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            RegistryClientOptions options = RegistryClientOptions.create()
+                    .registryUrl("http://localhost:8080")
+                    .http2()
+                    .connectTimeout(5000)
+                    .executor(executor);
+
+            HttpClient httpClient = JdkAdapterFactory.buildHttpClient(options);
+
+            assertEquals(HttpClient.Version.HTTP_2, httpClient.version());
+            assertEquals(Optional.of(Duration.ofMillis(5000)), httpClient.connectTimeout());
+            assertSame(executor, httpClient.executor().orElse(null));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInvalidConnectionOptions() {
+        RegistryClientOptions options = RegistryClientOptions.create();
+
+        assertThrows(IllegalArgumentException.class, () -> options.httpVersion(null));
+        assertThrows(IllegalArgumentException.class, () -> options.connectTimeout(0));
+    }
+}
@@ -5,6 +5,7 @@ import io.apicurio.registry.client.common.auth.VertXAuthFactory;
 import io.kiota.http.vertx.VertXRequestAdapter;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JksOptions;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
@@ -123,12 +124,24 @@ public final class VertxAdapterFactory {
 
         boolean hasProxyConfig = options.getProxyHost() != null;
 
-        if (!hasSslConfig && !hasProxyConfig) {
+        boolean hasHttp2 = options.getHttpVersion() == RegistryClientOptions.HttpVersion.HTTP_2;
+
+        if (!hasSslConfig && !hasProxyConfig && !hasHttp2 && options.getConnectTimeoutMs() == null) {
             return null;
         }
 
         WebClientOptions webClientOptions = new WebClientOptions();
 
+        if (options.getConnectTimeoutMs() != null) {
+            webClientOptions.setConnectTimeout((int) Math.min(options.getConnectTimeoutMs(), Integer.MAX_VALUE));
+        }
+
+        if (hasHttp2) {
+            webClientOptions.setProtocolVersion(HttpVersion.HTTP_2);
+            webClientOptions.setUseAlpn(true);
+            webClientOptions.setHttp2ClearTextUpgrade(true);
+        }
+
         if (hasSslConfig) {
             webClientOptions.setSsl(true);
         }
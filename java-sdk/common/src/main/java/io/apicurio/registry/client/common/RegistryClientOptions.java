@@ -3,6 +3,8 @@ package io.apicurio.registry.client.common;
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.client.WebClient;
 
+import java.util.concurrent.Executor;
+
 /**
  * Configuration options for creating a RegistryClient. This class encapsulates all the
  * configuration parameters needed to create different types of registry clients.
@@ -79,6 +81,14 @@ public class RegistryClientOptions {
         NONE     // No client certificate configured
     }
 
+    /**
+     * HTTP protocol version enumeration.
+     */
+    public enum HttpVersion {
+        HTTP_1_1,
+        HTTP_2
+    }
+
     private String registryUrl;
     private boolean normalizeRegistryUrl = true;
     // Provided vertx
@@ -121,6 +131,9 @@ public class RegistryClientOptions {
     private String proxyPassword;
     // HTTP adapter config
     private HttpAdapterType httpAdapterType = HttpAdapterType.AUTO;
+    private HttpVersion httpVersion = HttpVersion.HTTP_1_1;
+    private Long connectTimeoutMs;
+    private Executor executor;
     // OpenTelemetry config
     private boolean otelEnabled = false;
 
@@ -267,6 +280,18 @@ public class RegistryClientOptions {
         return httpAdapterType;
     }
 
+    public HttpVersion getHttpVersion() {
+        return httpVersion;
+    }
+
+    public Long getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
     public boolean isOtelEnabled() {
         return otelEnabled;
     }
@@ -814,6 +839,69 @@ public class RegistryClientOptions {
         return this;
     }
 
+    /**
+     * Sets the HTTP protocol version used to connect to the registry. The default is HTTP/1.1.
+     *
+     * <p>With {@link HttpVersion#HTTP_2}, concurrent requests are multiplexed as streams over a single
+     * connection instead of opening a connection per in-flight request, which reduces the number of
+     * connections (and TLS handshakes) when many serdes or resolvers warm up in parallel.
+     * HTTPS connections negotiate the version using ALPN, plain HTTP connections try to upgrade
+     * to h2c. If the server does not support HTTP/2, the client falls back to HTTP/1.1.</p>
+     *
+     * @param httpVersion the HTTP protocol version to use
+     * @return this builder
+     */
+    public RegistryClientOptions httpVersion(HttpVersion httpVersion) {
+        if (httpVersion == null) {
+            throw new IllegalArgumentException("HTTP version cannot be null");
+        }
+        this.httpVersion = httpVersion;
+        return this;
+    }
+
+    /**
+     * Enables HTTP/2, see {@link #httpVersion(HttpVersion)}.
+     *
+     * @return this builder
+     */
+    public RegistryClientOptions http2() {
+        return httpVersion(HttpVersion.HTTP_2);
+    }
+
+    /**
+     * Sets the timeout for establishing a connection to the registry. If not set, the default of the
+     * HTTP adapter is used (30 seconds for the JDK adapter, 60 seconds for the Vert.x adapter).
+     *
+     * @param connectTimeoutMs the connect timeout in milliseconds
+     * @return this builder
+     * @throws IllegalArgumentException if the timeout is not positive
+     */
+    public RegistryClientOptions connectTimeout(long connectTimeoutMs) {
+        if (connectTimeoutMs <= 0) {
+            throw new IllegalArgumentException("Connect timeout must be positive");
+        }
+        this.connectTimeoutMs = connectTimeoutMs;
+        return this;
+    }
+
+    /**
+     * Sets the executor used by the HTTP client for asynchronous tasks, such as completing response
+     * futures. If not set, the HTTP client uses its own default thread pool.
+     *
+     * <p>On Java 21 or later, {@code Executors.newVirtualThreadPerTaskExecutor()} can be used to run
+     * these tasks on virtual threads. The executor is not shut down by the client.</p>
+     *
+     * <p><strong>Note:</strong> This option only applies to the {@link HttpAdapterType#JDK} adapter.
+     * The Vert.x adapter runs on the event loop of the configured {@link Vertx} instance.</p>
+     *
+     * @param executor the executor to use, or null to use the default one
+     * @return this builder
+     */
+    public RegistryClientOptions executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
     /**
      * Enables OpenTelemetry trace context propagation for outgoing HTTP requests.
      * When enabled, W3C trace context headers ({@code traceparent}, {@code tracestate})
@@ -2,6 +2,7 @@ package io.apicurio.registry.resolver;
 
 import io.apicurio.registry.resolver.cache.ContentWithReferences;
 import io.apicurio.registry.resolver.cache.ERCache;
+import io.apicurio.registry.resolver.client.AsyncRegistryClientFacade;
 import io.apicurio.registry.resolver.client.RegistryArtifactReference;
 import io.apicurio.registry.resolver.client.RegistryClientFacade;
 import io.apicurio.registry.resolver.client.RegistryClientFacadeFactory;
@@ -23,6 +24,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Base implementation of {@link SchemaResolver}
@@ -42,6 +50,9 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
 
     protected boolean resolveDereferenced;
 
+    private volatile ExecutorService lookupExecutor;
+    private volatile AsyncRegistryClientFacade asyncClientFacade;
+
     @Override
     public void configure(Map<String, ?> configs, SchemaParser<S, T> schemaParser) {
         this.schemaParser = schemaParser;
@@ -93,6 +104,55 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
         }
 
         this.resolveDereferenced = config.resolveDereferenced();
+
+        long lookupThreads = config.getLookupExecutorThreads();
+        if (lookupThreads <= 0) {
+            throw new IllegalArgumentException("Lookup executor threads must be positive");
+        }
+        if (lookupThreads > 1 && lookupExecutor == null) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor((int) lookupThreads, (int) lookupThreads,
+                    60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                        Thread thread = new Thread(r);
+                        thread.setDaemon(true);
+                        thread.setName("schema-resolver-lookup-" + thread.getId());
+                        return thread;
+                    });
+            // Lookups are rare once the cache is warm, do not keep idle threads around
+            executor.allowCoreThreadTimeOut(true);
+            lookupExecutor = executor;
+        }
+    }
+
+    /**
+     * Returns the asynchronous view of the client facade, used to make independent requests to the
+     * Registry concurrently on the lookup executor (or on the calling thread, if there is none).
+     */
+    protected AsyncRegistryClientFacade asyncClientFacade() {
+        AsyncRegistryClientFacade facade = asyncClientFacade;
+        if (facade == null || facade.getDelegate() != clientFacade) {
+            ExecutorService executor = lookupExecutor;
+            facade = new AsyncRegistryClientFacade(clientFacade, executor != null ? executor : Runnable::run);
+            asyncClientFacade = facade;
+        }
+        return facade;
+    }
+
+    /**
+     * Waits for the result of an asynchronous lookup, rethrowing its failure as is (rather than wrapped in
+     * a {@link CompletionException}), so that callers see the same exceptions as for a blocking lookup.
+     */
+    protected static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -174,12 +234,14 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
     }
 
     private SchemaLookupResult<S> resolveSchemaWithReferences(long globalId) {
-        String rawSchema = this.clientFacade.getSchemaByGlobalId(globalId, false);
+        // Fetch the schema while its references are resolved
+        CompletableFuture<String> schemaFuture = asyncClientFacade().getSchemaByGlobalId(globalId, false);
 
         // Get the artifact references
-        final List<RegistryArtifactReference> artifactReferences = this.clientFacade.getReferencesByGlobalId(globalId);
         // If there are any references for the schema being parsed, resolve them before parsing the schema
-        final Map<String, ParsedSchema<S>> resolvedReferences = resolveReferences(artifactReferences);
+        final Map<String, ParsedSchema<S>> resolvedReferences = join(asyncClientFacade()
+                .getReferencesByGlobalId(globalId).thenCompose(this::resolveReferencesAsync));
+        String rawSchema = join(schemaFuture);
 
         byte[] schema = rawSchema.getBytes(StandardCharsets.UTF_8);
         S parsed = schemaParser.parseSchema(schema, resolvedReferences);
@@ -193,23 +255,91 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
     }
 
     protected Map<String, ParsedSchema<S>> resolveReferences(List<RegistryArtifactReference> artifactReferences) {
-        return resolveReferences(artifactReferences, new HashMap<>());
+        return join(resolveReferencesAsync(artifactReferences));
+    }
+
+    /**
+     * Resolves artifact references recursively and concurrently, see
+     * {@link #resolveReferences(List, ResolutionPass, ArtifactCoordinates)}.
+     */
+    protected CompletableFuture<Map<String, ParsedSchema<S>>> resolveReferencesAsync(
+            List<RegistryArtifactReference> artifactReferences) {
+        return resolveReferences(artifactReferences, new ResolutionPass<>(), null);
+    }
+
+    /**
+     * A resolved reference, with the (recursively) resolved references it was parsed with.
+     */
+    private record ResolvedReference<S>(ParsedSchema<S> parsed, Map<String, ParsedSchema<S>> nested) {
+    }
+
+    /**
+     * The state of a single resolution pass: the GAV lookups that are resolved or being resolved, and which
+     * references each reference being resolved waits for. A reference that would wait, directly or not, for
+     * itself is a circular reference: its lookup would never complete.
+     */
+    private static final class ResolutionPass<S> {
+
+        private final Map<ArtifactCoordinates, CompletableFuture<ResolvedReference<S>>> gavCache =
+                new ConcurrentHashMap<>();
+
+        // Only contains the references that are still being resolved
+        private final Map<ArtifactCoordinates, Set<ArtifactCoordinates>> waitingFor = new HashMap<>();
+
+        /**
+         * Records that a reference being resolved waits for another one.
+         *
+         * @return false if the other reference (transitively) waits for the first one
+         */
+        synchronized boolean addDependency(ArtifactCoordinates from, ArtifactCoordinates to) {
+            if (isWaitingFor(to, from, new HashSet<>())) {
+                return false;
+            }
+            waitingFor.computeIfAbsent(from, k -> new HashSet<>()).add(to);
+            return true;
+        }
+
+        synchronized void resolved(ArtifactCoordinates coords) {
+            waitingFor.remove(coords);
+        }
+
+        private boolean isWaitingFor(ArtifactCoordinates from, ArtifactCoordinates target,
+                Set<ArtifactCoordinates> visited) {
+            if (from.equals(target)) {
+                return true;
+            }
+            if (!visited.add(from)) {
+                return false;
+            }
+            for (ArtifactCoordinates next : waitingFor.getOrDefault(from, Set.of())) {
+                if (isWaitingFor(next, target, visited)) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 
     /**
      * Resolves artifact references recursively, using a local deduplication cache to avoid
      * redundant Registry API calls for the same groupId/artifactId/version across the
-     * resolution tree.
+     * resolution tree. The content and the references of every reference are fetched
+     * concurrently, and so are sibling references.
      *
      * @param artifactReferences the references to resolve
-     * @param gavCache local cache of already-resolved GAV lookups within this resolution pass
+     * @param pass the state of this resolution pass, shared by the whole resolution tree
+     * @param parent the GAV of the reference that has these references, or null for the top-level ones
      * @return map of reference name to parsed schema
      */
-    private Map<String, ParsedSchema<S>> resolveReferences(List<RegistryArtifactReference> artifactReferences,
-                                                            Map<ArtifactCoordinates, ParsedSchema<S>> gavCache) {
-        Map<String, ParsedSchema<S>> resolvedReferences = new HashMap<>();
+    private CompletableFuture<Map<String, ParsedSchema<S>>> resolveReferences(
+            List<RegistryArtifactReference> artifactReferences, ResolutionPass<S> pass,
+            ArtifactCoordinates parent) {
+        if (artifactReferences.isEmpty()) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
 
-        artifactReferences.forEach(reference -> {
+        List<CompletableFuture<ResolvedReference<S>>> futures = new ArrayList<>(artifactReferences.size());
+        for (RegistryArtifactReference reference : artifactReferences) {
             String groupId = reference.getGroupId() == null ? "default" : reference.getGroupId();
             String artifactId = reference.getArtifactId();
             String version = reference.getVersion();
@@ -217,33 +347,50 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
             ArtifactCoordinates coords = ArtifactCoordinates.builder()
                     .groupId(groupId).artifactId(artifactId).version(version).build();
 
+            // Waiting for a reference that waits for the parent, e.g. an ancestor in any branch or a
+            // sibling whose resolution is pending in this pass, would never complete
+            if (parent != null && !pass.addDependency(parent, coords)) {
+                return CompletableFuture.failedFuture(new IllegalStateException(
+                        "Circular reference detected while resolving " + coords));
+            }
+
             // Check the local deduplication cache first
-            ParsedSchema<S> cached = gavCache.get(coords);
+            CompletableFuture<ResolvedReference<S>> future = new CompletableFuture<>();
+            CompletableFuture<ResolvedReference<S>> cached = pass.gavCache.putIfAbsent(coords, future);
             if (cached != null) {
-                resolvedReferences.put(reference.getName(), cached);
-                return;
+                futures.add(cached);
+                continue;
             }
+            futures.add(future);
+
+            CompletableFuture<String> contentFuture = asyncClientFacade().getSchemaByGAV(groupId, artifactId,
+                    version);
+            asyncClientFacade().getReferencesByGAV(groupId, artifactId, version)
+                    .thenCompose(referenceReferences -> resolveReferences(referenceReferences, pass,
+                            coords))
+                    .thenCombine(contentFuture, (nestedReferences, referenceContent) -> new ResolvedReference<>(
+                            parseSchemaFromStream(reference.getName(), referenceContent,
+                                    nestedReferences.isEmpty() ? Collections.emptyMap() : nestedReferences),
+                            nestedReferences))
+                    .whenComplete((resolved, error) -> {
+                        pass.resolved(coords);
+                        if (error != null) {
+                            future.completeExceptionally(error);
+                        } else {
+                            future.complete(resolved);
+                        }
+                    });
+        }
 
-            final String referenceContent = this.clientFacade.getSchemaByGAV(groupId, artifactId, version);
-            final List<RegistryArtifactReference> referenceReferences =
-                    this.clientFacade.getReferencesByGAV(groupId, artifactId, version);
-
-            if (!referenceReferences.isEmpty()) {
-                final Map<String, ParsedSchema<S>> nestedReferences =
-                        resolveReferences(referenceReferences, gavCache);
-                resolvedReferences.putAll(nestedReferences);
-                ParsedSchema<S> parsed = parseSchemaFromStream(reference.getName(),
-                        referenceContent, nestedReferences);
-                resolvedReferences.put(reference.getName(), parsed);
-                gavCache.put(coords, parsed);
-            } else {
-                ParsedSchema<S> parsed = parseSchemaFromStream(reference.getName(),
-                        referenceContent, Collections.emptyMap());
-                resolvedReferences.put(reference.getName(), parsed);
-                gavCache.put(coords, parsed);
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> {
+            Map<String, ParsedSchema<S>> resolvedReferences = new HashMap<>();
+            for (int i = 0; i < futures.size(); i++) {
+                ResolvedReference<S> resolved = futures.get(i).join();
+                resolvedReferences.putAll(resolved.nested());
+                resolvedReferences.put(artifactReferences.get(i).getName(), resolved.parsed());
             }
+            return resolvedReferences;
         });
-        return resolvedReferences;
     }
 
     private ParsedSchema<S> parseSchemaFromStream(String name, String rawSchema,
@@ -268,6 +415,12 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
      */
     @Override
     public void close() throws IOException {
+        ExecutorService executor = lookupExecutor;
+        if (executor != null) {
+            lookupExecutor = null;
+            asyncClientFacade = null;
+            executor.shutdown();
+        }
     }
 
     protected SchemaLookupResult<S> loadFromVersionCoordinates(RegistryVersionCoordinates version, ParsedSchema<S> parsedSchema) {
@@ -16,6 +16,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -239,13 +240,14 @@ public class DefaultSchemaResolver<S, T> extends AbstractSchemaResolver<S, T> {
             // it's impossible to retrieve more info about the artifact with only the contentId, and that's ok
             // for this case
             ParsedSchemaImpl<S> ps = null;
-            String rawSchema = this.clientFacade.getSchemaByContentId(contentIdKey);
+            CompletableFuture<String> schemaFuture = asyncClientFacade().getSchemaByContentId(contentIdKey);
 
             // Get the artifact references
-            final List<RegistryArtifactReference> artifactReferences = this.clientFacade.getReferencesByContentId(contentId);
             // If there are any references for the schema being parsed, resolve them before parsing the
             // schema
-            final Map<String, ParsedSchema<S>> resolvedReferences = resolveReferences(artifactReferences);
+            final Map<String, ParsedSchema<S>> resolvedReferences = join(asyncClientFacade()
+                    .getReferencesByContentId(contentId).thenCompose(this::resolveReferencesAsync));
+            String rawSchema = join(schemaFuture);
 
             byte[] schema = rawSchema.getBytes(StandardCharsets.UTF_8);
             S parsed = schemaParser.parseSchema(schema, resolvedReferences);
@@ -263,12 +265,13 @@ public class DefaultSchemaResolver<S, T> extends AbstractSchemaResolver<S, T> {
             // ok for this case
             ParsedSchemaImpl<S> ps = null;
 
-            String rawSchema = this.clientFacade.getSchemaByContentHash(contentHashKey);
+            CompletableFuture<String> schemaFuture = asyncClientFacade().getSchemaByContentHash(contentHashKey);
 
             // Get the artifact references
-            final List<RegistryArtifactReference> artifactReferences = this.clientFacade.getReferencesByContentHash(contentHashKey);
             // If there are any references for the schema being parsed, resolve them before parsing the schema
-            final Map<String, ParsedSchema<S>> resolvedReferences = resolveReferences(artifactReferences);
+            final Map<String, ParsedSchema<S>> resolvedReferences = join(asyncClientFacade()
+                    .getReferencesByContentHash(contentHashKey).thenCompose(this::resolveReferencesAsync));
+            String rawSchema = join(schemaFuture);
 
             byte[] schema = rawSchema.getBytes(StandardCharsets.UTF_8);
             S parsed = schemaParser.parseSchema(schema, resolvedReferences);
@@ -373,14 +376,16 @@ public class DefaultSchemaResolver<S, T> extends AbstractSchemaResolver<S, T> {
         RegistryVersionCoordinates versionCoordinates = this.clientFacade.getVersionCoordinatesByGAV(groupId, artifactId, version);
 
         // Get the schema string (either dereferenced or not based on config)
-        String schemaString = this.clientFacade.getSchemaByGlobalId(versionCoordinates.getGlobalId(), resolveDereferenced);
+        CompletableFuture<String> schemaFuture = asyncClientFacade()
+                .getSchemaByGlobalId(versionCoordinates.getGlobalId(), resolveDereferenced);
         Map<String, ParsedSchema<S>> resolvedReferences = new HashMap<>();
         // If resolving dereference, we need to also fetch and resolve the references
         if (!resolveDereferenced) {
-            List<RegistryArtifactReference> artifactReferences = this.clientFacade.getReferencesByGlobalId(versionCoordinates.getGlobalId());
             // If there are any references for the schema being parsed, resolve them before parsing the schema
-            resolvedReferences = resolveReferences(artifactReferences);
+            resolvedReferences = join(asyncClientFacade().getReferencesByGlobalId(versionCoordinates.getGlobalId())
+                    .thenCompose(this::resolveReferencesAsync));
         }
+        String schemaString = join(schemaFuture);
 
         byte[] schema = schemaString.getBytes(StandardCharsets.UTF_8);
         S parsed = schemaParser.parseSchema(schema, resolvedReferences);
@@ -11,10 +11,12 @@ import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -351,40 +353,48 @@ public class ERCache<V> {
      * Schedules a background refresh for the given key using the loader function. The refresh is executed
      * asynchronously with a timeout. On successful refresh, the cache is updated. On failure, the error is
      * logged and the stale value continues to be served.
+     * <p>
+     * The timeout is enforced by the completion of a future rather than by a task waiting for the refresh,
+     * so that a refresh only occupies one executor thread.
      */
     private <T> void scheduleBackgroundRefresh(T key, Function<T, V> loaderFunction) {
         ExecutorService executor = getOrCreateRefreshExecutor();
         Duration effectiveTimeout = calculateEffectiveTimeout();
-        
-        Future<?> refreshFuture = executor.submit(() -> {
+
+        CompletableFuture<Result<V, RuntimeException>> refresh = new CompletableFuture<>();
+        Future<?> refreshTask;
+        try {
+            refreshTask = executor.submit(() -> {
+                try {
+                    log.debug("Background refresh started for key: {}", key);
+                    refresh.complete(performRefresh(key, loaderFunction));
+                } catch (Throwable e) {
+                    refresh.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Background refresh could not be scheduled for key: {}", key, e);
+            refreshInProgress.remove(key);
+            return;
+        }
+
+        refresh.orTimeout(effectiveTimeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((newValue, e) -> {
             try {
-                log.debug("Background refresh started for key: {}", key);
-                Result<V, RuntimeException> newValue = performRefresh(key, loaderFunction);
-                if (newValue.isOk()) {
+                if (e instanceof TimeoutException) {
+                    log.warn("Background refresh timed out for key: {} after {}ms", key, effectiveTimeout.toMillis());
+                    refreshTask.cancel(true);
+                } else if (e != null) {
+                    log.warn("Background refresh encountered unexpected error for key: {}", key, e);
+                } else if (newValue.isOk()) {
                     log.debug("Background refresh completed successfully for key: {}", key);
                 } else {
                     log.warn("Background refresh failed for key: {}", key, newValue.error);
                 }
-            } catch (Exception e) {
-                log.warn("Background refresh encountered unexpected error for key: {}", key, e);
             } finally {
                 // Always clear the refresh flag when done
                 refreshInProgress.remove(key);
             }
         });
-
-        // Monitor the future with timeout
-        executor.submit(() -> {
-            try {
-                refreshFuture.get(effectiveTimeout.toMillis(), TimeUnit.MILLISECONDS);
-            } catch (TimeoutException e) {
-                log.warn("Background refresh timed out for key: {} after {}ms", key, effectiveTimeout.toMillis());
-                refreshFuture.cancel(true);
-            } catch (Exception e) {
-                log.debug("Background refresh monitoring interrupted for key: {}", key, e);
-                refreshFuture.cancel(true);
-            }
-        });
     }
 
     /**
@@ -0,0 +1,79 @@
+package io.apicurio.registry.resolver.client;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous view of a {@link RegistryClientFacade}, used by the schema resolver to make independent
+ * requests to the Registry concurrently, e.g. to fetch the content and the references of a schema, or
+ * to resolve all the references of a schema, in parallel instead of one after the other.
+ *
+ * The generated (Kiota) clients used by the facade implementations are blocking, so every request
+ * occupies a thread of the given executor until it completes.  The number of threads of the executor
+ * therefore limits the number of concurrent requests to the Registry.
+ *
+ * <em>Note:</em> This class is considered internal.
+ */
+public class AsyncRegistryClientFacade {
+
+    private final RegistryClientFacade delegate;
+    private final Executor executor;
+
+    /**
+     * @param delegate the facade used to make the requests
+     * @param executor the executor that runs the requests, e.g. {@code Runnable::run} to run them on the
+     *            calling thread
+     */
+    public AsyncRegistryClientFacade(RegistryClientFacade delegate, Executor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    public RegistryClientFacade getDelegate() {
+        return delegate;
+    }
+
+    public CompletableFuture<String> getSchemaByContentId(Long contentId) {
+        return supply(() -> delegate.getSchemaByContentId(contentId));
+    }
+
+    public CompletableFuture<String> getSchemaByGlobalId(long globalId, boolean dereferenced) {
+        return supply(() -> delegate.getSchemaByGlobalId(globalId, dereferenced));
+    }
+
+    public CompletableFuture<String> getSchemaByGAV(String groupId, String artifactId, String version) {
+        return supply(() -> delegate.getSchemaByGAV(groupId, artifactId, version));
+    }
+
+    public CompletableFuture<String> getSchemaByContentHash(String contentHash) {
+        return supply(() -> delegate.getSchemaByContentHash(contentHash));
+    }
+
+    public CompletableFuture<List<RegistryArtifactReference>> getReferencesByContentId(long contentId) {
+        return supply(() -> delegate.getReferencesByContentId(contentId));
+    }
+
+    public CompletableFuture<List<RegistryArtifactReference>> getReferencesByGlobalId(long globalId) {
+        return supply(() -> delegate.getReferencesByGlobalId(globalId));
+    }
+
+    public CompletableFuture<List<RegistryArtifactReference>> getReferencesByGAV(String groupId,
+            String artifactId, String version) {
+        return supply(() -> delegate.getReferencesByGAV(groupId, artifactId, version));
+    }
+
+    public CompletableFuture<List<RegistryArtifactReference>> getReferencesByContentHash(String contentHash) {
+        return supply(() -> delegate.getReferencesByContentHash(contentHash));
+    }
+
+    public CompletableFuture<RegistryVersionCoordinates> getVersionCoordinatesByGAV(String groupId,
+            String artifactId, String version) {
+        return supply(() -> delegate.getVersionCoordinatesByGAV(groupId, artifactId, version));
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> request) {
+        return CompletableFuture.supplyAsync(request, executor);
+    }
+}
@@ -115,6 +115,16 @@ public class SchemaResolverConfig extends AbstractConfig {
     public static final String BACKGROUND_REFRESH_TIMEOUT_MS = "apicurio.registry.background-refresh.timeout-ms";
     public static final long BACKGROUND_REFRESH_TIMEOUT_MS_DEFAULT = 30000;
 
+    /**
+     * The number of threads used to make independent requests to the registry concurrently when loading a
+     * schema into the cache, e.g. to fetch the content and the references of a schema, or to resolve all
+     * the references of a schema, in parallel. The threads are shared by all lookups of a resolver and are
+     * daemon threads. If set to 1, the requests are made one after the other by the calling thread. Valid
+     * values are positive integers.
+     */
+    public static final String LOOKUP_EXECUTOR_THREADS = "apicurio.registry.lookup.executor-threads";
+    public static final long LOOKUP_EXECUTOR_THREADS_DEFAULT = 4;
+
     /**
      * Only applicable for serializers Optional, set explicitly the groupId used for querying/creating an
      * artifact. Overrides the groupId returned by the {@link ArtifactReferenceResolverStrategy}
@@ -411,6 +421,10 @@ public class SchemaResolverConfig extends AbstractConfig {
         return getDurationNonNegativeMillis(BACKGROUND_REFRESH_TIMEOUT_MS);
     }
 
+    public long getLookupExecutorThreads() {
+        return getLongNonNegative(LOOKUP_EXECUTOR_THREADS);
+    }
+
     public boolean findLatest() {
         // Should be non-null, a default value is defined
         return getBoolean(FIND_LATEST_ARTIFACT);
@@ -556,6 +570,7 @@ public class SchemaResolverConfig extends AbstractConfig {
             entry(BACKGROUND_REFRESH_ENABLED, BACKGROUND_REFRESH_ENABLED_DEFAULT),
             entry(BACKGROUND_REFRESH_EXECUTOR_THREADS, BACKGROUND_REFRESH_EXECUTOR_THREADS_DEFAULT),
             entry(BACKGROUND_REFRESH_TIMEOUT_MS, BACKGROUND_REFRESH_TIMEOUT_MS_DEFAULT),
+            entry(LOOKUP_EXECUTOR_THREADS, LOOKUP_EXECUTOR_THREADS_DEFAULT),
             entry(FIND_LATEST_ARTIFACT, FIND_LATEST_ARTIFACT_DEFAULT),
             entry(CHECK_PERIOD_MS, CHECK_PERIOD_MS_DEFAULT), entry(RETRY_COUNT, RETRY_COUNT_DEFAULT),
             entry(RETRY_BACKOFF_MS, RETRY_BACKOFF_MS_DEFAULT),
@@ -6,10 +6,13 @@ import io.apicurio.registry.resolver.data.Record;
 import io.apicurio.registry.resolver.strategy.ArtifactReference;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -134,6 +137,58 @@ public class AbstractSchemaResolverTest {
         }
     }
 
+    @Test
+    void testResolveReferencesDetectsCircularReferences() throws Exception {
+        // parent-a -> parent-b -> parent-a
+        MockRegistryClientFacade mockFacade = new MockRegistryClientFacade("{\"type\":\"string\"}");
+
+        RegistryArtifactReference parentA = RegistryArtifactReference.builder()
+                .name("parent-a-ref").groupId("default").artifactId("parent-a").version("1").build();
+        RegistryArtifactReference parentB = RegistryArtifactReference.builder()
+                .name("parent-b-ref").groupId("default").artifactId("parent-b").version("1").build();
+        mockFacade.addReferencesByGAV("default", "parent-a", "1", List.of(parentB));
+        mockFacade.addReferencesByGAV("default", "parent-b", "1", List.of(parentA));
+
+        try (TestAbstractSchemaResolver<String, Object> resolver = createResolver(mockFacade)) {
+            assertThrows(IllegalStateException.class, () -> resolver.resolveReferences(List.of(parentA)));
+        }
+    }
+
+    @Test
+    void testResolveReferencesDetectsCircularSiblingReferences() throws Exception {
+        // sibling-a -> sibling-b -> sibling-a, both requested as top-level references. The references of
+        // both siblings are only returned once both are being resolved, so that neither of them finds the
+        // other one on its own path.
+        CountDownLatch bothRequested = new CountDownLatch(2);
+        MockRegistryClientFacade mockFacade = new MockRegistryClientFacade("{\"type\":\"string\"}") {
+            @Override
+            public List<RegistryArtifactReference> getReferencesByGAV(String groupId, String artifactId,
+                    String version) {
+                if (artifactId.startsWith("sibling-")) {
+                    bothRequested.countDown();
+                    try {
+                        bothRequested.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.getReferencesByGAV(groupId, artifactId, version);
+            }
+        };
+
+        RegistryArtifactReference siblingA = RegistryArtifactReference.builder()
+                .name("sibling-a-ref").groupId("default").artifactId("sibling-a").version("1").build();
+        RegistryArtifactReference siblingB = RegistryArtifactReference.builder()
+                .name("sibling-b-ref").groupId("default").artifactId("sibling-b").version("1").build();
+        mockFacade.addReferencesByGAV("default", "sibling-a", "1", List.of(siblingB));
+        mockFacade.addReferencesByGAV("default", "sibling-b", "1", List.of(siblingA));
+
+        try (TestAbstractSchemaResolver<String, Object> resolver = createResolver(mockFacade)) {
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> assertThrows(IllegalStateException.class,
+                    () -> resolver.resolveReferences(List.of(siblingA, siblingB))));
+        }
+    }
+
     private TestAbstractSchemaResolver<String, Object> createResolver(MockRegistryClientFacade mockFacade) {
         Map<String, String> configs = Collections.singletonMap(SchemaResolverConfig.REGISTRY_URL,
                 "http://localhost");
@@ -8,6 +8,7 @@ import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.extract.StructuredContentExtractor;
 import io.apicurio.registry.content.extract.StructuredElement;
 import io.apicurio.registry.openapi.content.extract.StructuredContentVisitor;
+import io.apicurio.registry.openapi.util.SharedDataModelsDocuments;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,7 +27,7 @@ public class AsyncApiStructuredContentExtractor implements StructuredContentExtr
     @Override
     public List<StructuredElement> extract(ContentHandle content) {
         try {
-            Document doc = Library.readDocumentFromJSONString(content.content());
+            Document doc = SharedDataModelsDocuments.getJsonDocument(content);
             if (!(doc instanceof AsyncApiDocument)) {
                 return Collections.emptyList();
             }
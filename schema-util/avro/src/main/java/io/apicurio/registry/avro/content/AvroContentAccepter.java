@@ -47,4 +47,12 @@ public class AvroContentAccepter implements ContentAccepter {
         return false;
     }
 
+    /**
+     * Avro schemas are JSON objects, arrays (unions) or strings (primitive types).
+     */
+    @Override
+    public boolean mayAcceptContent(char firstCharacter) {
+        return firstCharacter == '{' || firstCharacter == '[' || firstCharacter == '"';
+    }
+
 }
@@ -5,17 +5,45 @@ import org.apache.commons.codec.digest.DigestUtils;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 abstract class AbstractContentHandle implements ContentHandle {
 
+    private static final Object NULL = new Object();
+
     protected byte[] bytes;
     protected String content;
 
+    private final Map<ContentParser<?>, Object> parsed = new ConcurrentHashMap<>();
+
     @Override
     public InputStream stream() {
         return new ByteArrayInputStream(bytes());
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getParsed(ContentParser<T> parser) throws Exception {
+        Object result = parsed.get(parser);
+        if (result == null) {
+            try {
+                T value = parser.parse(this);
+                result = value == null ? NULL : value;
+            } catch (Exception e) {
+                result = new ParseFailure(e);
+            }
+            Object existing = parsed.putIfAbsent(parser, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        if (result instanceof ParseFailure failure) {
+            throw failure.exception;
+        }
+        return result == NULL ? null : (T) result;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -44,4 +72,7 @@ abstract class AbstractContentHandle implements ContentHandle {
     public String getSha256Hash() {
         return DigestUtils.sha256Hex(bytes());
     }
+
+    private record ParseFailure(Exception exception) {
+    }
 }
@@ -24,7 +24,7 @@ public class AgentCardContentAccepter implements ContentAccepter {
                 return false;
             }
 
-            JsonNode tree = ContentTypeUtil.parseJson(content.getContent());
+            JsonNode tree = ContentTypeUtil.getJsonTree(content.getContent());
 
             // Check for A2A Agent Card structure
             // An Agent Card must have a "name" field at minimum
@@ -47,4 +47,9 @@ public class AgentCardContentAccepter implements ContentAccepter {
         }
         return false;
     }
+
+    @Override
+    public boolean mayAcceptContent(char firstCharacter) {
+        return firstCharacter == '{';
+    }
 }
@@ -10,4 +10,16 @@ public interface ContentAccepter {
      */
     boolean acceptsContent(TypedContent content, Map<String, TypedContent> resolvedReferences);
 
+    /**
+     * Cheap pre-check used when discovering the type of some content, before the (parsing)
+     * {@link #acceptsContent(TypedContent, Map)} is called. Must only return false when the content cannot
+     * be accepted based on its first significant character alone, e.g. '{' for a JSON object or '<' for an
+     * XML document.
+     *
+     * @param firstCharacter the first non-whitespace character of the content, or {@code 0} if it is empty
+     */
+    default boolean mayAcceptContent(char firstCharacter) {
+        return true;
+    }
+
 }
@@ -26,6 +26,18 @@ public interface ContentHandle {
 
     String getSha256Hash();
 
+    /**
+     * Returns the content parsed by the given parser. Content is immutable, so the parsed form (or the
+     * parsing error) is computed once and shared by every stage processing this content, e.g. artifact type
+     * discovery, validation and reference extraction. The returned value must therefore not be modified.
+     * <p>
+     * Parsed forms are held by the content handle, so they are retained for as long as the handle is, e.g.
+     * by a cache of content handles. Parsers that only check the content should return a small value.
+     */
+    default <T> T getParsed(ContentParser<T> parser) throws Exception {
+        return parser.parse(this);
+    }
+
     /**
      * Uses the {@link ContentHandle#bytes()} method to compare the content.
      */
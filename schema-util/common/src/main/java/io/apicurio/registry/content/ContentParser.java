@@ -0,0 +1,15 @@
+package io.apicurio.registry.content;
+
+/**
+ * Parses content into some in-memory representation (e.g. a JSON tree or an XML document). Parsers are
+ * used as keys by {@link ContentHandle#getParsed(ContentParser)} to share the parsed form of a content
+ * between the different stages processing it, so they should be singletons.
+ *
+ * @param <T> the type of the parsed content
+ */
+@FunctionalInterface
+public interface ContentParser<T> {
+
+    T parse(ContentHandle content) throws Exception;
+
+}
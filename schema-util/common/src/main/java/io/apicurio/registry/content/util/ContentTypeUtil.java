@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ContentParser;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.types.ContentTypes;
 import org.xml.sax.InputSource;
@@ -28,6 +29,15 @@ public final class ContentTypeUtil {
     private static final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
     private static final ObjectMapper jsonMapper = new ObjectMapper();
 
+    private static final ContentParser<JsonNode> JSON_TREE_PARSER = ContentTypeUtil::parseJson;
+    private static final ContentParser<JsonNode> YAML_TREE_PARSER = ContentTypeUtil::parseYaml;
+    private static final ContentParser<Boolean> XML_SYNTAX_PARSER = content -> {
+        SAXParserFactory factory = SAXParserFactory.newInstance();
+        SAXParser saxParser = factory.newSAXParser();
+        saxParser.parse(new InputSource(new StringReader(content.content())), new DefaultHandler());
+        return Boolean.TRUE;
+    };
+
     /**
      * Returns true if the Content-Type of the inbound request is "application/json".
      *
@@ -111,7 +121,7 @@ public final class ContentTypeUtil {
      */
     public static boolean isParsableJson(ContentHandle content) {
         try {
-            JsonNode root = jsonMapper.readTree(content.stream());
+            JsonNode root = getJsonTree(content);
             return root != null && !root.isNull() && !root.isMissingNode();
         } catch (Throwable t) {
             return false;
@@ -119,15 +129,13 @@ public final class ContentTypeUtil {
     }
 
     /**
-     * Returns true if the content can be parsed as xml.
+     * Returns true if the content can be parsed as xml. The XML based artifact types check the content with
+     * their own parser instead, which is shared with their validators.
      */
     public static boolean isParsableXml(ContentHandle content) {
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(content.content())), new DefaultHandler());
             // If no exception is thrown, the XML is valid
-            return true;
+            return content.getParsed(XML_SYNTAX_PARSER);
         } catch (Exception e) {
             return false;
         }
@@ -168,6 +176,75 @@ public final class ContentTypeUtil {
         return node;
     }
 
+    /**
+     * Returns the JSON tree of the content, parsing it only once per content handle. The tree is shared, so
+     * it must not be modified, use {@link #parseJson(ContentHandle)} to get a tree that can be modified.
+     */
+    public static JsonNode getJsonTree(ContentHandle content) throws IOException {
+        return getParsed(content, JSON_TREE_PARSER);
+    }
+
+    /**
+     * Returns the YAML tree of the content, parsing it only once per content handle. The tree is shared, so
+     * it must not be modified, use {@link #parseYaml(ContentHandle)} to get a tree that can be modified.
+     */
+    public static JsonNode getYamlTree(ContentHandle content) throws IOException {
+        return getParsed(content, YAML_TREE_PARSER);
+    }
+
+    /**
+     * Same as {@link #parseJsonOrYaml(TypedContent)}, but returns the shared tree of the content, which must
+     * not be modified.
+     */
+    public static JsonNode getJsonOrYamlTree(TypedContent content) throws IOException {
+        JsonNode node;
+        String contentType = content.getContentType();
+        if (contentType.toLowerCase().contains("yaml") || contentType.toLowerCase().contains("yml")) {
+            node = getYamlTree(content.getContent());
+        } else {
+            node = getJsonTree(content.getContent());
+        }
+
+        if (!node.isObject()) {
+            throw new IOException("Input is not a valid document.");
+        }
+
+        return node;
+    }
+
+    private static JsonNode getParsed(ContentHandle content, ContentParser<JsonNode> parser)
+            throws IOException {
+        try {
+            return content.getParsed(parser);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Returns the first character of the content that is not whitespace (or a byte order mark), or
+     * {@code 0} if there is none. This is enough to rule out most formats without parsing the content,
+     * e.g. JSON objects start with '{' and XML documents with '<'.
+     */
+    public static char firstSignificantCharacter(ContentHandle content) {
+        byte[] bytes = content.bytes();
+        int i = 0;
+        // UTF-8 byte order mark
+        if (bytes.length >= 3 && (bytes[0] & 0xFF) == 0xEF && (bytes[1] & 0xFF) == 0xBB
+                && (bytes[2] & 0xFF) == 0xBF) {
+            i = 3;
+        }
+        for (; i < bytes.length; i++) {
+            char c = (char) (bytes[i] & 0xFF);
+            if (!Character.isWhitespace(c)) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
     // FIXME this doesn't work for GraphQL
     public static String determineContentType(ContentHandle content) {
         if (isParsableJson(content)) {
@@ -39,7 +39,7 @@ public class AgentCardContentValidator implements ContentValidator {
         Set<RuleViolation> violations = new HashSet<>();
 
         try {
-            JsonNode tree = ContentTypeUtil.parseJson(content.getContent());
+            JsonNode tree = ContentTypeUtil.getJsonTree(content.getContent());
 
             if (!tree.isObject()) {
                 throw new RuleViolationException("Agent Card must be a JSON object",
@@ -47,7 +47,7 @@ public class IcebergContentValidator implements ContentValidator {
         Set<RuleViolation> violations = new HashSet<>();
 
         try {
-            JsonNode tree = ContentTypeUtil.parseJson(content.getContent());
+            JsonNode tree = ContentTypeUtil.getJsonTree(content.getContent());
 
             if (!tree.isObject()) {
                 throw new RuleViolationException("Iceberg metadata must be a JSON object",
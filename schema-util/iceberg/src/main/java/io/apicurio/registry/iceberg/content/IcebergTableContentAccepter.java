@@ -25,7 +25,7 @@ public class IcebergTableContentAccepter implements ContentAccepter {
                 return false;
             }
 
-            JsonNode tree = ContentTypeUtil.parseJson(content.getContent());
+            JsonNode tree = ContentTypeUtil.getJsonTree(content.getContent());
 
             // Check for Iceberg TableMetadata structure
             // An Iceberg TableMetadata must have these key fields
@@ -51,4 +51,9 @@ public class IcebergTableContentAccepter implements ContentAccepter {
         }
         return false;
     }
+
+    @Override
+    public boolean mayAcceptContent(char firstCharacter) {
+        return firstCharacter == '{';
+    }
 }
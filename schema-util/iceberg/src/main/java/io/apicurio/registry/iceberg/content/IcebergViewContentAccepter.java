@@ -25,7 +25,7 @@ public class IcebergViewContentAccepter implements ContentAccepter {
                 return false;
             }
 
-            JsonNode tree = ContentTypeUtil.parseJson(content.getContent());
+            JsonNode tree = ContentTypeUtil.getJsonTree(content.getContent());
 
             // Check for Iceberg View metadata structure
             if (tree.isObject()) {
@@ -50,4 +50,9 @@ public class IcebergViewContentAccepter implements ContentAccepter {
         }
         return false;
     }
+
+    @Override
+    public boolean mayAcceptContent(char firstCharacter) {
+        return firstCharacter == '{';
+    }
 }
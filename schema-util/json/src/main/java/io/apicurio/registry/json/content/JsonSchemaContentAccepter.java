@@ -16,7 +16,7 @@ public class JsonSchemaContentAccepter implements ContentAccepter {
                     && !ContentTypeUtil.isParsableJson(content.getContent())) {
                 return false;
             }
-            JsonNode tree = ContentTypeUtil.parseJson(content.getContent());
+            JsonNode tree = ContentTypeUtil.getJsonTree(content.getContent());
             if (tree.has("$schema") && tree.get("$schema").asText().contains("json-schema.org")
                     || tree.has("properties")) {
                 return true;
@@ -27,4 +27,9 @@ public class JsonSchemaContentAccepter implements ContentAccepter {
         return false;
     }
 
+    @Override
+    public boolean mayAcceptContent(char firstCharacter) {
+        return firstCharacter == '{';
+    }
+
 }
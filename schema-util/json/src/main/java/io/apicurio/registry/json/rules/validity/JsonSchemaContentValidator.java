@@ -99,7 +99,7 @@ public class JsonSchemaContentValidator implements ContentValidator {
      */
     private Set<String> getAll$refs(TypedContent content) {
         try {
-            JsonNode tree = ContentTypeUtil.parseJsonOrYaml(content);
+            JsonNode tree = ContentTypeUtil.getJsonOrYamlTree(content);
             Set<String> refs = new HashSet<>();
             findRefs(tree, refs);
             return refs;
@@ -17,9 +17,9 @@ public class OpenApiContentAccepter implements ContentAccepter {
             // If the content is YAML, then convert it to JSON first (the data-models library only accepts
             // JSON).
             if (contentType.toLowerCase().contains("yml") || contentType.toLowerCase().contains("yaml")) {
-                tree = ContentTypeUtil.parseYaml(content.getContent());
+                tree = ContentTypeUtil.getYamlTree(content.getContent());
             } else {
-                tree = ContentTypeUtil.parseJson(content.getContent());
+                tree = ContentTypeUtil.getJsonTree(content.getContent());
             }
             if (tree.has("openapi") || tree.has("swagger")) {
                 return true;
@@ -26,7 +26,7 @@ public class OpenApiContentCanonicalizer implements ContentCanonicalizer {
     @Override
     public TypedContent canonicalize(TypedContent content, Map<String, TypedContent> resolvedReferences) {
         try {
-            JsonNode root = ContentTypeUtil.parseJsonOrYaml(content);
+            JsonNode root = ContentTypeUtil.getJsonOrYamlTree(content);
             String converted = mapper.writeValueAsString(mapper.treeToValue(root, Object.class));
             return TypedContent.create(ContentHandle.create(converted), ContentTypes.APPLICATION_JSON);
         } catch (Throwable t) {
@@ -2,8 +2,6 @@ package io.apicurio.registry.openapi.content.dereference;
 
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.models.Document;
 import io.apicurio.datamodels.models.Node;
 import io.apicurio.datamodels.refs.LocalReferenceResolver;
@@ -11,6 +9,7 @@ import io.apicurio.datamodels.refs.ResolvedReference;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.content.refs.JsonPointerExternalReference;
 import io.apicurio.registry.content.util.ContentTypeUtil;
+import io.apicurio.registry.openapi.util.SharedDataModelsDocuments;
 
 import java.io.IOException;
 import java.util.Map;
@@ -56,7 +55,7 @@ public class RegistryReferenceResolver extends LocalReferenceResolver {
 
         // For JSON/YAML content, parse and inspect the structure
         try {
-            JsonNode node = ContentTypeUtil.parseJsonOrYaml(resolvedRefContent);
+            JsonNode node = ContentTypeUtil.getJsonOrYamlTree(resolvedRefContent);
 
             // Check for OpenAPI (has "openapi" property or "swagger" property)
             if (node.has("openapi") || node.has("swagger")) {
@@ -115,8 +114,9 @@ public class RegistryReferenceResolver extends LocalReferenceResolver {
                     case OPENAPI:
                     case ASYNCAPI:
                         // For OpenAPI, AsyncAPI, and JSON Schema, parse as Document and resolve the JSON pointer
-                        JsonNode node = ContentTypeUtil.parseJsonOrYaml(resolvedRefContent);
-                        Document resolvedRefDoc = Library.readDocument((ObjectNode) node);
+                        // (the document is shared by all the references to the same content handle, so it is
+                        // only parsed once)
+                        Document resolvedRefDoc = SharedDataModelsDocuments.getDocument(resolvedRefContent);
                         JsonPointerExternalReference ref = new JsonPointerExternalReference(reference);
                         Node resolvedNode = super.resolveRef(ref.getComponent(), resolvedRefDoc).asNode();
                         return ResolvedReference.fromNode(resolvedNode);
@@ -124,7 +124,7 @@ public class RegistryReferenceResolver extends LocalReferenceResolver {
                     case JSON_SCHEMA:
                         // For JSON Schema, return as JSON with appropriate media type
                         // The dereferencer will wrap it in a Multi-Format Schema Object
-                        JsonNode jsonSchemaNode = ContentTypeUtil.parseJsonOrYaml(resolvedRefContent);
+                        JsonNode jsonSchemaNode = ContentTypeUtil.getJsonOrYamlTree(resolvedRefContent);
 
                         // Parse the reference to extract the JSON pointer component
                         JsonPointerExternalReference jsonSchemaRef = new JsonPointerExternalReference(reference);
@@ -138,19 +138,21 @@ public class RegistryReferenceResolver extends LocalReferenceResolver {
 
                             if (!resolvedSchema.isMissingNode() && resolvedSchema.isObject()) {
                                 // Successfully resolved to a specific schema definition
-                                return ResolvedReference.fromJson(resolvedSchema, "application/schema+json");
+                                return ResolvedReference.fromJson(resolvedSchema.deepCopy(),
+                                        "application/schema+json");
                             }
                             // If resolution failed, fall through to return the whole document
                         }
 
                         // No JSON pointer component, or resolution failed - return the whole document
-                        return ResolvedReference.fromJson(jsonSchemaNode, "application/schema+json");
+                        return ResolvedReference.fromJson(jsonSchemaNode.deepCopy(),
+                                "application/schema+json");
 
                     case AVRO:
                         // For Avro, return as JSON with appropriate media type
                         // The dereferencer will wrap it in a Multi-Format Schema Object
-                        JsonNode avroNode = ContentTypeUtil.parseJsonOrYaml(resolvedRefContent);
-                        return ResolvedReference.fromJson(avroNode,
+                        JsonNode avroNode = ContentTypeUtil.getJsonOrYamlTree(resolvedRefContent);
+                        return ResolvedReference.fromJson(avroNode.deepCopy(),
                                 "application/vnd.apache.avro+json");
 
                     case PROTOBUF:
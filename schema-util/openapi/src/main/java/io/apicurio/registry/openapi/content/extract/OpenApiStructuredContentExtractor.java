@@ -7,6 +7,7 @@ import io.apicurio.datamodels.models.openapi.OpenApiDocument;
 import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.extract.StructuredContentExtractor;
 import io.apicurio.registry.content.extract.StructuredElement;
+import io.apicurio.registry.openapi.util.SharedDataModelsDocuments;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,7 +26,7 @@ public class OpenApiStructuredContentExtractor implements StructuredContentExtra
     @Override
     public List<StructuredElement> extract(ContentHandle content) {
         try {
-            Document doc = Library.readDocumentFromJSONString(content.content());
+            Document doc = SharedDataModelsDocuments.getJsonDocument(content);
             if (!(doc instanceof OpenApiDocument)) {
                 return Collections.emptyList();
             }
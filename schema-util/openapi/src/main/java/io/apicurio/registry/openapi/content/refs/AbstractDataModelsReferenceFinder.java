@@ -1,7 +1,6 @@
 package io.apicurio.registry.openapi.content.refs;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.TraverserDirection;
 import io.apicurio.datamodels.models.Document;
@@ -21,7 +20,7 @@ import io.apicurio.registry.content.refs.ExternalReference;
 import io.apicurio.registry.content.refs.JsonPointerExternalReference;
 import io.apicurio.registry.content.refs.ReferenceFinderException;
 import io.apicurio.registry.content.refs.ReferenceFinder;
-import io.apicurio.registry.content.util.ContentTypeUtil;
+import io.apicurio.registry.openapi.util.SharedDataModelsDocuments;
 
 import java.io.IOException;
 import java.util.HashSet;
@@ -41,8 +40,7 @@ public abstract class AbstractDataModelsReferenceFinder implements ReferenceFind
     @Override
     public Set<ExternalReference> findExternalReferences(TypedContent content) {
         try {
-            JsonNode node = ContentTypeUtil.parseJsonOrYaml(content);
-            Document doc = Library.readDocument((ObjectNode) node);
+            Document doc = SharedDataModelsDocuments.getDocument(content);
 
             // Find all the $refs
             RefFinderVisitor visitor = new RefFinderVisitor();
@@ -1,7 +1,5 @@
 package io.apicurio.registry.openapi.rules.validity;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.TraverserDirection;
 import io.apicurio.datamodels.models.Document;
@@ -10,7 +8,7 @@ import io.apicurio.datamodels.models.Referenceable;
 import io.apicurio.datamodels.models.visitors.AllNodeVisitor;
 import io.apicurio.datamodels.validation.ValidationProblem;
 import io.apicurio.registry.content.TypedContent;
-import io.apicurio.registry.content.util.ContentTypeUtil;
+import io.apicurio.registry.openapi.util.SharedDataModelsDocuments;
 import io.apicurio.registry.rest.v3.beans.ArtifactReference;
 import io.apicurio.registry.rules.validity.ContentValidator;
 import io.apicurio.registry.rules.validity.ValidityLevel;
@@ -40,8 +38,7 @@ public abstract class ApicurioDataModelContentValidator implements ContentValida
         Document document = null;
         if (level == ValidityLevel.SYNTAX_ONLY || level == ValidityLevel.FULL) {
             try {
-                JsonNode node = ContentTypeUtil.parseJsonOrYaml(content);
-                document = Library.readDocument((ObjectNode) node);
+                document = SharedDataModelsDocuments.getDocument(content);
             } catch (Exception e) {
                 throw new RuleViolationException("Syntax violation for " + getDataModelType() + " artifact.",
                         RuleType.VALIDITY, level.name(), e);
@@ -83,8 +80,7 @@ public abstract class ApicurioDataModelContentValidator implements ContentValida
     private Set<String> getAll$refs(TypedContent content) {
         try {
             RefFinder refFinder = new RefFinder();
-            JsonNode node = ContentTypeUtil.parseJsonOrYaml(content);
-            Document document = Library.readDocument((ObjectNode) node);
+            Document document = SharedDataModelsDocuments.getDocument(content);
             Library.visitTree(document, refFinder, TraverserDirection.down);
             return refFinder.references;
         } catch (Exception e) {
@@ -0,0 +1,75 @@
+package io.apicurio.registry.openapi.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.models.Document;
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ContentParser;
+import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.content.util.ContentTypeUtil;
+
+import java.io.IOException;
+
+/**
+ * Shares the Apicurio Data Models documents read from OpenAPI and AsyncAPI content between the components
+ * processing it (validator, reference finder, extractors and reference resolver).
+ * <p>
+ * A document is read once per content handle, see {@link ContentHandle#getParsed(ContentParser)}, and lives
+ * as long as the handle. This is not a cache: documents are not shared between handles, even with the same
+ * content, since documents are mutable and the same content may be processed by concurrent requests.
+ * <p>
+ * The documents are shared, so they must not be modified. Code that modifies a document (e.g. to rewrite
+ * its references) must read its own copy with {@link Library#readDocument(ObjectNode)}.
+ */
+public final class SharedDataModelsDocuments {
+
+    private static final ContentParser<Document> JSON_DOCUMENT_PARSER = content -> readDocument(content,
+            ContentTypeUtil::parseJson);
+    private static final ContentParser<Document> YAML_DOCUMENT_PARSER = content -> readDocument(content,
+            ContentTypeUtil::parseYaml);
+
+    private SharedDataModelsDocuments() {
+    }
+
+    /**
+     * Returns the shared document of JSON or YAML content, depending on its content type.
+     */
+    public static Document getDocument(TypedContent content) throws IOException {
+        String contentType = content.getContentType();
+        if (contentType.toLowerCase().contains("yaml") || contentType.toLowerCase().contains("yml")) {
+            return getParsed(content.getContent(), YAML_DOCUMENT_PARSER);
+        } else {
+            return getParsed(content.getContent(), JSON_DOCUMENT_PARSER);
+        }
+    }
+
+    /**
+     * Returns the shared document of JSON content.
+     */
+    public static Document getJsonDocument(ContentHandle content) throws IOException {
+        return getParsed(content, JSON_DOCUMENT_PARSER);
+    }
+
+    private static Document readDocument(ContentHandle content, ContentParser<JsonNode> treeParser)
+            throws Exception {
+        // Reading a document consumes the tree, so it must not be a shared one
+        JsonNode node = treeParser.parse(content);
+        if (!node.isObject()) {
+            throw new IOException("Input is not a valid document.");
+        }
+        return Library.readDocument((ObjectNode) node);
+    }
+
+    private static Document getParsed(ContentHandle content, ContentParser<Document> parser)
+            throws IOException {
+        try {
+            return content.getParsed(parser);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.apicurio.registry.openapi.util;
+
+import io.apicurio.datamodels.models.Document;
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.TypedContent;
+import io.apicurio.registry.types.ContentTypes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+class SharedDataModelsDocumentsTest {
+
+    private static final String API = """
+            {
+                "openapi": "3.0.0",
+                "info": {
+                    "title": "Test API",
+                    "version": "1.0.0"
+                },
+                "paths": {}
+            }
+            """;
+
+    private static final String OTHER_API = API.replace("Test API", "Other API");
+
+    private TypedContent toTypedContent(String content, String contentType) {
+        return TypedContent.create(ContentHandle.create(content), contentType);
+    }
+
+    @Test
+    void testDocumentIsReadOncePerHandle() throws IOException {
+        TypedContent content = toTypedContent(API, ContentTypes.APPLICATION_JSON);
+        Document first = SharedDataModelsDocuments.getDocument(content);
+        Assertions.assertSame(first, SharedDataModelsDocuments.getDocument(content));
+        Assertions.assertSame(first, SharedDataModelsDocuments.getJsonDocument(content.getContent()));
+
+        Document other = SharedDataModelsDocuments
+                .getDocument(toTypedContent(OTHER_API, ContentTypes.APPLICATION_JSON));
+        Assertions.assertNotSame(first, other);
+    }
+
+    @Test
+    void testDocumentIsNotSharedBetweenHandles() throws IOException {
+        Document first = SharedDataModelsDocuments
+                .getDocument(toTypedContent(API, ContentTypes.APPLICATION_JSON));
+        Document second = SharedDataModelsDocuments
+                .getDocument(toTypedContent(API, ContentTypes.APPLICATION_JSON));
+        Assertions.assertNotSame(first, second);
+    }
+
+    @Test
+    void testInvalidContent() {
+        Assertions.assertThrows(IOException.class, () -> SharedDataModelsDocuments
+                .getDocument(toTypedContent("[1, 2]", ContentTypes.APPLICATION_JSON)));
+    }
+}
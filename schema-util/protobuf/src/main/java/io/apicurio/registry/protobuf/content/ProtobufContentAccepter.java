@@ -34,4 +34,12 @@ public class ProtobufContentAccepter implements ContentAccepter {
         return false;
     }
 
+    /**
+     * Neither a .proto file nor a base64 encoded descriptor can start like a JSON or XML document.
+     */
+    @Override
+    public boolean mayAcceptContent(char firstCharacter) {
+        return firstCharacter != '{' && firstCharacter != '[' && firstCharacter != '<';
+    }
+
 }
@@ -3,6 +3,7 @@ package io.apicurio.registry.protobuf.rules.compatibility;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.protobuf.ProtobufDifference;
 import io.apicurio.registry.protobuf.rules.compatibility.protobuf.ProtobufCompatibilityCheckerLibrary;
+import io.apicurio.registry.protobuf.rules.compatibility.protobuf.ProtobufCompatibilitySignature;
 import io.apicurio.registry.rules.compatibility.CompatibilityChecker;
 import io.apicurio.registry.rules.compatibility.CompatibilityDifference;
 import io.apicurio.registry.rules.compatibility.CompatibilityExecutionResult;
@@ -11,7 +12,9 @@ import io.apicurio.registry.rules.compatibility.SimpleCompatibilityDifference;
 import io.apicurio.registry.utils.protobuf.schema.ProtobufFile;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,6 +24,20 @@ import static java.util.Objects.requireNonNull;
 
 public class ProtobufCompatibilityChecker implements CompatibilityChecker {
 
+    private static final int MAX_CACHED_SIGNATURES = 1000;
+
+    /**
+     * Compatibility signatures of the recently checked versions, by content hash. Transitive checks compare
+     * the proposed content with every existing version, whose signatures are then not computed again.
+     */
+    private static final Map<String, ProtobufCompatibilitySignature> SIGNATURES = Collections
+            .synchronizedMap(new LinkedHashMap<String, ProtobufCompatibilitySignature>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ProtobufCompatibilitySignature> eldest) {
+                    return size() > MAX_CACHED_SIGNATURES;
+                }
+            });
+
     @Override
     public CompatibilityExecutionResult testCompatibility(CompatibilityLevel compatibilityLevel,
             List<TypedContent> existingArtifacts, TypedContent proposedArtifact,
@@ -33,9 +50,9 @@ public class ProtobufCompatibilityChecker implements CompatibilityChecker {
             return CompatibilityExecutionResult.compatible();
         }
 
-        ProtobufFile fileBefore = new ProtobufFile(
-                existingArtifacts.get(existingArtifacts.size() - 1).getContent().content());
-        ProtobufFile fileAfter = new ProtobufFile(proposedArtifact.getContent().content());
+        ProtobufCompatibilitySignature fileBefore = signatureOf(
+                existingArtifacts.get(existingArtifacts.size() - 1));
+        ProtobufCompatibilitySignature fileAfter = signatureOf(proposedArtifact);
 
         switch (compatibilityLevel) {
             case BACKWARD: {
@@ -63,10 +80,10 @@ public class ProtobufCompatibilityChecker implements CompatibilityChecker {
 
     @NotNull
     private CompatibilityExecutionResult testFullTransitive(List<TypedContent> existingSchemas,
-            ProtobufFile fileAfter) {
+            ProtobufCompatibilitySignature fileAfter) {
         Set<CompatibilityDifference> allDifferences = new HashSet<>();
         for (TypedContent existing : existingSchemas) {
-            ProtobufFile fileBefore = new ProtobufFile(existing.getContent().content());
+            ProtobufCompatibilitySignature fileBefore = signatureOf(existing);
             // Collect backward differences
             ProtobufCompatibilityCheckerLibrary backwardChecker = new ProtobufCompatibilityCheckerLibrary(
                     fileBefore, fileAfter);
@@ -80,7 +97,8 @@ public class ProtobufCompatibilityChecker implements CompatibilityChecker {
     }
 
     @NotNull
-    private CompatibilityExecutionResult testFull(ProtobufFile fileBefore, ProtobufFile fileAfter) {
+    private CompatibilityExecutionResult testFull(ProtobufCompatibilitySignature fileBefore,
+            ProtobufCompatibilitySignature fileAfter) {
         Set<CompatibilityDifference> allDifferences = new HashSet<>();
         // Collect backward differences
         ProtobufCompatibilityCheckerLibrary backwardChecker = new ProtobufCompatibilityCheckerLibrary(
@@ -95,10 +113,10 @@ public class ProtobufCompatibilityChecker implements CompatibilityChecker {
 
     @NotNull
     private CompatibilityExecutionResult testForwardTransitive(List<TypedContent> existingSchemas,
-            ProtobufFile fileAfter) {
+            ProtobufCompatibilitySignature fileAfter) {
         Set<CompatibilityDifference> allDifferences = new HashSet<>();
         for (TypedContent existing : existingSchemas) {
-            ProtobufFile fileBefore = new ProtobufFile(existing.getContent().content());
+            ProtobufCompatibilitySignature fileBefore = signatureOf(existing);
             ProtobufCompatibilityCheckerLibrary checker = new ProtobufCompatibilityCheckerLibrary(fileAfter,
                     fileBefore);
             allDifferences.addAll(collectDifferences(checker));
@@ -107,7 +125,8 @@ public class ProtobufCompatibilityChecker implements CompatibilityChecker {
     }
 
     @NotNull
-    private CompatibilityExecutionResult testForward(ProtobufFile fileBefore, ProtobufFile fileAfter) {
+    private CompatibilityExecutionResult testForward(ProtobufCompatibilitySignature fileBefore,
+            ProtobufCompatibilitySignature fileAfter) {
         ProtobufCompatibilityCheckerLibrary checker = new ProtobufCompatibilityCheckerLibrary(fileAfter,
                 fileBefore);
         Set<CompatibilityDifference> differences = collectDifferences(checker);
@@ -116,10 +135,10 @@ public class ProtobufCompatibilityChecker implements CompatibilityChecker {
 
     @NotNull
     private CompatibilityExecutionResult testBackwardTransitive(List<TypedContent> existingSchemas,
-            ProtobufFile fileAfter) {
+            ProtobufCompatibilitySignature fileAfter) {
         Set<CompatibilityDifference> allDifferences = new HashSet<>();
         for (TypedContent existing : existingSchemas) {
-            ProtobufFile fileBefore = new ProtobufFile(existing.getContent().content());
+            ProtobufCompatibilitySignature fileBefore = signatureOf(existing);
             ProtobufCompatibilityCheckerLibrary checker = new ProtobufCompatibilityCheckerLibrary(fileBefore,
                     fileAfter);
             allDifferences.addAll(collectDifferences(checker));
@@ -128,13 +147,24 @@ public class ProtobufCompatibilityChecker implements CompatibilityChecker {
     }
 
     @NotNull
-    private CompatibilityExecutionResult testBackward(ProtobufFile fileBefore, ProtobufFile fileAfter) {
+    private CompatibilityExecutionResult testBackward(ProtobufCompatibilitySignature fileBefore,
+            ProtobufCompatibilitySignature fileAfter) {
         ProtobufCompatibilityCheckerLibrary checker = new ProtobufCompatibilityCheckerLibrary(fileBefore,
                 fileAfter);
         Set<CompatibilityDifference> differences = collectDifferences(checker);
         return CompatibilityExecutionResult.incompatibleOrEmpty(differences);
     }
 
+    static ProtobufCompatibilitySignature signatureOf(TypedContent content) {
+        String hash = content.getContent().getSha256Hash();
+        ProtobufCompatibilitySignature signature = SIGNATURES.get(hash);
+        if (signature == null) {
+            signature = ProtobufCompatibilitySignature.of(new ProtobufFile(content.getContent().content()));
+            SIGNATURES.put(hash, signature);
+        }
+        return signature;
+    }
+
     /**
      * Collects all differences from the compatibility checker and converts them to CompatibilityDifference
      * objects.
@@ -1,15 +1,12 @@
 package io.apicurio.registry.protobuf.rules.compatibility.protobuf;
 
 import com.squareup.wire.Syntax;
-import com.squareup.wire.schema.Field;
-import com.squareup.wire.schema.internal.parser.EnumConstantElement;
-import com.squareup.wire.schema.internal.parser.FieldElement;
 import io.apicurio.registry.protobuf.ProtobufDifference;
+import io.apicurio.registry.protobuf.rules.compatibility.protobuf.ProtobufCompatibilitySignature.FieldSignature;
 import io.apicurio.registry.utils.protobuf.schema.ProtobufFile;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -18,16 +15,24 @@ import java.util.Set;
 
 /**
  * Provides compatibility validation functions for changes between two versions of a Protobuf schema document.
+ * <p>
+ * The versions are compared by their {@link ProtobufCompatibilitySignature}s, which can be computed once per
+ * version and reused for any number of comparisons.
  *
  * @see <a href="https://github.com/nilslice/protolock">Protolock</a>
  */
 public class ProtobufCompatibilityCheckerLibrary {
     // TODO https://github.com/square/wire/issues/797 RFE: capture EnumElement reserved info
 
-    private final ProtobufFile fileBefore;
-    private final ProtobufFile fileAfter;
+    private final ProtobufCompatibilitySignature fileBefore;
+    private final ProtobufCompatibilitySignature fileAfter;
 
     public ProtobufCompatibilityCheckerLibrary(ProtobufFile fileBefore, ProtobufFile fileAfter) {
+        this(ProtobufCompatibilitySignature.of(fileBefore), ProtobufCompatibilitySignature.of(fileAfter));
+    }
+
+    public ProtobufCompatibilityCheckerLibrary(ProtobufCompatibilitySignature fileBefore,
+            ProtobufCompatibilitySignature fileAfter) {
         this.fileBefore = fileBefore;
         this.fileAfter = fileAfter;
     }
@@ -157,15 +162,15 @@ public class ProtobufCompatibilityCheckerLibrary {
 
         List<ProtobufDifference> issues = new ArrayList<>();
 
-        Map<String, Map<String, FieldElement>> before = fileBefore.getFieldMap();
-        Map<String, Map<String, FieldElement>> after = fileAfter.getFieldMap();
+        Map<String, Map<String, FieldSignature>> before = fileBefore.getFields();
+        Map<String, Map<String, FieldSignature>> after = fileAfter.getFields();
 
         Map<String, Set<Object>> afterReservedFields = fileAfter.getReservedFields();
         Map<String, Set<Object>> afterNonreservedFields = fileAfter.getNonReservedFields();
 
-        for (Map.Entry<String, Map<String, FieldElement>> entry : before.entrySet()) {
+        for (Map.Entry<String, Map<String, FieldSignature>> entry : before.entrySet()) {
             Set<String> removedFieldNames = new HashSet<>(entry.getValue().keySet());
-            Map<String, FieldElement> updated = after.get(entry.getKey());
+            Map<String, FieldSignature> updated = after.get(entry.getKey());
             if (updated != null) {
                 removedFieldNames.removeAll(updated.keySet());
             }
@@ -181,10 +186,9 @@ public class ProtobufCompatibilityCheckerLibrary {
             issuesCount += nonReservedRemovedFieldNames.size();
 
             // count again for each non-reserved field id
-            for (FieldElement fieldElement : entry.getValue().values()) {
-                if (removedFieldNames.contains(fieldElement.getName())
-                        && !(reserved.contains(fieldElement.getTag())
-                                || nonreserved.contains(fieldElement.getTag()))) {
+            for (FieldSignature field : entry.getValue().values()) {
+                if (removedFieldNames.contains(field.name())
+                        && !(reserved.contains(field.tag()) || nonreserved.contains(field.tag()))) {
                     issuesCount++;
                 }
             }
@@ -207,37 +211,37 @@ public class ProtobufCompatibilityCheckerLibrary {
 
         List<ProtobufDifference> issues = new ArrayList<>();
 
-        Map<String, Map<String, FieldElement>> before = fileBefore.getFieldMap();
-        Map<String, Map<String, FieldElement>> after = fileAfter.getFieldMap();
+        Map<String, Map<String, FieldSignature>> before = fileBefore.getFields();
+        Map<String, Map<String, FieldSignature>> after = fileAfter.getFields();
 
-        for (Map.Entry<String, Map<String, FieldElement>> entry : before.entrySet()) {
-            Map<String, FieldElement> afterMap = after.get(entry.getKey());
+        for (Map.Entry<String, Map<String, FieldSignature>> entry : before.entrySet()) {
+            Map<String, FieldSignature> afterMap = after.get(entry.getKey());
 
             if (afterMap != null) {
-                for (Map.Entry<String, FieldElement> beforeKV : entry.getValue().entrySet()) {
-                    FieldElement afterFE = afterMap.get(beforeKV.getKey());
-                    if (afterFE != null && beforeKV.getValue().getTag() != afterFE.getTag()) {
+                for (Map.Entry<String, FieldSignature> beforeKV : entry.getValue().entrySet()) {
+                    FieldSignature afterFS = afterMap.get(beforeKV.getKey());
+                    if (afterFS != null && beforeKV.getValue().tag() != afterFS.tag()) {
                         issues.add(ProtobufDifference.from(String.format(
                                 "Conflict, field id changed, message %s , before: %s , after %s",
-                                entry.getKey(), beforeKV.getValue().getTag(), afterFE.getTag())));
+                                entry.getKey(), beforeKV.getValue().tag(), afterFS.tag())));
                     }
                 }
             }
         }
 
-        Map<String, Map<String, EnumConstantElement>> beforeEnum = fileBefore.getEnumFieldMap();
-        Map<String, Map<String, EnumConstantElement>> afterEnum = fileAfter.getEnumFieldMap();
+        Map<String, Map<String, Integer>> beforeEnum = fileBefore.getEnumConstants();
+        Map<String, Map<String, Integer>> afterEnum = fileAfter.getEnumConstants();
 
-        for (Map.Entry<String, Map<String, EnumConstantElement>> entry : beforeEnum.entrySet()) {
-            Map<String, EnumConstantElement> afterMap = afterEnum.get(entry.getKey());
+        for (Map.Entry<String, Map<String, Integer>> entry : beforeEnum.entrySet()) {
+            Map<String, Integer> afterMap = afterEnum.get(entry.getKey());
 
             if (afterMap != null) {
-                for (Map.Entry<String, EnumConstantElement> beforeKV : entry.getValue().entrySet()) {
-                    EnumConstantElement afterECE = afterMap.get(beforeKV.getKey());
-                    if (afterECE != null && beforeKV.getValue().getTag() != afterECE.getTag()) {
+                for (Map.Entry<String, Integer> beforeKV : entry.getValue().entrySet()) {
+                    Integer afterTag = afterMap.get(beforeKV.getKey());
+                    if (afterTag != null && !beforeKV.getValue().equals(afterTag)) {
                         issues.add(ProtobufDifference.from(String.format(
                                 "Conflict, field id changed, message %s , before: %s , after %s",
-                                entry.getKey(), beforeKV.getValue().getTag(), afterECE.getTag())));
+                                entry.getKey(), beforeKV.getValue(), afterTag)));
                     }
                 }
             }
@@ -255,33 +259,29 @@ public class ProtobufCompatibilityCheckerLibrary {
 
         List<ProtobufDifference> issues = new ArrayList<>();
 
-        Map<String, Map<String, FieldElement>> before = fileBefore.getFieldMap();
-        Map<String, Map<String, FieldElement>> after = fileAfter.getFieldMap();
+        Map<String, Map<String, FieldSignature>> before = fileBefore.getFields();
+        Map<String, Map<String, FieldSignature>> after = fileAfter.getFields();
 
-        for (Map.Entry<String, Map<String, FieldElement>> entry : before.entrySet()) {
-            Map<String, FieldElement> afterMap = after.get(entry.getKey());
+        for (Map.Entry<String, Map<String, FieldSignature>> entry : before.entrySet()) {
+            Map<String, FieldSignature> afterMap = after.get(entry.getKey());
 
             if (afterMap != null) {
-                for (Map.Entry<String, FieldElement> beforeKV : entry.getValue().entrySet()) {
-                    FieldElement afterFE = afterMap.get(beforeKV.getKey());
+                for (Map.Entry<String, FieldSignature> beforeKV : entry.getValue().entrySet()) {
+                    FieldSignature beforeFS = beforeKV.getValue();
+                    FieldSignature afterFS = afterMap.get(beforeKV.getKey());
 
-                    if (afterFE != null) {
+                    if (afterFS != null) {
 
-                        String beforeType = normalizeType(fileBefore, beforeKV.getValue().getType(),
-                                entry.getKey());
-                        String afterType = normalizeType(fileAfter, afterFE.getType(), entry.getKey());
-
-                        if (afterFE != null && !beforeType.equals(afterType)) {
+                        if (!Objects.equals(beforeFS.normalizedType(), afterFS.normalizedType())) {
                             issues.add(ProtobufDifference.from(String.format(
                                     "Field type changed, message %s , before: %s , after %s", entry.getKey(),
-                                    beforeKV.getValue().getType(), afterFE.getType())));
+                                    beforeFS.type(), afterFS.type())));
                         }
 
-                        if (afterFE != null
-                                && !Objects.equals(beforeKV.getValue().getLabel(), afterFE.getLabel())) {
+                        if (!Objects.equals(beforeFS.label(), afterFS.label())) {
                             issues.add(ProtobufDifference.from(String.format(
                                     "Field label changed, message %s , before: %s , after %s", entry.getKey(),
-                                    beforeKV.getValue().getLabel(), afterFE.getLabel())));
+                                    beforeFS.label(), afterFS.label())));
                         }
                     }
                 }
@@ -291,151 +291,6 @@ public class ProtobufCompatibilityCheckerLibrary {
         return issues;
     }
 
-    /**
-     * Normalizes a protobuf type to its fully qualified form to enable proper comparison
-     * between schemas that use different type reference styles (qualified vs unqualified).
-     *
-     * @param file           the protobuf file containing the type
-     * @param type           the type name to normalize
-     * @param messageContext the message in which the field is defined (e.g., "RootMessage")
-     * @return the normalized fully qualified type name with leading dot (e.g., ".test.RootMessage.NestedMessage")
-     */
-    private String normalizeType(ProtobufFile file, String type, String messageContext) {
-        if (type == null) {
-            return null;
-        }
-
-        // Handle Protobuf map types
-        if (type.startsWith("map<")) {
-            return type;
-        }
-
-        // If already fully qualified (starts with .), return it as-is
-        if (type.startsWith(".")) {
-            return type;
-        }
-
-        // Handle built-in/primitive types - these don't get qualified
-        if (isBuiltInType(type)) {
-            return type;
-        }
-
-        // Check if this is a cross-package reference (contains dots but doesn't start with one)
-        // Examples: google.protobuf.Timestamp, other.package.Message
-        // These should just get a leading dot added, not have the local package prepended
-        if (type.contains(".")) {
-            return "." + type;
-        }
-
-        // For non-qualified types, we need to resolve them to fully qualified form
-        // Following Protobuf name resolution rules, search from innermost scope outward
-        // through parent scopes: https://protobuf.dev/programming-guides/proto3/#name-resolution
-        //
-        // Example: If messageContext is "ParentOne.ParentTwo" and type is "NestedType"
-        // Check in order:
-        //   1. ParentOne.ParentTwo.NestedType
-        //   2. ParentOne.NestedType
-        //   3. NestedType (top-level)
-
-        if (messageContext != null && !messageContext.isEmpty()) {
-            // Split the message context into scopes (e.g., "ParentOne.ParentTwo" -> ["ParentOne", "ParentTwo"])
-            String[] scopes = messageContext.split("\\.");
-
-            // Iterate from innermost scope outward through parent scopes
-            for (int i = scopes.length; i > 0; i--) {
-                // Build the candidate path by joining the first i scopes
-                String scopePath = String.join(".", java.util.Arrays.copyOfRange(scopes, 0, i));
-                String candidate = scopePath + "." + type;
-
-                if (typeExistsInFile(file, candidate)) {
-                    // Found the type in this scope
-                    return buildFullyQualifiedName(file, candidate);
-                }
-            }
-        }
-
-        // Check if it's a top-level type in the same file
-        if (typeExistsInFile(file, type)) {
-            // It's a top-level message/enum in the same file
-            return buildFullyQualifiedName(file, type);
-        }
-
-        // For types we can't locate in the schema, infer the fully qualified name
-        // This handles cross-file references or types that might be defined elsewhere
-        if (messageContext != null && !messageContext.isEmpty()) {
-            return buildFullyQualifiedName(file, messageContext + "." + type);
-        }
-
-        // Default: assume it's a top-level type
-        return buildFullyQualifiedName(file, type);
-    }
-
-    /**
-     * Checks if a type (message or enum) exists in the protobuf file.
-     *
-     * @param file     the protobuf file
-     * @param typeName the type name to check (without package, e.g., "Message" or "Outer.Inner")
-     * @return true if the type exists as a message or enum
-     */
-    private boolean typeExistsInFile(ProtobufFile file, String typeName) {
-        // Check if it exists as a message (has fields)
-        if (file.getFieldMap().containsKey(typeName)) {
-            return true;
-        }
-
-        // Check if it exists as an enum
-        if (file.getEnumFieldMap().containsKey(typeName)) {
-            return true;
-        }
-
-        // Check if it exists as a message in the non-reserved fields
-        // (even if it has no fields, it might be referenced)
-        if (file.getNonReservedFields().containsKey(typeName)) {
-            return true;
-        }
-
-        // Check if it exists as an enum in the non-reserved enum fields
-        if (file.getNonReservedEnumFields().containsKey(typeName)) {
-            return true;
-        }
-
-        return false;
-    }
-
-    /**
-     * Builds a fully qualified type name with leading dot and package prefix.
-     *
-     * @param file     the protobuf file
-     * @param typePath the type path (e.g., "RootMessage.NestedMessage" or "RootMessage")
-     * @return the fully qualified name (e.g., ".test.RootMessage.NestedMessage")
-     */
-    private String buildFullyQualifiedName(ProtobufFile file, String typePath) {
-        String packageName = file.getPackageName();
-        if (packageName != null && !packageName.isEmpty()) {
-            return "." + packageName + "." + typePath;
-        } else {
-            return "." + typePath;
-        }
-    }
-
-    /**
-     * Checks if a type is a built-in Protobuf primitive type.
-     *
-     * @param type the type name to check
-     * @return true if the type is a built-in primitive type
-     */
-    private boolean isBuiltInType(String type) {
-        if (type == null) {
-            return false;
-        }
-
-        // All protobuf primitive/scalar types
-        Set<String> builtInTypes = Set.of("double", "float", "int32", "int64", "uint32", "uint64", "sint32",
-                "sint64", "fixed32", "fixed64", "sfixed32", "sfixed64", "bool", "string", "bytes");
-
-        return builtInTypes.contains(type);
-    }
-
     /**
      * Determine if any message's previous fields have been renamed.
      *
@@ -445,11 +300,8 @@ public class ProtobufCompatibilityCheckerLibrary {
 
         List<ProtobufDifference> issues = new ArrayList<>();
 
-        Map<String, Map<Integer, String>> before = new HashMap<>(fileBefore.getFieldsById());
-        before.putAll(fileBefore.getEnumFieldsById());
-
-        Map<String, Map<Integer, String>> after = new HashMap<>(fileAfter.getFieldsById());
-        after.putAll(fileAfter.getEnumFieldsById());
+        Map<String, Map<Integer, String>> before = fileBefore.getNamesById();
+        Map<String, Map<Integer, String>> after = fileAfter.getNamesById();
 
         Map<String, Set<Object>> afterReservedFields = fileAfter.getReservedFields();
 
@@ -553,20 +405,19 @@ public class ProtobufCompatibilityCheckerLibrary {
 
         List<ProtobufDifference> issues = new ArrayList<>();
 
-        Map<String, Map<String, FieldElement>> before = fileBefore.getFieldMap();
-        Map<String, Map<String, FieldElement>> after = fileAfter.getFieldMap();
+        Map<String, Map<String, FieldSignature>> before = fileBefore.getFields();
+        Map<String, Map<String, FieldSignature>> after = fileAfter.getFields();
 
-        for (Map.Entry<String, Map<String, FieldElement>> entry : after.entrySet()) {
-            Map<String, FieldElement> beforeMap = before.get(entry.getKey());
+        for (Map.Entry<String, Map<String, FieldSignature>> entry : after.entrySet()) {
+            Map<String, FieldSignature> beforeMap = before.get(entry.getKey());
 
             if (beforeMap != null) {
-                for (Map.Entry<String, FieldElement> afterKV : entry.getValue().entrySet()) {
-                    FieldElement afterSig = beforeMap.get(afterKV.getKey());
-                    if (afterSig == null && afterKV.getValue().getLabel() != null
-                            && afterKV.getValue().getLabel().equals(Field.Label.REQUIRED)) {
+                for (Map.Entry<String, FieldSignature> afterKV : entry.getValue().entrySet()) {
+                    FieldSignature afterSig = beforeMap.get(afterKV.getKey());
+                    if (afterSig == null && afterKV.getValue().description() != null) {
                         issues.add(ProtobufDifference.from(
                                 String.format("required field added in new version, message %s, after %s",
-                                        entry.getKey(), afterKV.getValue())));
+                                        entry.getKey(), afterKV.getValue().description())));
                     }
                 }
             }
@@ -0,0 +1,248 @@
+package io.apicurio.registry.protobuf.rules.compatibility.protobuf;
+
+import com.squareup.wire.Syntax;
+import com.squareup.wire.schema.Field;
+import com.squareup.wire.schema.internal.parser.EnumConstantElement;
+import com.squareup.wire.schema.internal.parser.FieldElement;
+import io.apicurio.registry.utils.protobuf.schema.ProtobufFile;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The parts of a Protobuf schema that matter to its compatibility with other versions: field names, numbers,
+ * types and labels, reserved fields, enum constants and service RPCs, per message.
+ * <p>
+ * A signature is computed once from a parsed {@link ProtobufFile}, with the field types already resolved to
+ * their fully qualified names, and does not keep the parsed schema. It is immutable, so it can be cached (e.g.
+ * by content hash) and compared with the signatures of any number of other versions, without parsing the
+ * schemas again.
+ */
+public final class ProtobufCompatibilitySignature {
+
+    private static final Set<String> BUILT_IN_TYPES = Set.of("double", "float", "int32", "int64", "uint32",
+            "uint64", "sint32", "sint64", "fixed32", "fixed64", "sfixed32", "sfixed64", "bool", "string",
+            "bytes");
+
+    /**
+     * A field of a message.
+     *
+     * @param name
+     * @param tag the field number
+     * @param type the type, as declared
+     * @param normalizedType the fully qualified type, used for comparisons
+     * @param label the label, or null
+     * @param description the description of a required field, used in difference messages, or null
+     */
+    public record FieldSignature(String name, int tag, String type, String normalizedType, Field.Label label,
+            String description) {
+    }
+
+    private final Syntax syntax;
+    private final Map<String, Set<Object>> reservedFields;
+    private final Map<String, Set<Object>> nonReservedFields;
+    private final Map<String, Map<String, FieldSignature>> fields;
+    private final Map<String, Map<String, Integer>> enumConstants;
+    private final Map<String, Map<Integer, String>> namesById;
+    private final Map<String, Set<String>> serviceRPCnames;
+    private final Map<String, Map<String, String>> serviceRPCSignatures;
+
+    private ProtobufCompatibilitySignature(ProtobufFile file) {
+        this.syntax = file.getSyntax();
+        this.reservedFields = Collections.unmodifiableMap(file.getReservedFields());
+        this.nonReservedFields = Collections.unmodifiableMap(file.getNonReservedFields());
+
+        Map<String, Map<String, FieldSignature>> fieldsByMessage = new HashMap<>();
+        for (Map.Entry<String, Map<String, FieldElement>> message : file.getFieldMap().entrySet()) {
+            Map<String, FieldSignature> messageFields = new HashMap<>();
+            for (FieldElement field : message.getValue().values()) {
+                messageFields.put(field.getName(),
+                        new FieldSignature(field.getName(), field.getTag(), field.getType(),
+                                normalizeType(file, field.getType(), message.getKey()), field.getLabel(),
+                                Field.Label.REQUIRED.equals(field.getLabel()) ? field.toString() : null));
+            }
+            fieldsByMessage.put(message.getKey(), Collections.unmodifiableMap(messageFields));
+        }
+        this.fields = Collections.unmodifiableMap(fieldsByMessage);
+
+        Map<String, Map<String, Integer>> constantsByEnum = new HashMap<>();
+        for (Map.Entry<String, Map<String, EnumConstantElement>> e : file.getEnumFieldMap().entrySet()) {
+            Map<String, Integer> constants = new HashMap<>();
+            for (EnumConstantElement constant : e.getValue().values()) {
+                constants.put(constant.getName(), constant.getTag());
+            }
+            constantsByEnum.put(e.getKey(), Collections.unmodifiableMap(constants));
+        }
+        this.enumConstants = Collections.unmodifiableMap(constantsByEnum);
+
+        Map<String, Map<Integer, String>> byId = new HashMap<>(file.getFieldsById());
+        byId.putAll(file.getEnumFieldsById());
+        this.namesById = Collections.unmodifiableMap(byId);
+
+        this.serviceRPCnames = Collections.unmodifiableMap(file.getServiceRPCnames());
+        this.serviceRPCSignatures = Collections.unmodifiableMap(file.getServiceRPCSignatures());
+    }
+
+    public static ProtobufCompatibilitySignature of(ProtobufFile file) {
+        return new ProtobufCompatibilitySignature(file);
+    }
+
+    public Syntax getSyntax() {
+        return syntax;
+    }
+
+    /**
+     * @return the reserved field names and numbers, per message
+     */
+    public Map<String, Set<Object>> getReservedFields() {
+        return reservedFields;
+    }
+
+    /**
+     * @return the field names and numbers in use, per message
+     */
+    public Map<String, Set<Object>> getNonReservedFields() {
+        return nonReservedFields;
+    }
+
+    /**
+     * @return the fields by name, per message
+     */
+    public Map<String, Map<String, FieldSignature>> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return the constant numbers by name, per enum
+     */
+    public Map<String, Map<String, Integer>> getEnumConstants() {
+        return enumConstants;
+    }
+
+    /**
+     * @return the field and enum constant names by number, per message or enum
+     */
+    public Map<String, Map<Integer, String>> getNamesById() {
+        return namesById;
+    }
+
+    public Map<String, Set<String>> getServiceRPCnames() {
+        return serviceRPCnames;
+    }
+
+    public Map<String, Map<String, String>> getServiceRPCSignatures() {
+        return serviceRPCSignatures;
+    }
+
+    /**
+     * Normalizes a protobuf type to its fully qualified form to enable proper comparison between schemas that
+     * use different type reference styles (qualified vs unqualified).
+     *
+     * @param file the protobuf file containing the type
+     * @param type the type name to normalize
+     * @param messageContext the message in which the field is defined (e.g., "RootMessage")
+     * @return the normalized fully qualified type name with leading dot (e.g.,
+     *         ".test.RootMessage.NestedMessage")
+     */
+    private static String normalizeType(ProtobufFile file, String type, String messageContext) {
+        if (type == null) {
+            return null;
+        }
+
+        // Handle Protobuf map types
+        if (type.startsWith("map<")) {
+            return type;
+        }
+
+        // If already fully qualified (starts with .), return it as-is
+        if (type.startsWith(".")) {
+            return type;
+        }
+
+        // Handle built-in/primitive types - these don't get qualified
+        if (BUILT_IN_TYPES.contains(type)) {
+            return type;
+        }
+
+        // Check if this is a cross-package reference (contains dots but doesn't start with one)
+        // Examples: google.protobuf.Timestamp, other.package.Message
+        // These should just get a leading dot added, not have the local package prepended
+        if (type.contains(".")) {
+            return "." + type;
+        }
+
+        // For non-qualified types, we need to resolve them to fully qualified form
+        // Following Protobuf name resolution rules, search from innermost scope outward
+        // through parent scopes: https://protobuf.dev/programming-guides/proto3/#name-resolution
+        //
+        // Example: If messageContext is "ParentOne.ParentTwo" and type is "NestedType"
+        // Check in order:
+        //   1. ParentOne.ParentTwo.NestedType
+        //   2. ParentOne.NestedType
+        //   3. NestedType (top-level)
+
+        if (messageContext != null && !messageContext.isEmpty()) {
+            // Split the message context into scopes (e.g., "ParentOne.ParentTwo" -> ["ParentOne", "ParentTwo"])
+            String[] scopes = messageContext.split("\\.");
+
+            // Iterate from innermost scope outward through parent scopes
+            for (int i = scopes.length; i > 0; i--) {
+                // Build the candidate path by joining the first i scopes
+                String scopePath = String.join(".", Arrays.copyOfRange(scopes, 0, i));
+                String candidate = scopePath + "." + type;
+
+                if (typeExistsInFile(file, candidate)) {
+                    // Found the type in this scope
+                    return buildFullyQualifiedName(file, candidate);
+                }
+            }
+        }
+
+        // Check if it's a top-level type in the same file
+        if (typeExistsInFile(file, type)) {
+            // It's a top-level message/enum in the same file
+            return buildFullyQualifiedName(file, type);
+        }
+
+        // For types we can't locate in the schema, infer the fully qualified name
+        // This handles cross-file references or types that might be defined elsewhere
+        if (messageContext != null && !messageContext.isEmpty()) {
+            return buildFullyQualifiedName(file, messageContext + "." + type);
+        }
+
+        // Default: assume it's a top-level type
+        return buildFullyQualifiedName(file, type);
+    }
+
+    /**
+     * Checks if a type (message or enum) exists in the protobuf file.
+     *
+     * @param file the protobuf file
+     * @param typeName the type name to check (without package, e.g., "Message" or "Outer.Inner")
+     * @return true if the type exists as a message or enum
+     */
+    private static boolean typeExistsInFile(ProtobufFile file, String typeName) {
+        return file.getFieldMap().containsKey(typeName) || file.getEnumFieldMap().containsKey(typeName)
+                || file.getNonReservedFields().containsKey(typeName)
+                || file.getNonReservedEnumFields().containsKey(typeName);
+    }
+
+    /**
+     * Builds a fully qualified type name with leading dot and package prefix.
+     *
+     * @param file the protobuf file
+     * @param typePath the type path (e.g., "RootMessage.NestedMessage" or "RootMessage")
+     * @return the fully qualified name (e.g., ".test.RootMessage.NestedMessage")
+     */
+    private static String buildFullyQualifiedName(ProtobufFile file, String typePath) {
+        String packageName = file.getPackageName();
+        if (packageName != null && !packageName.isEmpty()) {
+            return "." + packageName + "." + typePath;
+        } else {
+            return "." + typePath;
+        }
+    }
+}
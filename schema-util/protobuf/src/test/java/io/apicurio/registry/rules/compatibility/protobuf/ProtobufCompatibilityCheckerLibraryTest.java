@@ -2,11 +2,13 @@ package io.apicurio.registry.rules.compatibility.protobuf;
 
 import io.apicurio.registry.protobuf.ProtobufDifference;
 import io.apicurio.registry.protobuf.rules.compatibility.protobuf.ProtobufCompatibilityCheckerLibrary;
+import io.apicurio.registry.protobuf.rules.compatibility.protobuf.ProtobufCompatibilitySignature;
 import io.apicurio.registry.utils.protobuf.schema.ProtobufFile;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -1142,4 +1144,44 @@ public class ProtobufCompatibilityCheckerLibraryTest {
                 "Type references should resolve to grandparent scope per Protobuf scoping rules. Found: "
                         + differences);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSignaturesCanBeComparedRepeatedly() {
+        ProtobufCompatibilitySignature v1 = ProtobufCompatibilitySignature.of(new ProtobufFile("""
+            syntax = "proto2";
+            package test;
+            message Order {
+                required int32 id = 1;
+                optional Item item = 2;
+                message Item {
+                    optional string name = 1;
+                }
+            }
+        """));
+        // Same type, referenced by its qualified name
+        ProtobufCompatibilitySignature v2 = ProtobufCompatibilitySignature.of(new ProtobufFile("""
+            syntax = "proto2";
+            package test;
+            message Order {
+                required int32 id = 1;
+                optional test.Order.Item item = 2;
+                required string note = 3;
+                message Item {
+                    optional string name = 1;
+                }
+            }
+        """));
+
+        assertEquals(".test.Order.Item", v1.getFields().get("Order").get("item").normalizedType());
+        assertTrue(new ProtobufCompatibilityCheckerLibrary(v1, v1).validate());
+
+        // Only the added required field differs
+        List<ProtobufDifference> backward = new ProtobufCompatibilityCheckerLibrary(v1, v2).findDifferences();
+        assertEquals(1, backward.size(), backward.toString());
+        assertTrue(backward.get(0).getMessage().startsWith("required field added in new version, message Order"));
+        List<ProtobufDifference> forward = new ProtobufCompatibilityCheckerLibrary(v2, v1).findDifferences();
+        assertEquals(List.of("2 fields removed without reservation, message Order",
+                "Field name changed, message Order , before: note , after null"),
+                forward.stream().map(ProtobufDifference::getMessage).toList());
+    }
+}
@@ -7,6 +7,7 @@ import io.apicurio.registry.rules.violation.RuleViolationException;
 import io.apicurio.registry.types.RuleType;
 import io.apicurio.registry.wsdl.util.WSDLReaderAccessor;
 import io.apicurio.registry.xml.util.DocumentBuilderAccessor;
+import io.apicurio.registry.xml.util.SAXParserAccessor;
 import org.w3c.dom.Document;
 
 import java.io.InputStream;
@@ -26,13 +27,19 @@ public class WsdlContentValidator extends XmlContentValidator {
     @Override
     public void validate(ValidityLevel level, TypedContent content,
             Map<String, TypedContent> resolvedReferences) throws RuleViolationException {
-        if (level == ValidityLevel.SYNTAX_ONLY || level == ValidityLevel.FULL) {
+        if (level == ValidityLevel.SYNTAX_ONLY) {
+            try {
+                content.getContent().getParsed(SAXParserAccessor.WELL_FORMED_PARSER);
+            } catch (Exception e) {
+                throw new RuleViolationException("Syntax violation for WSDL Schema artifact.",
+                        RuleType.VALIDITY, level.name(), e);
+            }
+        } else if (level == ValidityLevel.FULL) {
+            // The WSDL reader needs the DOM tree, which also checks the syntax
             try (InputStream stream = content.getContent().stream()) {
                 Document wsdlDoc = DocumentBuilderAccessor.getDocumentBuilder().parse(stream);
-                if (level == ValidityLevel.FULL) {
-                    // validate that its a valid schema
-                    WSDLReaderAccessor.getWSDLReader().readWSDL(null, wsdlDoc);
-                }
+                // validate that its a valid schema
+                WSDLReaderAccessor.getWSDLReader().readWSDL(null, wsdlDoc);
             } catch (Exception e) {
                 throw new RuleViolationException("Syntax violation for WSDL Schema artifact.",
                         RuleType.VALIDITY, level.name(), e);
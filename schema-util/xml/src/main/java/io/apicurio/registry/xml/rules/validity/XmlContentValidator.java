@@ -6,9 +6,8 @@ import io.apicurio.registry.rules.validity.ContentValidator;
 import io.apicurio.registry.rules.validity.ValidityLevel;
 import io.apicurio.registry.rules.violation.RuleViolationException;
 import io.apicurio.registry.types.RuleType;
-import io.apicurio.registry.xml.util.DocumentBuilderAccessor;
+import io.apicurio.registry.xml.util.SAXParserAccessor;
 
-import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -21,14 +20,16 @@ public class XmlContentValidator implements ContentValidator {
     }
 
     /**
+     * Checks that the content is well-formed by streaming through it, without building its DOM tree.
+     *
      * @see io.apicurio.registry.rules.validity.ContentValidator#validate(ValidityLevel, TypedContent, Map)
      */
     @Override
     public void validate(ValidityLevel level, TypedContent content,
             Map<String, TypedContent> resolvedReferences) throws RuleViolationException {
         if (level == ValidityLevel.SYNTAX_ONLY || level == ValidityLevel.FULL) {
-            try (InputStream stream = content.getContent().stream()) {
-                DocumentBuilderAccessor.getDocumentBuilder().parse(stream);
+            try {
+                content.getContent().getParsed(SAXParserAccessor.WELL_FORMED_PARSER);
             } catch (Exception e) {
                 throw new RuleViolationException("Syntax violation for XML artifact.", RuleType.VALIDITY,
                         level.name(), e);
@@ -0,0 +1,68 @@
+package io.apicurio.registry.xml.util;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ContentParser;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.InputStream;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+/**
+ * Gives access to a namespace aware SAX parser, for the checks that can stream through a document instead of
+ * building its DOM tree.
+ */
+public final class SAXParserAccessor {
+
+    private static ThreadLocal<SAXParser> threadLocalSaxParser = new ThreadLocal<SAXParser>() {
+        @Override
+        protected SAXParser initialValue() {
+            try {
+                SAXParserFactory factory = SAXParserFactory.newInstance();
+                factory.setNamespaceAware(true);
+                SAXParser parser = factory.newSAXParser();
+                parser.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+                parser.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+                return parser;
+            } catch (ParserConfigurationException | SAXException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    };
+
+    /**
+     * Checks that content is well-formed XML, without keeping anything of the document in memory, see
+     * {@link ContentHandle#getParsed(ContentParser)}. Fails with the parse error if it is not.
+     */
+    public static final ContentParser<Boolean> WELL_FORMED_PARSER = content -> {
+        SAXParser parser = getSAXParser();
+        try (InputStream stream = content.stream()) {
+            parser.parse(stream, new DefaultHandler());
+        } finally {
+            parser.reset();
+        }
+        return Boolean.TRUE;
+    };
+
+    /**
+     * Returns true if the content is well-formed XML. The check shares the result of
+     * {@link #WELL_FORMED_PARSER} with the validators, so content that is both accepted and validated is
+     * only parsed once.
+     */
+    public static boolean isWellFormed(ContentHandle content) {
+        try {
+            return content.getParsed(WELL_FORMED_PARSER);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public static SAXParser getSAXParser() {
+        return threadLocalSaxParser.get();
+    }
+
+}
@@ -0,0 +1,62 @@
+package io.apicurio.registry.xml.util;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ContentParser;
+
+import java.io.InputStream;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Gives access to a StAX input factory, for the code that only needs to pull a few things out of a document
+ * instead of building its DOM tree.
+ */
+public final class XMLInputFactoryAccessor {
+
+    private static ThreadLocal<XMLInputFactory> threadLocalInputFactory = new ThreadLocal<XMLInputFactory>() {
+        @Override
+        protected XMLInputFactory initialValue() {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            try {
+                factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+                factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            } catch (IllegalArgumentException e) {
+                // Don't care.
+            }
+            return factory;
+        }
+    };
+
+    /**
+     * Reads the name of the root element of the content, see {@link ContentHandle#getParsed(ContentParser)}.
+     * Only the prolog and the start of the root element are read, so this does not check that the rest of
+     * the content is well-formed.
+     */
+    public static final ContentParser<QName> ROOT_ELEMENT_PARSER = content -> {
+        try (InputStream stream = content.stream()) {
+            XMLStreamReader reader = getXMLInputFactory().createXMLStreamReader(stream);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                        return reader.getName();
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        throw new XMLStreamException("No root element found.");
+    };
+
+    public static XMLInputFactory getXMLInputFactory() {
+        return threadLocalInputFactory.get();
+    }
+
+}
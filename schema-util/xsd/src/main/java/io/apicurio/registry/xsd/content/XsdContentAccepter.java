@@ -2,13 +2,13 @@ package io.apicurio.registry.xsd.content;
 
 import io.apicurio.registry.content.ContentAccepter;
 import io.apicurio.registry.content.TypedContent;
-import io.apicurio.registry.content.util.ContentTypeUtil;
-import io.apicurio.registry.xml.util.DocumentBuilderAccessor;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
+import io.apicurio.registry.xml.util.SAXParserAccessor;
+import io.apicurio.registry.xml.util.XMLInputFactoryAccessor;
 
 import java.util.Map;
 
+import javax.xml.namespace.QName;
+
 public class XsdContentAccepter implements ContentAccepter {
 
     @Override
@@ -16,10 +16,8 @@ public class XsdContentAccepter implements ContentAccepter {
         try {
             String contentType = content.getContentType();
             if (contentType.toLowerCase().contains("xml")
-                    && ContentTypeUtil.isParsableXml(content.getContent())) {
-                Document xmlDocument = DocumentBuilderAccessor.getDocumentBuilder()
-                        .parse(content.getContent().stream());
-                Element root = xmlDocument.getDocumentElement();
+                    && SAXParserAccessor.isWellFormed(content.getContent())) {
+                QName root = content.getContent().getParsed(XMLInputFactoryAccessor.ROOT_ELEMENT_PARSER);
                 String ns = root.getNamespaceURI();
                 if (ns != null && ns.equals("http://www.w3.org/2001/XMLSchema")) {
                     return true;
@@ -30,4 +28,9 @@ public class XsdContentAccepter implements ContentAccepter {
         return false;
     }
 
+    @Override
+    public boolean mayAcceptContent(char firstCharacter) {
+        return firstCharacter == '<';
+    }
+
 }
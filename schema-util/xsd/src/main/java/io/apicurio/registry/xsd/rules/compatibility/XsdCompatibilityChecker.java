@@ -1,21 +1,22 @@
 package io.apicurio.registry.xsd.rules.compatibility;
 
+import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.rules.compatibility.AbstractCompatibilityChecker;
 import io.apicurio.registry.rules.compatibility.CompatibilityDifference;
 import io.apicurio.registry.rules.compatibility.SimpleCompatibilityDifference;
 import io.apicurio.registry.rules.violation.UnprocessableSchemaException;
-import io.apicurio.registry.xml.util.DocumentBuilderAccessor;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
+import io.apicurio.registry.xml.util.XMLInputFactoryAccessor;
 
 import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 /**
  * XSD Compatibility Checker that validates schema evolution according to standard compatibility rules.
  * 
@@ -28,16 +29,28 @@ import java.util.*;
 public class XsdCompatibilityChecker extends AbstractCompatibilityChecker<XsdCompatibilityChecker.XsdIncompatibility> {
 
     private static final String XSD_NS = "http://www.w3.org/2001/XMLSchema";
+
+    private static final int MAX_CACHED_SCHEMAS = 1000;
+
+    /**
+     * Models of the recently checked schemas, by content hash. Transitive checks compare the proposed schema
+     * with every existing version, and every check compares two schemas in each direction, so most of the
+     * models are reused rather than extracted again.
+     */
+    private static final Map<String, XsdSchema> SCHEMAS = Collections
+            .synchronizedMap(new LinkedHashMap<String, XsdSchema>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, XsdSchema> eldest) {
+                    return size() > MAX_CACHED_SCHEMAS;
+                }
+            });
     
     @Override
     protected Set<XsdIncompatibility> isBackwardsCompatibleWith(String existing, String proposed,
             Map<String, TypedContent> resolvedReferences) {
         try {
-            Document existingDoc = parseXsd(existing);
-            Document proposedDoc = parseXsd(proposed);
-            
-            XsdSchema existingSchema = new XsdSchema(existingDoc);
-            XsdSchema proposedSchema = new XsdSchema(proposedDoc);
+            XsdSchema existingSchema = schemaOf(existing);
+            XsdSchema proposedSchema = schemaOf(proposed);
             
             Set<XsdIncompatibility> incompatibilities = new HashSet<>();
             
@@ -58,9 +71,27 @@ public class XsdCompatibilityChecker extends AbstractCompatibilityChecker<XsdCom
         return new SimpleCompatibilityDifference(original.getMessage(), original.getContext());
     }
 
-    private Document parseXsd(String xsdContent) throws Exception {
+    /**
+     * Gets the model of a schema from the cache, or extracts it.
+     */
+    private XsdSchema schemaOf(String xsdContent) throws Exception {
+        String key = ContentHandle.create(xsdContent).getSha256Hash();
+        XsdSchema schema = SCHEMAS.get(key);
+        if (schema == null) {
+            schema = parseXsd(xsdContent);
+            SCHEMAS.put(key, schema);
+        }
+        return schema;
+    }
+
+    private XsdSchema parseXsd(String xsdContent) throws Exception {
         ByteArrayInputStream stream = new ByteArrayInputStream(xsdContent.getBytes(StandardCharsets.UTF_8));
-        return DocumentBuilderAccessor.getDocumentBuilder().parse(stream);
+        XMLStreamReader reader = XMLInputFactoryAccessor.getXMLInputFactory().createXMLStreamReader(stream);
+        try {
+            return new XsdSchema(reader);
+        } finally {
+            reader.close();
+        }
     }
 
     /**
@@ -360,158 +391,127 @@ public class XsdCompatibilityChecker extends AbstractCompatibilityChecker<XsdCom
     }
 
     /**
-     * Internal representation of an XSD schema
+     * Internal representation of an XSD schema: the compact model that the compatibility rules work on. It is
+     * extracted by streaming through the schema once, without building its DOM tree, and does not keep the
+     * content, so it can be cached and compared with any number of other versions.
      */
     private static class XsdSchema {
-        private final Document document;
         private final Map<String, XsdElement> elements = new HashMap<>();
         private final Map<String, XsdAttribute> attributes = new HashMap<>();
         private final Map<String, XsdType> types = new HashMap<>();
 
-        public XsdSchema(Document document) {
-            this.document = document;
-            parseSchema();
-        }
-
-        private void parseSchema() {
-            Element root = document.getDocumentElement();
-            NodeList children = root.getChildNodes();
-            
-            for (int i = 0; i < children.getLength(); i++) {
-                Node child = children.item(i);
-                if (child.getNodeType() != Node.ELEMENT_NODE) {
-                    continue;
-                }
-                
-                Element element = (Element) child;
-                String localName = element.getLocalName();
-                
-                if ("element".equals(localName)) {
-                    XsdElement xsdElement = parseElement(element);
-                    if (xsdElement.getName() != null) {
-                        elements.put(xsdElement.getName(), xsdElement);
-                    }
-                } else if ("attribute".equals(localName)) {
-                    XsdAttribute xsdAttribute = parseAttribute(element);
-                    if (xsdAttribute.getName() != null) {
-                        attributes.put(xsdAttribute.getName(), xsdAttribute);
+        public XsdSchema(XMLStreamReader reader) throws XMLStreamException {
+            parseSchema(reader);
+        }
+
+        private void parseSchema(XMLStreamReader reader) throws XMLStreamException {
+            // The depth of the current element, the schema element being at depth 1
+            int depth = 0;
+            TypeParser typeParser = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    if (depth == 2) {
+                        String localName = reader.getLocalName();
+                        if ("element".equals(localName)) {
+                            XsdElement xsdElement = parseElement(reader);
+                            elements.put(xsdElement.getName(), xsdElement);
+                        } else if ("attribute".equals(localName)) {
+                            XsdAttribute xsdAttribute = parseAttribute(reader);
+                            attributes.put(xsdAttribute.getName(), xsdAttribute);
+                        } else if ("simpleType".equals(localName) || "complexType".equals(localName)) {
+                            typeParser = new TypeParser(attribute(reader, "name"));
+                        }
+                    } else if (typeParser != null) {
+                        typeParser.startElement(reader, depth);
                     }
-                } else if ("simpleType".equals(localName) || "complexType".equals(localName)) {
-                    XsdType xsdType = parseType(element);
-                    if (xsdType.getName() != null) {
-                        types.put(xsdType.getName(), xsdType);
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (typeParser != null) {
+                        if (depth == 2) {
+                            typeParser.finish();
+                            typeParser = null;
+                        } else {
+                            typeParser.endElement(depth);
+                        }
                     }
-                    // Also parse elements and attributes from within the complexType
-                    parseComplexTypeContent(element);
+                    depth--;
                 }
             }
         }
-        
-        private void parseComplexTypeContent(Element complexTypeElement) {
-            // Parse elements from sequence, choice, or all
-            NodeList sequences = complexTypeElement.getElementsByTagNameNS(XSD_NS, "sequence");
-            for (int i = 0; i < sequences.getLength(); i++) {
-                Element sequence = (Element) sequences.item(i);
-                parseElementsFromContainer(sequence);
-            }
-            
-            NodeList choices = complexTypeElement.getElementsByTagNameNS(XSD_NS, "choice");
-            for (int i = 0; i < choices.getLength(); i++) {
-                Element choice = (Element) choices.item(i);
-                parseElementsFromContainer(choice);
-            }
-            
-            NodeList alls = complexTypeElement.getElementsByTagNameNS(XSD_NS, "all");
-            for (int i = 0; i < alls.getLength(); i++) {
-                Element all = (Element) alls.item(i);
-                parseElementsFromContainer(all);
+
+        /**
+         * Collects the content of a top level simple or complex type while streaming through it: the first
+         * restriction, the enumeration values, the elements of the model groups (sequence, choice or all) and
+         * the attributes declared anywhere within the type.
+         */
+        private class TypeParser {
+            private final XsdType type;
+            private final List<ModelGroup> groups = new ArrayList<>();
+            private final List<XsdAttribute> typeAttributes = new ArrayList<>();
+            // The model group open at each depth, if any
+            private final Map<Integer, ModelGroup> openGroups = new HashMap<>();
+            private int restrictionDepth = -1;
+            private boolean restrictionFound;
+
+            private TypeParser(String name) {
+                this.type = new XsdType(name);
             }
-            
-            // Parse attributes
-            NodeList attrs = complexTypeElement.getElementsByTagNameNS(XSD_NS, "attribute");
-            for (int i = 0; i < attrs.getLength(); i++) {
-                Element attrElement = (Element) attrs.item(i);
-                XsdAttribute xsdAttribute = parseAttribute(attrElement);
-                if (xsdAttribute.getName() != null) {
-                    attributes.put(xsdAttribute.getName(), xsdAttribute);
+
+            private void startElement(XMLStreamReader reader, int depth) {
+                String localName = reader.getLocalName();
+                boolean xsd = XSD_NS.equals(reader.getNamespaceURI());
+
+                ModelGroup parentGroup = openGroups.get(depth - 1);
+                if (parentGroup != null && "element".equals(localName)) {
+                    parentGroup.elements.add(parseElement(reader));
                 }
-            }
-        }
-        
-        private void parseElementsFromContainer(Element container) {
-            NodeList children = container.getChildNodes();
-            for (int i = 0; i < children.getLength(); i++) {
-                Node child = children.item(i);
-                if (child.getNodeType() != Node.ELEMENT_NODE) {
-                    continue;
+                if (restrictionDepth != -1 && depth == restrictionDepth + 1) {
+                    parseFacet(reader, localName);
                 }
-                Element element = (Element) child;
-                if ("element".equals(element.getLocalName())) {
-                    XsdElement xsdElement = parseElement(element);
-                    if (xsdElement.getName() != null) {
-                        elements.put(xsdElement.getName(), xsdElement);
-                    }
+                if (!xsd) {
+                    return;
+                }
+                switch (localName) {
+                    case "sequence":
+                    case "choice":
+                    case "all":
+                        ModelGroup group = new ModelGroup(localName);
+                        groups.add(group);
+                        openGroups.put(depth, group);
+                        break;
+                    case "attribute":
+                        typeAttributes.add(parseAttribute(reader));
+                        break;
+                    case "restriction":
+                        if (!restrictionFound) {
+                            restrictionFound = true;
+                            restrictionDepth = depth;
+                            type.setRestriction(new XsdRestriction());
+                        }
+                        break;
+                    case "enumeration":
+                        String value = attribute(reader, "value");
+                        if (!value.isEmpty()) {
+                            type.addEnumerationValue(value);
+                        }
+                        break;
+                    default:
+                        break;
                 }
             }
-        }
-
-        private XsdElement parseElement(Element element) {
-            String name = element.getAttribute("name");
-            String type = element.getAttribute("type");
-            int minOccurs = parseOccurs(element.getAttribute("minOccurs"), 1);
-            int maxOccurs = parseOccurs(element.getAttribute("maxOccurs"), 1);
-            boolean nillable = "true".equals(element.getAttribute("nillable"));
-            
-            return new XsdElement(name, type, minOccurs, maxOccurs, nillable);
-        }
 
-        private XsdAttribute parseAttribute(Element element) {
-            String name = element.getAttribute("name");
-            String type = element.getAttribute("type");
-            String use = element.getAttribute("use");
-            boolean required = "required".equals(use);
-            
-            return new XsdAttribute(name, type, required);
-        }
-
-        private XsdType parseType(Element element) {
-            String name = element.getAttribute("name");
-            XsdType type = new XsdType(name);
-            
-            // Parse restrictions
-            NodeList restrictions = element.getElementsByTagNameNS(XSD_NS, "restriction");
-            if (restrictions.getLength() > 0) {
-                Element restriction = (Element) restrictions.item(0);
-                type.setRestriction(parseRestriction(restriction));
-            }
-            
-            // Parse enumerations
-            NodeList enumerations = element.getElementsByTagNameNS(XSD_NS, "enumeration");
-            for (int i = 0; i < enumerations.getLength(); i++) {
-                Element enumElement = (Element) enumerations.item(i);
-                String value = enumElement.getAttribute("value");
-                if (value != null && !value.isEmpty()) {
-                    type.addEnumerationValue(value);
+            private void endElement(int depth) {
+                openGroups.remove(depth);
+                if (depth == restrictionDepth) {
+                    restrictionDepth = -1;
                 }
             }
-            
-            return type;
-        }
 
-        private XsdRestriction parseRestriction(Element restriction) {
-            XsdRestriction xsdRestriction = new XsdRestriction();
-            
-            NodeList children = restriction.getChildNodes();
-            for (int i = 0; i < children.getLength(); i++) {
-                Node child = children.item(i);
-                if (child.getNodeType() != Node.ELEMENT_NODE) {
-                    continue;
-                }
-                
-                Element element = (Element) child;
-                String localName = element.getLocalName();
-                String value = element.getAttribute("value");
-                
+            private void parseFacet(XMLStreamReader reader, String localName) {
+                XsdRestriction xsdRestriction = type.getRestriction();
+                String value = attribute(reader, "value");
+
                 switch (localName) {
                     case "minInclusive":
                         xsdRestriction.setMinInclusive(value);
@@ -530,8 +530,65 @@ public class XsdCompatibilityChecker extends AbstractCompatibilityChecker<XsdCom
                         break;
                 }
             }
-            
-            return xsdRestriction;
+
+            private void finish() {
+                types.put(type.getName(), type);
+                // Sequences first, then choices, then alls, each in document order
+                for (String kind : List.of("sequence", "choice", "all")) {
+                    for (ModelGroup group : groups) {
+                        if (kind.equals(group.kind)) {
+                            for (XsdElement xsdElement : group.elements) {
+                                elements.put(xsdElement.getName(), xsdElement);
+                            }
+                        }
+                    }
+                }
+                for (XsdAttribute xsdAttribute : typeAttributes) {
+                    attributes.put(xsdAttribute.getName(), xsdAttribute);
+                }
+            }
+        }
+
+        private static class ModelGroup {
+            private final String kind;
+            private final List<XsdElement> elements = new ArrayList<>();
+
+            private ModelGroup(String kind) {
+                this.kind = kind;
+            }
+        }
+
+        private XsdElement parseElement(XMLStreamReader reader) {
+            String name = attribute(reader, "name");
+            String type = attribute(reader, "type");
+            int minOccurs = parseOccurs(attribute(reader, "minOccurs"), 1);
+            int maxOccurs = parseOccurs(attribute(reader, "maxOccurs"), 1);
+            boolean nillable = "true".equals(attribute(reader, "nillable"));
+
+            return new XsdElement(name, type, minOccurs, maxOccurs, nillable);
+        }
+
+        private XsdAttribute parseAttribute(XMLStreamReader reader) {
+            String name = attribute(reader, "name");
+            String type = attribute(reader, "type");
+            String use = attribute(reader, "use");
+            boolean required = "required".equals(use);
+
+            return new XsdAttribute(name, type, required);
+        }
+
+        /**
+         * Gets the value of an unqualified attribute of the current element, or an empty string if the
+         * element has no such attribute.
+         */
+        private static String attribute(XMLStreamReader reader, String name) {
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String ns = reader.getAttributeNamespace(i);
+                if (name.equals(reader.getAttributeLocalName(i)) && (ns == null || ns.isEmpty())) {
+                    return reader.getAttributeValue(i);
+                }
+            }
+            return "";
         }
 
         private int parseOccurs(String value, int defaultValue) {
@@ -4,15 +4,11 @@ import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.rules.validity.ValidityLevel;
 import io.apicurio.registry.rules.violation.RuleViolationException;
 import io.apicurio.registry.types.RuleType;
-import io.apicurio.registry.xsd.util.SchemaFactoryAccessor;
+import io.apicurio.registry.xsd.util.CompiledSchemaCache;
 import io.apicurio.registry.xml.rules.validity.XmlContentValidator;
 
-import java.io.InputStream;
 import java.util.Map;
 
-import javax.xml.transform.Source;
-import javax.xml.transform.stream.StreamSource;
-
 public class XsdContentValidator extends XmlContentValidator {
 
     /**
@@ -30,10 +26,9 @@ public class XsdContentValidator extends XmlContentValidator {
         super.validate(level, content, resolvedReferences);
 
         if (level == ValidityLevel.FULL) {
-            try (InputStream semanticStream = content.getContent().stream()) {
+            try {
                 // validate that its a valid schema
-                Source source = new StreamSource(semanticStream);
-                SchemaFactoryAccessor.getSchemaFactory().newSchema(source);
+                CompiledSchemaCache.getSchema(content.getContent());
             } catch (Exception e) {
                 throw new RuleViolationException("Syntax violation for XSD Schema artifact.",
                         RuleType.VALIDITY, level.name(), e);
@@ -0,0 +1,65 @@
+package io.apicurio.registry.xsd.util;
+
+import io.apicurio.registry.content.ContentHandle;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+
+/**
+ * A bounded LRU cache of compiled XML schemas, by content hash.
+ * <p>
+ * Compiling a schema parses it and builds its grammar, which is much more expensive than checking that the
+ * content is well-formed. Compiled schemas are immutable and thread safe, so a schema compiled once, e.g. when
+ * its validity is checked, can be reused by every later check or validation of the same content.
+ */
+public final class CompiledSchemaCache {
+
+    private static final int MAX_SIZE = 500;
+
+    private static final Map<String, Schema> SCHEMAS = Collections
+            .synchronizedMap(new LinkedHashMap<String, Schema>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Schema> eldest) {
+                    return size() > MAX_SIZE;
+                }
+            });
+
+    private CompiledSchemaCache() {
+    }
+
+    /**
+     * Gets the compiled schema of the content, compiling it if it is not cached. Content that fails to compile
+     * is not cached.
+     *
+     * @param content the XSD content
+     * @return the compiled schema
+     * @throws Exception if the content is not a valid XML schema
+     */
+    public static Schema getSchema(ContentHandle content) throws Exception {
+        String key = content.getSha256Hash();
+        Schema schema = SCHEMAS.get(key);
+        if (schema == null) {
+            try (InputStream stream = content.stream()) {
+                schema = SchemaFactoryAccessor.getSchemaFactory().newSchema(new StreamSource(stream));
+            }
+            Schema existing = SCHEMAS.putIfAbsent(key, schema);
+            if (existing != null) {
+                schema = existing;
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Removes all the compiled schemas from the cache.
+     */
+    public static void clear() {
+        SCHEMAS.clear();
+    }
+
+}
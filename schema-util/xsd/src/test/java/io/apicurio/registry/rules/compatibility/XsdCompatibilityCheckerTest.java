@@ -517,6 +517,26 @@ public class XsdCompatibilityCheckerTest {
             "Adding optional element is not full compatible");
     }
 
+    @Test
+    void testSchemasCanBeComparedRepeatedly() {
+        XsdCompatibilityChecker checker = new XsdCompatibilityChecker();
+        TypedContent existing = toTypedContent(SCHEMA_WITH_ENUM);
+        TypedContent proposed = toTypedContent(SCHEMA_WITH_ENUM_VALUE_REMOVED);
+
+        // The models of both schemas are reused by the second check
+        for (int i = 0; i < 2; i++) {
+            CompatibilityExecutionResult result = checker.testCompatibility(
+                CompatibilityLevel.FULL,
+                Collections.singletonList(existing),
+                proposed,
+                Collections.emptyMap()
+            );
+
+            Assertions.assertFalse(result.isCompatible(),
+                "Removing enum value should be incompatible every time");
+        }
+    }
+
     @Test
     void testNoneCompatibility() {
         XsdCompatibilityChecker checker = new XsdCompatibilityChecker();
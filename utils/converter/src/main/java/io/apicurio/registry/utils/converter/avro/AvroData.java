@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.registry.serde.avro.NonRecordContainer;
 import io.apicurio.registry.utils.converter.ConnectEnum;
 import io.apicurio.registry.utils.converter.ConnectUnion;
+import org.apache.avro.AvroRuntimeException;
 import org.apache.avro.AvroTypeException;
 import org.apache.avro.JsonProperties;
 import org.apache.avro.LogicalType;
@@ -18,9 +19,6 @@ import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.generic.GenericRecordBuilder;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.avro.util.internal.JacksonUtils;
-import org.apache.kafka.common.cache.Cache;
-import org.apache.kafka.common.cache.LRUCache;
-import org.apache.kafka.common.cache.SynchronizedCache;
 import org.apache.kafka.connect.data.ConnectSchema;
 import org.apache.kafka.connect.data.Date;
 import org.apache.kafka.connect.data.Decimal;
@@ -361,8 +359,9 @@ public class AvroData {
 
     private int unionIndex = 0;
 
-    private Cache<Schema, org.apache.avro.Schema> fromConnectSchemaCache;
-    private Cache<AvroSchemaAndVersion, Schema> toConnectSchemaCache;
+    private SchemaConversionCache<Schema, org.apache.avro.Schema> fromConnectSchemaCache;
+    private SchemaConversionCache<AvroSchemaAndVersion, Schema> toConnectSchemaCache;
+    private SchemaConversionCache<Schema, StructConversionPlan> structConversionPlans;
     private boolean connectMetaData;
     private boolean generalizedSumTypeSupport;
     private boolean ignoreDefaultForNullables;
@@ -411,9 +410,13 @@ public class AvroData {
     }
 
     public AvroData(AvroDataConfig avroDataConfig) {
-        fromConnectSchemaCache = new SynchronizedCache<>(
-                new LRUCache<>(avroDataConfig.getSchemasCacheSize()));
-        toConnectSchemaCache = new SynchronizedCache<>(new LRUCache<>(avroDataConfig.getSchemasCacheSize()));
+        // Connect schemas are only cached by identity if they are immutable, i.e. not a SchemaBuilder
+        fromConnectSchemaCache = new SchemaConversionCache<>(avroDataConfig.getSchemasCacheSize(),
+                AvroData::connectSchemaIdentity, true);
+        toConnectSchemaCache = new SchemaConversionCache<>(avroDataConfig.getSchemasCacheSize(),
+                key -> new SchemaConversionCache.IdentityKey(key.schema(), key.version()), true);
+        structConversionPlans = new SchemaConversionCache<>(avroDataConfig.getSchemasCacheSize(),
+                AvroData::connectSchemaIdentity, false);
         this.connectMetaData = avroDataConfig.isConnectMetaData();
         // this.generalizedSumTypeSupport = avroDataConfig.isGeneralizedSumTypeSupport();
         // this.ignoreDefaultForNullables = avroDataConfig.ignoreDefaultForNullables();
@@ -423,6 +426,84 @@ public class AvroData {
         // this.allowOptionalMapKey = avroDataConfig.isAllowOptionalMapKeys();
     }
 
+    private static SchemaConversionCache.IdentityKey connectSchemaIdentity(Schema schema) {
+        return schema instanceof ConnectSchema ? new SchemaConversionCache.IdentityKey(schema, null) : null;
+    }
+
+    /**
+     * The field mappings of a (non-union) Connect struct schema to the corresponding Avro record schema,
+     * computed once per schema instead of for every converted struct.
+     */
+    private static final class StructConversionPlan {
+
+        private final org.apache.avro.Schema avroSchema;
+        private final org.apache.avro.Schema avroRecordSchema;
+        private final Field[] fields;
+        private final org.apache.avro.Schema.Field[] avroFields;
+        private final boolean[] avroFieldAcceptsNull;
+
+        private StructConversionPlan(Schema schema, org.apache.avro.Schema avroSchema,
+                boolean scrubInvalidNames) {
+            this.avroSchema = avroSchema;
+            this.avroRecordSchema = avroSchemaForUnderlyingTypeIfOptional(schema, avroSchema,
+                    scrubInvalidNames);
+            List<Field> schemaFields = schema.fields();
+            this.fields = schemaFields.toArray(new Field[0]);
+            this.avroFields = new org.apache.avro.Schema.Field[fields.length];
+            this.avroFieldAcceptsNull = new boolean[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                org.apache.avro.Schema.Field avroField = avroRecordSchema
+                        .getField(scrubName(fields[i].name(), scrubInvalidNames));
+                if (avroField == null) {
+                    throw new DataException("Field " + fields[i].name() + " not found in " + avroRecordSchema);
+                }
+                avroFields[i] = avroField;
+                // Same validation as GenericRecordBuilder
+                avroFieldAcceptsNull[i] = avroField.defaultVal() != null || acceptsNull(avroField.schema());
+            }
+        }
+
+        /**
+         * Whether every field of the Avro record is set by the plan. Otherwise, the defaults of the other
+         * fields must be set, which is left to the GenericRecordBuilder.
+         */
+        private boolean isComplete() {
+            return avroFields.length == avroRecordSchema.getFields().size();
+        }
+
+        private static boolean acceptsNull(org.apache.avro.Schema schema) {
+            if (schema.getType() == org.apache.avro.Schema.Type.NULL) {
+                return true;
+            }
+            if (schema.getType() == org.apache.avro.Schema.Type.UNION) {
+                for (org.apache.avro.Schema type : schema.getTypes()) {
+                    if (type.getType() == org.apache.avro.Schema.Type.NULL) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Returns the conversion plan for the given struct schema, or null if it cannot be cached.
+     */
+    private StructConversionPlan structConversionPlan(Schema schema, org.apache.avro.Schema avroSchema) {
+        if (!(schema instanceof ConnectSchema)) {
+            return null;
+        }
+        StructConversionPlan plan = structConversionPlans.get(schema);
+        if (plan == null || plan.avroSchema != avroSchema) {
+            plan = new StructConversionPlan(schema, avroSchema, scrubInvalidNames);
+            if (!plan.isComplete()) {
+                return null;
+            }
+            structConversionPlans.put(schema, plan);
+        }
+        return plan;
+    }
+
     /**
      * Convert this object, in Connect data format, into an Avro object.
      */
@@ -625,7 +706,7 @@ public class AvroData {
 
                 case STRUCT: {
                     Struct struct = (Struct) value;
-                    if (!struct.schema().equals(schema)) {
+                    if (struct.schema() != schema && !struct.schema().equals(schema)) {
                         throw new DataException("Mismatching struct schema");
                     }
                     // This handles the inverting of a union which is held as a struct, where each field is
@@ -639,6 +720,23 @@ public class AvroData {
                             }
                         }
                         return fromConnectData(schema, avroSchema, null, false, true);
+                    }
+                    StructConversionPlan plan = structConversionPlan(schema, avroSchema);
+                    if (plan != null) {
+                        GenericData.Record converted = new GenericData.Record(plan.avroRecordSchema);
+                        for (int i = 0; i < plan.fields.length; i++) {
+                            Field field = plan.fields[i];
+                            Object fieldValue = ignoreDefaultForNullables
+                                ? struct.getWithoutDefault(field.name()) : struct.get(field);
+                            Object convertedValue = fromConnectData(field.schema(), plan.avroFields[i].schema(),
+                                    fieldValue, false, true);
+                            if (convertedValue == null && !plan.avroFieldAcceptsNull[i]) {
+                                throw new AvroRuntimeException(
+                                        "Field " + plan.avroFields[i] + " does not accept null values");
+                            }
+                            converted.put(plan.avroFields[i].pos(), convertedValue);
+                        }
+                        return converted;
                     } else {
                         org.apache.avro.Schema underlyingAvroSchema = avroSchemaForUnderlyingTypeIfOptional(
                                 schema, avroSchema, scrubInvalidNames);
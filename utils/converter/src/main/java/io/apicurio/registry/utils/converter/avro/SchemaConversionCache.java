@@ -0,0 +1,112 @@
+package io.apicurio.registry.utils.converter.avro;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A bounded, lock-free cache of schema conversions, shared by all the threads (e.g. Connect tasks) using an
+ * {@link AvroData} instance.
+ * <p>
+ * Schemas are usually the same instances from one record to the next, so lookups are first done by the
+ * identity of the key, which avoids computing the (deep) hash code of the schema and comparing it with
+ * {@code equals()} for every record. Only if this fails, e.g. for a new but equal schema instance, the
+ * lookup falls back to the structural equality of the key. Keys that are not immutable must not be cached
+ * by identity, the identity key function returns {@code null} for them.
+ * <p>
+ * When the cache is full, an arbitrary entry is evicted. Unlike an LRU cache, this does not require a lock
+ * on every lookup.
+ */
+final class SchemaConversionCache<K, V> {
+
+    private final int maxSize;
+    private final Function<K, IdentityKey> identityKeyFunction;
+    private final boolean structuralFallback;
+
+    private final Map<IdentityKey, V> byIdentity = new ConcurrentHashMap<>();
+    private final Map<K, V> byEquality = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxSize the maximum number of entries
+     * @param identityKeyFunction returns the identity key of a key, or null if it cannot be cached by identity
+     * @param structuralFallback whether to fall back to the structural equality of the keys
+     */
+    SchemaConversionCache(int maxSize, Function<K, IdentityKey> identityKeyFunction, boolean structuralFallback) {
+        this.maxSize = Math.max(1, maxSize);
+        this.identityKeyFunction = identityKeyFunction;
+        this.structuralFallback = structuralFallback;
+    }
+
+    V get(K key) {
+        IdentityKey identityKey = identityKeyFunction.apply(key);
+        if (identityKey != null) {
+            V value = byIdentity.get(identityKey);
+            if (value != null || !structuralFallback) {
+                return value;
+            }
+        }
+        if (!structuralFallback) {
+            return null;
+        }
+        V value = byEquality.get(key);
+        if (value != null && identityKey != null) {
+            // Next time, the same instance is found by identity
+            putBounded(byIdentity, identityKey, value);
+        }
+        return value;
+    }
+
+    void put(K key, V value) {
+        IdentityKey identityKey = identityKeyFunction.apply(key);
+        if (identityKey != null) {
+            putBounded(byIdentity, identityKey, value);
+        }
+        if (structuralFallback) {
+            putBounded(byEquality, key, value);
+        }
+    }
+
+    private <T> void putBounded(Map<T, V> map, T key, V value) {
+        if (map.size() >= maxSize && !map.containsKey(key)) {
+            Iterator<T> it = map.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        map.put(key, value);
+    }
+
+    /**
+     * Identifies an object by its identity, qualified by another value that is compared by equality (e.g. a
+     * schema version).
+     */
+    static final class IdentityKey {
+
+        private final Object object;
+        private final Object qualifier;
+
+        IdentityKey(Object object, Object qualifier) {
+            this.object = object;
+            this.qualifier = qualifier;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IdentityKey)) {
+                return false;
+            }
+            IdentityKey that = (IdentityKey) o;
+            return object == that.object && java.util.Objects.equals(qualifier, that.qualifier);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(object) + (qualifier == null ? 0 : qualifier.hashCode());
+        }
+    }
+}
@@ -7,6 +7,8 @@ import org.apache.avro.generic.GenericRecordBuilder;
 import org.apache.kafka.connect.data.Decimal;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -129,4 +131,38 @@ public class AvroDataTest {
         Assertions.assertEquals(microsSinceEpoch, (long) result.getValue());
     }
 
+    @Test
+    public void testNestedStructConversionIsCached() {
+        AvroData avroData = new AvroData(10);
+
+        Schema addressSchema = SchemaBuilder.struct().name("io.apicurio.Address").optional()
+                .field("street", Schema.STRING_SCHEMA)
+                .field("zip", Schema.OPTIONAL_INT32_SCHEMA)
+                .build();
+        Schema personSchema = SchemaBuilder.struct().name("io.apicurio.Person")
+                .field("name", Schema.STRING_SCHEMA)
+                .field("address", addressSchema)
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            Struct address = new Struct(addressSchema).put("street", "Main Street " + i);
+            Struct person = new Struct(personSchema).put("name", "person" + i).put("address", address);
+
+            GenericRecord converted = (GenericRecord) avroData.fromConnectData(personSchema, person);
+
+            Assertions.assertEquals("person" + i, converted.get("name"));
+            GenericRecord convertedAddress = (GenericRecord) converted.get("address");
+            Assertions.assertEquals("Main Street " + i, convertedAddress.get("street"));
+            Assertions.assertNull(convertedAddress.get("zip"));
+        }
+
+        // An equal, but different, schema instance is converted to the same Avro schema
+        Schema equalPersonSchema = SchemaBuilder.struct().name("io.apicurio.Person")
+                .field("name", Schema.STRING_SCHEMA)
+                .field("address", addressSchema)
+                .build();
+        Assertions.assertNotSame(personSchema, equalPersonSchema);
+        Assertions.assertSame(avroData.fromConnectSchema(personSchema),
+                avroData.fromConnectSchema(equalPersonSchema));
+    }
 }
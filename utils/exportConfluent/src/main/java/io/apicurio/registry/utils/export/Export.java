@@ -19,10 +19,7 @@ import io.apicurio.registry.utils.impexp.v3.GlobalRuleEntity;
 import io.confluent.kafka.schemaregistry.client.CachedSchemaRegistryClient;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
 import io.confluent.kafka.schemaregistry.client.rest.RestService;
-import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
 import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
-import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaString;
-import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
 import io.quarkus.runtime.QuarkusApplication;
 import io.quarkus.runtime.annotations.QuarkusMain;
 import jakarta.inject.Inject;
@@ -36,6 +33,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -46,7 +45,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.zip.ZipOutputStream;
 
@@ -82,7 +85,8 @@ public class Export implements QuarkusApplication {
         OptionsParser optionsParser = new OptionsParser(args);
         if (optionsParser.getUrl() == null) {
             log.error("Missing required argument, confluent schema registry url");
-            log.error("Usage: export <url> [--output|-o <output-file>] [--insecure] [--client-props key1=value1 key2=value2 ...]");
+            log.error("Usage: export <url> [--output|-o <output-file>] [--insecure] [--concurrency <n>] [--resume] "
+                    + "[--client-props key1=value1 key2=value2 ...]");
             return 1;
         }
 
@@ -100,7 +104,11 @@ public class Export implements QuarkusApplication {
         SchemaRegistryClient client = new CachedSchemaRegistryClient(restService, 64, conf);
 
         File output = new File(outputFileName);
-        try (FileOutputStream fos = new FileOutputStream(output)) {
+        Path journalPath = Path.of(outputFileName + ".journal");
+        try (ExportJournal journal = new ExportJournal(journalPath, optionsParser.isResume(), log);
+                SchemaFetcher fetcher = new SchemaFetcher(client, restService, journal,
+                        optionsParser.getConcurrency());
+                FileOutputStream fos = new FileOutputStream(output)) {
 
             log.info("Exporting confluent schema registry data to " + output.getName() + " (v3 format)");
             System.out.println("Exporting confluent schema registry data to " + output.getName() + " (v3 format)");
@@ -111,6 +119,7 @@ public class Export implements QuarkusApplication {
             // Data structures for export
             AtomicLong globalIdCounter = new AtomicLong(1);
             Map<String, Long> contentHashToContentId = new HashMap<>();
+            Map<SubjectVersionPair, Long> contentIdByVersion = new HashMap<>();
             Map<String, List<Integer>> versionsBySubject = new HashMap<>();
             Map<String, String> artifactTypeBySubject = new HashMap<>();
 
@@ -123,15 +132,14 @@ public class Export implements QuarkusApplication {
             // STEP 1: Collect version information for all subjects
             // =========================================================================
             log.info("Step 1: Collecting version information");
+            forEachPrefetched(sortedSubjects, fetcher.getPrefetchWindow(), fetcher::getVersions, subject -> {
+                versionsBySubject.put(subject, SchemaFetcher.await(fetcher.getVersions(subject)));
+            });
+
+            List<SubjectVersionPair> allVersions = new ArrayList<>();
             for (String subject : sortedSubjects) {
-                List<Integer> versions = client.getAllVersions(subject);
-                versions.sort(Comparator.naturalOrder());
-                versionsBySubject.put(subject, versions);
-
-                // Get artifact type from first version
-                if (!versions.isEmpty()) {
-                    Schema schema = client.getByVersion(subject, versions.get(0), false);
-                    artifactTypeBySubject.put(subject, schema.getSchemaType().toUpperCase(Locale.ROOT));
+                for (Integer version : versionsBySubject.get(subject)) {
+                    allVersions.add(new SubjectVersionPair(subject, version));
                 }
             }
 
@@ -152,15 +160,16 @@ public class Export implements QuarkusApplication {
             // STEP 3: Export all content
             // =========================================================================
             log.info("Step 3: Exporting content");
-            int contentCount = 0;
-            for (String subject : sortedSubjects) {
-                List<Integer> versions = versionsBySubject.get(subject);
-                for (Integer version : versions) {
-                    contentCount += exportContent(restService, client, subject, version,
-                                                  contentHashToContentId, writer);
+            AtomicInteger contentCount = new AtomicInteger();
+            forEachPrefetched(allVersions, fetcher.getPrefetchWindow(), pair -> {
+                if (!contentIdByVersion.containsKey(pair)) {
+                    fetcher.getVersion(pair);
                 }
-            }
-            log.info("Exported " + contentCount + " content entities");
+            }, pair -> {
+                contentCount.addAndGet(exportContent(fetcher, pair, versionsBySubject, contentHashToContentId,
+                        contentIdByVersion, artifactTypeBySubject, writer));
+            });
+            log.info("Exported " + contentCount.get() + " content entities");
 
             // =========================================================================
             // STEP 4: Export all artifacts
@@ -175,16 +184,10 @@ public class Export implements QuarkusApplication {
             // STEP 5: Export all artifact versions
             // =========================================================================
             log.info("Step 5: Exporting artifact versions");
-            int versionCount = 0;
-            for (String subject : sortedSubjects) {
-                List<Integer> versions = versionsBySubject.get(subject);
-                for (Integer version : versions) {
-                    exportArtifactVersion(restService, client, subject, version,
-                                        globalIdCounter, contentHashToContentId, writer);
-                    versionCount++;
-                }
+            for (SubjectVersionPair pair : allVersions) {
+                exportArtifactVersion(pair, globalIdCounter, contentIdByVersion, writer);
             }
-            log.info("Exported " + versionCount + " artifact versions");
+            log.info("Exported " + allVersions.size() + " artifact versions");
 
             // =========================================================================
             // STEP 6: Export all branches
@@ -199,17 +202,19 @@ public class Export implements QuarkusApplication {
             // STEP 7: Export artifact rules
             // =========================================================================
             log.info("Step 7: Exporting artifact rules");
-            int artifactRuleCount = 0;
-            for (String subject : sortedSubjects) {
-                try {
-                    String compatibility = client.getCompatibility(subject);
-                    exportArtifactRule(subject, compatibility, writer);
-                    artifactRuleCount++;
-                } catch (RestClientException ex) {
-                    // Subject does not have specific compatibility rule
-                }
-            }
-            log.info("Exported " + artifactRuleCount + " artifact rules");
+            AtomicInteger artifactRuleCount = new AtomicInteger();
+            Map<String, CompletableFuture<Optional<String>>> compatibilityBySubject = new HashMap<>();
+            forEachPrefetched(sortedSubjects, fetcher.getPrefetchWindow(),
+                    subject -> compatibilityBySubject.put(subject, fetcher.getCompatibility(subject)),
+                    subject -> {
+                        Optional<String> compatibility = SchemaFetcher.await(compatibilityBySubject.remove(subject));
+                        // Subject may not have specific compatibility rule
+                        if (compatibility.isPresent()) {
+                            exportArtifactRule(subject, compatibility.get(), writer);
+                            artifactRuleCount.incrementAndGet();
+                        }
+                    });
+            log.info("Exported " + artifactRuleCount.get() + " artifact rules");
 
             // =========================================================================
             // STEP 8: Export global rules
@@ -223,57 +228,98 @@ public class Export implements QuarkusApplication {
             zip.flush();
             zip.close();
         } catch (Exception ex) {
-            log.error("Export was not successful", ex);
+            log.error("Export was not successful, run it again with --resume to continue where it stopped", ex);
             return 1;
         }
 
+        Files.deleteIfExists(journalPath);
+
         log.info("Export successfully done.");
         System.out.println("Export successfully done.");
 
         return 0;
     }
 
+    /**
+     * Processes the given items in order, while requesting the data needed by the next items ahead of time,
+     * so that it is fetched concurrently with the processing of the current item.
+     *
+     * @param items items to process, in the order the entities have to be written
+     * @param window how many items ahead to prefetch
+     * @param prefetch requests the data needed to process an item
+     * @param action processes an item
+     * @throws Exception if processing an item fails
+     */
+    private static <T> void forEachPrefetched(List<T> items, int window, Consumer<T> prefetch,
+                                              ItemAction<T> action) throws Exception {
+        int prefetched = 0;
+        for (int i = 0; i < items.size(); i++) {
+            for (; prefetched < items.size() && prefetched <= i + window; prefetched++) {
+                prefetch.accept(items.get(prefetched));
+            }
+            action.apply(items.get(i));
+        }
+    }
+
+    @FunctionalInterface
+    private interface ItemAction<T> {
+        void apply(T item) throws Exception;
+    }
+
     /**
      * Exports content for a specific subject version.
      *
-     * @param restService REST service for Confluent Schema Registry
-     * @param client Schema Registry client
-     * @param subject subject name
-     * @param version version number
+     * @param fetcher fetches the subject versions
+     * @param pair subject and version number
+     * @param versionsBySubject versions of every subject
      * @param contentHashToContentId map to track content by hash
+     * @param contentIdByVersion map to track the content ID of every exported version
+     * @param artifactTypeBySubject map to track the artifact type of every subject, taken from its first version
      * @param writer entity writer
-     * @return number of content entities exported (0 or 1)
-     * @throws RestClientException if Confluent API call fails
-     * @throws IOException if write fails
+     * @return number of content entities exported, including references exported first
+     * @throws Exception if fetching the version or writing fails
      */
-    private int exportContent(RestService restService, SchemaRegistryClient client,
-                             String subject, Integer version,
+    private int exportContent(SchemaFetcher fetcher, SubjectVersionPair pair,
+                             Map<String, List<Integer>> versionsBySubject,
                              Map<String, Long> contentHashToContentId,
-                             EntityWriter writer) throws RestClientException, IOException {
+                             Map<SubjectVersionPair, Long> contentIdByVersion,
+                             Map<String, String> artifactTypeBySubject,
+                             EntityWriter writer) throws Exception {
+
+        if (contentIdByVersion.containsKey(pair)) {
+            return 0; // Already exported as a reference of another version
+        }
+
+        FetchedVersion fetched = SchemaFetcher.await(fetcher.getVersion(pair));
+        fetcher.release(pair);
 
-        Schema schema = client.getByVersion(subject, version, false);
-        SchemaString schemaString = restService.getId(schema.getId());
+        String artifactType = fetched.schemaType().toUpperCase(Locale.ROOT);
+        List<Integer> subjectVersions = versionsBySubject.get(pair.getSubject());
+        if (subjectVersions != null && !subjectVersions.isEmpty() && subjectVersions.get(0) == pair.getVersion()) {
+            artifactTypeBySubject.put(pair.getSubject(), artifactType);
+        }
 
-        String content = schemaString.getSchemaString();
-        byte[] contentBytes = IoUtil.toBytes(content);
+        byte[] contentBytes = IoUtil.toBytes(fetched.content());
         String contentHash = DigestUtils.sha256Hex(contentBytes);
 
         // Check if we've already exported this content
         if (contentHashToContentId.containsKey(contentHash)) {
+            contentIdByVersion.put(pair, contentHashToContentId.get(contentHash));
             return 0; // Content already exported, skip
         }
 
         // Export references first
-        for (SchemaReference ref : schema.getReferences()) {
-            exportContent(restService, client, ref.getSubject(), ref.getVersion(),
-                         contentHashToContentId, writer);
+        int count = 0;
+        for (SchemaReference ref : fetched.references()) {
+            count += exportContent(fetcher, new SubjectVersionPair(ref.getSubject(), ref.getVersion()),
+                         versionsBySubject, contentHashToContentId, contentIdByVersion, artifactTypeBySubject,
+                         writer);
         }
 
-        List<ArtifactReference> references = artifactReferenceMapper.map(schema.getReferences());
-        String artifactType = schema.getSchemaType().toUpperCase(Locale.ROOT);
+        List<ArtifactReference> references = artifactReferenceMapper.map(fetched.references());
 
         ContentEntity contentEntity = ContentEntity.builder()
-                .contentId(schema.getId())
+                .contentId(fetched.schemaId())
                 .contentHash(contentHash)
                 .canonicalHash(null) // Will be calculated during import
                 .artifactType(artifactType)
@@ -283,9 +329,10 @@ public class Export implements QuarkusApplication {
                 .build();
 
         writer.writeEntity(contentEntity);
-        contentHashToContentId.put(contentHash, (long) schema.getId());
+        contentHashToContentId.put(contentHash, (long) fetched.schemaId());
+        contentIdByVersion.put(pair, (long) fetched.schemaId());
 
-        return 1;
+        return count + 1;
     }
 
     /**
@@ -320,30 +367,20 @@ public class Export implements QuarkusApplication {
     /**
      * Exports an artifact version entity.
      *
-     * @param restService REST service for Confluent Schema Registry
-     * @param client Schema Registry client
-     * @param subject subject name
-     * @param version version number
+     * @param pair subject and version number
      * @param globalIdCounter counter for generating unique global IDs
-     * @param contentHashToContentId map to get contentId by hash
+     * @param contentIdByVersion map to get the contentId of the version, filled in when exporting content
      * @param writer entity writer
-     * @throws RestClientException if Confluent API call fails
      * @throws IOException if write fails
      */
-    private void exportArtifactVersion(RestService restService, SchemaRegistryClient client,
-                                      String subject, Integer version,
+    private void exportArtifactVersion(SubjectVersionPair pair,
                                       AtomicLong globalIdCounter,
-                                      Map<String, Long> contentHashToContentId,
-                                      EntityWriter writer) throws RestClientException, IOException {
-
-        Schema schema = client.getByVersion(subject, version, false);
-        SchemaString schemaString = restService.getId(schema.getId());
-
-        String content = schemaString.getSchemaString();
-        byte[] contentBytes = IoUtil.toBytes(content);
-        String contentHash = DigestUtils.sha256Hex(contentBytes);
+                                      Map<SubjectVersionPair, Long> contentIdByVersion,
+                                      EntityWriter writer) throws IOException {
 
-        Long contentId = contentHashToContentId.get(contentHash);
+        String subject = pair.getSubject();
+        int version = pair.getVersion();
+        Long contentId = contentIdByVersion.get(pair);
         long now = System.currentTimeMillis();
 
         ArtifactVersionEntity versionEntity = ArtifactVersionEntity.builder()
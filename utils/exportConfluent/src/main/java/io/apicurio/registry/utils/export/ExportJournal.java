@@ -0,0 +1,119 @@
+package io.apicurio.registry.utils.export;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jboss.logging.Logger;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the data fetched from Confluent Schema Registry, one JSON entry per line, so that an interrupted
+ * export can be resumed without fetching it again. Fetching is the slow part of the export, so the export
+ * file itself is always written again from scratch.
+ * <p>
+ * Entries are written by the fetching threads, so writes are synchronized.
+ */
+public class ExportJournal implements Closeable {
+
+    /**
+     * A line of the journal. Either the versions of a subject, or a fetched version.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Entry(String subject, List<Integer> versions, FetchedVersion fetchedVersion) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, List<Integer>> versionsBySubject = new HashMap<>();
+    private final Map<SubjectVersionPair, FetchedVersion> fetchedVersions = new HashMap<>();
+
+    private final BufferedWriter out;
+
+    /**
+     * @param path where the journal is stored
+     * @param resume whether to load the entries of an existing journal, otherwise it is discarded
+     */
+    public ExportJournal(Path path, boolean resume, Logger log) throws IOException {
+        if (resume && Files.exists(path)) {
+            truncateIncompleteLine(path);
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                try {
+                    Entry entry = objectMapper.readValue(line, Entry.class);
+                    if (entry.fetchedVersion() != null) {
+                        fetchedVersions.put(entry.fetchedVersion().pair(), entry.fetchedVersion());
+                    } else if (entry.versions() != null) {
+                        versionsBySubject.put(entry.subject(), entry.versions());
+                    }
+                } catch (IOException ex) {
+                    log.debug("Skipping unreadable journal entry: " + ex.getMessage());
+                }
+            }
+            log.info("Resuming export, " + versionsBySubject.size() + " subjects and " + fetchedVersions.size()
+                    + " versions loaded from " + path);
+            out = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        } else {
+            out = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Removes the last line if it is incomplete, because the export was interrupted while writing it, so that
+     * the entries written when resuming start on a line of their own.
+     */
+    private static void truncateIncompleteLine(Path path) throws IOException {
+        byte[] data = Files.readAllBytes(path);
+        int length = data.length;
+        while (length > 0 && data[length - 1] != '\n') {
+            length--;
+        }
+        if (length < data.length) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(length);
+            }
+        }
+    }
+
+    public List<Integer> getVersions(String subject) {
+        return versionsBySubject.get(subject);
+    }
+
+    public FetchedVersion getFetchedVersion(SubjectVersionPair pair) {
+        return fetchedVersions.get(pair);
+    }
+
+    /**
+     * Drops a loaded version once it has been used, the journal does not need to keep it in memory.
+     */
+    public void release(SubjectVersionPair pair) {
+        fetchedVersions.remove(pair);
+    }
+
+    public void writeVersions(String subject, List<Integer> versions) throws IOException {
+        write(new Entry(subject, versions, null));
+    }
+
+    public void writeFetchedVersion(FetchedVersion fetchedVersion) throws IOException {
+        write(new Entry(null, null, fetchedVersion));
+    }
+
+    private synchronized void write(Entry entry) throws IOException {
+        out.write(objectMapper.writeValueAsString(entry));
+        out.newLine();
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,23 @@
+package io.apicurio.registry.utils.export;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+
+import java.util.List;
+
+/**
+ * A subject version fetched from Confluent Schema Registry, with everything the export needs to know about it.
+ *
+ * @param subject subject name
+ * @param version version number
+ * @param schemaId Confluent schema ID, used as the content ID
+ * @param schemaType Confluent schema type (e.g. AVRO)
+ * @param references references of the schema
+ * @param content the schema, as returned for the schema ID
+ */
+public record FetchedVersion(String subject, int version, int schemaId, String schemaType,
+        List<SchemaReference> references, String content) {
+
+    public SubjectVersionPair pair() {
+        return new SubjectVersionPair(subject, version);
+    }
+}
@@ -10,6 +10,8 @@ public class OptionsParser {
     private String url = null;
     private boolean inSecure = false;
     private String outputFile = "confluent-schema-registry-export.zip";
+    private int concurrency = 8;
+    private boolean resume = false;
     private Map<String, Object> clientProps = new HashMap<>();
 
     public OptionsParser(String[] args) {
@@ -27,6 +29,13 @@ public class OptionsParser {
                     outputFile = args[i + 1];
                     i++; // Skip the next argument since we consumed it
                 }
+            } else if (arg.equals("--concurrency")) {
+                if (i + 1 < args.length) {
+                    concurrency = Math.max(1, Integer.parseInt(args[i + 1]));
+                    i++; // Skip the next argument since we consumed it
+                }
+            } else if (arg.equals("--resume")) {
+                resume = true;
             } else if (arg.equals("--client-props")) {
                 String[] clientconf = Arrays.copyOfRange(args, i + 1, args.length);
                 clientProps = Arrays.stream(clientconf).map(keyvalue -> keyvalue.split("="))
@@ -49,6 +58,14 @@ public class OptionsParser {
         return outputFile;
     }
 
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public boolean isResume() {
+        return resume;
+    }
+
     public Map<String, Object> getClientProps() {
         return clientProps;
     }
@@ -0,0 +1,147 @@
+package io.apicurio.registry.utils.export;
+
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.RestService;
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Fetches data from Confluent Schema Registry concurrently, with at most the configured number of requests
+ * in flight. Every subject version is fetched at most once, and everything fetched is recorded in the
+ * {@link ExportJournal}, so that it is not fetched again when an interrupted export is resumed.
+ * <p>
+ * The export is written by a single thread, which is also the only thread calling the methods of this class.
+ * It requests the data it is going to need a little ahead of time ({@link #getPrefetchWindow()}), so that it
+ * does not have to wait for every request in turn.
+ */
+public class SchemaFetcher implements AutoCloseable {
+
+    private final SchemaRegistryClient client;
+    private final RestService restService;
+    private final ExportJournal journal;
+    private final ExecutorService executor;
+    private final int concurrency;
+
+    private final Map<String, CompletableFuture<List<Integer>>> versions = new HashMap<>();
+    private final Map<SubjectVersionPair, CompletableFuture<FetchedVersion>> fetchedVersions = new HashMap<>();
+
+    public SchemaFetcher(SchemaRegistryClient client, RestService restService, ExportJournal journal,
+            int concurrency) {
+        this.client = client;
+        this.restService = restService;
+        this.journal = journal;
+        this.concurrency = concurrency;
+        this.executor = Executors.newFixedThreadPool(concurrency);
+    }
+
+    /**
+     * Number of items the writer should request ahead of the one it is currently writing.
+     * Keeps all the fetching threads busy while bounding the amount of fetched data held in memory.
+     */
+    public int getPrefetchWindow() {
+        return concurrency * 4;
+    }
+
+    /**
+     * Returns the versions of a subject, in ascending order.
+     */
+    public CompletableFuture<List<Integer>> getVersions(String subject) {
+        return versions.computeIfAbsent(subject, s -> {
+            List<Integer> journaled = journal.getVersions(s);
+            if (journaled != null) {
+                return CompletableFuture.completedFuture(journaled);
+            }
+            return submit(() -> {
+                List<Integer> result = new ArrayList<>(client.getAllVersions(s));
+                result.sort(Comparator.naturalOrder());
+                journal.writeVersions(s, result);
+                return result;
+            });
+        });
+    }
+
+    /**
+     * Returns a subject version, including its content.
+     */
+    public CompletableFuture<FetchedVersion> getVersion(SubjectVersionPair pair) {
+        return fetchedVersions.computeIfAbsent(pair, p -> {
+            FetchedVersion journaled = journal.getFetchedVersion(p);
+            if (journaled != null) {
+                return CompletableFuture.completedFuture(journaled);
+            }
+            return submit(() -> {
+                Schema schema = client.getByVersion(p.getSubject(), p.getVersion(), false);
+                String content = restService.getId(schema.getId()).getSchemaString();
+                FetchedVersion result = new FetchedVersion(p.getSubject(), p.getVersion(), schema.getId(),
+                        schema.getSchemaType(), schema.getReferences(), content);
+                journal.writeFetchedVersion(result);
+                return result;
+            });
+        });
+    }
+
+    /**
+     * Drops a subject version that has been written and is no longer needed.
+     */
+    public void release(SubjectVersionPair pair) {
+        fetchedVersions.remove(pair);
+        journal.release(pair);
+    }
+
+    /**
+     * Returns the compatibility level of a subject, or empty if the subject does not have one of its own.
+     */
+    public CompletableFuture<Optional<String>> getCompatibility(String subject) {
+        return submit(() -> {
+            try {
+                return Optional.of(client.getCompatibility(subject));
+            } catch (RestClientException ex) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private <T> CompletableFuture<T> submit(Callable<T> request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return request.call();
+            } catch (Exception ex) {
+                throw new CompletionException(ex);
+            }
+        }, executor);
+    }
+
+    /**
+     * Waits for a request to complete, rethrowing the exception it failed with.
+     */
+    public static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause() instanceof CompletionException && ex.getCause().getCause() != null
+                    ? ex.getCause().getCause() : ex.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -1,9 +1,11 @@
 package io.apicurio.registry.utils.export;
 
+import java.util.Objects;
+
 public class SubjectVersionPair {
 
-    private String subject;
-    private int version;
+    private final String subject;
+    private final int version;
 
     public SubjectVersionPair(String subject, int version) {
         this.subject = subject;
@@ -21,4 +23,26 @@ public class SubjectVersionPair {
     public boolean is(String subject, int version) {
         return getSubject().equals(subject) && getVersion() == version;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SubjectVersionPair)) {
+            return false;
+        }
+        SubjectVersionPair that = (SubjectVersionPair) o;
+        return version == that.version && subject.equals(that.subject);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(subject, version);
+    }
+
+    @Override
+    public String toString() {
+        return subject + ":" + version;
+    }
 }
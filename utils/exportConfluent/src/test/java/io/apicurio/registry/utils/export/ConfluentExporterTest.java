@@ -12,6 +12,8 @@ import io.confluent.kafka.schemaregistry.avro.AvroSchema;
 import io.confluent.kafka.schemaregistry.client.CachedSchemaRegistryClient;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
 import io.confluent.kafka.schemaregistry.client.rest.RestService;
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
 import io.confluent.kafka.schemaregistry.json.JsonSchema;
 import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchema;
 import org.jboss.logging.Logger;
@@ -26,9 +28,20 @@ import org.testcontainers.utility.DockerImageName;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipFile;
 
 /**
  * Integration test for the Confluent Schema Registry export utility.
@@ -45,6 +58,8 @@ public class ConfluentExporterTest {
     private static final Logger log = Logger.getLogger(ConfluentExporterTest.class);
 
     private static final String EXPORT_ZIP_FILE = "target/confluent-schema-registry-export.zip";
+    private static final String RESUME_BASELINE_ZIP_FILE = "target/confluent-export-baseline.zip";
+    private static final String RESUME_ZIP_FILE = "target/confluent-export-resumed.zip";
     private static final boolean USE_EXTERNAL_APICURIO = Boolean.parseBoolean(
             System.getenv().getOrDefault("USE_EXTERNAL_APICURIO", "false"));
     private static final String EXTERNAL_APICURIO_URL = System.getenv().getOrDefault(
@@ -244,19 +259,7 @@ public class ConfluentExporterTest {
      * Exports data from Confluent Schema Registry using the Export utility.
      */
     private void exportFromConfluent() throws Exception {
-        Export exporter = new Export();
-
-        // Initialize required dependencies
-        exporter.log = org.jboss.logging.Logger.getLogger(Export.class);
-        exporter.artifactReferenceMapper = new io.apicurio.registry.utils.export.mappers.ArtifactReferenceMapper();
-
-        // Ensure target directory exists
-        File targetDir = new File("target");
-        if (!targetDir.exists()) {
-            targetDir.mkdirs();
-        }
-
-        int exitCode = exporter.run(confluentUrl, "--output", EXPORT_ZIP_FILE);
+        int exitCode = createExporter().run(confluentUrl, "--output", EXPORT_ZIP_FILE);
         Assertions.assertEquals(0, exitCode, "Export should complete successfully");
 
         File exportFile = new File(EXPORT_ZIP_FILE);
@@ -332,4 +335,214 @@ public class ConfluentExporterTest {
 
         log.info("\nAll verifications passed!");
     }
+
+    /**
+     * Resumes an export from a journal written by an interrupted export, and verifies that the result has
+     * the same entries as a complete export: nothing is written twice, and no subject is skipped.
+     */
+    @Test
+    public void testResumeFromPartialJournal() throws Exception {
+        List<String> subjects = registerSubjects("resume-schema", 5, 2);
+        try {
+            int baselineExitCode = createExporter().run(confluentUrl, "--output", RESUME_BASELINE_ZIP_FILE);
+            Assertions.assertEquals(0, baselineExitCode, "Export should complete successfully");
+            List<String> expectedEntries = readZipEntries(RESUME_BASELINE_ZIP_FILE);
+
+            // Journal the versions of the first two subjects, and the first version of the first subject,
+            // as an export interrupted while fetching them would have
+            Path journalPath = Path.of(RESUME_ZIP_FILE + ".journal");
+            RestService restService = new RestService(confluentUrl);
+            SchemaRegistryClient client = new CachedSchemaRegistryClient(restService, 64,
+                    Collections.emptyMap());
+            try (ExportJournal journal = new ExportJournal(journalPath, false, log);
+                    SchemaFetcher fetcher = new SchemaFetcher(client, restService, journal, 2)) {
+                SchemaFetcher.await(fetcher.getVersions(subjects.get(0)));
+                SchemaFetcher.await(fetcher.getVersions(subjects.get(1)));
+                SchemaFetcher.await(fetcher.getVersion(new SubjectVersionPair(subjects.get(0), 1)));
+            }
+            // The export was interrupted while writing the next entry
+            Files.writeString(journalPath, "{\"subject\":\"" + subjects.get(1), StandardCharsets.UTF_8,
+                    StandardOpenOption.APPEND);
+
+            int exitCode = createExporter().run(confluentUrl, "--output", RESUME_ZIP_FILE, "--resume",
+                    "--concurrency", "4");
+            Assertions.assertEquals(0, exitCode, "Resumed export should complete successfully");
+            Assertions.assertFalse(Files.exists(journalPath), "Journal should be deleted after the export");
+
+            List<String> entries = readZipEntries(RESUME_ZIP_FILE);
+            Assertions.assertEquals(new HashSet<>(entries).size(), entries.size(),
+                    "No entry should be duplicated");
+            Assertions.assertEquals(new HashSet<>(expectedEntries), new HashSet<>(entries));
+            for (String subject : subjects) {
+                Assertions.assertTrue(entries.contains("groups/default/artifacts/" + subject
+                        + "/versions/2.ArtifactVersion.json"), "Subject " + subject + " should be exported");
+            }
+        } finally {
+            deleteSubjects(subjects);
+            Files.deleteIfExists(Path.of(RESUME_BASELINE_ZIP_FILE));
+            Files.deleteIfExists(Path.of(RESUME_ZIP_FILE));
+        }
+    }
+
+    /**
+     * An entry left incomplete by an interrupted export is dropped when resuming, so the entries written
+     * afterwards can still be read when resuming again.
+     */
+    @Test
+    public void testResumeTwiceAfterPartialWrite() throws Exception {
+        Path journalPath = Path.of("target/resume-twice.journal");
+        try {
+            try (ExportJournal journal = new ExportJournal(journalPath, false, log)) {
+                journal.writeVersions("subject-1", List.of(1, 2));
+            }
+            Files.writeString(journalPath, "{\"subject\":\"subject-2", StandardCharsets.UTF_8,
+                    StandardOpenOption.APPEND);
+
+            try (ExportJournal journal = new ExportJournal(journalPath, true, log)) {
+                Assertions.assertEquals(List.of(1, 2), journal.getVersions("subject-1"));
+                Assertions.assertNull(journal.getVersions("subject-2"));
+                journal.writeVersions("subject-2", List.of(1));
+            }
+            // Interrupted again while writing an entry
+            Files.writeString(journalPath, "{\"subject\":\"subject-3\",\"vers", StandardCharsets.UTF_8,
+                    StandardOpenOption.APPEND);
+
+            try (ExportJournal journal = new ExportJournal(journalPath, true, log)) {
+                Assertions.assertEquals(List.of(1, 2), journal.getVersions("subject-1"));
+                Assertions.assertEquals(List.of(1), journal.getVersions("subject-2"));
+                Assertions.assertNull(journal.getVersions("subject-3"));
+                journal.writeVersions("subject-3", List.of(1, 2, 3));
+            }
+            Assertions.assertEquals(3, Files.readAllLines(journalPath, StandardCharsets.UTF_8).size());
+        } finally {
+            Files.deleteIfExists(journalPath);
+        }
+    }
+
+    /**
+     * A failed fetch among concurrent fetches is reported with its original exception, does not prevent the
+     * other fetches from completing, and is the only fetch done again when the export is resumed.
+     */
+    @Test
+    public void testFetchFailureWithConcurrency() throws Exception {
+        List<String> subjects = registerSubjects("fetch-failure-schema", 6, 1);
+        String failingSubject = subjects.get(3);
+        Path journalPath = Path.of("target/fetch-failure.journal");
+        RestService restService = new RestService(confluentUrl);
+        AtomicInteger fetchCount = new AtomicInteger();
+        try {
+            SchemaRegistryClient failingClient = new CachedSchemaRegistryClient(restService, 64,
+                    Collections.emptyMap()) {
+                @Override
+                public Schema getByVersion(String subject, int version, boolean lookupDeletedSchema) {
+                    if (subject.equals(failingSubject)) {
+                        throw new RuntimeException("Injected failure for " + subject);
+                    }
+                    fetchCount.incrementAndGet();
+                    return super.getByVersion(subject, version, lookupDeletedSchema);
+                }
+            };
+            try (ExportJournal journal = new ExportJournal(journalPath, false, log);
+                    SchemaFetcher fetcher = new SchemaFetcher(failingClient, restService, journal, 4)) {
+                List<CompletableFuture<FetchedVersion>> futures = new ArrayList<>();
+                for (String subject : subjects) {
+                    futures.add(fetcher.getVersion(new SubjectVersionPair(subject, 1)));
+                }
+                for (int i = 0; i < subjects.size(); i++) {
+                    if (subjects.get(i).equals(failingSubject)) {
+                        int idx = i;
+                        RuntimeException ex = Assertions.assertThrows(RuntimeException.class,
+                                () -> SchemaFetcher.await(futures.get(idx)));
+                        Assertions.assertEquals("Injected failure for " + failingSubject, ex.getMessage());
+                    } else {
+                        FetchedVersion fetched = SchemaFetcher.await(futures.get(i));
+                        Assertions.assertEquals(subjects.get(i), fetched.subject());
+                    }
+                }
+            }
+            Assertions.assertEquals(subjects.size() - 1, fetchCount.get());
+
+            // Only the failed version is fetched again when resuming
+            fetchCount.set(0);
+            SchemaRegistryClient countingClient = new CachedSchemaRegistryClient(restService, 64,
+                    Collections.emptyMap()) {
+                @Override
+                public Schema getByVersion(String subject, int version, boolean lookupDeletedSchema) {
+                    fetchCount.incrementAndGet();
+                    return super.getByVersion(subject, version, lookupDeletedSchema);
+                }
+            };
+            try (ExportJournal journal = new ExportJournal(journalPath, true, log);
+                    SchemaFetcher fetcher = new SchemaFetcher(countingClient, restService, journal, 4)) {
+                for (String subject : subjects) {
+                    var pair = new SubjectVersionPair(subject, 1);
+                    Assertions.assertEquals(subject, SchemaFetcher.await(fetcher.getVersion(pair)).subject());
+                }
+            }
+            Assertions.assertEquals(1, fetchCount.get());
+        } finally {
+            deleteSubjects(subjects);
+            Files.deleteIfExists(journalPath);
+        }
+    }
+
+    /**
+     * Creates an exporter with the dependencies normally injected by Quarkus.
+     */
+    private static Export createExporter() {
+        Export exporter = new Export();
+        exporter.log = org.jboss.logging.Logger.getLogger(Export.class);
+        exporter.artifactReferenceMapper = new io.apicurio.registry.utils.export.mappers.ArtifactReferenceMapper();
+
+        // Ensure target directory exists
+        File targetDir = new File("target");
+        if (!targetDir.exists()) {
+            targetDir.mkdirs();
+        }
+        return exporter;
+    }
+
+    /**
+     * Registers the given number of subjects, each with the given number of backward compatible versions.
+     */
+    private static List<String> registerSubjects(String prefix, int subjectCount, int versionCount)
+            throws Exception {
+        List<String> subjects = new ArrayList<>();
+        for (int i = 0; i < subjectCount; i++) {
+            String subject = prefix + "-" + i;
+            subjects.add(subject);
+            StringBuilder fields = new StringBuilder("{\"name\":\"id\",\"type\":\"string\"}");
+            for (int v = 1; v <= versionCount; v++) {
+                if (v > 1) {
+                    fields.append(",{\"name\":\"f").append(v)
+                            .append("\",\"type\":\"string\",\"default\":\"\"}");
+                }
+                String schema = "{\"type\":\"record\",\"name\":\"R" + i + "\",\"fields\":[" + fields + "]}";
+                confluentClient.register(subject, new AvroSchema(schema));
+            }
+        }
+        return subjects;
+    }
+
+    /**
+     * Permanently deletes the given subjects, so that they are not exported by the other tests.
+     */
+    private static void deleteSubjects(List<String> subjects) throws Exception {
+        for (String subject : subjects) {
+            try {
+                confluentClient.deleteSubject(subject);
+                confluentClient.deleteSubject(subject, true);
+            } catch (RestClientException ex) {
+                log.warn("Could not delete subject " + subject + ": " + ex.getMessage());
+            }
+        }
+    }
+
+    private static List<String> readZipEntries(String zipFile) throws IOException {
+        List<String> entries = new ArrayList<>();
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            zip.stream().forEach(entry -> entries.add(entry.getName()));
+        }
+        return entries;
+    }
 }
\ No newline at end of file
@@ -2,13 +2,20 @@ package io.apicurio.registry.flink;
 
 import io.apicurio.registry.client.RegistryClientFactory;
 import io.apicurio.registry.client.common.RegistryClientOptions;
+import io.apicurio.registry.flink.DatabaseSnapshot.TableInfo;
 import io.apicurio.registry.flink.converter.AvroFlinkTypeConverter;
 import io.apicurio.registry.flink.converter.JsonSchemaFlinkTypeConverter;
 import io.apicurio.registry.rest.client.RegistryClient;
 import io.apicurio.registry.rest.client.models.ArtifactMetaData;
+import io.apicurio.registry.rest.client.models.ArtifactSearchResults;
+import io.apicurio.registry.rest.client.models.ArtifactSortBy;
 import io.apicurio.registry.rest.client.models.GroupMetaData;
 import io.apicurio.registry.rest.client.models.SearchedArtifact;
 import io.apicurio.registry.rest.client.models.SearchedGroup;
+import io.apicurio.registry.rest.client.models.SearchedVersion;
+import io.apicurio.registry.rest.client.models.SortOrder;
+import io.apicurio.registry.rest.client.models.VersionSearchResults;
+import io.apicurio.registry.rest.client.models.VersionSortBy;
 import org.apache.flink.table.api.Schema;
 import org.apache.flink.table.catalog.AbstractCatalog;
 import org.apache.flink.table.catalog.CatalogBaseTable;
@@ -48,24 +55,55 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Flink Catalog implementation backed by Apicurio Registry.
  *
  * <p>
  * Maps Apicurio groups to Flink databases and artifacts to tables.
+ *
+ * <p>
+ * The tables of a database are loaded in one paginated sweep, and kept in a
+ * {@link DatabaseSnapshot} for the cache TTL. Refreshing a snapshot only
+ * re-fetches the schemas of the tables that were modified in the registry
+ * since the previous sweep. If a refresh interval is configured, the
+ * snapshots are refreshed and the changed schemas loaded in the background,
+ * so that listing and getting tables does not wait for the registry.
+ *
+ * <p>
+ * Deleting the latest version of an artifact does not change its
+ * modification time, so it is not detected as a change: the schema of the
+ * deleted version is still returned until the table is changed again or
+ * evicted from the schema cache.
  */
 public final class ApicurioCatalog extends AbstractCatalog {
 
     /** Logger for this class. */
     private static final Logger LOG = LoggerFactory.getLogger(ApicurioCatalog.class);
 
+    /** Page size of the sweeps of artifacts and versions. */
+    private static final int PAGE_SIZE = 100;
+
     /** The catalog configuration. */
     private final CatalogConfig config;
 
-    /** Cache for schemas with TTL. */
+    /** Cache for schemas, valid as long as their table is unchanged. */
     private final Map<String, CachedSchema> schemaCache;
 
+    /** The loaded databases, by name. */
+    private final Map<String, DatabaseSnapshot> snapshots =
+            new ConcurrentHashMap<>();
+
+    /** Serializes the loading of the database snapshots. */
+    private final Object snapshotLock = new Object();
+
+    /** The background refresher, or null if disabled. */
+    private volatile ScheduledExecutorService refresher;
+
     /** The registry client. */
     private RegistryClient client;
 
@@ -117,14 +155,185 @@ public final class ApicurioCatalog extends AbstractCatalog {
                     config.getClientSecret());
         }
         this.client = RegistryClientFactory.create(opts);
+        if (config.getCacheRefreshIntervalMs() > 0) {
+            startRefresher(config.getCacheRefreshIntervalMs());
+        }
         LOG.info("Catalog opened successfully");
     }
 
     @Override
     public void close() throws CatalogException {
         LOG.info("Closing catalog: {}", getName());
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
         this.client = null;
         this.schemaCache.clear();
+        this.snapshots.clear();
+    }
+
+    private void startRefresher(final long intervalMs) {
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread t = new Thread(r, "apicurio-catalog-refresher-"
+                    + getName());
+            t.setDaemon(true);
+            return t;
+        });
+        refresher.execute(() -> {
+            try {
+                warm(getDefaultDatabase(), null,
+                        snapshot(getDefaultDatabase()));
+            } catch (Exception e) {
+                LOG.debug("Could not preload database {}: {}",
+                        getDefaultDatabase(), e.getMessage());
+            }
+        });
+        refresher.scheduleWithFixedDelay(this::refreshAll,
+                intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void refreshAll() {
+        for (String dbName : new ArrayList<>(snapshots.keySet())) {
+            try {
+                final DatabaseSnapshot previous;
+                final DatabaseSnapshot current;
+                synchronized (snapshotLock) {
+                    previous = snapshots.get(dbName);
+                    current = loadSnapshot(dbName, previous);
+                }
+                warm(dbName, previous, current);
+            } catch (Exception e) {
+                LOG.warn("Failed to refresh database {}: {}",
+                        dbName, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Loads the schemas of the tables that were added or changed since the
+     * previous snapshot, up to the maximum cache size.
+     */
+    private void warm(
+            final String dbName,
+            final DatabaseSnapshot previous,
+            final DatabaseSnapshot current) {
+        int loaded = 0;
+        for (Map.Entry<String, TableInfo> e : current.getTables().entrySet()) {
+            if (loaded >= config.getCacheMaxSize()) {
+                break;
+            }
+            final String tblName = e.getKey();
+            if (!current.isChangedSince(tblName, previous)
+                    || !isSupportedType(e.getValue().getArtifactType())) {
+                continue;
+            }
+            try {
+                schemaCache.put(dbName + "/" + tblName, new CachedSchema(
+                        loadTable(dbName, tblName, e.getValue()),
+                        e.getValue(), null));
+                loaded++;
+            } catch (Exception ex) {
+                LOG.debug("Could not load table {}/{}: {}",
+                        dbName, tblName, ex.getMessage());
+            }
+        }
+        LOG.debug("Loaded {} changed tables in: {}", loaded, dbName);
+    }
+
+    /**
+     * Gets the snapshot of a database, loading it if missing, or refreshing
+     * it if expired and not refreshed in the background.
+     */
+    private DatabaseSnapshot snapshot(final String dbName)
+            throws DatabaseNotExistException {
+        final DatabaseSnapshot current = snapshots.get(dbName);
+        if (current != null && (refresher != null
+                || !current.isExpired(config.getCacheTtlMs()))) {
+            return current;
+        }
+        synchronized (snapshotLock) {
+            final DatabaseSnapshot latest = snapshots.get(dbName);
+            if (latest != null && latest != current) {
+                // Refreshed by another thread in the meantime
+                return latest;
+            }
+            if (current == null && !databaseExists(dbName)) {
+                throw new DatabaseNotExistException(getName(), dbName);
+            }
+            return loadSnapshot(dbName, current);
+        }
+    }
+
+    /**
+     * Sweeps the artifacts of a group, and its versions modified since the
+     * previous snapshot. Must hold the snapshot lock.
+     */
+    private DatabaseSnapshot loadSnapshot(
+            final String dbName,
+            final DatabaseSnapshot previous) {
+        try {
+            // Versions first, so that a version created during the sweep is
+            // at worst detected again by the next one
+            final List<SearchedVersion> versions = new ArrayList<>();
+            int offset = 0;
+            boolean more = true;
+            while (more) {
+                final int start = offset;
+                final VersionSearchResults page = client.search().versions()
+                        .get(c -> {
+                            c.queryParameters.groupId = dbName;
+                            c.queryParameters.orderby = VersionSortBy.ModifiedOn;
+                            c.queryParameters.order = SortOrder.Desc;
+                            c.queryParameters.offset = start;
+                            c.queryParameters.limit = PAGE_SIZE;
+                        });
+                final List<SearchedVersion> found = page == null
+                        || page.getVersions() == null
+                        ? Collections.emptyList() : page.getVersions();
+                for (SearchedVersion v : found) {
+                    if (previous != null && previous.isBeforeWatermark(v)) {
+                        more = false;
+                        break;
+                    }
+                    versions.add(v);
+                }
+                offset += found.size();
+                // The first load only needs the most recent versions
+                more = more && previous != null && found.size() == PAGE_SIZE;
+            }
+
+            final List<SearchedArtifact> artifacts = new ArrayList<>();
+            offset = 0;
+            more = true;
+            while (more) {
+                final int start = offset;
+                final ArtifactSearchResults page = client.groups()
+                        .byGroupId(dbName)
+                        .artifacts()
+                        .get(c -> {
+                            c.queryParameters.orderby = ArtifactSortBy.ArtifactId;
+                            c.queryParameters.order = SortOrder.Asc;
+                            c.queryParameters.offset = start;
+                            c.queryParameters.limit = PAGE_SIZE;
+                        });
+                final List<SearchedArtifact> found = page == null
+                        || page.getArtifacts() == null
+                        ? Collections.emptyList() : page.getArtifacts();
+                artifacts.addAll(found);
+                offset += found.size();
+                more = found.size() == PAGE_SIZE;
+            }
+
+            final DatabaseSnapshot snapshot = DatabaseSnapshot.create(
+                    previous, artifacts, versions, System.currentTimeMillis());
+            snapshots.put(dbName, snapshot);
+            LOG.debug("Loaded {} tables and {} changed versions in: {}",
+                    artifacts.size(), versions.size(), dbName);
+            return snapshot;
+        } catch (Exception e) {
+            throw new CatalogException("Failed to load tables", e);
+        }
     }
 
     @Override
@@ -214,23 +423,10 @@ public final class ApicurioCatalog extends AbstractCatalog {
     public List<String> listTables(final String dbName)
             throws DatabaseNotExistException, CatalogException {
         LOG.debug("Listing tables in: {}", dbName);
-        if (!databaseExists(dbName)) {
-            throw new DatabaseNotExistException(getName(), dbName);
-        }
-        try {
-            final List<String> tables = new ArrayList<>();
-            final var result = client.groups()
-                    .byGroupId(dbName).artifacts().get();
-            if (result != null && result.getArtifacts() != null) {
-                for (SearchedArtifact a : result.getArtifacts()) {
-                    tables.add(a.getArtifactId());
-                }
-            }
-            LOG.debug("Found {} tables", tables.size());
-            return tables;
-        } catch (Exception e) {
-            throw new CatalogException("Failed to list tables", e);
-        }
+        final List<String> tables = new ArrayList<>(
+                snapshot(dbName).getTables().keySet());
+        LOG.debug("Found {} tables", tables.size());
+        return tables;
     }
 
     @Override
@@ -246,14 +442,29 @@ public final class ApicurioCatalog extends AbstractCatalog {
         final String dbName = path.getDatabaseName();
         final String tblName = path.getObjectName();
         final String cacheKey = dbName + "/" + tblName;
-        final CachedSchema cached = schemaCache.get(cacheKey);
 
-        if (cached != null && !cached.isExpired(config.getCacheTtlMs())) {
+        final DatabaseSnapshot snapshot;
+        try {
+            snapshot = snapshot(dbName);
+        } catch (DatabaseNotExistException e) {
+            throw new TableNotExistException(getName(), path, e);
+        }
+        final TableInfo info = snapshot.getTable(tblName);
+        final CachedSchema cached = schemaCache.get(cacheKey);
+        if (cached != null && (info != null ? cached.getInfo() == info
+                : cached.isMissingFrom(snapshot))) {
             LOG.debug("Returning cached table: {}", path);
             return cached.getTable();
         }
 
         try {
+            if (info != null) {
+                final CatalogTable tbl = loadTable(dbName, tblName, info);
+                schemaCache.put(cacheKey, new CachedSchema(tbl, info, null));
+                return tbl;
+            }
+
+            // Not in the snapshot, it may have been created since
             final ArtifactMetaData meta = client.groups()
                     .byGroupId(dbName)
                     .artifacts()
@@ -262,41 +473,10 @@ public final class ApicurioCatalog extends AbstractCatalog {
             if (meta == null) {
                 throw new TableNotExistException(getName(), path);
             }
-
-            final String content;
-            try (InputStream stream = client.groups()
-                    .byGroupId(dbName)
-                    .artifacts()
-                    .byArtifactId(tblName)
-                    .versions()
-                    .byVersionExpression("branch=latest")
-                    .content()
-                    .get()) {
-                content = new String(
-                        stream.readAllBytes(), StandardCharsets.UTF_8);
-            }
-            final String artType = meta.getArtifactType();
-            final ResolvedSchema resolved = convertToFlinkSchema(content, artType);
-
-            final Map<String, String> opts = new HashMap<>();
-            opts.put("connector", "apicurio-registry");
-            opts.put("registry.url", config.getUrl());
-            opts.put("group.id", dbName);
-            opts.put("artifact.id", tblName);
-
-            final Schema.Builder builder = Schema.newBuilder();
-            for (Column col : resolved.getColumns()) {
-                builder.column(col.getName(), col.getDataType());
-            }
-
-            final CatalogTable tbl = CatalogTable.newBuilder()
-                    .schema(builder.build())
-                    .comment(meta.getDescription())
-                    .options(opts)
-                    .build();
-
-            schemaCache.put(cacheKey,
-                    new CachedSchema(tbl, System.currentTimeMillis()));
+            // Cached until the snapshot is refreshed, which then includes it
+            final CatalogTable tbl = loadTable(dbName, tblName, new TableInfo(
+                    meta.getArtifactType(), meta.getDescription(), 0L));
+            schemaCache.put(cacheKey, new CachedSchema(tbl, null, snapshot));
             return tbl;
         } catch (TableNotExistException e) {
             throw e;
@@ -308,8 +488,52 @@ public final class ApicurioCatalog extends AbstractCatalog {
         }
     }
 
+    private CatalogTable loadTable(
+            final String dbName,
+            final String tblName,
+            final TableInfo info) throws Exception {
+        final String content;
+        try (InputStream stream = client.groups()
+                .byGroupId(dbName)
+                .artifacts()
+                .byArtifactId(tblName)
+                .versions()
+                .byVersionExpression("branch=latest")
+                .content()
+                .get()) {
+            content = new String(
+                    stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        final ResolvedSchema resolved = convertToFlinkSchema(
+                content, info.getArtifactType());
+
+        final Map<String, String> opts = new HashMap<>();
+        opts.put("connector", "apicurio-registry");
+        opts.put("registry.url", config.getUrl());
+        opts.put("group.id", dbName);
+        opts.put("artifact.id", tblName);
+
+        final Schema.Builder builder = Schema.newBuilder();
+        for (Column col : resolved.getColumns()) {
+            builder.column(col.getName(), col.getDataType());
+        }
+
+        return CatalogTable.newBuilder()
+                .schema(builder.build())
+                .comment(info.getDescription())
+                .options(opts)
+                .build();
+    }
+
     @Override
     public boolean tableExists(final ObjectPath path) throws CatalogException {
+        final DatabaseSnapshot snapshot =
+                snapshots.get(path.getDatabaseName());
+        if (snapshot != null && snapshot.getTable(path.getObjectName()) != null
+                && (refresher != null
+                        || !snapshot.isExpired(config.getCacheTtlMs()))) {
+            return true;
+        }
         try {
             client.groups()
                     .byGroupId(path.getDatabaseName())
@@ -526,6 +750,11 @@ public final class ApicurioCatalog extends AbstractCatalog {
         throw new CatalogException("Statistics not supported");
     }
 
+    private static boolean isSupportedType(final String artType) {
+        return "AVRO".equalsIgnoreCase(artType)
+                || "JSON".equalsIgnoreCase(artType);
+    }
+
     private ResolvedSchema convertToFlinkSchema(
             final String content,
             final String artType) {
@@ -552,20 +781,35 @@ public final class ApicurioCatalog extends AbstractCatalog {
         /** The cached table. */
         private final CatalogBaseTable cachedTable;
 
-        /** The timestamp when cached. */
-        private final long cachedAt;
+        /** The table info the table was loaded from, or null. */
+        private final TableInfo info;
+
+        /** The snapshot that did not have the table yet, or null. */
+        private final DatabaseSnapshot missingFrom;
 
-        CachedSchema(final CatalogBaseTable tbl, final long ts) {
+        CachedSchema(
+                final CatalogBaseTable tbl,
+                final TableInfo tblInfo,
+                final DatabaseSnapshot snapshot) {
             this.cachedTable = tbl;
-            this.cachedAt = ts;
+            this.info = tblInfo;
+            this.missingFrom = snapshot;
         }
 
         CatalogBaseTable getTable() {
             return cachedTable;
         }
 
-        boolean isExpired(final long ttl) {
-            return System.currentTimeMillis() - cachedAt > ttl;
+        TableInfo getInfo() {
+            return info;
+        }
+
+        /**
+         * Checks whether the table was created after the given snapshot
+         * was loaded, and loaded while that snapshot was the latest.
+         */
+        boolean isMissingFrom(final DatabaseSnapshot snapshot) {
+            return missingFrom == snapshot;
         }
     }
 }
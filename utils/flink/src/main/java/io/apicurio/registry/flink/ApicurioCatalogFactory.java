@@ -16,6 +16,7 @@ import static io.apicurio.registry.flink.ApicurioCatalogOptions.AUTH_TOKEN_ENDPO
 import static io.apicurio.registry.flink.ApicurioCatalogOptions.AUTH_TYPE;
 import static io.apicurio.registry.flink.ApicurioCatalogOptions.AUTH_USERNAME;
 import static io.apicurio.registry.flink.ApicurioCatalogOptions.CACHE_MAX_SIZE;
+import static io.apicurio.registry.flink.ApicurioCatalogOptions.CACHE_REFRESH_INTERVAL_MS;
 import static io.apicurio.registry.flink.ApicurioCatalogOptions.CACHE_TTL_MS;
 import static io.apicurio.registry.flink.ApicurioCatalogOptions.DEFAULT_DATABASE;
 import static io.apicurio.registry.flink.ApicurioCatalogOptions.IDENTIFIER;
@@ -49,6 +50,7 @@ public final class ApicurioCatalogFactory implements CatalogFactory {
         options.add(AUTH_CLIENT_SECRET);
         options.add(CACHE_TTL_MS);
         options.add(CACHE_MAX_SIZE);
+        options.add(CACHE_REFRESH_INTERVAL_MS);
         options.add(DEFAULT_DATABASE);
         return options;
     }
@@ -72,6 +74,7 @@ public final class ApicurioCatalogFactory implements CatalogFactory {
                 .clientSecret(cfg.get(AUTH_CLIENT_SECRET))
                 .cacheTtlMs(cfg.get(CACHE_TTL_MS))
                 .cacheMaxSize(cfg.get(CACHE_MAX_SIZE))
+                .cacheRefreshIntervalMs(cfg.get(CACHE_REFRESH_INTERVAL_MS))
                 .build();
 
         return new ApicurioCatalog(config);
@@ -17,6 +17,9 @@ public final class ApicurioCatalogOptions {
         /** Default maximum cache size (number of entries). */
         public static final int DEFAULT_CACHE_MAX_SIZE = 1000;
 
+        /** Default background refresh interval in milliseconds (disabled). */
+        public static final long DEFAULT_CACHE_REFRESH_INTERVAL_MS = 0L;
+
         /** The base URL of the Apicurio Registry API. */
         public static final ConfigOption<String> REGISTRY_URL = ConfigOptions
                         .key("registry.url")
@@ -50,7 +53,9 @@ public final class ApicurioCatalogOptions {
                         .key("cache.ttl.ms")
                         .longType()
                         .defaultValue(DEFAULT_CACHE_TTL_MS)
-                        .withDescription("Cache TTL in milliseconds.");
+                        .withDescription("How long the tables of a database are used "
+                                        + "before checking the registry for changes, in "
+                                        + "milliseconds. Only changed tables are reloaded.");
 
         /** Maximum cache size (number of entries). */
         public static final ConfigOption<Integer> CACHE_MAX_SIZE = ConfigOptions
@@ -59,6 +64,20 @@ public final class ApicurioCatalogOptions {
                         .defaultValue(DEFAULT_CACHE_MAX_SIZE)
                         .withDescription("Maximum number of cached schemas.");
 
+        /** Background refresh interval in milliseconds, 0 to disable. */
+        public static final ConfigOption<Long> CACHE_REFRESH_INTERVAL_MS = ConfigOptions
+                        .key("cache.refresh.interval.ms")
+                        .longType()
+                        .defaultValue(DEFAULT_CACHE_REFRESH_INTERVAL_MS)
+                        .withDescription("Interval in milliseconds at which the loaded "
+                                        + "databases are refreshed in the background, "
+                                        + "so that the catalog does not wait for the "
+                                        + "registry. 0 disables the background refresh. "
+                                        + "Like the TTL based refresh, it does not detect "
+                                        + "that the latest version of an artifact was "
+                                        + "deleted, since that does not change the "
+                                        + "modification time of the artifact.");
+
         /** OAuth2 token endpoint URL. */
         public static final ConfigOption<String> AUTH_TOKEN_ENDPOINT = ConfigOptions
                         .key("registry.auth.token-endpoint")
@@ -38,6 +38,9 @@ public final class CatalogConfig {
     /** The maximum cache size. */
     private final int cacheMaxSize;
 
+    /** The background refresh interval in ms, 0 if disabled. */
+    private final long cacheRefreshIntervalMs;
+
     CatalogConfig(final Builder b) {
         this.name = b.bName;
         this.defaultDatabase = b.bDefaultDatabase;
@@ -50,6 +53,7 @@ public final class CatalogConfig {
         this.clientSecret = b.bClientSecret;
         this.cacheTtlMs = b.bCacheTtlMs;
         this.cacheMaxSize = b.bCacheMaxSize;
+        this.cacheRefreshIntervalMs = b.bCacheRefreshIntervalMs;
     }
 
     /**
@@ -151,6 +155,15 @@ public final class CatalogConfig {
         return cacheMaxSize;
     }
 
+    /**
+     * Gets the background refresh interval in milliseconds.
+     *
+     * @return the interval, 0 if disabled
+     */
+    public long getCacheRefreshIntervalMs() {
+        return cacheRefreshIntervalMs;
+    }
+
     /**
      * Creates a new builder.
      *
@@ -198,6 +211,10 @@ public final class CatalogConfig {
         /** The maximum cache size. */
         private int bCacheMaxSize = ApicurioCatalogOptions.DEFAULT_CACHE_MAX_SIZE;
 
+        /** The background refresh interval in milliseconds. */
+        private long bCacheRefreshIntervalMs =
+                ApicurioCatalogOptions.DEFAULT_CACHE_REFRESH_INTERVAL_MS;
+
         Builder() {
         }
 
@@ -322,6 +339,17 @@ public final class CatalogConfig {
             return this;
         }
 
+        /**
+         * Sets background refresh interval in ms, 0 to disable.
+         *
+         * @param val the value
+         * @return this builder
+         */
+        public Builder cacheRefreshIntervalMs(final long val) {
+            this.bCacheRefreshIntervalMs = val;
+            return this;
+        }
+
         /**
          * Builds the config.
          *
@@ -0,0 +1,213 @@
+package io.apicurio.registry.flink;
+
+import io.apicurio.registry.rest.client.models.SearchedArtifact;
+import io.apicurio.registry.rest.client.models.SearchedVersion;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The tables of a database (group), as loaded by one sweep of the registry.
+ *
+ * <p>
+ * Every table is described by a {@link TableInfo}. When a snapshot is
+ * refreshed, the info of the tables that have not changed is carried over
+ * as the same instance, so a table schema built from it remains valid for
+ * as long as the snapshot returns that instance. A table has changed if its
+ * artifact was modified, or if one of its versions was created or modified
+ * since the previous sweep. The latter is detected by searching the versions
+ * of the group in descending order of modification, down to the watermark of
+ * the previous sweep.
+ */
+final class DatabaseSnapshot {
+
+    /** The tables, by name. */
+    private final Map<String, TableInfo> tables;
+
+    /** The most recent version modification seen, in epoch ms. */
+    private final long watermark;
+
+    /** The global IDs of the versions seen exactly at the watermark. */
+    private final Set<Long> watermarkGlobalIds;
+
+    /** The timestamp when loaded. */
+    private final long loadedAt;
+
+    private DatabaseSnapshot(
+            final Map<String, TableInfo> tbls,
+            final long mark,
+            final Set<Long> markIds,
+            final long ts) {
+        this.tables = tbls;
+        this.watermark = mark;
+        this.watermarkGlobalIds = markIds;
+        this.loadedAt = ts;
+    }
+
+    /**
+     * Creates the next snapshot of a database.
+     *
+     * @param previous the previous snapshot, or null for the first load
+     * @param artifacts all the artifacts of the group
+     * @param versions the versions of the group modified since the previous
+     *                 snapshot, in any order (versions already seen by the
+     *                 previous snapshot are ignored)
+     * @param now      the current timestamp
+     * @return the snapshot
+     */
+    static DatabaseSnapshot create(
+            final DatabaseSnapshot previous,
+            final List<SearchedArtifact> artifacts,
+            final List<SearchedVersion> versions,
+            final long now) {
+        long mark = previous == null ? Long.MIN_VALUE : previous.watermark;
+        final Set<String> changed = new HashSet<>();
+        final List<SearchedVersion> unseen = new ArrayList<>();
+        for (SearchedVersion v : versions) {
+            if (previous == null || !previous.hasSeen(v)) {
+                unseen.add(v);
+                changed.add(v.getArtifactId());
+                mark = Math.max(mark, toMillis(
+                        v.getModifiedOn(), v.getCreatedOn()));
+            }
+        }
+        final Set<Long> markIds = new HashSet<>();
+        if (previous != null && mark == previous.watermark) {
+            markIds.addAll(previous.watermarkGlobalIds);
+        }
+        for (SearchedVersion v : unseen) {
+            if (toMillis(v.getModifiedOn(), v.getCreatedOn()) == mark) {
+                markIds.add(v.getGlobalId());
+            }
+        }
+
+        final Map<String, TableInfo> tbls = new LinkedHashMap<>();
+        for (SearchedArtifact a : artifacts) {
+            final String name = a.getArtifactId();
+            final TableInfo current = new TableInfo(
+                    a.getArtifactType(),
+                    a.getDescription(),
+                    toMillis(a.getModifiedOn(), a.getCreatedOn()));
+            final TableInfo old = previous == null
+                    ? null : previous.tables.get(name);
+            if (old != null && !changed.contains(name)
+                    && old.isSameAs(current)) {
+                tbls.put(name, old);
+            } else {
+                tbls.put(name, current);
+            }
+        }
+        return new DatabaseSnapshot(Collections.unmodifiableMap(tbls),
+                mark, markIds, now);
+    }
+
+    /**
+     * Checks whether a sweep of the versions in descending order of
+     * modification can stop at the given version, because it and all the
+     * versions after it are older than this snapshot.
+     *
+     * @param v the version
+     * @return true if the version was modified before the watermark
+     */
+    boolean isBeforeWatermark(final SearchedVersion v) {
+        return toMillis(v.getModifiedOn(), v.getCreatedOn()) < watermark;
+    }
+
+    /**
+     * Gets a table.
+     *
+     * @param name the table name
+     * @return the table info, or null if the table does not exist
+     */
+    TableInfo getTable(final String name) {
+        return tables.get(name);
+    }
+
+    /**
+     * Gets all the tables.
+     *
+     * @return the table infos, by name
+     */
+    Map<String, TableInfo> getTables() {
+        return tables;
+    }
+
+    /**
+     * Checks whether the table was added or changed since a previous
+     * snapshot.
+     *
+     * @param name     the table name
+     * @param previous the previous snapshot, or null
+     * @return true if the table must be (re)loaded
+     */
+    boolean isChangedSince(final String name, final DatabaseSnapshot previous) {
+        return previous == null
+                || previous.tables.get(name) != tables.get(name);
+    }
+
+    /**
+     * Checks whether the snapshot is older than the TTL.
+     *
+     * @param ttl the TTL in ms
+     * @return true if expired
+     */
+    boolean isExpired(final long ttl) {
+        return System.currentTimeMillis() - loadedAt > ttl;
+    }
+
+    private boolean hasSeen(final SearchedVersion v) {
+        final long modifiedOn = toMillis(v.getModifiedOn(), v.getCreatedOn());
+        return modifiedOn < watermark
+                || modifiedOn == watermark
+                        && watermarkGlobalIds.contains(v.getGlobalId());
+    }
+
+    private static long toMillis(
+            final OffsetDateTime modifiedOn,
+            final OffsetDateTime createdOn) {
+        final OffsetDateTime ts = modifiedOn != null ? modifiedOn : createdOn;
+        return ts == null ? 0L : ts.toInstant().toEpochMilli();
+    }
+
+    /**
+     * What a snapshot knows about a table, without its schema.
+     */
+    static final class TableInfo {
+
+        /** The artifact type. */
+        private final String artifactType;
+
+        /** The artifact description. */
+        private final String description;
+
+        /** The artifact modification timestamp in epoch ms. */
+        private final long modifiedOn;
+
+        TableInfo(final String type, final String desc, final long modified) {
+            this.artifactType = type;
+            this.description = desc;
+            this.modifiedOn = modified;
+        }
+
+        String getArtifactType() {
+            return artifactType;
+        }
+
+        String getDescription() {
+            return description;
+        }
+
+        private boolean isSameAs(final TableInfo other) {
+            return modifiedOn == other.modifiedOn
+                    && Objects.equals(artifactType, other.artifactType)
+                    && Objects.equals(description, other.description);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.apicurio.registry.flink;
+
+import io.apicurio.registry.rest.client.models.SearchedArtifact;
+import io.apicurio.registry.rest.client.models.SearchedVersion;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatabaseSnapshotTest {
+
+    @Test
+    void testUnchangedTablesAreKept() {
+        final DatabaseSnapshot first = DatabaseSnapshot.create(null,
+                List.of(artifact("a", 10), artifact("b", 10)),
+                List.of(version("b", 1L, 20)), 0L);
+        assertTrue(first.isChangedSince("a", null));
+
+        // Version 2 of "a" is new, version 1 of "b" was already seen
+        final DatabaseSnapshot second = DatabaseSnapshot.create(first,
+                List.of(artifact("a", 10), artifact("b", 10)),
+                List.of(version("a", 2L, 20), version("b", 1L, 20)), 0L);
+        assertTrue(second.isChangedSince("a", first));
+        assertFalse(second.isChangedSince("b", first));
+        assertSame(first.getTable("b"), second.getTable("b"));
+
+        // Nothing changed
+        final DatabaseSnapshot third = DatabaseSnapshot.create(second,
+                List.of(artifact("a", 10), artifact("b", 10)),
+                List.of(version("a", 2L, 20), version("b", 1L, 20)), 0L);
+        assertFalse(third.isChangedSince("a", second));
+        assertFalse(third.isChangedSince("b", second));
+    }
+
+    @Test
+    void testModifiedArtifactIsChanged() {
+        final DatabaseSnapshot first = DatabaseSnapshot.create(null,
+                List.of(artifact("a", 10)), List.of(), 0L);
+        final DatabaseSnapshot second = DatabaseSnapshot.create(first,
+                List.of(artifact("a", 30)), List.of(), 0L);
+        assertNotSame(first.getTable("a"), second.getTable("a"));
+    }
+
+    @Test
+    void testDeletedTableIsRemoved() {
+        final DatabaseSnapshot first = DatabaseSnapshot.create(null,
+                List.of(artifact("a", 10), artifact("b", 10)), List.of(), 0L);
+        final DatabaseSnapshot second = DatabaseSnapshot.create(first,
+                List.of(artifact("a", 10)), List.of(), 0L);
+        assertNull(second.getTable("b"));
+        assertSame(first.getTable("a"), second.getTable("a"));
+    }
+
+    @Test
+    void testWatermark() {
+        final DatabaseSnapshot snapshot = DatabaseSnapshot.create(null,
+                List.of(artifact("a", 10)),
+                List.of(version("a", 1L, 20)), 0L);
+        assertTrue(snapshot.isBeforeWatermark(version("a", 0L, 19)));
+        assertFalse(snapshot.isBeforeWatermark(version("a", 2L, 20)));
+        assertFalse(snapshot.isBeforeWatermark(version("a", 3L, 21)));
+    }
+
+    private static SearchedArtifact artifact(final String id, final long modifiedOn) {
+        final SearchedArtifact a = new SearchedArtifact();
+        a.setArtifactId(id);
+        a.setArtifactType("AVRO");
+        a.setModifiedOn(timestamp(modifiedOn));
+        return a;
+    }
+
+    private static SearchedVersion version(final String artifactId, final long globalId,
+            final long modifiedOn) {
+        final SearchedVersion v = new SearchedVersion();
+        v.setArtifactId(artifactId);
+        v.setGlobalId(globalId);
+        v.setModifiedOn(timestamp(modifiedOn));
+        return v;
+    }
+
+    private static OffsetDateTime timestamp(final long millis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,326 @@
+package io.apicurio.registry.utils.impexp;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.apicurio.registry.utils.IoUtil;
+import io.apicurio.registry.utils.impexp.v3.ArtifactEntity;
+import io.apicurio.registry.utils.impexp.v3.ArtifactRuleEntity;
+import io.apicurio.registry.utils.impexp.v3.ArtifactVersionEntity;
+import io.apicurio.registry.utils.impexp.v3.BranchEntity;
+import io.apicurio.registry.utils.impexp.v3.CommentEntity;
+import io.apicurio.registry.utils.impexp.v3.ContentEntity;
+import io.apicurio.registry.utils.impexp.v3.GlobalRuleEntity;
+import io.apicurio.registry.utils.impexp.v3.GroupEntity;
+import io.apicurio.registry.utils.impexp.v3.GroupRuleEntity;
+import org.apache.commons.io.FileUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads the entities of a v3 export directly from the ZIP stream, in the order in which they were
+ * written by the export, without unpacking the file to disk first. Unlike {@link EntityReader}, which
+ * sorts the entities into dependency order, this reader expects the entities to already be in an order
+ * that can be imported (e.g. the content before the versions that use it).
+ * <p>
+ * If an entity is found after an entity that may depend on it (e.g. the file has been repacked), the
+ * rest of the file is unpacked to disk and read with {@link EntityReader}, in dependency order. The
+ * entities read before that point have already been returned, so the ones that depend on an entity
+ * found later may fail to import. The unpacked files are deleted by {@link #close()}.
+ * <p>
+ * Call {@link #readManifest()} first. If it returns {@code null}, or a manifest of an older export
+ * version, the file cannot be streamed and must be unpacked with {@link #unpackToDisk(Path)} and read
+ * with {@link EntityReader} instead.
+ */
+public class ZipEntityReader implements EntityInputStream, Closeable {
+
+    private static final ObjectMapper mapper;
+    static {
+        JsonFactory jsonFactory = new JsonFactory();
+        jsonFactory.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        mapper = new ObjectMapper(jsonFactory);
+    }
+
+    /**
+     * For each entity type, the entity types that depend on it, and therefore must not be read before it.
+     */
+    private static final Map<EntityType, Set<EntityType>> DEPENDENTS = new EnumMap<>(EntityType.class);
+    static {
+        DEPENDENTS.put(EntityType.Content, EnumSet.of(EntityType.ArtifactVersion, EntityType.Comment));
+        DEPENDENTS.put(EntityType.Group, EnumSet.of(EntityType.GroupRule, EntityType.Artifact));
+        DEPENDENTS.put(EntityType.Artifact, EnumSet.of(EntityType.ArtifactVersion, EntityType.ArtifactRule,
+                EntityType.Branch, EntityType.Comment));
+        DEPENDENTS.put(EntityType.ArtifactVersion, EnumSet.of(EntityType.Branch, EntityType.Comment));
+    }
+
+    private final transient ZipInputStream zip;
+    private final Path workDirectory;
+
+    private final Set<EntityType> typesRead = EnumSet.noneOf(EntityType.class);
+    private final Map<String, ContentEntity> contentWithoutData = new LinkedHashMap<>();
+    private final Map<String, byte[]> dataWithoutContent = new LinkedHashMap<>();
+
+    private ZipEntry firstEntry;
+    private byte[] firstEntryData;
+    private ZipEntry nextEntry;
+
+    private Path unpackedDirectory;
+    private EntityReader unpackedReader;
+
+    /**
+     * Constructor. Entries that are not in export order are unpacked to the default temporary directory.
+     */
+    public ZipEntityReader(ZipInputStream zip) {
+        this(zip, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param workDirectory where to unpack the entries that are not in export order, or {@code null} for
+     *            the default temporary directory
+     */
+    public ZipEntityReader(ZipInputStream zip, Path workDirectory) {
+        this.zip = zip;
+        this.workDirectory = workDirectory;
+    }
+
+    /**
+     * Reads the manifest, which is the first entry written by the export.
+     *
+     * @return the manifest, or {@code null} if the first entry of the file is not a manifest
+     */
+    public ManifestEntity readManifest() throws IOException {
+        firstEntry = zip.getNextEntry();
+        if (firstEntry == null) {
+            return null;
+        }
+        firstEntryData = zip.readAllBytes();
+        if (firstEntry.isDirectory() || parseEntityType(firstEntry.getName()) != EntityType.Manifest) {
+            return null;
+        }
+        typesRead.add(EntityType.Manifest);
+        return mapper.readerFor(ManifestEntity.class).readValue(firstEntryData);
+    }
+
+    /**
+     * Unpacks the whole file, including the entry already consumed by {@link #readManifest()}, to the
+     * local file system. Used for files that cannot be streamed.
+     *
+     * @param outputDirectory
+     */
+    public void unpackToDisk(Path outputDirectory) throws IOException {
+        if (firstEntry != null) {
+            IoUtil.unpackToDisk(firstEntry, firstEntryData, outputDirectory);
+            firstEntry = null;
+            firstEntryData = null;
+        }
+        IoUtil.unpackToDisk(zip, outputDirectory);
+    }
+
+    /**
+     * @see io.apicurio.registry.utils.impexp.EntityInputStream#nextEntity()
+     */
+    @Override
+    public Entity nextEntity() throws IOException {
+        if (unpackedReader != null) {
+            return nextUnpackedEntity();
+        }
+
+        ZipEntry entry;
+        while ((entry = readNextZipEntry()) != null) {
+            String name = entry.getName();
+            EntityType type = entry.isDirectory() ? null : parseEntityType(name);
+            if (type == null || type == EntityType.Manifest) {
+                continue;
+            }
+
+            if (type == EntityType.Content && name.endsWith(".data")) {
+                String key = name.substring(0, name.length() - ".data".length());
+                ContentEntity content = contentWithoutData.remove(key);
+                if (content != null) {
+                    content.contentBytes = zip.readAllBytes();
+                    return content;
+                }
+                dataWithoutContent.put(key, zip.readAllBytes());
+                continue;
+            }
+            if (!name.endsWith(".json")) {
+                continue;
+            }
+
+            if (!checkOrder(type)) {
+                unpackRemaining(entry);
+                return nextUnpackedEntity();
+            }
+            if (type == EntityType.Content) {
+                ContentEntity content = readEntry(ContentEntity.class);
+                if (attachData(name, content)) {
+                    return content;
+                }
+                continue;
+            }
+            return readEntity(type);
+        }
+
+        // Content entities without a data file (should not happen, but the EntityReader allows it too)
+        Iterator<ContentEntity> remaining = contentWithoutData.values().iterator();
+        if (remaining.hasNext()) {
+            ContentEntity content = remaining.next();
+            remaining.remove();
+            return content;
+        }
+        return null;
+    }
+
+    /**
+     * The data of a content entity is written right after its meta-data, so it is normally read by looking
+     * ahead at the next entry. If it is somewhere else in the file, the entity is kept until it is found.
+     *
+     * @return true if the data of the content has been found
+     */
+    private boolean attachData(String name, ContentEntity content) throws IOException {
+        String key = name.substring(0, name.length() - ".json".length());
+        byte[] data = dataWithoutContent.remove(key);
+        if (data != null) {
+            content.contentBytes = data;
+            return true;
+        }
+        nextEntry = zip.getNextEntry();
+        if (nextEntry != null && nextEntry.getName().equals(key + ".data")) {
+            nextEntry = null;
+            content.contentBytes = zip.readAllBytes();
+            return true;
+        }
+        contentWithoutData.put(key, content);
+        return false;
+    }
+
+    private ZipEntry readNextZipEntry() throws IOException {
+        if (nextEntry != null) {
+            ZipEntry entry = nextEntry;
+            nextEntry = null;
+            return entry;
+        }
+        return zip.getNextEntry();
+    }
+
+    /**
+     * @return false if an entity that may depend on an entity of the given type has already been read
+     */
+    private boolean checkOrder(EntityType type) {
+        Set<EntityType> dependents = DEPENDENTS.get(type);
+        if (dependents != null) {
+            for (EntityType dependent : dependents) {
+                if (typesRead.contains(dependent)) {
+                    return false;
+                }
+            }
+        }
+        typesRead.add(type);
+        return true;
+    }
+
+    /**
+     * Unpacks the given entry, whose data has not been read yet, the rest of the file and the content data
+     * read ahead to disk, so that they can be read in dependency order.
+     */
+    private void unpackRemaining(ZipEntry entry) throws IOException {
+        unpackedDirectory = workDirectory != null
+            ? Files.createTempDirectory(workDirectory, "apicurio-import_")
+            : Files.createTempDirectory("apicurio-import_");
+        IoUtil.unpackToDisk(entry, zip.readAllBytes(), unpackedDirectory);
+        for (Map.Entry<String, byte[]> data : dataWithoutContent.entrySet()) {
+            IoUtil.unpackToDisk(new ZipEntry(data.getKey() + ".data"), data.getValue(), unpackedDirectory);
+        }
+        dataWithoutContent.clear();
+        // Includes the manifest, which the EntityReader requires
+        unpackToDisk(unpackedDirectory);
+
+        // The content found before, whose data was not, is returned first
+        for (Map.Entry<String, ContentEntity> content : contentWithoutData.entrySet()) {
+            Path dataPath = unpackedDirectory.resolve(content.getKey() + ".data");
+            if (Files.isRegularFile(dataPath)) {
+                content.getValue().contentBytes = Files.readAllBytes(dataPath);
+            }
+        }
+        unpackedReader = new EntityReader(unpackedDirectory);
+    }
+
+    private Entity nextUnpackedEntity() throws IOException {
+        Iterator<ContentEntity> pending = contentWithoutData.values().iterator();
+        if (pending.hasNext()) {
+            ContentEntity content = pending.next();
+            pending.remove();
+            return content;
+        }
+        Entity entity;
+        do {
+            entity = unpackedReader.readNextEntity();
+        } while (entity != null && entity.getEntityType() == EntityType.Manifest);
+        return entity;
+    }
+
+    /**
+     * Deletes the entries unpacked to disk, if any. Does not close the ZIP stream.
+     */
+    @Override
+    public void close() throws IOException {
+        if (unpackedDirectory != null) {
+            FileUtils.deleteDirectory(unpackedDirectory.toFile());
+            unpackedDirectory = null;
+        }
+    }
+
+    private Entity readEntity(EntityType type) throws IOException {
+        switch (type) {
+            case Artifact:
+                return readEntry(ArtifactEntity.class);
+            case ArtifactRule:
+                return readEntry(ArtifactRuleEntity.class);
+            case ArtifactVersion:
+                return readEntry(ArtifactVersionEntity.class);
+            case GlobalRule:
+                return readEntry(GlobalRuleEntity.class);
+            case Group:
+                return readEntry(GroupEntity.class);
+            case GroupRule:
+                return readEntry(GroupRuleEntity.class);
+            case Comment:
+                return readEntry(CommentEntity.class);
+            case Branch:
+                return readEntry(BranchEntity.class);
+            default:
+                throw new IOException("Unhandled entity type: " + type);
+        }
+    }
+
+    private <T> T readEntry(Class<T> theClass) throws IOException {
+        byte[] bytes = zip.readAllBytes();
+        return mapper.readerFor(theClass).readValue(bytes);
+    }
+
+    private EntityType parseEntityType(String path) {
+        String[] split = path.split("\\.");
+        if (split.length > 2) {
+            try {
+                return EntityType.valueOf(split[split.length - 2]);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+}
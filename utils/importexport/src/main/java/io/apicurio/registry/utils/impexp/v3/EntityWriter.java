@@ -8,6 +8,8 @@ import io.apicurio.registry.utils.impexp.EntityType;
 import io.apicurio.registry.utils.impexp.ManifestEntity;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -21,6 +23,7 @@ public class EntityWriter {
     }
 
     private final transient ZipOutputStream zip;
+    private final boolean stored;
 
     /**
      * Constructor.
@@ -28,7 +31,18 @@ public class EntityWriter {
      * @param zip
      */
     public EntityWriter(ZipOutputStream zip) {
+        this(zip, false);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param zip
+     * @param stored if true, the entries are stored in the zip without compression
+     */
+    public EntityWriter(ZipOutputStream zip, boolean stored) {
         this.zip = zip;
+        this.stored = stored;
     }
 
     /**
@@ -38,104 +52,123 @@ public class EntityWriter {
      * @throws IOException
      */
     public void writeEntity(Entity entity) throws IOException {
+        write(serializeEntity(entity));
+    }
+
+    /**
+     * Serializes the given entity into the zip entries that represent it, without writing them to the zip
+     * output stream. Unlike writing, serializing is thread safe, so entities can be serialized in parallel
+     * and then written in order with {@link #write(List)}.
+     * 
+     * @param entity
+     * @throws IOException
+     */
+    public List<SerializedEntry> serializeEntity(Entity entity) throws IOException {
         switch (entity.getEntityType()) {
             case Content:
-                writeEntity((ContentEntity) entity);
-                break;
+                return serialize((ContentEntity) entity);
             case Group:
-                writeEntity((GroupEntity) entity);
-                break;
+                return serialize((GroupEntity) entity);
             case GroupRule:
-                writeEntity((GroupRuleEntity) entity);
-                break;
+                return serialize((GroupRuleEntity) entity);
             case Artifact:
-                writeEntity((ArtifactEntity) entity);
-                break;
+                return serialize((ArtifactEntity) entity);
             case ArtifactVersion:
-                writeEntity((ArtifactVersionEntity) entity);
-                break;
+                return serialize((ArtifactVersionEntity) entity);
             case ArtifactRule:
-                writeEntity((ArtifactRuleEntity) entity);
-                break;
+                return serialize((ArtifactRuleEntity) entity);
             case GlobalRule:
-                writeEntity((GlobalRuleEntity) entity);
-                break;
+                return serialize((GlobalRuleEntity) entity);
             case Comment:
-                writeEntity((CommentEntity) entity);
-                break;
+                return serialize((CommentEntity) entity);
             case Branch:
-                writeEntity((BranchEntity) entity);
-                break;
+                return serialize((BranchEntity) entity);
             case Manifest:
-                writeEntity((ManifestEntity) entity);
-                break;
+                return serialize((ManifestEntity) entity);
             default:
                 throw new RuntimeException("Unhandled entity type: " + entity.getEntityType().name());
         }
     }
 
-    private void writeEntity(ContentEntity entity) throws IOException {
+    /**
+     * Writes previously serialized entries to the zip output stream.
+     * 
+     * @param entries
+     * @throws IOException
+     */
+    public void write(List<SerializedEntry> entries) throws IOException {
+        for (SerializedEntry entry : entries) {
+            ZipEntry zipEntry = new ZipEntry(entry.path());
+            if (stored) {
+                zipEntry.setMethod(ZipEntry.STORED);
+                zipEntry.setSize(entry.data().length);
+                zipEntry.setCompressedSize(entry.data().length);
+                zipEntry.setCrc(entry.crc());
+            }
+            zip.putNextEntry(zipEntry);
+            zip.write(entry.data());
+            zip.closeEntry();
+        }
+    }
+
+    private List<SerializedEntry> serialize(ContentEntity entity) throws IOException {
         ZipEntry mdEntry = createZipEntry(EntityType.Content, entity.contentHash, "json");
         ZipEntry dataEntry = createZipEntry(EntityType.Content, entity.contentHash, "data");
 
-        // Write the meta-data file.
-        write(mdEntry, entity, ContentEntity.class);
-
-        // Write the content file.
-        zip.putNextEntry(dataEntry);
-        zip.write(entity.contentBytes);
-        zip.closeEntry();
+        // The meta-data file, followed by the content file.
+        return List.of(serialize(mdEntry, entity, ContentEntity.class),
+                serializedEntry(dataEntry, entity.contentBytes));
     }
 
-    private void writeEntity(ManifestEntity entity) throws IOException {
+    private List<SerializedEntry> serialize(ManifestEntity entity) throws IOException {
         ZipEntry mdEntry = createZipEntry(EntityType.Manifest,
                 "manifest-" + entity.exportedOn.toInstant().toString(), "json");
-        write(mdEntry, entity, ManifestEntity.class);
+        return List.of(serialize(mdEntry, entity, ManifestEntity.class));
     }
 
-    private void writeEntity(GroupEntity entity) throws IOException {
+    private List<SerializedEntry> serialize(GroupEntity entity) throws IOException {
         ZipEntry mdEntry = createZipEntry(EntityType.Group, entity.groupId, "json");
-        write(mdEntry, entity, GroupEntity.class);
+        return List.of(serialize(mdEntry, entity, GroupEntity.class));
     }
 
-    private void writeEntity(GroupRuleEntity entity) throws IOException {
+    private List<SerializedEntry> serialize(GroupRuleEntity entity) throws IOException {
         ZipEntry mdEntry = createZipEntry(EntityType.GroupRule, entity.groupId, entity.type.name(), "json");
-        write(mdEntry, entity, GroupRuleEntity.class);
+        return List.of(serialize(mdEntry, entity, GroupRuleEntity.class));
     }
 
-    private void writeEntity(ArtifactEntity entity) throws IOException {
+    private List<SerializedEntry> serialize(ArtifactEntity entity) throws IOException {
         ZipEntry mdEntry = createZipEntry(EntityType.Artifact, entity.groupId, entity.artifactId, "MetaData",
                 "json");
-        write(mdEntry, entity, ArtifactEntity.class);
+        return List.of(serialize(mdEntry, entity, ArtifactEntity.class));
     }
 
-    private void writeEntity(ArtifactVersionEntity entity) throws IOException {
+    private List<SerializedEntry> serialize(ArtifactVersionEntity entity) throws IOException {
         ZipEntry mdEntry = createZipEntry(EntityType.ArtifactVersion, entity.groupId, entity.artifactId,
                 entity.version, "json");
-        write(mdEntry, entity, ArtifactVersionEntity.class);
+        return List.of(serialize(mdEntry, entity, ArtifactVersionEntity.class));
     }
 
-    private void writeEntity(ArtifactRuleEntity entity) throws IOException {
+    private List<SerializedEntry> serialize(ArtifactRuleEntity entity) throws IOException {
         ZipEntry mdEntry = createZipEntry(EntityType.ArtifactRule, entity.groupId, entity.artifactId,
                 entity.type.name(), "json");
-        write(mdEntry, entity, ArtifactRuleEntity.class);
+        return List.of(serialize(mdEntry, entity, ArtifactRuleEntity.class));
     }
 
-    private void writeEntity(GlobalRuleEntity entity) throws IOException {
+    private List<SerializedEntry> serialize(GlobalRuleEntity entity) throws IOException {
         ZipEntry mdEntry = createZipEntry(EntityType.GlobalRule, entity.ruleType.name(), "json");
-        write(mdEntry, entity, GlobalRuleEntity.class);
+        return List.of(serialize(mdEntry, entity, GlobalRuleEntity.class));
     }
 
-    private void writeEntity(CommentEntity entity) throws IOException {
+    private List<SerializedEntry> serialize(CommentEntity entity) throws IOException {
         ZipEntry mdEntry = createZipEntry(EntityType.Comment, entity.globalId + '-' + entity.commentId,
                 "json");
-        write(mdEntry, entity, CommentEntity.class);
+        return List.of(serialize(mdEntry, entity, CommentEntity.class));
     }
 
-    private void writeEntity(BranchEntity entity) throws IOException {
+    private List<SerializedEntry> serialize(BranchEntity entity) throws IOException {
         ZipEntry mdEntry = createZipEntry(EntityType.Branch, entity.groupId, entity.artifactId,
                 entity.branchId, "json");
-        write(mdEntry, entity, BranchEntity.class);
+        return List.of(serialize(mdEntry, entity, BranchEntity.class));
     }
 
     private ZipEntry createZipEntry(EntityType type, String fileName, String fileExt) {
@@ -196,10 +229,30 @@ public class EntityWriter {
         return groupId == null ? "default" : groupId;
     }
 
-    private void write(ZipEntry entry, Entity entity, Class<?> entityClass) throws IOException {
-        zip.putNextEntry(entry);
-        mapper.writerFor(entityClass).writeValue(zip, entity);
-        zip.closeEntry();
+    private SerializedEntry serialize(ZipEntry entry, Entity entity, Class<?> entityClass)
+            throws IOException {
+        return serializedEntry(entry, mapper.writerFor(entityClass).writeValueAsBytes(entity));
+    }
+
+    private SerializedEntry serializedEntry(ZipEntry entry, byte[] data) {
+        long crc = 0;
+        if (stored) {
+            CRC32 crc32 = new CRC32();
+            crc32.update(data);
+            crc = crc32.getValue();
+        }
+        return new SerializedEntry(entry.getName(), data, crc);
+    }
+
+    /**
+     * A zip entry serialized by {@link #serializeEntity(Entity)}, ready to be written to the zip output
+     * stream.
+     *
+     * @param path the path of the entry in the zip
+     * @param data the (uncompressed) data of the entry
+     * @param crc the CRC-32 checksum of the data, only computed when entries are stored uncompressed
+     */
+    public record SerializedEntry(String path, byte[] data, long crc) {
     }
 
 }
@@ -0,0 +1,62 @@
+package io.apicurio.registry.utils.impexp;
+
+import io.apicurio.registry.utils.impexp.v3.ContentEntity;
+import io.apicurio.registry.utils.impexp.v3.EntityWriter;
+import io.apicurio.registry.utils.impexp.v3.EntityWriter.SerializedEntry;
+import io.apicurio.registry.utils.impexp.v3.GroupEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+public class EntityWriterTest {
+
+    @Test
+    void testStoredEntriesSerializedInParallel() throws Exception {
+        ContentEntity content = new ContentEntity();
+        content.contentId = 1;
+        content.contentHash = "hash-1";
+        content.contentType = "application/json";
+        content.contentBytes = "{\"type\":\"string\"}".getBytes(StandardCharsets.UTF_8);
+        GroupEntity group = new GroupEntity();
+        group.groupId = "g";
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            EntityWriter writer = new EntityWriter(zip, true);
+            List<List<SerializedEntry>> serialized = List.of(content, group).parallelStream()
+                    .map(entity -> {
+                        try {
+                            return writer.serializeEntity(entity);
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    }).toList();
+            for (List<SerializedEntry> entries : serialized) {
+                writer.write(entries);
+            }
+        }
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()),
+                StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                Assertions.assertEquals(ZipEntry.STORED, entry.getMethod());
+                names.add(entry.getName());
+                if (entry.getName().endsWith(".data")) {
+                    Assertions.assertArrayEquals(content.contentBytes, zip.readAllBytes());
+                }
+            }
+        }
+        Assertions.assertEquals(List.of("content/hash-1.Content.json", "content/hash-1.Content.data",
+                "groups/g.Group.json"), names);
+    }
+}
@@ -0,0 +1,186 @@
+package io.apicurio.registry.utils.impexp;
+
+import io.apicurio.registry.utils.impexp.v3.ArtifactEntity;
+import io.apicurio.registry.utils.impexp.v3.ArtifactVersionEntity;
+import io.apicurio.registry.utils.impexp.v3.ContentEntity;
+import io.apicurio.registry.utils.impexp.v3.EntityWriter;
+import io.apicurio.registry.utils.impexp.v3.GroupEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+public class ZipEntityReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReadInExportOrder() throws Exception {
+        byte[] zip = export(manifest(), content(1, "{\"type\":\"string\"}"), content(2, "{\"type\":\"int\"}"),
+                group("g"), artifact("g", "a"), version("g", "a", 10, 1), version("g", "a", 11, 2));
+
+        ZipEntityReader reader = reader(zip);
+        ManifestEntity manifest = reader.readManifest();
+        Assertions.assertNotNull(manifest);
+        Assertions.assertTrue(manifest.exportVersion.startsWith("3"));
+
+        List<Entity> entities = readAll(reader);
+        Assertions.assertEquals(List.of(EntityType.Content, EntityType.Content, EntityType.Group,
+                EntityType.Artifact, EntityType.ArtifactVersion, EntityType.ArtifactVersion),
+                entities.stream().map(Entity::getEntityType).toList());
+
+        ContentEntity content = (ContentEntity) entities.get(1);
+        Assertions.assertEquals(2, content.contentId);
+        Assertions.assertEquals("{\"type\":\"int\"}", new String(content.contentBytes, StandardCharsets.UTF_8));
+        Assertions.assertEquals(11, ((ArtifactVersionEntity) entities.get(5)).globalId);
+    }
+
+    @Test
+    void testContentDataNotNextToMetaData() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            new EntityWriter(zip).writeEntity(manifest());
+            writeEntry(zip, "content/h1.Content.data", "data-1");
+            writeEntry(zip, "content/h1.Content.json", "{\"contentId\":1,\"contentHash\":\"h1\"}");
+            writeEntry(zip, "content/h2.Content.json", "{\"contentId\":2,\"contentHash\":\"h2\"}");
+            writeEntry(zip, "content/h3.Content.json", "{\"contentId\":3,\"contentHash\":\"h3\"}");
+            writeEntry(zip, "content/h3.Content.data", "data-3");
+            writeEntry(zip, "content/h2.Content.data", "data-2");
+        }
+
+        ZipEntityReader reader = reader(out.toByteArray());
+        Assertions.assertNotNull(reader.readManifest());
+        List<Entity> entities = readAll(reader);
+        Assertions.assertEquals(3, entities.size());
+        for (Entity entity : entities) {
+            ContentEntity content = (ContentEntity) entity;
+            Assertions.assertEquals("data-" + content.contentId,
+                    new String(content.contentBytes, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testOutOfOrderEntriesAreReadFromDisk() throws Exception {
+        byte[] zip = export(manifest(), group("g"), artifact("g", "a"), version("g", "a", 10, 1),
+                content(1, "{\"type\":\"string\"}"), version("g", "a", 11, 2),
+                content(2, "{\"type\":\"int\"}"));
+
+        List<Entity> entities;
+        try (ZipEntityReader reader = new ZipEntityReader(
+                new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8), tempDir)) {
+            Assertions.assertNotNull(reader.readManifest());
+            entities = readAll(reader);
+            // The rest of the file, from the first entry out of order, has been unpacked
+            Assertions.assertEquals(1, tempDir.toFile().list().length);
+        }
+        Assertions.assertEquals(0, tempDir.toFile().list().length);
+
+        // The rest of the file is read in dependency order
+        Assertions.assertEquals(List.of(EntityType.Group, EntityType.Artifact, EntityType.ArtifactVersion,
+                EntityType.Content, EntityType.Content, EntityType.ArtifactVersion),
+                entities.stream().map(Entity::getEntityType).toList());
+        Assertions.assertEquals(Set.of("{\"type\":\"string\"}", "{\"type\":\"int\"}"),
+                entities.subList(3, 5).stream().map(entity -> ((ContentEntity) entity).contentBytes)
+                        .map(bytes -> new String(bytes, StandardCharsets.UTF_8)).collect(Collectors.toSet()));
+        Assertions.assertEquals(11, ((ArtifactVersionEntity) entities.get(5)).globalId);
+    }
+
+    @Test
+    void testUnpackToDiskWhenManifestIsNotFirst() throws Exception {
+        byte[] zip = export(content(1, "{}"), group("g"), manifest());
+
+        ZipEntityReader reader = reader(zip);
+        Assertions.assertNull(reader.readManifest());
+        reader.unpackToDisk(tempDir);
+
+        Assertions.assertTrue(Files.exists(tempDir.resolve("content/hash-1.Content.json")));
+        Assertions.assertTrue(Files.exists(tempDir.resolve("content/hash-1.Content.data")));
+        Assertions.assertTrue(Files.exists(tempDir.resolve("groups/g.Group.json")));
+
+        EntityReader entityReader = new EntityReader(tempDir);
+        Assertions.assertEquals(EntityType.Manifest, entityReader.readNextEntity().getEntityType());
+    }
+
+    private static ZipEntityReader reader(byte[] zip) {
+        return new ZipEntityReader(new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8));
+    }
+
+    private static List<Entity> readAll(ZipEntityReader reader) throws IOException {
+        List<Entity> entities = new ArrayList<>();
+        Entity entity;
+        while ((entity = reader.nextEntity()) != null) {
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private static byte[] export(Entity... entities) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            EntityWriter writer = new EntityWriter(zip);
+            for (Entity entity : entities) {
+                writer.writeEntity(entity);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeEntry(ZipOutputStream zip, String name, String data) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(data.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private static ManifestEntity manifest() {
+        ManifestEntity manifest = new ManifestEntity();
+        manifest.systemVersion = "3.0.0";
+        return manifest;
+    }
+
+    private static ContentEntity content(long contentId, String data) {
+        ContentEntity content = new ContentEntity();
+        content.contentId = contentId;
+        content.contentHash = "hash-" + contentId;
+        content.contentType = "application/json";
+        content.contentBytes = data.getBytes(StandardCharsets.UTF_8);
+        return content;
+    }
+
+    private static GroupEntity group(String groupId) {
+        GroupEntity group = new GroupEntity();
+        group.groupId = groupId;
+        return group;
+    }
+
+    private static ArtifactEntity artifact(String groupId, String artifactId) {
+        ArtifactEntity artifact = new ArtifactEntity();
+        artifact.groupId = groupId;
+        artifact.artifactId = artifactId;
+        return artifact;
+    }
+
+    private static ArtifactVersionEntity version(String groupId, String artifactId, long globalId,
+            long contentId) {
+        ArtifactVersionEntity version = new ArtifactVersionEntity();
+        version.groupId = groupId;
+        version.artifactId = artifactId;
+        version.version = String.valueOf(globalId);
+        version.globalId = globalId;
+        version.contentId = contentId;
+        return version;
+    }
+}
@@ -7,6 +7,7 @@ import io.apicurio.registry.content.TypedContent;
 import io.apicurio.registry.content.refs.ExternalReference;
 import io.apicurio.registry.content.refs.ReferenceFinder;
 import io.apicurio.registry.maven.refs.IndexedResource;
+import io.apicurio.registry.maven.refs.ParsedFileCache;
 import io.apicurio.registry.maven.refs.ReferenceIndex;
 import io.apicurio.registry.rest.client.RegistryClient;
 import io.apicurio.registry.rest.client.models.*;
@@ -23,11 +24,15 @@ import org.apache.maven.plugins.annotations.Parameter;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -61,7 +66,36 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
     @Parameter(property = "dryRun", defaultValue = "false")
     boolean dryRun;
 
-    private RegisterArtifact.AvroAutoRefsNamingStrategy avroAutoRefsNamingStrategy;
+    /**
+     * Maximum number of artifacts registered concurrently. Artifacts are only registered concurrently if
+     * they do not reference each other, an artifact is always registered after the artifacts it references.
+     */
+    @Parameter(property = "registerParallelism", defaultValue = "4")
+    int parallelism;
+
+    /**
+     * Set this to 'true' to skip registering artifacts that have not changed since they were registered by a
+     * previous build. The registrations are recorded in the registration manifest. Note that the registry is
+     * not checked, so the manifest must be deleted (e.g. by 'mvn clean') if the registry has been reset.
+     */
+    @Parameter(property = "skipUnchanged", defaultValue = "false")
+    boolean skipUnchanged;
+
+    /**
+     * The file where the registrations are recorded when 'skipUnchanged' is enabled.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/apicurio-registry/${mojoExecution.executionId}-registrations.json")
+    File registrationManifest;
+
+    /**
+     * Start of the build, registrations are shared by all the executions of the same build.
+     */
+    @Parameter(defaultValue = "${session.request.startTime}", readonly = true)
+    Date buildStartTime;
+
+    private RegistrationCache registrationCache;
+
+    private ParsedFileCache parsedFileCache;
 
     DefaultArtifactTypeUtilProviderImpl utilProviderFactory = new DefaultArtifactTypeUtilProviderImpl(true);
 
@@ -125,36 +159,54 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
         if (validate()) {
             Vertx vertx = createVertx();
             RegistryClient registryClient = createClient(vertx);
-
-            for (RegisterArtifact artifact : artifacts) {
-                String groupId = artifact.getGroupId();
-                String artifactId = artifact.getArtifactId();
-                try {
-                    if (artifact.getAutoRefs() != null && artifact.getAutoRefs()) {
-                        // If we have references, then we'll need to create the local resource index and then
-                        // process all refs.
-                        ReferenceIndex index = createIndex(artifact);
-                        addExistingReferencesToIndex(registryClient, index, existingReferences);
-                        addExistingReferencesToIndex(registryClient, index, artifact.getExistingReferences());
-                        Stack<RegisterArtifact> registrationStack = new Stack<>();
-
-                        this.avroAutoRefsNamingStrategy = artifact.getAvroAutoRefsNamingStrategy();
-                        registerWithAutoRefs(registryClient, artifact, index, registrationStack);
-                    } else {
-                        List<ArtifactReference> references = new ArrayList<>();
-                        // First, we check if the artifact being processed has references defined
-                        if (hasReferences(artifact)) {
-                            references = processArtifactReferences(registryClient, artifact.getReferences());
+            registrationCache = new RegistrationCache(
+                    buildStartTime != null ? String.valueOf(buildStartTime.getTime()) : null,
+                    skipUnchanged && !dryRun ? registrationManifest : null, getLog());
+            parsedFileCache = new ParsedFileCache();
+            RegistrationNode.Registrar registrar = (artifact, references) -> registerArtifact(registryClient,
+                    artifact, references);
+
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+            try {
+                Map<RegisterArtifact, CompletableFuture<VersionMetaData>> registrations = new LinkedHashMap<>();
+                // Artifacts declared several times are registered in the order of their declarations
+                Map<String, CompletableFuture<VersionMetaData>> lastRegistrations = new HashMap<>();
+                for (RegisterArtifact artifact : artifacts) {
+                    try {
+                        if (hasExistingReferences(artifact)) {
+                            // Existing references may refer to artifacts registered earlier by this execution
+                            awaitAll(registrations.values());
                         }
-                        registerArtifact(registryClient, artifact, references);
+                        RegistrationNode node = plan(registryClient, artifact);
+                        String ga = artifact.getGroupId() + "/" + artifact.getArtifactId();
+                        CompletableFuture<VersionMetaData> previous = lastRegistrations.get(ga);
+                        if (previous != null) {
+                            node.runAfter(previous);
+                        }
+                        CompletableFuture<VersionMetaData> registration = node.schedule(executor, registrar);
+                        registrations.put(artifact, registration);
+                        lastRegistrations.put(ga, registration);
+                    } catch (Exception e) {
+                        registrations.put(artifact, CompletableFuture.failedFuture(e));
                     }
-                } catch (Exception e) {
-                    errorCount++;
-                    getLog().error(String.format("Exception while registering artifact [%s] / [%s]", groupId,
-                            artifactId), e);
                 }
 
+                for (Map.Entry<RegisterArtifact, CompletableFuture<VersionMetaData>> registration : registrations
+                        .entrySet()) {
+                    try {
+                        registration.getValue().join();
+                    } catch (CompletionException | CancellationException e) {
+                        errorCount++;
+                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                        getLog().error(String.format("Exception while registering artifact [%s] / [%s]",
+                                registration.getKey().getGroupId(), registration.getKey().getArtifactId()),
+                                cause);
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
             }
+            registrationCache.save();
 
             if (errorCount > 0) {
                 throw new MojoExecutionException("Errors while registering artifacts ...");
@@ -162,9 +214,57 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
         }
     }
 
-    private VersionMetaData registerWithAutoRefs(RegistryClient registryClient, RegisterArtifact artifact,
-                                                 ReferenceIndex index, Stack<RegisterArtifact> registrationStack) throws IOException,
-            ExecutionException, InterruptedException, MojoExecutionException, MojoFailureException {
+    private boolean hasExistingReferences(RegisterArtifact artifact) {
+        return Boolean.TRUE.equals(artifact.getAutoRefs()) && (!existingReferences.isEmpty()
+                || (artifact.getExistingReferences() != null && !artifact.getExistingReferences().isEmpty()));
+    }
+
+    private static void awaitAll(Collection<CompletableFuture<VersionMetaData>> registrations) {
+        for (CompletableFuture<VersionMetaData> registration : registrations) {
+            try {
+                registration.join();
+            } catch (CompletionException | CancellationException e) {
+                // Reported once all the artifacts have been processed
+            }
+        }
+    }
+
+    /**
+     * Builds the graph of the artifact and the artifacts it references, which have to be registered first.
+     */
+    private RegistrationNode plan(RegistryClient registryClient, RegisterArtifact artifact)
+            throws ExecutionException, InterruptedException, MojoExecutionException {
+        if (artifact.getAutoRefs() != null && artifact.getAutoRefs()) {
+            // If we have references, then we'll need to create the local resource index and then
+            // process all refs.
+            ReferenceIndex index = createIndex(artifact);
+            addExistingReferencesToIndex(registryClient, index, existingReferences);
+            addExistingReferencesToIndex(registryClient, index, artifact.getExistingReferences());
+            Stack<RegisterArtifact> registrationStack = new Stack<>();
+
+            return planWithAutoRefs(artifact, index, registrationStack, new IdentityHashMap<>(),
+                    artifact.getAvroAutoRefsNamingStrategy());
+        } else {
+            return planWithReferences(artifact);
+        }
+    }
+
+    private RegistrationNode planWithReferences(RegisterArtifact artifact) {
+        RegistrationNode node = new RegistrationNode(artifact, false);
+        // First, we check if the artifact being processed has references defined, they are registered first
+        if (hasReferences(artifact)) {
+            for (RegisterArtifactReference reference : artifact.getReferences()) {
+                node.addReference(reference.getName(), planWithReferences(reference));
+            }
+        }
+        return node;
+    }
+
+    private RegistrationNode planWithAutoRefs(RegisterArtifact artifact, ReferenceIndex index,
+                                              Stack<RegisterArtifact> registrationStack,
+                                              Map<IndexedResource, RegistrationNode> planned,
+                                              RegisterArtifact.AvroAutoRefsNamingStrategy avroAutoRefsNamingStrategy)
+            throws MojoExecutionException {
         if (loopDetected(artifact, registrationStack)) {
             throw new MojoExecutionException(
                     "Artifact reference loop detected (not supported): " + printLoop(registrationStack));
@@ -172,27 +272,27 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
         registrationStack.push(artifact);
 
         // Read the artifact content.
+        Path artifactPath = artifact.getFile().toPath();
         ContentHandle artifactContent = readContent(artifact.getFile());
         String artifactContentType = getContentTypeByExtension(artifact.getFile().getName());
         // Set the content type on the artifact if not already explicitly set by the user
         if (artifact.getContentType() == null) {
             artifact.setContentType(artifactContentType);
         }
-        TypedContent typedArtifactContent = TypedContent.create(artifactContent, artifactContentType);
 
         // Find all references in the content
         ArtifactTypeUtilProvider provider = this.utilProviderFactory
                 .getArtifactTypeProvider(artifact.getArtifactType());
         ReferenceFinder referenceFinder = provider.getReferenceFinder();
         var referenceArtifactIdentifierExtractor = provider.getReferenceArtifactIdentifierExtractor();
-        Set<ExternalReference> externalReferences = referenceFinder
-                .findExternalReferences(typedArtifactContent);
+        Set<ExternalReference> externalReferences = parsedFileCache.get(artifactPath, artifactContent,
+                "references:" + artifact.getArtifactType() + ":" + artifactContentType,
+                content -> referenceFinder.findExternalReferences(TypedContent.create(content, artifactContentType)));
 
-        // Register all the references first, then register the artifact.
-        List<ArtifactReference> registeredReferences = new ArrayList<>(externalReferences.size());
+        // The references are registered first, then the artifact.
+        RegistrationNode node = new RegistrationNode(artifact, true);
         for (ExternalReference externalRef : externalReferences) {
-            IndexedResource iresource = index.lookup(externalRef.getResource(),
-                    Paths.get(artifact.getFile().toURI()));
+            IndexedResource iresource = index.lookup(externalRef.getResource(), Paths.get(artifact.getFile().toURI()));
 
             // TODO: need a way to resolve references that are not local (already registered in the registry)
             if (iresource == null) {
@@ -200,8 +300,14 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
                         + artifact.getFile().getName() + "  To: " + externalRef.getFullReference());
             }
 
-            // If the resource isn't already registered, then register it now.
-            if (!iresource.isRegistered()) {
+            if (iresource.isRegistered()) {
+                node.addReference(externalRef.getFullReference(), iresource.getRegistration());
+                continue;
+            }
+
+            // If the resource isn't already going to be registered, then plan its registration now.
+            RegistrationNode refNode = planned.get(iresource);
+            if (refNode == null) {
                 String groupId = artifact.getGroupId(); // default is same group as root artifact
                 // TODO: determine the artifactId better (type-specific logic here?)
                 String artifactId = referenceArtifactIdentifierExtractor.extractArtifactId(externalRef.getResource());
@@ -221,32 +327,21 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
                 refArtifact.setVersion(null);
                 refArtifact.setFile(localFile);
                 refArtifact.setContentType(getContentTypeByExtension(localFile.getName()));
-                try {
-                    var car = registerWithAutoRefs(registryClient, refArtifact, index, registrationStack);
-                    iresource.setRegistration(car);
-                } catch (IOException | ExecutionException | InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
+                refNode = planWithAutoRefs(refArtifact, index, registrationStack, planned,
+                        avroAutoRefsNamingStrategy);
+                planned.put(iresource, refNode);
             }
-
-            var reference = new ArtifactReference();
-            reference.setName(externalRef.getFullReference());
-            reference.setVersion(iresource.getRegistration().getVersion());
-            reference.setGroupId(iresource.getRegistration().getGroupId());
-            reference.setArtifactId(iresource.getRegistration().getArtifactId());
-            registeredReferences.add(reference);
+            node.addReference(externalRef.getFullReference(), refNode);
         }
-        registeredReferences.sort((ref1, ref2) -> ref1.getName().compareTo(ref2.getName()));
 
         registrationStack.pop();
-        return registerArtifact(registryClient, artifact, registeredReferences);
+        return node;
     }
 
     private VersionMetaData registerArtifact(RegistryClient registryClient, RegisterArtifact artifact,
-                                             List<ArtifactReference> references) throws FileNotFoundException, ExecutionException,
-            InterruptedException, MojoExecutionException, MojoFailureException {
+                                             List<ArtifactReference> references) throws Exception {
         if (artifact.getFile() != null) {
-            return registerArtifact(registryClient, artifact, new FileInputStream(artifact.getFile()),
+            return registerArtifact(registryClient, artifact, readContent(artifact.getFile()).stream(),
                     references);
         } else {
             return getArtifactVersionMetadata(registryClient, artifact);
@@ -269,27 +364,42 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
 
     private VersionMetaData registerArtifact(RegistryClient registryClient, RegisterArtifact artifact,
                                              InputStream artifactContent, List<ArtifactReference> references)
-            throws ExecutionException, InterruptedException, MojoFailureException, MojoExecutionException {
-        String groupId = artifact.getGroupId();
-        String artifactId = artifact.getArtifactId();
-        String version = artifact.getVersion();
-        String type = artifact.getArtifactType();
-        Boolean canonicalize = artifact.getCanonicalize();
-        Boolean isDraft = artifact.getIsDraft();
+            throws Exception {
         String ct = artifact.getContentType() == null ? ContentTypes.APPLICATION_JSON
                 : artifact.getContentType();
-        String data = null;
+        String data = readData(artifact, artifactContent);
+
+        if (dryRun) {
+            return createArtifact(registryClient, artifact, ct, data, references);
+        }
+        String key = RegistrationCache.key(registryUrl, artifact, ct, data, references);
+        return registrationCache.register(key,
+                () -> createArtifact(registryClient, artifact, ct, data, references));
+    }
+
+    private static String readData(RegisterArtifact artifact, InputStream artifactContent) {
         try {
             if (artifact.getMinify() != null && artifact.getMinify()) {
                 ObjectMapper objectMapper = new ObjectMapper();
                 JsonNode jsonNode = objectMapper.readValue(artifactContent, JsonNode.class);
-                data = jsonNode.toString();
+                return jsonNode.toString();
             } else {
-                data = new String(artifactContent.readAllBytes(), StandardCharsets.UTF_8);
+                return new String(artifactContent.readAllBytes(), StandardCharsets.UTF_8);
             }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+    }
+
+    private VersionMetaData createArtifact(RegistryClient registryClient, RegisterArtifact artifact, String ct,
+                                           String data, List<ArtifactReference> references)
+            throws MojoFailureException, MojoExecutionException {
+        String groupId = artifact.getGroupId();
+        String artifactId = artifact.getArtifactId();
+        String version = artifact.getVersion();
+        String type = artifact.getArtifactType();
+        Boolean canonicalize = artifact.getCanonicalize();
+        Boolean isDraft = artifact.getIsDraft();
 
         CreateArtifact createArtifact = new CreateArtifact();
         createArtifact.setArtifactId(artifactId);
@@ -359,24 +469,6 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
         return artifact.getReferences() != null && !artifact.getReferences().isEmpty();
     }
 
-    private List<ArtifactReference> processArtifactReferences(RegistryClient registryClient,
-                                                              List<RegisterArtifactReference> referencedArtifacts) throws FileNotFoundException,
-            ExecutionException, InterruptedException, MojoExecutionException, MojoFailureException {
-        List<ArtifactReference> references = new ArrayList<>();
-        for (RegisterArtifactReference artifact : referencedArtifacts) {
-            List<ArtifactReference> nestedReferences = new ArrayList<>();
-            // First, we check if the artifact being processed has references defined, and register them if
-            // needed
-            if (hasReferences(artifact)) {
-                nestedReferences = processArtifactReferences(registryClient, artifact.getReferences());
-            }
-            final VersionMetaData artifactMetaData = registerArtifact(registryClient, artifact,
-                    nestedReferences);
-            references.add(buildReferenceFromMetadata(artifactMetaData, artifact.getName()));
-        }
-        return references;
-    }
-
     public void setArtifacts(List<RegisterArtifact> artifacts) {
         this.artifacts = artifacts;
     }
@@ -385,14 +477,16 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
         this.skip = skip;
     }
 
-    private static ArtifactReference buildReferenceFromMetadata(VersionMetaData metaData,
-                                                                String referenceName) {
-        ArtifactReference reference = new ArtifactReference();
-        reference.setName(referenceName);
-        reference.setArtifactId(metaData.getArtifactId());
-        reference.setGroupId(metaData.getGroupId());
-        reference.setVersion(metaData.getVersion());
-        return reference;
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public void setSkipUnchanged(boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+    }
+
+    public void setRegistrationManifest(File registrationManifest) {
+        this.registrationManifest = registrationManifest;
     }
 
     private static boolean isFileAllowedInIndex(File file) {
@@ -414,9 +508,9 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
      *
      * @param artifact
      */
-    private static ReferenceIndex createIndex(RegisterArtifact artifact) {
+    private ReferenceIndex createIndex(RegisterArtifact artifact) {
         File file = artifact.getFile();
-        ReferenceIndex index = new ReferenceIndex(file.getParentFile().toPath());
+        ReferenceIndex index = new ReferenceIndex(file.getParentFile().toPath(), parsedFileCache);
         if (artifact.getProtoPaths() != null) {
             artifact.getProtoPaths().forEach(path -> index.addSchemaPath(path.toPath()));
         }
@@ -432,7 +526,7 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
         for (File root : roots) {
             allFiles.addAll(FileUtils.listFiles(root, null, true));
             allFiles.stream().filter(RegisterRegistryMojo::isFileAllowedInIndex).forEach(f -> {
-                index.index(f.toPath(), readContent(f));
+                index.index(f.toPath());
             });
         }
 
@@ -460,11 +554,7 @@ public class RegisterRegistryMojo extends AbstractRegistryMojo {
     }
 
     protected static ContentHandle readContent(File file) {
-        try {
-            return ContentHandle.create(Files.readAllBytes(file.toPath()));
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to read schema file: " + file, e);
-        }
+        return ParsedFileCache.read(file.toPath());
     }
 
     protected static RegisterArtifact buildFromRoot(RegisterArtifact rootArtifact, String artifactId, String groupId) {
@@ -0,0 +1,166 @@
+package io.apicurio.registry.maven;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.rest.client.models.ArtifactReference;
+import io.apicurio.registry.rest.client.models.VersionMetaData;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the artifacts that have been registered, so that registering the same content again (e.g. a
+ * common reference of many artifacts) does not require another call to the registry.
+ * <p>
+ * Registrations are remembered for the whole reactor build, since Maven keeps the plugin class loader for
+ * the whole build (and possibly longer, e.g. in a build daemon, so they are keyed by the build). They can also
+ * be saved to a local manifest file, so that artifacts that have not changed
+ * since the last build are not registered again.
+ */
+class RegistrationCache {
+
+    /**
+     * An entry of the manifest file.
+     */
+    record ManifestEntry(String groupId, String artifactId, String version, Long globalId, Long contentId) {
+
+        static ManifestEntry of(VersionMetaData vmd) {
+            return new ManifestEntry(vmd.getGroupId(), vmd.getArtifactId(), vmd.getVersion(), vmd.getGlobalId(),
+                    vmd.getContentId());
+        }
+
+        VersionMetaData toVersionMetaData() {
+            VersionMetaData vmd = new VersionMetaData();
+            vmd.setGroupId(groupId);
+            vmd.setArtifactId(artifactId);
+            vmd.setVersion(version);
+            vmd.setGlobalId(globalId);
+            vmd.setContentId(contentId);
+            return vmd;
+        }
+    }
+
+    private static final Map<String, CompletableFuture<VersionMetaData>> BUILD_REGISTRATIONS = new ConcurrentHashMap<>();
+    private static String currentBuildId;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final String buildId;
+    private final File manifestFile;
+    private final Log log;
+    private final Map<String, ManifestEntry> previousManifest = new ConcurrentHashMap<>();
+    private final Map<String, ManifestEntry> manifest = new ConcurrentHashMap<>();
+
+    /**
+     * @param buildId identifies the build, or null to not share registrations with other executions
+     * @param manifestFile the manifest file, or null to not skip artifacts registered by a previous build
+     */
+    RegistrationCache(String buildId, File manifestFile, Log log) {
+        this.buildId = buildId;
+        this.manifestFile = manifestFile;
+        synchronized (BUILD_REGISTRATIONS) {
+            if (buildId != null && !buildId.equals(currentBuildId)) {
+                BUILD_REGISTRATIONS.clear();
+                currentBuildId = buildId;
+            }
+        }
+        this.log = log;
+        if (manifestFile != null && manifestFile.isFile()) {
+            try {
+                previousManifest.putAll(mapper.readValue(manifestFile, new TypeReference<Map<String, ManifestEntry>>() {
+                }));
+            } catch (IOException e) {
+                log.warn("Could not read the registration manifest " + manifestFile + ", registering all artifacts: "
+                        + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Computes the key of a registration, which covers everything that is sent to the registry.
+     */
+    static String key(String registryUrl, RegisterArtifact artifact, String contentType, String data,
+                      List<ArtifactReference> references) {
+        StringBuilder sb = new StringBuilder()
+                .append(registryUrl).append('\n')
+                .append(artifact.getGroupId()).append('\n')
+                .append(artifact.getArtifactId()).append('\n')
+                .append(artifact.getVersion()).append('\n')
+                .append(artifact.getArtifactType()).append('\n')
+                .append(contentType).append('\n')
+                .append(artifact.getCanonicalize()).append('\n')
+                .append(artifact.getIsDraft()).append('\n')
+                .append(artifact.getIfExists()).append('\n');
+        for (ArtifactReference ref : references) {
+            sb.append(ref.getName()).append('=').append(ref.getGroupId()).append(':').append(ref.getArtifactId())
+                    .append(':').append(ref.getVersion()).append('\n');
+        }
+        sb.append(data);
+        return ContentHandle.create(sb.toString()).getSha256Hash();
+    }
+
+    /**
+     * Returns the registration of an artifact with the given key, registering it if it has not been
+     * registered by a previous build (according to the manifest) or earlier in this build.
+     */
+    VersionMetaData register(String key, Callable<VersionMetaData> registration) throws Exception {
+        ManifestEntry previous = previousManifest.get(key);
+        if (previous != null) {
+            manifest.put(key, previous);
+            log.info(String.format("Artifact [%s] / [%s] has not changed since it was registered.  GlobalId is [%d]",
+                    previous.groupId(), previous.artifactId(), previous.globalId()));
+            return previous.toVersionMetaData();
+        }
+
+        if (buildId == null) {
+            VersionMetaData vmd = registration.call();
+            manifest.put(key, ManifestEntry.of(vmd));
+            return vmd;
+        }
+
+        String buildKey = buildId + ":" + key;
+        CompletableFuture<VersionMetaData> future = new CompletableFuture<>();
+        CompletableFuture<VersionMetaData> existing = BUILD_REGISTRATIONS.putIfAbsent(buildKey, future);
+        if (existing != null) {
+            // Registered, or being registered by another thread
+            VersionMetaData vmd = existing.join();
+            manifest.put(key, ManifestEntry.of(vmd));
+            return vmd;
+        }
+        try {
+            VersionMetaData vmd = registration.call();
+            future.complete(vmd);
+            manifest.put(key, ManifestEntry.of(vmd));
+            return vmd;
+        } catch (Exception e) {
+            BUILD_REGISTRATIONS.remove(buildKey, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Saves the registrations of this execution to the manifest file, if there is one.
+     */
+    void save() {
+        if (manifestFile == null) {
+            return;
+        }
+        try {
+            if (manifestFile.getParentFile() != null) {
+                manifestFile.getParentFile().mkdirs();
+            }
+            mapper.writerWithDefaultPrettyPrinter().writeValue(manifestFile, new TreeMap<>(manifest));
+        } catch (IOException e) {
+            log.warn("Could not write the registration manifest " + manifestFile + ": " + e.getMessage());
+        }
+    }
+}
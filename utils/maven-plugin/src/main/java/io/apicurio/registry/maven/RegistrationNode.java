@@ -0,0 +1,114 @@
+package io.apicurio.registry.maven;
+
+import io.apicurio.registry.rest.client.models.ArtifactReference;
+import io.apicurio.registry.rest.client.models.VersionMetaData;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * An artifact to register, in the graph of artifacts and the artifacts they reference. The graph is built
+ * before anything is registered, so that artifacts that do not depend on each other can be registered
+ * concurrently. An artifact is registered once all the artifacts it references have been registered.
+ */
+class RegistrationNode {
+
+    @FunctionalInterface
+    interface Registrar {
+        VersionMetaData register(RegisterArtifact artifact, List<ArtifactReference> references) throws Exception;
+    }
+
+    /**
+     * A reference to either another node of the graph, or an artifact that is already registered.
+     */
+    private record Reference(String name, RegistrationNode node, VersionMetaData registration) {
+
+        VersionMetaData getRegistration() {
+            return node != null ? node.future.join() : registration;
+        }
+    }
+
+    private final RegisterArtifact artifact;
+    private final boolean sortReferences;
+    private final List<Reference> references = new ArrayList<>();
+    private final List<CompletableFuture<?>> predecessors = new ArrayList<>();
+
+    private CompletableFuture<VersionMetaData> future;
+
+    /**
+     * @param artifact the artifact to register
+     * @param sortReferences whether to sort the references by name, otherwise they are kept in the order
+     *            they have been added
+     */
+    RegistrationNode(RegisterArtifact artifact, boolean sortReferences) {
+        this.artifact = artifact;
+        this.sortReferences = sortReferences;
+    }
+
+    RegisterArtifact getArtifact() {
+        return artifact;
+    }
+
+    void addReference(String name, RegistrationNode node) {
+        references.add(new Reference(name, node, null));
+    }
+
+    void addReference(String name, VersionMetaData registration) {
+        references.add(new Reference(name, null, registration));
+    }
+
+    /**
+     * Registers this artifact only once the given registration has completed, whether it succeeded or
+     * not. Must be called before {@link #schedule(Executor, Registrar)}.
+     */
+    void runAfter(CompletableFuture<?> predecessor) {
+        predecessors.add(predecessor.handle((result, error) -> null));
+    }
+
+    /**
+     * Schedules the registration of this artifact, after the registration of the artifacts it references.
+     * Every node is only registered once, even if it is referenced by several other nodes.
+     * Must be called from a single thread.
+     */
+    CompletableFuture<VersionMetaData> schedule(Executor executor, Registrar registrar) {
+        if (future == null) {
+            List<CompletableFuture<?>> dependencies = new ArrayList<>(predecessors);
+            for (Reference reference : references) {
+                if (reference.node() != null) {
+                    dependencies.add(reference.node().schedule(executor, registrar));
+                }
+            }
+            CompletableFuture<Void> ready = CompletableFuture
+                    .allOf(dependencies.toArray(CompletableFuture[]::new));
+            future = ready.thenApplyAsync(ignored -> {
+                try {
+                    return registrar.register(artifact, resolveReferences());
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        }
+        return future;
+    }
+
+    private List<ArtifactReference> resolveReferences() {
+        List<ArtifactReference> resolved = new ArrayList<>(references.size());
+        for (Reference reference : references) {
+            VersionMetaData registration = reference.getRegistration();
+            ArtifactReference ref = new ArtifactReference();
+            ref.setName(reference.name());
+            ref.setVersion(registration.getVersion());
+            ref.setGroupId(registration.getGroupId());
+            ref.setArtifactId(registration.getArtifactId());
+            resolved.add(ref);
+        }
+        if (sortReferences) {
+            resolved.sort(Comparator.comparing(ArtifactReference::getName));
+        }
+        return resolved;
+    }
+}
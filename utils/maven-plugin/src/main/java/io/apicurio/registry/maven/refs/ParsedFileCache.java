@@ -0,0 +1,51 @@
+package io.apicurio.registry.maven.refs;
+
+import io.apicurio.registry.content.ContentHandle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches the results of parsing schema files, so that files shared by many artifacts (e.g. common Protobuf
+ * imports) are only parsed once. A cache is created for each execution of the plugin, like the
+ * registration cache, so that the parsed files are not retained once the execution is over.
+ * <p>
+ * Files are always read again, and the results are keyed by the hash of the content, so a file that has
+ * been modified during the execution is parsed again.
+ */
+public final class ParsedFileCache {
+
+    private record Key(Path path, String purpose, String contentHash) {
+    }
+
+    private final Map<Key, Object> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the content of a file.
+     */
+    public static ContentHandle read(Path path) {
+        try {
+            return ContentHandle.create(Files.readAllBytes(path));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read schema file: " + path, e);
+        }
+    }
+
+    /**
+     * Returns the result of parsing the content of a file, parsing it if it has not been parsed yet.
+     *
+     * @param path the file
+     * @param content the content of the file
+     * @param purpose identifies the parser, the same file can be parsed for different purposes
+     * @param parser parses the content, must not return null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Path path, ContentHandle content, String purpose, Function<ContentHandle, T> parser) {
+        Key key = new Key(path.toAbsolutePath().normalize(), purpose, content.getSha256Hash());
+        return (T) cache.computeIfAbsent(key, k -> parser.apply(content));
+    }
+}
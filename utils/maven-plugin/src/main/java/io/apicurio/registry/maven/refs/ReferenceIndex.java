@@ -16,7 +16,9 @@ import io.apicurio.registry.utils.protobuf.schema.ProtobufFile;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -34,11 +36,13 @@ public class ReferenceIndex {
 
     private Set<IndexedResource> index = new HashSet<>();
     private Set<Path> schemaPaths = new HashSet<>();
+    private final ParsedFileCache parsedFileCache;
 
     /**
      * Constructor.
      */
     public ReferenceIndex() {
+        this.parsedFileCache = new ParsedFileCache();
     }
 
     /**
@@ -47,7 +51,19 @@ public class ReferenceIndex {
      * @param schemaPath
      */
     public ReferenceIndex(Path schemaPath) {
+        this(schemaPath, new ParsedFileCache());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param schemaPath
+     * @param parsedFileCache the cache of the parsed files, shared with the other indexes of the same
+     *            execution
+     */
+    public ReferenceIndex(Path schemaPath, ParsedFileCache parsedFileCache) {
         this.schemaPaths.add(schemaPath);
+        this.parsedFileCache = parsedFileCache;
     }
 
     /**
@@ -80,6 +96,19 @@ public class ReferenceIndex {
         this.index.add(res);
     }
 
+    /**
+     * Index the given file. The results of parsing the file are cached, see {@link ParsedFileCache}.
+     *
+     * @param path
+     */
+    public void index(Path path) {
+        ContentHandle content = ParsedFileCache.read(path);
+        List<IndexedResource> parsed = parsedFileCache.get(path, content, "index", c -> parse(path, c));
+        // The cached resources are shared, the registrations are not
+        parsed.forEach(resource -> this.index.add(new IndexedResource(resource.getPath(), resource.getType(),
+                resource.getResourceName(), resource.getContent())));
+    }
+
     /**
      * Index the given content. Indexing will parse the content and figure out its resource name and type.
      *
@@ -87,6 +116,11 @@ public class ReferenceIndex {
      * @param content
      */
     public void index(Path path, ContentHandle content) {
+        this.index.addAll(parse(path, content));
+    }
+
+    private static List<IndexedResource> parse(Path path, ContentHandle content) {
+        List<IndexedResource> resources = new ArrayList<>();
         try {
             // Determine content type based on file extension
             String contentType = ContentTypes.APPLICATION_JSON;
@@ -101,52 +135,54 @@ public class ReferenceIndex {
 
             // OpenAPI
             if (tree.has("openapi") || tree.has("swagger") || tree.has("asyncapi")) {
-                indexDataModels(path, content);
+                indexDataModels(path, content, resources);
             }
             // JSON Schema
             if (tree.has("$schema") && !tree.get("$schema").isNull()) {
-                indexJsonSchema(tree, path, content);
+                indexJsonSchema(tree, path, content, resources);
             }
             // Avro
-            indexAvro(path, content, tree);
+            indexAvro(path, content, tree, resources);
         } catch (Exception e) {
             // Must not be JSON or YAML...
         }
 
         try {
-            indexProto(path, content);
-            return;
+            indexProto(path, content, resources);
         } catch (Exception e) {
             // I guess it's not Protobuf.
         }
+        return resources;
     }
 
-    private void indexAvro(Path path, ContentHandle content, JsonNode parsed) {
+    private static void indexAvro(Path path, ContentHandle content, JsonNode parsed,
+            List<IndexedResource> resources) {
         // TODO: is namespace required for an Avro schema?
         String ns = parsed.get("namespace").asText();
         String name = parsed.get("name").asText();
         String resourceName = ns != null ? ns + "." + name : name;
         IndexedResource resource = new IndexedResource(path, ArtifactType.AVRO, resourceName, content);
-        this.index.add(resource);
+        resources.add(resource);
     }
 
-    private void indexProto(Path path, ContentHandle content) {
+    private static void indexProto(Path path, ContentHandle content, List<IndexedResource> resources) {
         ProtobufFile.toProtoFileElement(content.content());
 
         IndexedResource resource = new IndexedResource(path, ArtifactType.PROTOBUF, null, content);
-        this.index.add(resource);
+        resources.add(resource);
     }
 
-    private void indexJsonSchema(JsonNode schema, Path path, ContentHandle content) {
+    private static void indexJsonSchema(JsonNode schema, Path path, ContentHandle content,
+            List<IndexedResource> resources) {
         String resourceName = null;
         if (schema.has("$id")) {
             resourceName = schema.get("$id").asText(null);
         }
         IndexedResource resource = new IndexedResource(path, ArtifactType.JSON, resourceName, content);
-        this.index.add(resource);
+        resources.add(resource);
     }
 
-    private void indexDataModels(Path path, ContentHandle content) {
+    private static void indexDataModels(Path path, ContentHandle content, List<IndexedResource> resources) {
         try {
             // Determine content type based on file extension
             String contentType = ContentTypes.APPLICATION_JSON;
@@ -170,7 +206,7 @@ public class ReferenceIndex {
             }
 
             IndexedResource resource = new IndexedResource(path, type, null, content);
-            this.index.add(resource);
+            resources.add(resource);
         } catch (IOException e) {
             throw new RuntimeException("Failed to parse OpenAPI/AsyncAPI document", e);
         }
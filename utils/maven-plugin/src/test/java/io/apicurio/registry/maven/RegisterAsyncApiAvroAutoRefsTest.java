@@ -15,13 +15,17 @@ import io.apicurio.registry.types.ArtifactType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -32,8 +36,10 @@ public class RegisterAsyncApiAvroAutoRefsTest {
     private RegisterRegistryMojo mojo;
     private final File examplesRoot = Paths.get("../../examples/").toAbsolutePath().toFile();
     private WireMockServer wireMockServer;
-    private Set<String> registeredArtifacts = new HashSet<>();
-    private Map<String, String> artifactContentTypes = new HashMap<>();
+    // Artifacts are registered concurrently
+    private Set<String> registeredArtifacts = ConcurrentHashMap.newKeySet();
+    private Map<String, String> artifactContentTypes = new ConcurrentHashMap<>();
+    private List<String> registrationOrder = Collections.synchronizedList(new ArrayList<>());
 
     @BeforeEach public void setup() {
         // Start WireMock server with custom transformer
@@ -52,6 +58,7 @@ public class RegisterAsyncApiAvroAutoRefsTest {
         // clear captured registered artifacts
         registeredArtifacts.clear();
         artifactContentTypes.clear();
+        registrationOrder.clear();
     }
 
     @AfterEach public void tearDown() {
@@ -131,6 +138,43 @@ public class RegisterAsyncApiAvroAutoRefsTest {
         assertTrue(registeredArtifacts.contains("com.kubetrade.schema.common:Exchange"));
     }
 
+    @Test public void testAvroAutoRefsSkipUnchanged(@TempDir Path tempDir) throws Exception {
+        File exampleDir = new File(examplesRoot, "avro-maven-with-references-auto");
+        File avroFile = new File(exampleDir, "src/main/resources/schemas/TradeRaw.avsc");
+        File manifest = tempDir.resolve("registrations.json").toFile();
+
+        RegisterArtifact artifact = new RegisterArtifact();
+        artifact.setGroupId("com.kubetrade.schema.trade");
+        artifact.setArtifactId("TradeRaw");
+        artifact.setVersion("2.0");
+        artifact.setArtifactType(ArtifactType.AVRO);
+        artifact.setFile(avroFile);
+        artifact.setIfExists(IfArtifactExists.FIND_OR_CREATE_VERSION);
+        artifact.setAutoRefs(true);
+
+        mojo.setArtifacts(java.util.Collections.singletonList(artifact));
+        mojo.setSkipUnchanged(true);
+        mojo.setRegistrationManifest(manifest);
+        mojo.execute();
+
+        // References are registered before the artifacts that reference them
+        assertEquals(4, registrationOrder.size());
+        assertTrue(registrationOrder.indexOf("com.kubetrade.schema.common:Exchange")
+                < registrationOrder.indexOf("com.kubetrade.schema.trade:TradeValue"));
+        assertEquals("com.kubetrade.schema.trade:TradeRaw", registrationOrder.get(3));
+        assertEquals(4, new ObjectMapper().readTree(manifest).size());
+
+        // Nothing has changed, nothing is registered again
+        registrationOrder.clear();
+        RegisterRegistryMojo next = new RegisterRegistryMojo();
+        next.setRegistryUrl(wireMockServer.baseUrl() + "/apis/registry/v3");
+        next.setArtifacts(java.util.Collections.singletonList(artifact));
+        next.setSkipUnchanged(true);
+        next.setRegistrationManifest(manifest);
+        next.execute();
+        assertEquals(0, registrationOrder.size());
+    }
+
     // Custom transformer to capture/debug requests and generate dynamic responses
     class CaptureRequestTransformer extends ResponseTransformer {
 
@@ -159,6 +203,7 @@ public class RegisterAsyncApiAvroAutoRefsTest {
 
             String key = groupId + ":" + artifactId;
             registeredArtifacts.add(key);
+            registrationOrder.add(key);
             artifactContentTypes.put(key, contentType);
 
             return """
@@ -0,0 +1,105 @@
+package io.apicurio.registry.utils.protobuf.schema;
+
+import com.google.protobuf.Descriptors.FileDescriptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded LRU cache of built {@link FileDescriptor}s, shared by all the parses in the JVM.
+ * <p>
+ * Building a file descriptor from its text (loading the schema, converting it to a descriptor proto and
+ * linking it with its dependencies) is expensive, and widely shared imports are built again by every parse
+ * that uses them. Entries are keyed by a hash of everything the build depends on: the file name, the schema
+ * definition, and the keys of the dependencies the descriptor is linked to. The cache also remembers the key
+ * of every descriptor it holds, so that a descriptor depending on it can be keyed in turn.
+ * <p>
+ * File descriptors are immutable, and can safely be shared between threads.
+ */
+final class FileDescriptorCache {
+
+    static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final Map<String, FileDescriptor> descriptors;
+    private final Map<FileDescriptor, String> keys = new HashMap<>();
+
+    FileDescriptorCache(int maxSize) {
+        this.descriptors = new LinkedHashMap<String, FileDescriptor>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FileDescriptor> eldest) {
+                if (size() > maxSize) {
+                    keys.remove(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    synchronized FileDescriptor get(String key) {
+        return descriptors.get(key);
+    }
+
+    /**
+     * Adds a descriptor, unless another one was built for the same key in the meantime.
+     *
+     * @return the cached descriptor
+     */
+    synchronized FileDescriptor putIfAbsent(String key, FileDescriptor descriptor) {
+        FileDescriptor existing = descriptors.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        descriptors.put(key, descriptor);
+        keys.put(descriptor, key);
+        return descriptor;
+    }
+
+    /**
+     * @return the key of a cached descriptor, or null if the descriptor is not (or no longer) cached
+     */
+    synchronized String keyOf(FileDescriptor descriptor) {
+        return keys.get(descriptor);
+    }
+
+    synchronized int size() {
+        return descriptors.size();
+    }
+
+    synchronized void clear() {
+        descriptors.clear();
+        keys.clear();
+    }
+
+    /**
+     * Hashes the parts of a key. Every part is prefixed by its length, so that the parts cannot run into each
+     * other, and a null part is hashed differently from an empty one.
+     */
+    static String key(List<String> parts) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String part : parts) {
+            byte[] bytes = part == null ? null : part.getBytes(StandardCharsets.UTF_8);
+            int length = bytes == null ? -1 : bytes.length;
+            digest.update(new byte[] { (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8),
+                    (byte) length });
+            if (bytes != null) {
+                digest.update(bytes);
+            }
+        }
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
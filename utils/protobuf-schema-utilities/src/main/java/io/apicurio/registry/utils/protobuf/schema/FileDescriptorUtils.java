@@ -77,6 +77,9 @@ public class FileDescriptorUtils {
     private static final OptionElement.Kind stringKind = OptionElement.Kind.STRING;
     private static final OptionElement.Kind enumKind = OptionElement.Kind.ENUM;
     private static final FileDescriptor[] WELL_KNOWN_DEPENDENCIES;
+    private static final Set<FileDescriptor> WELL_KNOWN_DEPENDENCY_SET;
+    private static final FileDescriptorCache FILE_DESCRIPTOR_CACHE = new FileDescriptorCache(
+            FileDescriptorCache.DEFAULT_MAX_SIZE);
     private static final Map<String, ProtoFileElement> WELL_KNOWN_PROTO_ELEMENTS;
 
     static {
@@ -98,6 +101,9 @@ public class FileDescriptorUtils {
                 QuaternionProto.getDescriptor().getFile(), PostalAddressProto.getDescriptor().getFile(),
                 ProtobufSchemaMetadata.getDescriptor().getFile(), Decimals.getDescriptor().getFile() };
 
+        WELL_KNOWN_DEPENDENCY_SET = Collections.newSetFromMap(new IdentityHashMap<>());
+        WELL_KNOWN_DEPENDENCY_SET.addAll(Arrays.asList(WELL_KNOWN_DEPENDENCIES));
+
         // Build a map of well-known type names to their ProtoFileElement representations
         // This allows toDynamicSchema to resolve well-known types even when they're not in the
         // dependencies map, preventing NPE when schemas import types like google/protobuf/timestamp.proto
@@ -169,7 +175,14 @@ public class FileDescriptorUtils {
             throws DescriptorValidationException {
         Objects.requireNonNull(descriptorProto);
 
-        return FileDescriptor.buildFrom(descriptorProto, baseDependencies());
+        final String key = FileDescriptorCache.key(Arrays.asList("proto", descriptorProto.getName(),
+                Base64.getEncoder().encodeToString(descriptorProto.toByteArray())));
+        FileDescriptor fd = FILE_DESCRIPTOR_CACHE.get(key);
+        if (fd == null) {
+            fd = FILE_DESCRIPTOR_CACHE.putIfAbsent(key,
+                    FileDescriptor.buildFrom(descriptorProto, baseDependencies()));
+        }
+        return fd;
     }
 
     private static Map<String, FileDescriptor> mutableBaseDependenciesByName(int ensureCapacity) {
@@ -201,8 +214,15 @@ public class FileDescriptorUtils {
         Objects.requireNonNull(schemaDefinition);
         Objects.requireNonNull(protoFileName);
 
-        return FileDescriptor.buildFrom(toFileDescriptorProto(schemaDefinition, protoFileName,
-                optionalPackageName, Collections.emptyMap()), baseDependencies());
+        final String key = FileDescriptorCache.key(Arrays.asList("text", protoFileName,
+                optionalPackageName.orElse(null), schemaDefinition));
+        FileDescriptor fd = FILE_DESCRIPTOR_CACHE.get(key);
+        if (fd == null) {
+            fd = FILE_DESCRIPTOR_CACHE.putIfAbsent(key, FileDescriptor.buildFrom(toFileDescriptorProto(
+                    schemaDefinition, protoFileName, optionalPackageName, Collections.emptyMap()),
+                    baseDependencies()));
+        }
+        return fd;
     }
 
     public static FileDescriptor protoFileToFileDescriptor(String schemaDefinition, String protoFileName,
@@ -215,12 +235,67 @@ public class FileDescriptorUtils {
         final Set<Descriptors.FileDescriptor> joinedDependencies = new HashSet<>(baseDependencies);
         joinedDependencies.addAll(dependencies.values());
 
-        Descriptors.FileDescriptor[] dependenciesArray = new Descriptors.FileDescriptor[joinedDependencies
-                .size()];
+        Descriptors.FileDescriptor[] dependenciesArray = joinedDependencies
+                .toArray(new Descriptors.FileDescriptor[joinedDependencies.size()]);
+
+        return buildCached(schemaDefinition, protoFileName, optionalPackageName, schemaDefs,
+                dependenciesArray);
+    }
+
+    /**
+     * Builds a file descriptor, or returns the one built before from the same schema definition, required
+     * schemas and dependencies. A descriptor is only cached if all its dependencies are well-known or
+     * cached themselves, since otherwise they cannot be part of its key.
+     */
+    private static FileDescriptor buildCached(String schemaDefinition, String protoFileName,
+                                              Optional<String> optionalPackageName, Map<String, String> requiredSchemas,
+                                              FileDescriptor[] dependencies) throws DescriptorValidationException {
+        final List<String> keyParts = new ArrayList<>(4 + 2 * requiredSchemas.size() + dependencies.length);
+        keyParts.add("deps");
+        keyParts.add(protoFileName);
+        keyParts.add(optionalPackageName.orElse(null));
+        keyParts.add(schemaDefinition);
+        for (Map.Entry<String, String> schema : new TreeMap<>(requiredSchemas).entrySet()) {
+            keyParts.add(schema.getKey());
+            keyParts.add(schema.getValue());
+        }
+        final List<String> dependencyKeys = new ArrayList<>(dependencies.length);
+        for (FileDescriptor dependency : dependencies) {
+            final String dependencyKey = dependencyKey(dependency);
+            if (dependencyKey == null) {
+                return FileDescriptor.buildFrom(toFileDescriptorProto(schemaDefinition, protoFileName,
+                        optionalPackageName, requiredSchemas), dependencies);
+            }
+            dependencyKeys.add(dependencyKey);
+        }
+        // The order of the dependencies does not matter to the built descriptor
+        Collections.sort(dependencyKeys);
+        keyParts.addAll(dependencyKeys);
 
-        return FileDescriptor.buildFrom(
-                toFileDescriptorProto(schemaDefinition, protoFileName, optionalPackageName, schemaDefs),
-                joinedDependencies.toArray(dependenciesArray));
+        final String key = FileDescriptorCache.key(keyParts);
+        FileDescriptor fd = FILE_DESCRIPTOR_CACHE.get(key);
+        if (fd == null) {
+            fd = FILE_DESCRIPTOR_CACHE.putIfAbsent(key, FileDescriptor.buildFrom(toFileDescriptorProto(
+                    schemaDefinition, protoFileName, optionalPackageName, requiredSchemas), dependencies));
+        }
+        return fd;
+    }
+
+    private static String dependencyKey(FileDescriptor dependency) {
+        if (dependency == null) {
+            return null;
+        }
+        if (WELL_KNOWN_DEPENDENCY_SET.contains(dependency)) {
+            return "well-known:" + dependency.getName();
+        }
+        return FILE_DESCRIPTOR_CACHE.keyOf(dependency);
+    }
+
+    /**
+     * Clears the cache of built file descriptors shared by all the parses.
+     */
+    public static void clearFileDescriptorCache() {
+        FILE_DESCRIPTOR_CACHE.clear();
     }
 
     public static final class ReadSchemaException extends Exception {
@@ -539,11 +614,9 @@ public class FileDescriptorUtils {
         final boolean removed = unresolvedImportNames.remove(mainProtoImportName);
         assert removed : "unresolvedNames should contain depName";
         // TODO we risk to have few dependencies files to be re-written in a whole new in-memory fs
-        Descriptors.FileDescriptor mainProtoFd = FileDescriptor.buildFrom(
-                toFileDescriptorProto(schemaDefinition, protoFileName,
-                        Optional.ofNullable(mainProtoElement.getPackageName()), requiredDependentSchemas),
+        return buildCached(schemaDefinition, protoFileName,
+                Optional.ofNullable(mainProtoElement.getPackageName()), requiredDependentSchemas,
                 directDependencyFds);
-        return mainProtoFd;
     }
 
     private static String toProtoFullName(ProtoFileElement protoFile, String protoFileName) {
@@ -49,6 +49,8 @@ import java.util.Base64;
 import static com.google.common.truth.extensions.proto.ProtoTruth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FileDescriptorUtilsTest {
@@ -497,4 +499,46 @@ public class FileDescriptorUtilsTest {
         // Both should produce same package
         assertEquals(textResult.getPackageName(), binaryResult.getPackageName());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSharedDependenciesAreBuiltOnce() throws Exception {
+        FileDescriptorUtils.ProtobufSchemaContent dep =
+                FileDescriptorUtils.ProtobufSchemaContent.of("dep.proto", DEP_PROTO_SCHEMA);
+        FileDescriptorUtils.ProtobufSchemaContent root =
+                FileDescriptorUtils.ProtobufSchemaContent.of("root.proto", ROOT_PROTO_SCHEMA);
+        FileDescriptorUtils.ProtobufSchemaContent other = FileDescriptorUtils.ProtobufSchemaContent
+                .of("other.proto", ROOT_PROTO_SCHEMA.replace("Root", "Other"));
+
+        Map<String, String> requiredDeps = new HashMap<>();
+        Descriptors.FileDescriptor first = FileDescriptorUtils.parseProtoFileWithDependencies(root,
+                Set.of(dep), requiredDeps, true, true);
+        Descriptors.FileDescriptor second = FileDescriptorUtils.parseProtoFileWithDependencies(root,
+                Set.of(dep), null, true, true);
+        Descriptors.FileDescriptor third = FileDescriptorUtils.parseProtoFileWithDependencies(other,
+                Set.of(dep), null, true, true);
+
+        // The required dependencies are still reported
+        assertEquals(Map.of("dep.proto", DEP_PROTO_SCHEMA), requiredDeps);
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertSame(first.getDependencies().get(0), third.getDependencies().get(0));
+        assertNotNull(third.findMessageTypeByName("Other"));
+    }
+
+    @Test
+    public void testChangedDependencyIsBuiltAgain() throws Exception {
+        FileDescriptorUtils.ProtobufSchemaContent root =
+                FileDescriptorUtils.ProtobufSchemaContent.of("root.proto", ROOT_PROTO_SCHEMA);
+        Descriptors.FileDescriptor before = FileDescriptorUtils.parseProtoFileWithDependencies(root,
+                Set.of(FileDescriptorUtils.ProtobufSchemaContent.of("dep.proto", DEP_PROTO_SCHEMA)), null,
+                true, true);
+        Descriptors.FileDescriptor after = FileDescriptorUtils.parseProtoFileWithDependencies(root,
+                Set.of(FileDescriptorUtils.ProtobufSchemaContent.of("dep.proto",
+                        DEP_PROTO_SCHEMA.replace("string name = 1;", "string name = 1; int32 age = 2;"))),
+                null, true, true);
+
+        assertNotSame(before, after);
+        assertNotNull(after.findMessageTypeByName("Root").findFieldByName("d").getMessageType()
+                .findFieldByName("age"));
+    }
+}